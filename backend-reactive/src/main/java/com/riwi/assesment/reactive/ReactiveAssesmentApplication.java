@@ -0,0 +1,37 @@
+package com.riwi.assesment.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import com.riwi.assesment.infrastructure.adapter.out.notification.ConsoleNotificationAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.security.CurrentUserAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.security.PasswordEncoderAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.security.TokenProviderAdapter;
+import com.riwi.assesment.infrastructure.config.OpenApiConfig;
+import com.riwi.assesment.infrastructure.config.UseCaseConfig;
+import com.riwi.assesment.infrastructure.security.JwtTokenProvider;
+import com.riwi.assesment.infrastructure.security.VerifiedTokenCache;
+
+/**
+ * WebFlux + R2DBC runtime of the backend.
+ * The application services are the servlet backend's own, wired by its UseCaseConfig; only the
+ * adapters that depend on JPA or the servlet API are replaced by those in this package.
+ */
+@SpringBootApplication
+@Import({
+        UseCaseConfig.class,
+        OpenApiConfig.class,
+        JwtTokenProvider.class,
+        VerifiedTokenCache.class,
+        TokenProviderAdapter.class,
+        CurrentUserAdapter.class,
+        PasswordEncoderAdapter.class,
+        ConsoleNotificationAdapter.class
+})
+public class ReactiveAssesmentApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveAssesmentApplication.class, args);
+    }
+}
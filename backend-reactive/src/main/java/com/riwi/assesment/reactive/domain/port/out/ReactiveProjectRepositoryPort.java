@@ -0,0 +1,103 @@
+package com.riwi.assesment.reactive.domain.port.out;
+
+import java.util.UUID;
+
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of ProjectRepositoryPort.
+ * Same contract, method for method; "empty" replaces Optional.empty() and completion replaces void.
+ */
+public interface ReactiveProjectRepositoryPort {
+
+    /**
+     * Saves a project to the database.
+     * @param project the project to save
+     * @return the saved project with generated ID if new
+     * @throws com.riwi.assesment.domain.exception.ConcurrentUpdateException (as an error signal) if the
+     *         project was modified or deleted since it was read
+     */
+    Mono<Project> save(Project project);
+
+    /**
+     * Finds a non-deleted project by its ID.
+     * @param id the project ID
+     * @return the project, or empty if not found
+     */
+    Mono<Project> findById(UUID id);
+
+    /**
+     * Finds all non-deleted projects owned by a specific user.
+     * @param ownerId the owner's user ID
+     * @return projects owned by the user
+     */
+    Flux<Project> findByOwnerId(UUID ownerId);
+
+    /**
+     * Finds all non-deleted projects owned by a specific user.
+     * @param ownerId the owner's user ID
+     * @return active (non-deleted) projects owned by the user
+     */
+    Flux<Project> findByOwnerIdAndDeletedFalse(UUID ownerId);
+
+    /**
+     * Finds one page of non-deleted projects owned by a user, ordered by (createdAt, id).
+     * @param ownerId the owner's user ID
+     * @param after the position to continue from, or null for the first page
+     * @param limit the maximum number of projects to return
+     * @return the page of projects and the cursor for the next page, if any
+     */
+    Mono<CursorPage<Project>> findPageByOwnerId(UUID ownerId, PageCursor after, int limit);
+
+    /**
+     * Streams all non-deleted projects of a user together with their non-deleted tasks,
+     * read with a single query. Projects and tasks are ordered by (createdAt, id).
+     * @param ownerId the owner's user ID
+     * @param tasksPerProject maximum tasks returned per project, or null for all of them
+     * @return the projects with their tasks, each emitted as soon as its last row has been read
+     */
+    Flux<ProjectWithTasks> findWithTasksByOwnerId(UUID ownerId, Integer tasksPerProject);
+
+    /**
+     * Owner of a non-deleted project, reading a single column by primary key.
+     * @param projectId the project ID
+     * @return the owner id, or empty if the project does not exist or is deleted
+     */
+    Mono<UUID> findOwnerId(UUID projectId);
+
+    /**
+     * Atomically applies relative changes to a project's denormalized task counters.
+     * @param projectId the project ID
+     * @param totalDelta change in the number of non-deleted tasks
+     * @param openDelta change in the number of non-deleted, not completed tasks
+     * @param completedDelta change in the number of non-deleted, completed tasks
+     */
+    Mono<Void> adjustTaskCounters(UUID projectId, int totalDelta, int openDelta, int completedDelta);
+
+    /**
+     * Atomically adds newly created, open tasks to the counters of a project that is not deleted.
+     * @param projectId the project ID
+     * @param count the number of tasks created
+     * @return false, with nothing changed, if the project does not exist or is deleted
+     */
+    Mono<Boolean> addOpenTasks(UUID projectId, int count);
+
+    /**
+     * Checks if a non-deleted project exists by ID.
+     * @param id the project ID
+     * @return true if the project exists, false otherwise
+     */
+    Mono<Boolean> existsById(UUID id);
+
+    /**
+     * Deletes a project by its ID (hard delete).
+     * @param id the project ID
+     */
+    Mono<Void> deleteById(UUID id);
+}
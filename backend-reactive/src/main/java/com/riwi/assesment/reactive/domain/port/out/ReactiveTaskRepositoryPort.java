@@ -0,0 +1,140 @@
+package com.riwi.assesment.reactive.domain.port.out;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of TaskRepositoryPort.
+ * Same contract, method for method; "empty" replaces Optional.empty() and completion replaces void.
+ */
+public interface ReactiveTaskRepositoryPort {
+
+    /**
+     * Saves a task to the database.
+     * @param task the task to save
+     * @return the saved task with generated ID if new
+     * @throws com.riwi.assesment.domain.exception.ConcurrentUpdateException (as an error signal) if the
+     *         task was modified or deleted since it was read
+     */
+    Mono<Task> save(Task task);
+
+    /**
+     * Inserts several new tasks with a single statement.
+     * @param tasks the tasks to insert; none of them may have been persisted before
+     * @return the saved tasks, in the same order
+     */
+    Flux<Task> saveAll(List<Task> tasks);
+
+    /**
+     * Finds a non-deleted task by its ID.
+     * @param id the task ID
+     * @return the task, or empty if not found
+     */
+    Mono<Task> findById(UUID id);
+
+    /**
+     * Finds all non-deleted tasks belonging to a specific project.
+     * @param projectId the project ID
+     * @return tasks belonging to the project
+     */
+    Flux<Task> findByProjectId(UUID projectId);
+
+    /**
+     * Finds all non-deleted tasks belonging to a specific project.
+     * @param projectId the project ID
+     * @return active (non-deleted) tasks belonging to the project
+     */
+    Flux<Task> findByProjectIdAndDeletedFalse(UUID projectId);
+
+    /**
+     * Finds one page of non-deleted tasks of a project, ordered by (createdAt, id).
+     * @param projectId the project ID
+     * @param after the position to continue from, or null for the first page
+     * @param limit the maximum number of tasks to return
+     * @return the page of tasks and the cursor for the next page, if any
+     */
+    Mono<CursorPage<Task>> findPageByProjectId(UUID projectId, PageCursor after, int limit);
+
+    /**
+     * Loads tasks together with their projects in a single query, including deleted rows.
+     * @param taskIds the task IDs
+     * @return one entry per existing task; unknown ids are absent
+     */
+    Flux<TaskWithProject> findWithProjectByIds(List<UUID> taskIds);
+
+    /**
+     * Completes, in one set-based statement, those of the given tasks that are not deleted,
+     * not completed, and belong to a non-deleted ACTIVE project owned by the given user.
+     * @param taskIds the task IDs
+     * @param ownerId the user that must own the tasks' projects
+     * @return the tasks that were actually completed
+     */
+    Flux<Task> completeAllOwnedBy(List<UUID> taskIds, UUID ownerId);
+
+    /**
+     * Completes a single task and moves the project's counters in one statement.
+     * @param taskId the task ID
+     * @param ownerId the user that must own the task's project
+     * @param expectedVersion the version the task must be at, or null to skip the version check
+     * @return the completed task, or empty if any condition did not hold (nothing is changed then)
+     */
+    Mono<Task> completeOwnedBy(UUID taskId, UUID ownerId, Long expectedVersion);
+
+    /**
+     * Soft-deletes, in one set-based statement, those of the given tasks that are not deleted
+     * and belong to a non-deleted project owned by the given user.
+     * @param taskIds the task IDs
+     * @param ownerId the user that must own the tasks' projects
+     * @return the tasks that were actually deleted, with their completion state before deletion
+     */
+    Flux<Task> deleteAllOwnedBy(List<UUID> taskIds, UUID ownerId);
+
+    /**
+     * Counts the number of non-deleted tasks in a project.
+     * @param projectId the project ID
+     * @return the count of active tasks
+     */
+    Mono<Long> countByProjectIdAndDeletedFalse(UUID projectId);
+
+    /**
+     * Checks if a project has any non-deleted tasks.
+     * @param projectId the project ID
+     * @return true if the project has at least one task, false otherwise
+     */
+    Mono<Boolean> existsByProjectIdAndDeletedFalse(UUID projectId);
+
+    /**
+     * Checks if a project has any active (not completed and not deleted) tasks.
+     * @param projectId the project ID
+     * @return true if the project has at least one active task, false otherwise
+     */
+    Mono<Boolean> existsByProjectIdAndCompletedFalseAndDeletedFalse(UUID projectId);
+
+    /**
+     * Checks if a non-deleted task exists by ID.
+     * @param id the task ID
+     * @return true if the task exists, false otherwise
+     */
+    Mono<Boolean> existsById(UUID id);
+
+    /**
+     * Finds all non-deleted tasks for non-deleted projects owned by a specific user.
+     * @param ownerId the owner user ID
+     * @return tasks from projects owned by the user
+     */
+    Flux<Task> findAllByProjectOwnerId(UUID ownerId);
+
+    /**
+     * Deletes a task by its ID (hard delete).
+     * @param id the task ID
+     */
+    Mono<Void> deleteById(UUID id);
+}
@@ -0,0 +1,58 @@
+package com.riwi.assesment.reactive.domain.port.out;
+
+import java.util.UUID;
+
+import com.riwi.assesment.domain.model.User;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of UserRepositoryPort.
+ * Same contract, method for method; "empty" replaces Optional.empty().
+ */
+public interface ReactiveUserRepositoryPort {
+
+    /**
+     * Saves a user to the database.
+     * @param user the user to save
+     * @return the saved user with generated ID if new
+     * @throws com.riwi.assesment.domain.exception.ConcurrentUpdateException (as an error signal) if the
+     *         user was modified or deleted since it was read
+     */
+    Mono<User> save(User user);
+
+    /**
+     * Finds a user by their ID.
+     * @param id the user ID
+     * @return the user, or empty if not found
+     */
+    Mono<User> findById(UUID id);
+
+    /**
+     * Finds a user by their username.
+     * @param username the username to search for
+     * @return the user, or empty if not found
+     */
+    Mono<User> findByUsername(String username);
+
+    /**
+     * Finds a user by their email.
+     * @param email the email to search for
+     * @return the user, or empty if not found
+     */
+    Mono<User> findByEmail(String email);
+
+    /**
+     * Checks if a user with the given username exists.
+     * @param username the username to check
+     * @return true if exists, false otherwise
+     */
+    Mono<Boolean> existsByUsername(String username);
+
+    /**
+     * Checks if a user with the given email exists.
+     * @param email the email to check
+     * @return true if exists, false otherwise
+     */
+    Mono<Boolean> existsByEmail(String email);
+}
@@ -0,0 +1,86 @@
+package com.riwi.assesment.reactive.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.reactive.infrastructure.bridge.TransactionBinding;
+
+/**
+ * Adapter implementing AuditLogPort over R2DBC.
+ * Called by the application services, so it blocks on the insert; inside a service transaction
+ * the entries commit or roll back with the change they describe.
+ */
+@Component
+public class R2dbcAuditLogAdapter implements AuditLogPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(R2dbcAuditLogAdapter.class);
+
+    // Ids come from the column default, uuid_generate_v7()
+    static final String INSERT = """
+            INSERT INTO audit_logs (action, entity_id, user_id, created_at)
+            VALUES (:action, :entityId, :userId, LOCALTIMESTAMP)
+            """;
+
+    static final String INSERT_ALL = """
+            INSERT INTO audit_logs (action, entity_id, user_id, created_at)
+            SELECT :action, entity_id, :userId, LOCALTIMESTAMP
+            FROM unnest(CAST(:entityIds AS UUID[])) AS entries(entity_id)
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcAuditLogAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public void register(String action, UUID entityId) {
+        UUID userId = currentUserId();
+        TransactionBinding.block(databaseClient.sql(INSERT)
+                .bind("action", action)
+                .bind("entityId", entityId)
+                .bind("userId", Parameter.fromOrEmpty(userId, UUID.class))
+                .then());
+
+        logger.info("Audit log registered: action={}, entityId={}, userId={}", action, entityId, userId);
+    }
+
+    @Override
+    public void registerAll(String action, List<UUID> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        UUID userId = currentUserId();
+        TransactionBinding.block(databaseClient.sql(INSERT_ALL)
+                .bind("entityIds", Rows.ids(entityIds))
+                .bind("action", action)
+                .bind("userId", Parameter.fromOrEmpty(userId, UUID.class))
+                .then());
+
+        logger.info("Audit logs registered: action={}, count={}, userId={}", action, entityIds.size(), userId);
+    }
+
+    /**
+     * The authenticated user of the running use case (bound by BlockingUseCaseRunner), or null.
+     */
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getName() == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.riwi.assesment.reactive.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveProjectRepositoryPort;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC adapter implementing ReactiveProjectRepositoryPort.
+ * Issues the same SQL the JPA and JDBC adapters generate, soft-delete filter included
+ * (the JPA entity gets it from @SQLRestriction), through Spring's DatabaseClient.
+ */
+@Component
+public class R2dbcProjectRepositoryAdapter implements ReactiveProjectRepositoryPort {
+
+    static final String INSERT = """
+            INSERT INTO projects (id, owner_id, name, status, deleted, created_at)
+            VALUES (:id, :ownerId, :name, :status, :deleted, :createdAt)
+            RETURNING *
+            """;
+
+    static final String UPDATE_IF_VERSION_MATCHES = """
+            UPDATE projects
+            SET name = :name, status = :status, deleted = :deleted, version = version + 1
+            WHERE id = :id AND version = :version
+            RETURNING *
+            """;
+
+    static final String FIND_BY_ID = """
+            SELECT * FROM projects WHERE id = :id AND deleted = false
+            """;
+
+    static final String FIND_BY_OWNER = """
+            SELECT * FROM projects WHERE owner_id = :ownerId AND deleted = false
+            """;
+
+    static final String FIND_FIRST_PAGE_BY_OWNER = """
+            SELECT * FROM projects
+            WHERE owner_id = :ownerId AND deleted = false
+            ORDER BY created_at, id
+            LIMIT :limit
+            """;
+
+    static final String FIND_PAGE_BY_OWNER_AFTER = """
+            SELECT * FROM projects
+            WHERE owner_id = :ownerId AND deleted = false
+              AND (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+            """;
+
+    /**
+     * Same statement as JdbcProjectRepository: one row per (project, task) pair, tasks capped per
+     * project by the LATERAL subquery. Rows arrive grouped by project, so they can be folded as they stream.
+     */
+    static final String FIND_WITH_TASKS_BY_OWNER = """
+            SELECT p.id AS p_id, p.owner_id, p.name, p.status, p.created_at AS p_created_at,
+                   p.total_tasks, p.open_tasks, p.completed_tasks, p.version AS p_version,
+                   t.id AS t_id, t.title, t.completed, t.created_at AS t_created_at, t.version AS t_version
+            FROM projects p
+            LEFT JOIN LATERAL (
+                SELECT id, title, completed, created_at, version
+                FROM tasks
+                WHERE project_id = p.id AND deleted = false
+                ORDER BY created_at, id
+                LIMIT CAST(:taskLimit AS BIGINT)
+            ) t ON true
+            WHERE p.owner_id = :ownerId AND p.deleted = false
+            ORDER BY p.created_at, p.id, t.created_at, t.id
+            """;
+
+    static final String FIND_OWNER_ID = """
+            SELECT owner_id FROM projects
+            WHERE id = :projectId AND deleted = false
+            """;
+
+    static final String ADJUST_TASK_COUNTERS = """
+            UPDATE projects
+            SET total_tasks = total_tasks + :totalDelta,
+                open_tasks = open_tasks + :openDelta,
+                completed_tasks = completed_tasks + :completedDelta
+            WHERE id = :projectId
+            """;
+
+    static final String ADD_OPEN_TASKS = """
+            UPDATE projects
+            SET total_tasks = total_tasks + :count,
+                open_tasks = open_tasks + :count
+            WHERE id = :projectId AND deleted = false
+            """;
+
+    static final String EXISTS_BY_ID = """
+            SELECT EXISTS (SELECT 1 FROM projects WHERE id = :id AND deleted = false)
+            """;
+
+    static final String DELETE_BY_ID = """
+            DELETE FROM projects WHERE id = :id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcProjectRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Project> save(Project project) {
+        // A null version means the project was never persisted: a single INSERT, no existence check
+        if (project.getVersion() == null) {
+            return databaseClient.sql(INSERT)
+                    .bind("id", project.getId() != null ? project.getId() : UuidV7.generate())
+                    .bind("ownerId", project.getOwnerId())
+                    .bind("name", project.getName())
+                    .bind("status", project.getStatus().name())
+                    .bind("deleted", project.isDeleted())
+                    .bind("createdAt", Rows.createdAtOrNow(project.getCreatedAt()))
+                    .map(Rows::project)
+                    .one();
+        }
+
+        // Existing project: one conditional UPDATE that doubles as the optimistic lock check
+        return databaseClient.sql(UPDATE_IF_VERSION_MATCHES)
+                .bind("id", project.getId())
+                .bind("version", project.getVersion())
+                .bind("name", project.getName())
+                .bind("status", project.getStatus().name())
+                .bind("deleted", project.isDeleted())
+                .map(Rows::project)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ConcurrentUpdateException("Project", project.getId())));
+    }
+
+    @Override
+    public Mono<Project> findById(UUID id) {
+        return databaseClient.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map(Rows::project)
+                .one();
+    }
+
+    @Override
+    public Flux<Project> findByOwnerId(UUID ownerId) {
+        return databaseClient.sql(FIND_BY_OWNER)
+                .bind("ownerId", ownerId)
+                .map(Rows::project)
+                .all();
+    }
+
+    @Override
+    public Flux<Project> findByOwnerIdAndDeletedFalse(UUID ownerId) {
+        return findByOwnerId(ownerId);
+    }
+
+    @Override
+    public Mono<CursorPage<Project>> findPageByOwnerId(UUID ownerId, PageCursor after, int limit) {
+        // Fetch one extra row to know whether a next page exists without a count query
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? databaseClient.sql(FIND_FIRST_PAGE_BY_OWNER)
+                : databaseClient.sql(FIND_PAGE_BY_OWNER_AFTER)
+                        .bind("createdAt", after.createdAt())
+                        .bind("id", after.id());
+        return query.bind("ownerId", ownerId)
+                .bind("limit", limit + 1)
+                .map(Rows::project)
+                .all()
+                .collectList()
+                .map(rows -> Rows.page(rows, limit, Project::getCreatedAt, Project::getId));
+    }
+
+    @Override
+    public Flux<ProjectWithTasks> findWithTasksByOwnerId(UUID ownerId, Integer tasksPerProject) {
+        // Ask for one extra task per project to detect truncation
+        return databaseClient.sql(FIND_WITH_TASKS_BY_OWNER)
+                .bind("ownerId", ownerId)
+                .bind("taskLimit", Parameter.fromOrEmpty(tasksPerProject == null ? null : tasksPerProject + 1L, Long.class))
+                .map(ProjectTaskRow::of)
+                .all()
+                .bufferUntilChanged(row -> row.project().getId())
+                .map(rows -> {
+                    List<Task> tasks = new ArrayList<>(rows.size());
+                    for (ProjectTaskRow row : rows) {
+                        if (row.task() != null) {
+                            tasks.add(row.task());
+                        }
+                    }
+                    boolean hasMore = tasksPerProject != null && tasks.size() > tasksPerProject;
+                    if (hasMore) {
+                        tasks = tasks.subList(0, tasksPerProject);
+                    }
+                    return new ProjectWithTasks(rows.get(0).project(), tasks, hasMore);
+                });
+    }
+
+    @Override
+    public Mono<UUID> findOwnerId(UUID projectId) {
+        return databaseClient.sql(FIND_OWNER_ID)
+                .bind("projectId", projectId)
+                .map(row -> row.get("owner_id", UUID.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> adjustTaskCounters(UUID projectId, int totalDelta, int openDelta, int completedDelta) {
+        return databaseClient.sql(ADJUST_TASK_COUNTERS)
+                .bind("projectId", projectId)
+                .bind("totalDelta", totalDelta)
+                .bind("openDelta", openDelta)
+                .bind("completedDelta", completedDelta)
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> addOpenTasks(UUID projectId, int count) {
+        return databaseClient.sql(ADD_OPEN_TASKS)
+                .bind("projectId", projectId)
+                .bind("count", count)
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> updated == 1);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(UUID id) {
+        return databaseClient.sql(EXISTS_BY_ID)
+                .bind("id", id)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return databaseClient.sql(DELETE_BY_ID)
+                .bind("id", id)
+                .then();
+    }
+
+    /**
+     * One row of FIND_WITH_TASKS_BY_OWNER; task is null for a project without tasks.
+     */
+    private record ProjectTaskRow(Project project, Task task) {
+
+        static ProjectTaskRow of(Readable row) {
+            UUID projectId = row.get("p_id", UUID.class);
+            Project project = Project.builder()
+                    .id(projectId)
+                    .ownerId(row.get("owner_id", UUID.class))
+                    .name(row.get("name", String.class))
+                    .status(ProjectStatus.valueOf(row.get("status", String.class)))
+                    .deleted(false)
+                    .createdAt(row.get("p_created_at", LocalDateTime.class))
+                    .totalTasks(row.get("total_tasks", Integer.class))
+                    .openTasks(row.get("open_tasks", Integer.class))
+                    .completedTasks(row.get("completed_tasks", Integer.class))
+                    .version(row.get("p_version", Long.class))
+                    .build();
+
+            UUID taskId = row.get("t_id", UUID.class);
+            Task task = taskId == null ? null : Task.builder()
+                    .id(taskId)
+                    .projectId(projectId)
+                    .title(row.get("title", String.class))
+                    .completed(row.get("completed", Boolean.class))
+                    .deleted(false)
+                    .createdAt(row.get("t_created_at", LocalDateTime.class))
+                    .version(row.get("t_version", Long.class))
+                    .build();
+            return new ProjectTaskRow(project, task);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.riwi.assesment.reactive.infrastructure.adapter.out.persistence;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveTaskRepositoryPort;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC adapter implementing ReactiveTaskRepositoryPort.
+ * The set-based statements are those of JdbcTaskRepository; id lists are bound as a single
+ * text[] parameter cast to uuid[], so every batch size shares one statement shape.
+ */
+@Component
+public class R2dbcTaskRepositoryAdapter implements ReactiveTaskRepositoryPort {
+
+    static final String INSERT = """
+            INSERT INTO tasks (id, project_id, title, completed, deleted, created_at)
+            VALUES (:id, :projectId, :title, :completed, :deleted, :createdAt)
+            RETURNING *
+            """;
+
+    /**
+     * Multi-row INSERT of column arrays: one statement and one round trip whatever the batch size.
+     */
+    static final String INSERT_ALL = """
+            INSERT INTO tasks (id, project_id, title, completed, deleted, created_at)
+            SELECT * FROM unnest(
+                CAST(:ids AS UUID[]), CAST(:projectIds AS UUID[]), CAST(:titles AS TEXT[]),
+                CAST(:completed AS BOOLEAN[]), CAST(:deleted AS BOOLEAN[]), CAST(:createdAts AS TIMESTAMP[]))
+            RETURNING *
+            """;
+
+    static final String UPDATE_IF_VERSION_MATCHES = """
+            UPDATE tasks
+            SET title = :title, completed = :completed, deleted = :deleted, version = version + 1
+            WHERE id = :id AND version = :version
+            RETURNING *
+            """;
+
+    static final String FIND_BY_ID = """
+            SELECT * FROM tasks WHERE id = :id AND deleted = false
+            """;
+
+    static final String FIND_BY_PROJECT = """
+            SELECT * FROM tasks WHERE project_id = :projectId AND deleted = false
+            """;
+
+    static final String FIND_FIRST_PAGE_BY_PROJECT = """
+            SELECT * FROM tasks
+            WHERE project_id = :projectId AND deleted = false
+            ORDER BY created_at, id
+            LIMIT :limit
+            """;
+
+    static final String FIND_PAGE_BY_PROJECT_AFTER = """
+            SELECT * FROM tasks
+            WHERE project_id = :projectId AND deleted = false
+              AND (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+            """;
+
+    static final String FIND_WITH_PROJECT_BY_IDS = """
+            SELECT t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version,
+                   p.owner_id, p.name AS project_name, p.status AS project_status,
+                   p.deleted AS project_deleted, p.version AS project_version
+            FROM tasks t
+            JOIN projects p ON p.id = t.project_id
+            WHERE t.id = ANY(CAST(:taskIds AS UUID[]))
+            """;
+
+    static final String COMPLETE_ALL_OWNED_BY = """
+            UPDATE tasks t
+            SET completed = true, version = t.version + 1
+            FROM projects p
+            WHERE t.id = ANY(CAST(:taskIds AS UUID[]))
+              AND t.project_id = p.id
+              AND t.deleted = false
+              AND t.completed = false
+              AND p.owner_id = :ownerId
+              AND p.deleted = false
+              AND p.status = 'ACTIVE'
+            RETURNING t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version
+            """;
+
+    static final String DELETE_ALL_OWNED_BY = """
+            UPDATE tasks t
+            SET deleted = true, version = t.version + 1
+            FROM projects p
+            WHERE t.id = ANY(CAST(:taskIds AS UUID[]))
+              AND t.project_id = p.id
+              AND t.deleted = false
+              AND p.owner_id = :ownerId
+              AND p.deleted = false
+            RETURNING t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version
+            """;
+
+    /**
+     * Conditional completion and counter move as one statement (see JdbcTaskRepository).
+     */
+    static final String COMPLETE_OWNED_BY = """
+            WITH completed AS (
+                UPDATE tasks t
+                SET completed = true, version = t.version + 1
+                FROM projects p
+                WHERE t.id = :taskId
+                  AND (CAST(:expectedVersion AS BIGINT) IS NULL OR t.version = :expectedVersion)
+                  AND t.project_id = p.id
+                  AND t.deleted = false
+                  AND t.completed = false
+                  AND p.owner_id = :ownerId
+                  AND p.deleted = false
+                  AND p.status = 'ACTIVE'
+                RETURNING t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version
+            ), counters AS (
+                UPDATE projects
+                SET open_tasks = open_tasks - 1, completed_tasks = completed_tasks + 1
+                WHERE id IN (SELECT project_id FROM completed)
+            )
+            SELECT * FROM completed
+            """;
+
+    static final String COUNT_BY_PROJECT = """
+            SELECT COUNT(*) FROM tasks WHERE project_id = :projectId AND deleted = false
+            """;
+
+    static final String EXISTS_BY_PROJECT = """
+            SELECT EXISTS (SELECT 1 FROM tasks WHERE project_id = :projectId AND deleted = false)
+            """;
+
+    static final String EXISTS_OPEN_BY_PROJECT = """
+            SELECT EXISTS (
+                SELECT 1 FROM tasks WHERE project_id = :projectId AND completed = false AND deleted = false
+            )
+            """;
+
+    static final String EXISTS_BY_ID = """
+            SELECT EXISTS (SELECT 1 FROM tasks WHERE id = :id AND deleted = false)
+            """;
+
+    static final String FIND_ALL_BY_PROJECT_OWNER = """
+            SELECT t.* FROM tasks t
+            JOIN projects p ON p.id = t.project_id
+            WHERE p.owner_id = :ownerId AND t.deleted = false AND p.deleted = false
+            """;
+
+    static final String DELETE_BY_ID = """
+            DELETE FROM tasks WHERE id = :id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcTaskRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Task> save(Task task) {
+        // A null version means the task was never persisted: a single INSERT, no existence check
+        if (task.getVersion() == null) {
+            return databaseClient.sql(INSERT)
+                    .bind("id", task.getId() != null ? task.getId() : UuidV7.generate())
+                    .bind("projectId", task.getProjectId())
+                    .bind("title", task.getTitle())
+                    .bind("completed", task.isCompleted())
+                    .bind("deleted", task.isDeleted())
+                    .bind("createdAt", Rows.createdAtOrNow(task.getCreatedAt()))
+                    .map(Rows::task)
+                    .one();
+        }
+
+        // Existing task: one conditional UPDATE that doubles as the optimistic lock check
+        return databaseClient.sql(UPDATE_IF_VERSION_MATCHES)
+                .bind("id", task.getId())
+                .bind("version", task.getVersion())
+                .bind("title", task.getTitle())
+                .bind("completed", task.isCompleted())
+                .bind("deleted", task.isDeleted())
+                .map(Rows::task)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ConcurrentUpdateException("Task", task.getId())));
+    }
+
+    @Override
+    public Flux<Task> saveAll(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return Flux.empty();
+        }
+        int size = tasks.size();
+        String[] ids = new String[size];
+        String[] projectIds = new String[size];
+        String[] titles = new String[size];
+        Boolean[] completed = new Boolean[size];
+        Boolean[] deleted = new Boolean[size];
+        String[] createdAts = new String[size];
+        Map<UUID, Integer> positions = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Task task = tasks.get(i);
+            UUID id = task.getId() != null ? task.getId() : UuidV7.generate();
+            ids[i] = id.toString();
+            projectIds[i] = task.getProjectId().toString();
+            titles[i] = task.getTitle();
+            completed[i] = task.isCompleted();
+            deleted[i] = task.isDeleted();
+            createdAts[i] = Rows.createdAtOrNow(task.getCreatedAt()).toString();
+            positions.put(id, i);
+        }
+
+        // RETURNING order is not guaranteed, the port promises input order
+        return databaseClient.sql(INSERT_ALL)
+                .bind("ids", ids)
+                .bind("projectIds", projectIds)
+                .bind("titles", titles)
+                .bind("completed", completed)
+                .bind("deleted", deleted)
+                .bind("createdAts", createdAts)
+                .map(Rows::task)
+                .all()
+                .collectSortedList(Comparator.comparing(task -> positions.get(task.getId())))
+                .flatMapIterable(saved -> saved);
+    }
+
+    @Override
+    public Mono<Task> findById(UUID id) {
+        return databaseClient.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map(Rows::task)
+                .one();
+    }
+
+    @Override
+    public Flux<Task> findByProjectId(UUID projectId) {
+        return databaseClient.sql(FIND_BY_PROJECT)
+                .bind("projectId", projectId)
+                .map(Rows::task)
+                .all();
+    }
+
+    @Override
+    public Flux<Task> findByProjectIdAndDeletedFalse(UUID projectId) {
+        return findByProjectId(projectId);
+    }
+
+    @Override
+    public Mono<CursorPage<Task>> findPageByProjectId(UUID projectId, PageCursor after, int limit) {
+        // Fetch one extra row to know whether a next page exists without a count query
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? databaseClient.sql(FIND_FIRST_PAGE_BY_PROJECT)
+                : databaseClient.sql(FIND_PAGE_BY_PROJECT_AFTER)
+                        .bind("createdAt", after.createdAt())
+                        .bind("id", after.id());
+        return query.bind("projectId", projectId)
+                .bind("limit", limit + 1)
+                .map(Rows::task)
+                .all()
+                .collectList()
+                .map(rows -> Rows.page(rows, limit, Task::getCreatedAt, Task::getId));
+    }
+
+    @Override
+    public Flux<TaskWithProject> findWithProjectByIds(List<UUID> taskIds) {
+        return databaseClient.sql(FIND_WITH_PROJECT_BY_IDS)
+                .bind("taskIds", Rows.ids(taskIds))
+                .map(row -> new TaskWithProject(Rows.task(row), Project.builder()
+                        .id(row.get("project_id", UUID.class))
+                        .ownerId(row.get("owner_id", UUID.class))
+                        .name(row.get("project_name", String.class))
+                        .status(ProjectStatus.valueOf(row.get("project_status", String.class)))
+                        .deleted(row.get("project_deleted", Boolean.class))
+                        .version(row.get("project_version", Long.class))
+                        .build()))
+                .all();
+    }
+
+    @Override
+    public Flux<Task> completeAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return databaseClient.sql(COMPLETE_ALL_OWNED_BY)
+                .bind("taskIds", Rows.ids(taskIds))
+                .bind("ownerId", ownerId)
+                .map(Rows::task)
+                .all();
+    }
+
+    @Override
+    public Mono<Task> completeOwnedBy(UUID taskId, UUID ownerId, Long expectedVersion) {
+        return databaseClient.sql(COMPLETE_OWNED_BY)
+                .bind("taskId", taskId)
+                .bind("ownerId", ownerId)
+                .bind("expectedVersion", Parameter.fromOrEmpty(expectedVersion, Long.class))
+                .map(Rows::task)
+                .one();
+    }
+
+    @Override
+    public Flux<Task> deleteAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return databaseClient.sql(DELETE_ALL_OWNED_BY)
+                .bind("taskIds", Rows.ids(taskIds))
+                .bind("ownerId", ownerId)
+                .map(Rows::task)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> countByProjectIdAndDeletedFalse(UUID projectId) {
+        return databaseClient.sql(COUNT_BY_PROJECT)
+                .bind("projectId", projectId)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsByProjectIdAndDeletedFalse(UUID projectId) {
+        return exists(EXISTS_BY_PROJECT, "projectId", projectId);
+    }
+
+    @Override
+    public Mono<Boolean> existsByProjectIdAndCompletedFalseAndDeletedFalse(UUID projectId) {
+        return exists(EXISTS_OPEN_BY_PROJECT, "projectId", projectId);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(UUID id) {
+        return exists(EXISTS_BY_ID, "id", id);
+    }
+
+    @Override
+    public Flux<Task> findAllByProjectOwnerId(UUID ownerId) {
+        return databaseClient.sql(FIND_ALL_BY_PROJECT_OWNER)
+                .bind("ownerId", ownerId)
+                .map(Rows::task)
+                .all();
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return databaseClient.sql(DELETE_BY_ID)
+                .bind("id", id)
+                .then();
+    }
+
+    private Mono<Boolean> exists(String sql, String parameter, UUID value) {
+        return databaseClient.sql(sql)
+                .bind(parameter, value)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+}
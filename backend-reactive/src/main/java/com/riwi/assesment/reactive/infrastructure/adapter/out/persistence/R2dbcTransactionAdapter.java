@@ -0,0 +1,64 @@
+package com.riwi.assesment.reactive.infrastructure.adapter.out.persistence;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionContextManager;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import com.riwi.assesment.domain.port.out.TransactionPort;
+import com.riwi.assesment.reactive.infrastructure.bridge.TransactionBinding;
+
+import reactor.util.context.Context;
+
+/**
+ * Adapter implementing TransactionPort with an R2DBC transaction, for the application services.
+ * Begin, commit and rollback are issued explicitly around the work, and the work itself runs on
+ * the calling thread with the transaction bound to it (see TransactionBinding), so thread-bound
+ * state such as the security context stays visible to the service. A nested call joins the outer
+ * transaction, like TransactionTemplate's default propagation.
+ */
+@Component
+public class R2dbcTransactionAdapter implements TransactionPort {
+
+    private final ReactiveTransactionManager transactionManager;
+
+    public R2dbcTransactionAdapter(ReactiveTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        if (TransactionBinding.isBound()) {
+            return work.get();
+        }
+
+        // The same context TransactionalOperator creates for its subscription
+        Context context = TransactionContextManager.getOrCreateContext()
+                .apply(TransactionContextManager.getOrCreateContextHolder().apply(Context.empty()));
+        ReactiveTransaction transaction = transactionManager
+                .getReactiveTransaction(new DefaultTransactionDefinition())
+                .contextWrite(context)
+                .block();
+
+        T result;
+        try {
+            result = TransactionBinding.bind(context, work);
+        } catch (RuntimeException | Error e) {
+            rollback(transaction, context, e);
+            throw e;
+        }
+        transactionManager.commit(transaction).contextWrite(context).block();
+        return result;
+    }
+
+    private void rollback(ReactiveTransaction transaction, Context context, Throwable cause) {
+        try {
+            transactionManager.rollback(transaction).contextWrite(context).block();
+        } catch (RuntimeException rollbackFailure) {
+            cause.addSuppressed(rollbackFailure);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.riwi.assesment.reactive.infrastructure.adapter.out.persistence;
+
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveUserRepositoryPort;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC adapter implementing ReactiveUserRepositoryPort.
+ * A duplicate username or email surfaces as DataIntegrityViolationException, as with JPA.
+ */
+@Component
+public class R2dbcUserRepositoryAdapter implements ReactiveUserRepositoryPort {
+
+    static final String INSERT = """
+            INSERT INTO users (id, username, email, password)
+            VALUES (:id, :username, :email, :password)
+            RETURNING *
+            """;
+
+    static final String UPDATE_IF_VERSION_MATCHES = """
+            UPDATE users
+            SET username = :username, email = :email, password = :password, version = version + 1
+            WHERE id = :id AND version = :version
+            RETURNING *
+            """;
+
+    static final String FIND_BY_ID = "SELECT * FROM users WHERE id = :value";
+    static final String FIND_BY_USERNAME = "SELECT * FROM users WHERE username = :value";
+    static final String FIND_BY_EMAIL = "SELECT * FROM users WHERE email = :value";
+    static final String EXISTS_BY_USERNAME = "SELECT EXISTS (SELECT 1 FROM users WHERE username = :value)";
+    static final String EXISTS_BY_EMAIL = "SELECT EXISTS (SELECT 1 FROM users WHERE email = :value)";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcUserRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        // A null version means the user was never persisted: a single INSERT, no existence check
+        if (user.getVersion() == null) {
+            return databaseClient.sql(INSERT)
+                    .bind("id", user.getId() != null ? user.getId() : UuidV7.generate())
+                    .bind("username", user.getUsername())
+                    .bind("email", user.getEmail())
+                    .bind("password", user.getPassword())
+                    .map(Rows::user)
+                    .one();
+        }
+
+        // Existing user: one conditional UPDATE that doubles as the optimistic lock check
+        return databaseClient.sql(UPDATE_IF_VERSION_MATCHES)
+                .bind("id", user.getId())
+                .bind("version", user.getVersion())
+                .bind("username", user.getUsername())
+                .bind("email", user.getEmail())
+                .bind("password", user.getPassword())
+                .map(Rows::user)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new ConcurrentUpdateException("User", user.getId())));
+    }
+
+    @Override
+    public Mono<User> findById(UUID id) {
+        return findOne(FIND_BY_ID, id);
+    }
+
+    @Override
+    public Mono<User> findByUsername(String username) {
+        return findOne(FIND_BY_USERNAME, username);
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return findOne(FIND_BY_EMAIL, email);
+    }
+
+    @Override
+    public Mono<Boolean> existsByUsername(String username) {
+        return exists(EXISTS_BY_USERNAME, username);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return exists(EXISTS_BY_EMAIL, email);
+    }
+
+    private Mono<User> findOne(String sql, Object value) {
+        return databaseClient.sql(sql)
+                .bind("value", value)
+                .map(Rows::user)
+                .one();
+    }
+
+    private Mono<Boolean> exists(String sql, String value) {
+        return databaseClient.sql(sql)
+                .bind("value", value)
+                .map(row -> row.get(0, Boolean.class))
+                .one();
+    }
+}
@@ -0,0 +1,88 @@
+package com.riwi.assesment.reactive.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+
+import io.r2dbc.spi.Readable;
+
+/**
+ * Row mapping shared by the R2DBC adapters. Column names are those of the Flyway schema,
+ * so a SELECT * or RETURNING * row maps directly.
+ */
+final class Rows {
+
+    private Rows() {
+    }
+
+    static Project project(Readable row) {
+        return Project.builder()
+                .id(row.get("id", UUID.class))
+                .ownerId(row.get("owner_id", UUID.class))
+                .name(row.get("name", String.class))
+                .status(ProjectStatus.valueOf(row.get("status", String.class)))
+                .deleted(row.get("deleted", Boolean.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .totalTasks(row.get("total_tasks", Integer.class))
+                .openTasks(row.get("open_tasks", Integer.class))
+                .completedTasks(row.get("completed_tasks", Integer.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    static Task task(Readable row) {
+        return Task.builder()
+                .id(row.get("id", UUID.class))
+                .projectId(row.get("project_id", UUID.class))
+                .title(row.get("title", String.class))
+                .completed(row.get("completed", Boolean.class))
+                .deleted(row.get("deleted", Boolean.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    static User user(Readable row) {
+        return User.builder()
+                .id(row.get("id", UUID.class))
+                .username(row.get("username", String.class))
+                .email(row.get("email", String.class))
+                .password(row.get("password", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    /**
+     * Cuts a keyset page fetched with limit + 1 rows, as the JPA adapters do.
+     */
+    static <T> CursorPage<T> page(List<T> rows, int limit,
+                                  Function<T, LocalDateTime> createdAt, Function<T, UUID> id) {
+        List<T> items = rows.size() > limit ? rows.subList(0, limit) : rows;
+        PageCursor nextCursor = null;
+        if (rows.size() > limit) {
+            T last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(createdAt.apply(last), id.apply(last));
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /**
+     * Creation time for a new row; the JPA entities set the same value in @PrePersist.
+     */
+    static LocalDateTime createdAtOrNow(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt : LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    static String[] ids(List<UUID> ids) {
+        return ids.stream().map(UUID::toString).toArray(String[]::new);
+    }
+}
@@ -0,0 +1,39 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.port.out.OwnershipPort;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveProjectRepositoryPort;
+
+/**
+ * OwnershipPort reading the owner column by primary key on every lookup.
+ * Unlike the servlet backend's ProjectOwnershipIndex nothing is cached, so creation and
+ * deletion need no bookkeeping; the reactive controllers query the owner non-blockingly instead.
+ */
+@Component
+public class BlockingOwnershipAdapter implements OwnershipPort {
+
+    private final ReactiveProjectRepositoryPort projectRepository;
+
+    public BlockingOwnershipAdapter(ReactiveProjectRepositoryPort projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    public Optional<UUID> findOwnerId(UUID projectId) {
+        return Optional.ofNullable(TransactionBinding.block(projectRepository.findOwnerId(projectId)));
+    }
+
+    @Override
+    public void projectCreated(UUID projectId, UUID ownerId) {
+        // Nothing cached
+    }
+
+    @Override
+    public void projectDeleted(UUID projectId) {
+        // Nothing cached
+    }
+}
@@ -0,0 +1,78 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveProjectRepositoryPort;
+
+/**
+ * ProjectRepositoryPort over the reactive repository, for the application services.
+ * Each call blocks on the reactive one within the bound transaction (see TransactionBinding).
+ */
+@Component
+public class BlockingProjectRepositoryAdapter implements ProjectRepositoryPort {
+
+    private final ReactiveProjectRepositoryPort projectRepository;
+
+    public BlockingProjectRepositoryAdapter(ReactiveProjectRepositoryPort projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    public Project save(Project project) {
+        return TransactionBinding.block(projectRepository.save(project));
+    }
+
+    @Override
+    public Optional<Project> findById(UUID id) {
+        return Optional.ofNullable(TransactionBinding.block(projectRepository.findById(id)));
+    }
+
+    @Override
+    public List<Project> findByOwnerId(UUID ownerId) {
+        return TransactionBinding.blockAll(projectRepository.findByOwnerId(ownerId));
+    }
+
+    @Override
+    public List<Project> findByOwnerIdAndDeletedFalse(UUID ownerId) {
+        return TransactionBinding.blockAll(projectRepository.findByOwnerIdAndDeletedFalse(ownerId));
+    }
+
+    @Override
+    public CursorPage<Project> findPageByOwnerId(UUID ownerId, PageCursor after, int limit) {
+        return TransactionBinding.block(projectRepository.findPageByOwnerId(ownerId, after, limit));
+    }
+
+    @Override
+    public List<ProjectWithTasks> findWithTasksByOwnerId(UUID ownerId, Integer tasksPerProject) {
+        return TransactionBinding.blockAll(projectRepository.findWithTasksByOwnerId(ownerId, tasksPerProject));
+    }
+
+    @Override
+    public void adjustTaskCounters(UUID projectId, int totalDelta, int openDelta, int completedDelta) {
+        TransactionBinding.block(projectRepository.adjustTaskCounters(projectId, totalDelta, openDelta, completedDelta));
+    }
+
+    @Override
+    public boolean addOpenTasks(UUID projectId, int count) {
+        return TransactionBinding.block(projectRepository.addOpenTasks(projectId, count));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return TransactionBinding.block(projectRepository.existsById(id));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        TransactionBinding.block(projectRepository.deleteById(id));
+    }
+}
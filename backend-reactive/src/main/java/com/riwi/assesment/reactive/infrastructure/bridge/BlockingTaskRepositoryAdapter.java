@@ -0,0 +1,109 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveTaskRepositoryPort;
+
+/**
+ * TaskRepositoryPort over the reactive repository, for the application services.
+ * Each call blocks on the reactive one within the bound transaction (see TransactionBinding).
+ */
+@Component
+public class BlockingTaskRepositoryAdapter implements TaskRepositoryPort {
+
+    private final ReactiveTaskRepositoryPort taskRepository;
+
+    public BlockingTaskRepositoryAdapter(ReactiveTaskRepositoryPort taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public Task save(Task task) {
+        return TransactionBinding.block(taskRepository.save(task));
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return TransactionBinding.blockAll(taskRepository.saveAll(tasks));
+    }
+
+    @Override
+    public Optional<Task> findById(UUID id) {
+        return Optional.ofNullable(TransactionBinding.block(taskRepository.findById(id)));
+    }
+
+    @Override
+    public List<Task> findByProjectId(UUID projectId) {
+        return TransactionBinding.blockAll(taskRepository.findByProjectId(projectId));
+    }
+
+    @Override
+    public List<Task> findByProjectIdAndDeletedFalse(UUID projectId) {
+        return TransactionBinding.blockAll(taskRepository.findByProjectIdAndDeletedFalse(projectId));
+    }
+
+    @Override
+    public CursorPage<Task> findPageByProjectId(UUID projectId, PageCursor after, int limit) {
+        return TransactionBinding.block(taskRepository.findPageByProjectId(projectId, after, limit));
+    }
+
+    @Override
+    public List<TaskWithProject> findWithProjectByIds(List<UUID> taskIds) {
+        return TransactionBinding.blockAll(taskRepository.findWithProjectByIds(taskIds));
+    }
+
+    @Override
+    public List<Task> completeAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return TransactionBinding.blockAll(taskRepository.completeAllOwnedBy(taskIds, ownerId));
+    }
+
+    @Override
+    public Optional<Task> completeOwnedBy(UUID taskId, UUID ownerId, Long expectedVersion) {
+        return Optional.ofNullable(TransactionBinding.block(
+                taskRepository.completeOwnedBy(taskId, ownerId, expectedVersion)));
+    }
+
+    @Override
+    public List<Task> deleteAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return TransactionBinding.blockAll(taskRepository.deleteAllOwnedBy(taskIds, ownerId));
+    }
+
+    @Override
+    public long countByProjectIdAndDeletedFalse(UUID projectId) {
+        return TransactionBinding.block(taskRepository.countByProjectIdAndDeletedFalse(projectId));
+    }
+
+    @Override
+    public boolean existsByProjectIdAndDeletedFalse(UUID projectId) {
+        return TransactionBinding.block(taskRepository.existsByProjectIdAndDeletedFalse(projectId));
+    }
+
+    @Override
+    public boolean existsByProjectIdAndCompletedFalseAndDeletedFalse(UUID projectId) {
+        return TransactionBinding.block(taskRepository.existsByProjectIdAndCompletedFalseAndDeletedFalse(projectId));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return TransactionBinding.block(taskRepository.existsById(id));
+    }
+
+    @Override
+    public List<Task> findAllByProjectOwnerId(UUID ownerId) {
+        return TransactionBinding.blockAll(taskRepository.findAllByProjectOwnerId(ownerId));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        TransactionBinding.block(taskRepository.deleteById(id));
+    }
+}
@@ -0,0 +1,82 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.exception.ServiceOverloadedException;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs the existing (blocking) application services from WebFlux handlers.
+ * A service call is moved off the event loop onto a bounded pool of worker threads, with the
+ * request's security context copied from the Reactor context into SecurityContextHolder so
+ * CurrentUserPort works unchanged. The pool caps how many use cases run at once, and how many
+ * may wait; beyond that the call fails fast with ServiceOverloadedException (503 + Retry-After).
+ */
+@Component
+public class BlockingUseCaseRunner {
+
+    private static final String RESOURCE = "Use case execution";
+
+    private final Scheduler scheduler;
+    private final long retryAfterSeconds;
+
+    @Autowired
+    public BlockingUseCaseRunner(@Value("${blocking-use-cases.threads:0}") int threads,
+                                 @Value("${blocking-use-cases.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${blocking-use-cases.retry-after:PT1S}") Duration retryAfter) {
+        this(Schedulers.newBoundedElastic(
+                threads > 0 ? threads : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                queueCapacity,
+                "blocking-use-case"), retryAfter);
+    }
+
+    BlockingUseCaseRunner(Scheduler scheduler, Duration retryAfter) {
+        this.scheduler = scheduler;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    }
+
+    /**
+     * Runs the use case on a worker thread as the authenticated user of the subscribing request.
+     * @return the use case's result, or empty if it returned null
+     */
+    public <T> Mono<T> call(Supplier<T> useCase) {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(securityContext -> Mono.fromSupplier(() -> callAs(securityContext.orElse(null), useCase))
+                        .subscribeOn(scheduler))
+                .onErrorMap(RejectedExecutionException.class,
+                        e -> new ServiceOverloadedException(RESOURCE, retryAfterSeconds));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+
+    private static <T> T callAs(SecurityContext securityContext, Supplier<T> useCase) {
+        if (securityContext == null) {
+            return useCase.get();
+        }
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            return useCase.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
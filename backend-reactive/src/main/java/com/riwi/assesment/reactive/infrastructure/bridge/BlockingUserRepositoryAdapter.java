@@ -0,0 +1,54 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.port.out.UserRepositoryPort;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveUserRepositoryPort;
+
+/**
+ * UserRepositoryPort over the reactive repository, for the application services.
+ * Each call blocks on the reactive one within the bound transaction (see TransactionBinding).
+ */
+@Component
+public class BlockingUserRepositoryAdapter implements UserRepositoryPort {
+
+    private final ReactiveUserRepositoryPort userRepository;
+
+    public BlockingUserRepositoryAdapter(ReactiveUserRepositoryPort userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public User save(User user) {
+        return TransactionBinding.block(userRepository.save(user));
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return Optional.ofNullable(TransactionBinding.block(userRepository.findById(id)));
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return Optional.ofNullable(TransactionBinding.block(userRepository.findByUsername(username)));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return Optional.ofNullable(TransactionBinding.block(userRepository.findByEmail(email)));
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return TransactionBinding.block(userRepository.existsByUsername(username));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return TransactionBinding.block(userRepository.existsByEmail(email));
+    }
+}
@@ -0,0 +1,65 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Lets blocking code take part in a reactive R2DBC transaction.
+ * Spring binds an R2DBC transaction to the Reactor context of the subscription, not to a thread,
+ * so a blocking call made by an application service would otherwise run outside it. While
+ * R2dbcTransactionAdapter runs a unit of work, it binds the transaction's context to the current
+ * thread; block() writes that context into every publisher it subscribes to, so all statements of
+ * the work go through the transaction's connection. Outside a transaction block() auto-commits.
+ * Blocking is only allowed off the event loop (see BlockingUseCaseRunner).
+ */
+public final class TransactionBinding {
+
+    private static final ThreadLocal<ContextView> CURRENT = new ThreadLocal<>();
+
+    private TransactionBinding() {
+    }
+
+    /**
+     * Runs the work with the given transaction context bound to the current thread.
+     */
+    public static <T> T bind(ContextView transactionContext, Supplier<T> work) {
+        ContextView previous = CURRENT.get();
+        CURRENT.set(transactionContext);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread is running inside R2dbcTransactionAdapter.inTransaction.
+     */
+    public static boolean isBound() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Subscribes to the publisher within the bound transaction, if any, and waits for its value.
+     * @return the value, or null if the publisher completed empty
+     */
+    public static <T> T block(Mono<T> mono) {
+        ContextView transactionContext = CURRENT.get();
+        return transactionContext == null ? mono.block() : mono.contextWrite(transactionContext).block();
+    }
+
+    /**
+     * Collects every element of the publisher within the bound transaction, if any.
+     */
+    public static <T> List<T> blockAll(Flux<T> flux) {
+        return block(flux.collectList());
+    }
+}
@@ -0,0 +1,72 @@
+package com.riwi.assesment.reactive.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.riwi.assesment.infrastructure.security.BCryptCostCalibrator;
+import com.riwi.assesment.infrastructure.security.VerifiedTokenCache;
+import com.riwi.assesment.reactive.infrastructure.security.JwtAuthenticationWebFilter;
+import com.riwi.assesment.reactive.infrastructure.security.JwtServerAccessDeniedHandler;
+import com.riwi.assesment.reactive.infrastructure.security.JwtServerAuthenticationEntryPoint;
+
+/**
+ * WebFlux security configuration with the same rules as the servlet backend's SecurityConfig:
+ * stateless JWT authentication, public auth, docs and actuator endpoints, everything else authenticated.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         VerifiedTokenCache verifiedTokenCache,
+                                                         JwtServerAuthenticationEntryPoint authenticationEntryPoint,
+                                                         JwtServerAccessDeniedHandler accessDeniedHandler) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                // Stateless: nothing is stored between requests
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(authenticationEntryPoint)
+                        .accessDeniedHandler(accessDeniedHandler)
+                )
+                .authorizeExchange(auth -> auth
+                        // Public endpoints
+                        .pathMatchers("/api/auth/**").permitAll()
+                        // Swagger/OpenAPI
+                        .pathMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/webjars/**").permitAll()
+                        // Actuator health endpoint
+                        .pathMatchers("/actuator/**").permitAll()
+                        // Any other request
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(new JwtAuthenticationWebFilter(verifiedTokenCache), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * BCrypt with an explicit cost, or one calibrated on this host for target-latency when cost is 0.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${password-hashing.cost:0}") int cost,
+            @Value("${password-hashing.target-latency:PT0.1S}") Duration targetLatency,
+            @Value("${password-hashing.min-cost:10}") int minCost,
+            @Value("${password-hashing.max-cost:14}") int maxCost) {
+        int strength = cost > 0 ? cost : BCryptCostCalibrator.calibrate(targetLatency, minCost, maxCost);
+        return new BCryptPasswordEncoder(strength);
+    }
+}
@@ -0,0 +1,56 @@
+package com.riwi.assesment.reactive.infrastructure.security;
+
+import java.util.Collections;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.riwi.assesment.infrastructure.security.VerifiedTokenCache;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of JwtAuthenticationFilter.
+ * Verifies the bearer token through the same VerifiedTokenCache (a hit costs a SHA-256, a miss one
+ * signature check, both cheap enough for the event loop) and puts the authentication in the Reactor
+ * context of the rest of the chain. An invalid token leaves the request unauthenticated.
+ * Not a bean: WebFlux would also run every WebFilter bean outside the security chain.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtAuthenticationWebFilter(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String jwt = getJwtFromRequest(exchange);
+        if (!StringUtils.hasText(jwt)) {
+            return chain.filter(exchange);
+        }
+        return verifiedTokenCache.verify(jwt)
+                .map(verified -> chain.filter(exchange).contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                verified.userId().toString(),
+                                null,
+                                Collections.emptyList()))))
+                .orElseGet(() -> chain.filter(exchange));
+    }
+
+    private static String getJwtFromRequest(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
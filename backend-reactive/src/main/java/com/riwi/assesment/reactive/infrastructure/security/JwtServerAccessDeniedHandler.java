@@ -0,0 +1,22 @@
+package com.riwi.assesment.reactive.infrastructure.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of JwtAccessDeniedHandler: the same 403 body.
+ */
+@Component
+public class JwtServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+        return JwtServerAuthenticationEntryPoint.write(exchange, HttpStatus.FORBIDDEN,
+                "{\"error\": \"Forbidden\", \"message\": \"Access denied. You don't have permission to access this resource.\"}");
+    }
+}
@@ -0,0 +1,56 @@
+package com.riwi.assesment.reactive.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of JwtAuthenticationEntryPoint: the same 401 body for unauthenticated requests.
+ */
+@Component
+public class JwtServerAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", HttpStatus.UNAUTHORIZED.value());
+        body.put("error", "Unauthorized");
+        body.put("message", "Authentication required. Please provide a valid JWT token.");
+        body.put("path", exchange.getRequest().getPath().value());
+        body.put("timestamp", LocalDateTime.now().toString());
+
+        try {
+            return write(exchange, HttpStatus.UNAUTHORIZED, objectMapper.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    /**
+     * Writes a fixed JSON body; shared with JwtServerAccessDeniedHandler.
+     */
+    static Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String json) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer buffer = response.bufferFactory().wrap(json.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+}
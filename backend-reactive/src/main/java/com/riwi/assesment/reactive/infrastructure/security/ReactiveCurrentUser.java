@@ -0,0 +1,32 @@
+package com.riwi.assesment.reactive.infrastructure.security;
+
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of CurrentUserAdapter, for handlers that do not go through an application service.
+ * Reads the authenticated user from the Reactor context set by JwtAuthenticationWebFilter.
+ */
+@Component
+public class ReactiveCurrentUser {
+
+    public Mono<UUID> getCurrentUserId() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("No authenticated user found")))
+                .map(authentication -> {
+                    try {
+                        return UUID.fromString(authentication.getName());
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalStateException("Invalid user ID format in security context");
+                    }
+                });
+    }
+}
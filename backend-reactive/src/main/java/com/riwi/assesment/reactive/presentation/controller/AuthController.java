@@ -0,0 +1,81 @@
+package com.riwi.assesment.reactive.presentation.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.riwi.assesment.domain.port.in.LoginUserUseCase;
+import com.riwi.assesment.domain.port.in.RegisterUserUseCase;
+import com.riwi.assesment.presentation.dto.AuthResponse;
+import com.riwi.assesment.presentation.dto.LoginRequest;
+import com.riwi.assesment.presentation.dto.RegisterRequest;
+import com.riwi.assesment.reactive.infrastructure.bridge.BlockingUseCaseRunner;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of the servlet AuthController: same paths, bodies and status codes.
+ */
+@RestController
+@RequestMapping("/api/auth")
+@Tag(name = "Authentication", description = "User registration and login endpoints. These endpoints are public and don't require authentication.")
+public class AuthController {
+
+    private final RegisterUserUseCase registerUserUseCase;
+    private final LoginUserUseCase loginUserUseCase;
+    private final BlockingUseCaseRunner useCases;
+
+    public AuthController(RegisterUserUseCase registerUserUseCase,
+                          LoginUserUseCase loginUserUseCase,
+                          BlockingUseCaseRunner useCases) {
+        this.registerUserUseCase = registerUserUseCase;
+        this.loginUserUseCase = loginUserUseCase;
+        this.useCases = useCases;
+    }
+
+    @PostMapping("/register")
+    @Operation(summary = "Register a new user")
+    public Mono<ResponseEntity<AuthResponse>> register(@Valid @RequestBody RegisterRequest request) {
+        RegisterUserUseCase.RegisterUserCommand command =
+                new RegisterUserUseCase.RegisterUserCommand(
+                        request.username(),
+                        request.email(),
+                        request.password()
+                );
+
+        return useCases.call(() -> registerUserUseCase.execute(command))
+                .map(result -> {
+                    if (!result.success()) {
+                        return ResponseEntity.badRequest()
+                                .body(new AuthResponse(null, null, result.message()));
+                    }
+                    return ResponseEntity.status(HttpStatus.CREATED)
+                            .body(new AuthResponse(result.token(), result.user().getUsername(), result.message()));
+                });
+    }
+
+    @PostMapping("/login")
+    @Operation(summary = "Login with credentials")
+    public Mono<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+        LoginUserUseCase.LoginUserCommand command =
+                new LoginUserUseCase.LoginUserCommand(
+                        request.username(),
+                        request.password()
+                );
+
+        return useCases.call(() -> loginUserUseCase.execute(command))
+                .map(result -> {
+                    if (!result.success()) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                .body(new AuthResponse(null, null, result.message()));
+                    }
+                    return ResponseEntity.ok(new AuthResponse(result.token(), result.user().getUsername(), result.message()));
+                });
+    }
+}
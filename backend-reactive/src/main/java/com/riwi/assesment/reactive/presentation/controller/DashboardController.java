@@ -0,0 +1,47 @@
+package com.riwi.assesment.reactive.presentation.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.riwi.assesment.presentation.dto.DashboardResponse;
+import com.riwi.assesment.presentation.support.CursorCodec;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveProjectRepositoryPort;
+import com.riwi.assesment.reactive.infrastructure.security.ReactiveCurrentUser;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of the servlet DashboardController. Fully non-blocking.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Dashboard", description = "Aggregated read endpoints for the UI. All endpoints require JWT authentication.")
+@SecurityRequirement(name = "bearerAuth")
+public class DashboardController {
+
+    private final ReactiveProjectRepositoryPort projectRepository;
+    private final ReactiveCurrentUser currentUser;
+
+    public DashboardController(ReactiveProjectRepositoryPort projectRepository,
+                               ReactiveCurrentUser currentUser) {
+        this.projectRepository = projectRepository;
+        this.currentUser = currentUser;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get dashboard")
+    public Mono<ResponseEntity<DashboardResponse>> getDashboard(
+            @RequestParam(required = false) Integer tasksPerProject) {
+        int taskLimit = CursorCodec.pageSize(tasksPerProject);
+
+        return currentUser.getCurrentUserId()
+                .flatMap(currentUserId -> projectRepository.findWithTasksByOwnerId(currentUserId, taskLimit).collectList())
+                .map(projects -> ResponseEntity.ok(DashboardResponse.fromDomain(projects)));
+    }
+}
@@ -0,0 +1,196 @@
+package com.riwi.assesment.reactive.presentation.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.riwi.assesment.domain.exception.VersionMismatchException;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.port.in.ActivateProjectUseCase;
+import com.riwi.assesment.domain.port.in.BulkCreateTasksUseCase;
+import com.riwi.assesment.domain.port.in.CreateProjectUseCase;
+import com.riwi.assesment.domain.port.in.CreateTaskUseCase;
+import com.riwi.assesment.presentation.dto.BulkCreateTasksRequest;
+import com.riwi.assesment.presentation.dto.CreateProjectRequest;
+import com.riwi.assesment.presentation.dto.CreateTaskRequest;
+import com.riwi.assesment.presentation.dto.PageResponse;
+import com.riwi.assesment.presentation.dto.ProjectResponse;
+import com.riwi.assesment.presentation.dto.TaskResponse;
+import com.riwi.assesment.presentation.support.CursorCodec;
+import com.riwi.assesment.presentation.support.ETags;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveProjectRepositoryPort;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveTaskRepositoryPort;
+import com.riwi.assesment.reactive.infrastructure.bridge.BlockingUseCaseRunner;
+import com.riwi.assesment.reactive.infrastructure.security.ReactiveCurrentUser;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of the servlet ProjectController: same paths, bodies, headers and status codes.
+ * Reads and the delete run on the reactive repositories; the use cases run through BlockingUseCaseRunner.
+ */
+@RestController
+@RequestMapping("/api/projects")
+@Tag(name = "Projects", description = "Project CRUD operations and lifecycle management. All endpoints require JWT authentication.")
+@SecurityRequirement(name = "bearerAuth")
+public class ProjectController {
+
+    private final CreateProjectUseCase createProjectUseCase;
+    private final ActivateProjectUseCase activateProjectUseCase;
+    private final CreateTaskUseCase createTaskUseCase;
+    private final BulkCreateTasksUseCase bulkCreateTasksUseCase;
+    private final ReactiveProjectRepositoryPort projectRepository;
+    private final ReactiveTaskRepositoryPort taskRepository;
+    private final ReactiveCurrentUser currentUser;
+    private final BlockingUseCaseRunner useCases;
+
+    public ProjectController(CreateProjectUseCase createProjectUseCase,
+                             ActivateProjectUseCase activateProjectUseCase,
+                             CreateTaskUseCase createTaskUseCase,
+                             BulkCreateTasksUseCase bulkCreateTasksUseCase,
+                             ReactiveProjectRepositoryPort projectRepository,
+                             ReactiveTaskRepositoryPort taskRepository,
+                             ReactiveCurrentUser currentUser,
+                             BlockingUseCaseRunner useCases) {
+        this.createProjectUseCase = createProjectUseCase;
+        this.activateProjectUseCase = activateProjectUseCase;
+        this.createTaskUseCase = createTaskUseCase;
+        this.bulkCreateTasksUseCase = bulkCreateTasksUseCase;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.currentUser = currentUser;
+        this.useCases = useCases;
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a new project")
+    public Mono<ResponseEntity<ProjectResponse>> createProject(@Valid @RequestBody CreateProjectRequest request) {
+        CreateProjectUseCase.CreateProjectCommand command =
+                new CreateProjectUseCase.CreateProjectCommand(request.name());
+
+        return useCases.call(() -> createProjectUseCase.execute(command))
+                .map(project -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ProjectResponse.fromDomain(project)));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get projects")
+    public Mono<ResponseEntity<PageResponse<ProjectResponse>>> getProjects(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageCursor after = CursorCodec.decode(cursor);
+        int pageSize = CursorCodec.pageSize(limit);
+
+        return currentUser.getCurrentUserId()
+                .flatMap(currentUserId -> projectRepository.findPageByOwnerId(currentUserId, after, pageSize))
+                .map(page -> ResponseEntity.ok(PageResponse.fromDomain(page, ProjectResponse::fromDomain)));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get project by ID")
+    public Mono<ResponseEntity<ProjectResponse>> getProject(@PathVariable UUID id) {
+        return currentUser.getCurrentUserId()
+                .flatMap(currentUserId -> projectRepository.findById(id)
+                        .filter(project -> project.isOwnedBy(currentUserId)))
+                .map(project -> ResponseEntity.ok()
+                        .eTag(ETags.of(project))
+                        .body(ProjectResponse.fromDomain(project)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping("/{id}/activate")
+    @Operation(summary = "Activate a project")
+    public Mono<ResponseEntity<ProjectResponse>> activateProject(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ActivateProjectUseCase.ActivateProjectCommand command =
+                new ActivateProjectUseCase.ActivateProjectCommand(id, ETags.parseIfMatch(ifMatch));
+
+        return useCases.call(() -> activateProjectUseCase.execute(command))
+                .map(project -> ResponseEntity.ok()
+                        .eTag(ETags.of(project))
+                        .body(ProjectResponse.fromDomain(project)));
+    }
+
+    @PostMapping("/{projectId}/tasks")
+    @Operation(summary = "Create a task for a project")
+    public Mono<ResponseEntity<TaskResponse>> createTask(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody CreateTaskRequest request) {
+        CreateTaskUseCase.CreateTaskCommand command =
+                new CreateTaskUseCase.CreateTaskCommand(projectId, request.title());
+
+        return useCases.call(() -> createTaskUseCase.execute(command))
+                .map(task -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(TaskResponse.fromDomain(task)));
+    }
+
+    @PostMapping("/{projectId}/tasks/bulk")
+    @Operation(summary = "Create many tasks for a project")
+    public Mono<ResponseEntity<List<TaskResponse>>> createTasks(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkCreateTasksRequest request) {
+        BulkCreateTasksUseCase.BulkCreateTasksCommand command =
+                new BulkCreateTasksUseCase.BulkCreateTasksCommand(projectId, request.titles());
+
+        return useCases.call(() -> bulkCreateTasksUseCase.execute(command))
+                .map(tasks -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(tasks.stream().map(TaskResponse::fromDomain).toList()));
+    }
+
+    @GetMapping("/{projectId}/tasks")
+    @Operation(summary = "Get tasks for a project")
+    public Mono<ResponseEntity<PageResponse<TaskResponse>>> getProjectTasks(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageCursor after = CursorCodec.decode(cursor);
+        int pageSize = CursorCodec.pageSize(limit);
+
+        // Verify project ownership
+        return currentUser.getCurrentUserId()
+                .flatMap(currentUserId -> projectRepository.findOwnerId(projectId)
+                        .filter(currentUserId::equals))
+                .flatMap(ownerId -> taskRepository.findPageByProjectId(projectId, after, pageSize))
+                .map(page -> ResponseEntity.ok(PageResponse.fromDomain(page, TaskResponse::fromDomain)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a project")
+    public Mono<ResponseEntity<Void>> deleteProject(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ETags.parseIfMatch(ifMatch);
+
+        return currentUser.getCurrentUserId()
+                .flatMap(currentUserId -> projectRepository.findById(id)
+                        .filter(project -> project.isOwnedBy(currentUserId)))
+                .flatMap(project -> {
+                    if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+                        return Mono.error(new VersionMismatchException("Project", id, expectedVersion, project.getVersion()));
+                    }
+                    project.markAsDeleted();
+                    return projectRepository.save(project)
+                            .thenReturn(ResponseEntity.noContent().<Void>build());
+                })
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,134 @@
+package com.riwi.assesment.reactive.presentation.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.riwi.assesment.domain.exception.VersionMismatchException;
+import com.riwi.assesment.domain.port.in.BulkCompleteTasksUseCase;
+import com.riwi.assesment.domain.port.in.BulkDeleteTasksUseCase;
+import com.riwi.assesment.domain.port.in.CompleteTaskUseCase;
+import com.riwi.assesment.presentation.dto.BulkTaskIdsRequest;
+import com.riwi.assesment.presentation.dto.BulkTaskOperationResponse;
+import com.riwi.assesment.presentation.dto.TaskResponse;
+import com.riwi.assesment.presentation.support.ETags;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveProjectRepositoryPort;
+import com.riwi.assesment.reactive.domain.port.out.ReactiveTaskRepositoryPort;
+import com.riwi.assesment.reactive.infrastructure.bridge.BlockingUseCaseRunner;
+import com.riwi.assesment.reactive.infrastructure.security.ReactiveCurrentUser;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of the servlet TaskController: same paths, bodies, headers and status codes.
+ * The delete runs on the reactive repositories; the use cases run through BlockingUseCaseRunner.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@Tag(name = "Tasks", description = "Task lifecycle management. Tasks belong to projects and can be marked as complete. All endpoints require JWT authentication.")
+@SecurityRequirement(name = "bearerAuth")
+public class TaskController {
+
+    private final CompleteTaskUseCase completeTaskUseCase;
+    private final BulkCompleteTasksUseCase bulkCompleteTasksUseCase;
+    private final BulkDeleteTasksUseCase bulkDeleteTasksUseCase;
+    private final ReactiveTaskRepositoryPort taskRepository;
+    private final ReactiveProjectRepositoryPort projectRepository;
+    private final ReactiveCurrentUser currentUser;
+    private final BlockingUseCaseRunner useCases;
+    private final TransactionalOperator transactionalOperator;
+
+    public TaskController(CompleteTaskUseCase completeTaskUseCase,
+                          BulkCompleteTasksUseCase bulkCompleteTasksUseCase,
+                          BulkDeleteTasksUseCase bulkDeleteTasksUseCase,
+                          ReactiveTaskRepositoryPort taskRepository,
+                          ReactiveProjectRepositoryPort projectRepository,
+                          ReactiveCurrentUser currentUser,
+                          BlockingUseCaseRunner useCases,
+                          TransactionalOperator transactionalOperator) {
+        this.completeTaskUseCase = completeTaskUseCase;
+        this.bulkCompleteTasksUseCase = bulkCompleteTasksUseCase;
+        this.bulkDeleteTasksUseCase = bulkDeleteTasksUseCase;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.currentUser = currentUser;
+        this.useCases = useCases;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @PatchMapping("/{id}/complete")
+    @Operation(summary = "Mark task as completed")
+    public Mono<ResponseEntity<TaskResponse>> completeTask(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        CompleteTaskUseCase.CompleteTaskCommand command =
+                new CompleteTaskUseCase.CompleteTaskCommand(id, ETags.parseIfMatch(ifMatch));
+
+        return useCases.call(() -> completeTaskUseCase.execute(command))
+                .map(task -> ResponseEntity.ok()
+                        .eTag(ETags.of(task.getVersion()))
+                        .body(TaskResponse.fromDomain(task)));
+    }
+
+    @PostMapping("/bulk/complete")
+    @Operation(summary = "Mark many tasks as completed")
+    public Mono<ResponseEntity<BulkTaskOperationResponse>> completeTasks(@Valid @RequestBody BulkTaskIdsRequest request) {
+        BulkCompleteTasksUseCase.BulkCompleteTasksCommand command =
+                new BulkCompleteTasksUseCase.BulkCompleteTasksCommand(request.taskIds());
+
+        return useCases.call(() -> bulkCompleteTasksUseCase.execute(command))
+                .map(results -> ResponseEntity.ok(BulkTaskOperationResponse.fromDomain(results)));
+    }
+
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Delete many tasks")
+    public Mono<ResponseEntity<BulkTaskOperationResponse>> deleteTasks(@Valid @RequestBody BulkTaskIdsRequest request) {
+        BulkDeleteTasksUseCase.BulkDeleteTasksCommand command =
+                new BulkDeleteTasksUseCase.BulkDeleteTasksCommand(request.taskIds());
+
+        return useCases.call(() -> bulkDeleteTasksUseCase.execute(command))
+                .map(results -> ResponseEntity.ok(BulkTaskOperationResponse.fromDomain(results)));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a task")
+    public Mono<ResponseEntity<Void>> deleteTask(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ETags.parseIfMatch(ifMatch);
+
+        // The soft delete and the counter update commit together
+        return currentUser.getCurrentUserId()
+                .flatMap(currentUserId -> taskRepository.findById(id)
+                        .filterWhen(task -> projectRepository.findOwnerId(task.getProjectId())
+                                .map(currentUserId::equals)
+                                .defaultIfEmpty(false)))
+                .flatMap(task -> {
+                    if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                        return Mono.error(new VersionMismatchException("Task", id, expectedVersion, task.getVersion()));
+                    }
+                    task.markAsDeleted();
+                    return taskRepository.save(task)
+                            .then(projectRepository.adjustTaskCounters(task.getProjectId(), -1,
+                                    task.isCompleted() ? 0 : -1,
+                                    task.isCompleted() ? -1 : 0))
+                            .thenReturn(ResponseEntity.noContent().<Void>build());
+                })
+                .as(transactionalOperator::transactional)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
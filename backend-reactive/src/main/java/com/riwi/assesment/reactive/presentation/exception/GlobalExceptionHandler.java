@@ -0,0 +1,233 @@
+package com.riwi.assesment.reactive.presentation.exception;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.exception.InvalidCredentialsException;
+import com.riwi.assesment.domain.exception.ProjectCannotBeActivatedException;
+import com.riwi.assesment.domain.exception.ProjectNotFoundException;
+import com.riwi.assesment.domain.exception.ServiceOverloadedException;
+import com.riwi.assesment.domain.exception.TaskCannotBeCompletedException;
+import com.riwi.assesment.domain.exception.TaskNotFoundException;
+import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.exception.UserAlreadyExistsException;
+import com.riwi.assesment.domain.exception.VersionMismatchException;
+import com.riwi.assesment.presentation.dto.ProblemDetails;
+
+/**
+ * Global exception handler for the WebFlux controllers.
+ * Produces the same RFC 7807 Problem Details bodies as the servlet runtime's handler.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final String PROBLEM_JSON = "application/problem+json";
+
+    @ExceptionHandler(ProjectNotFoundException.class)
+    public ResponseEntity<ProblemDetails> handleProjectNotFound(ProjectNotFoundException ex, ServerWebExchange exchange) {
+        log.warn("Project not found: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.notFound(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<ProblemDetails> handleTaskNotFound(TaskNotFoundException ex, ServerWebExchange exchange) {
+        log.warn("Task not found: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.notFound(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(UnauthorizedAccessException.class)
+    public ResponseEntity<ProblemDetails> handleUnauthorizedAccess(UnauthorizedAccessException ex, ServerWebExchange exchange) {
+        log.warn("Unauthorized access attempt: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.forbidden(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(ProjectCannotBeActivatedException.class)
+    public ResponseEntity<ProblemDetails> handleProjectCannotBeActivated(ProjectCannotBeActivatedException ex, ServerWebExchange exchange) {
+        log.info("Project activation failed: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.businessRule(
+                "Project Cannot Be Activated",
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(TaskCannotBeCompletedException.class)
+    public ResponseEntity<ProblemDetails> handleTaskCannotBeCompleted(TaskCannotBeCompletedException ex, ServerWebExchange exchange) {
+        log.info("Task completion failed: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.businessRule(
+                "Task Cannot Be Completed",
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<ProblemDetails> handleUserAlreadyExists(UserAlreadyExistsException ex, ServerWebExchange exchange) {
+        log.info("User registration conflict: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.conflict(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ProblemDetails> handleConcurrentUpdate(ConcurrentUpdateException ex, ServerWebExchange exchange) {
+        log.info("Concurrent update conflict: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.conflict(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetails> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+        log.info("Optimistic locking failure: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.conflict(
+                "The resource was modified concurrently. Reload it and try again.",
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<ProblemDetails> handleVersionMismatch(VersionMismatchException ex, ServerWebExchange exchange) {
+        log.info("If-Match precondition failed: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.preconditionFailed(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ProblemDetails> handleInvalidCredentials(InvalidCredentialsException ex) {
+        log.warn("Invalid credentials attempt");
+        ProblemDetails problem = ProblemDetails.unauthorized(
+                "Invalid username or password. Please check your credentials and try again."
+        );
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ProblemDetails> handleServiceOverloaded(ServiceOverloadedException ex, ServerWebExchange exchange) {
+        log.warn("Request refused, capacity exhausted: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.serviceUnavailable(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetails> handleIllegalArgument(IllegalArgumentException ex, ServerWebExchange exchange) {
+        log.warn("Invalid argument: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.badRequest(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ProblemDetails> handleIllegalState(IllegalStateException ex, ServerWebExchange exchange) {
+        log.warn("Invalid state: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.badRequest(
+                ex.getMessage(),
+                exchange.getRequest().getPath().value(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetails> handleValidationErrors(WebExchangeBindException ex) {
+        log.info("Validation failed: {}", ex.getMessage());
+        
+        Map<String, Object> fieldErrors = new HashMap<>();
+        for (FieldError fieldError : ex.getFieldErrors()) {
+            fieldErrors.put(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+        
+        ProblemDetails problem = ProblemDetails.validation(
+                "One or more fields failed validation. Please check the 'extensions' field for details.",
+                Map.of("fieldErrors", fieldErrors)
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetails> handleGenericException(Exception ex) {
+        String traceId = UUID.randomUUID().toString();
+        log.error("Unexpected error [traceId={}]: {}", traceId, ex.getMessage(), ex);
+        
+        ProblemDetails problem = ProblemDetails.internalError(
+                "An unexpected error occurred. Please contact support with trace ID: " + traceId,
+                traceId
+        );
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+}
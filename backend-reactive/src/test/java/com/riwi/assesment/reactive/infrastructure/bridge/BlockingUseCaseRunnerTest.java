@@ -0,0 +1,124 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.riwi.assesment.domain.exception.ServiceOverloadedException;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for BlockingUseCaseRunner.
+ * Runs on a one-thread scheduler with a one-slot queue so saturation is deterministic.
+ */
+class BlockingUseCaseRunnerTest {
+
+    private final BlockingUseCaseRunner runner = new BlockingUseCaseRunner(
+            Schedulers.newBoundedElastic(1, 1, "test-use-case"), Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("Call_AuthenticatedRequest_ShouldRunUseCaseAsThatUserOffTheCallerThread")
+    void call_AuthenticatedRequest_ShouldRunUseCaseAsThatUserOffTheCallerThread() {
+        // Arrange
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> worker = new AtomicReference<>();
+
+        // Act & Assert
+        StepVerifier.create(runner.call(() -> {
+                    worker.set(Thread.currentThread());
+                    return SecurityContextHolder.getContext().getAuthentication().getName();
+                })
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken("user-1", null))))
+                .expectNext("user-1")
+                .verifyComplete();
+        assertNotEquals(caller, worker.get());
+        assertTrue(worker.get().getName().startsWith("test-use-case"));
+    }
+
+    @Test
+    @DisplayName("Call_AfterUseCase_ShouldClearSecurityContextOfWorker")
+    void call_AfterUseCase_ShouldClearSecurityContextOfWorker() {
+        // Arrange
+        runner.call(() -> "done")
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken("user-1", null)))
+                .block();
+
+        // Act
+        String leaked = runner.call(() -> {
+            var authentication = SecurityContextHolder.getContext().getAuthentication();
+            return authentication == null ? "none" : authentication.getName();
+        }).block();
+
+        // Assert
+        assertEquals("none", leaked);
+    }
+
+    @Test
+    @DisplayName("Call_UseCaseReturnsNull_ShouldCompleteEmpty")
+    void call_UseCaseReturnsNull_ShouldCompleteEmpty() {
+        // Act
+        Object result = runner.call(() -> null).block();
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("Call_WorkersAndQueueFull_ShouldFailWithServiceOverloaded")
+    void call_WorkersAndQueueFull_ShouldFailWithServiceOverloaded() throws InterruptedException {
+        // Arrange
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Disposable busy = runner.call(() -> {
+            running.countDown();
+            awaitQuietly(release);
+            return "busy";
+        }).subscribe();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        Disposable queued = runner.call(() -> "queued").subscribe();
+
+        // Act & Assert
+        try {
+            StepVerifier.create(runner.call(() -> "rejected"))
+                    .expectErrorSatisfies(error -> {
+                        assertTrue(error instanceof ServiceOverloadedException);
+                        assertEquals(2, ((ServiceOverloadedException) error).getRetryAfterSeconds());
+                    })
+                    .verify(Duration.ofSeconds(5));
+        } finally {
+            release.countDown();
+            busy.dispose();
+            queued.dispose();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
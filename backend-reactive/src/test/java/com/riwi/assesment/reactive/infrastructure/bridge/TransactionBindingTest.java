@@ -0,0 +1,88 @@
+package com.riwi.assesment.reactive.infrastructure.bridge;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Unit tests for TransactionBinding.
+ * The "transaction" is a plain Reactor context entry read back by the subscribed publisher.
+ */
+class TransactionBindingTest {
+
+    private static final Mono<String> CONTEXT_KEY =
+            Mono.deferContextual(context -> Mono.just(context.getOrDefault("tx", "none")));
+
+    @Test
+    @DisplayName("Block_InsideBind_ShouldWriteBoundContextIntoPublisher")
+    void block_InsideBind_ShouldWriteBoundContextIntoPublisher() {
+        // Act
+        String result = TransactionBinding.bind(Context.of("tx", "tx-1"), () -> TransactionBinding.block(CONTEXT_KEY));
+
+        // Assert
+        assertEquals("tx-1", result);
+    }
+
+    @Test
+    @DisplayName("Block_OutsideBind_ShouldSubscribeWithoutContext")
+    void block_OutsideBind_ShouldSubscribeWithoutContext() {
+        // Act
+        String result = TransactionBinding.block(CONTEXT_KEY);
+
+        // Assert
+        assertEquals("none", result);
+        assertFalse(TransactionBinding.isBound());
+    }
+
+    @Test
+    @DisplayName("Bind_Nested_ShouldRestoreOuterContextAfterInnerWork")
+    void bind_Nested_ShouldRestoreOuterContextAfterInnerWork() {
+        // Act
+        List<String> seen = TransactionBinding.bind(Context.of("tx", "outer"), () -> {
+            String inner = TransactionBinding.bind(Context.of("tx", "inner"), () -> TransactionBinding.block(CONTEXT_KEY));
+            return List.of(inner, TransactionBinding.block(CONTEXT_KEY));
+        });
+
+        // Assert
+        assertEquals(List.of("inner", "outer"), seen);
+        assertFalse(TransactionBinding.isBound());
+    }
+
+    @Test
+    @DisplayName("Bind_WorkThrows_ShouldUnbindContext")
+    void bind_WorkThrows_ShouldUnbindContext() {
+        // Act
+        try {
+            TransactionBinding.bind(Context.of("tx", "tx-1"), () -> {
+                assertTrue(TransactionBinding.isBound());
+                throw new IllegalStateException("boom");
+            });
+        } catch (IllegalStateException expected) {
+            // Rolled back by the caller
+        }
+
+        // Assert
+        assertFalse(TransactionBinding.isBound());
+    }
+
+    @Test
+    @DisplayName("BlockAll_InsideBind_ShouldCollectEveryElementWithinContext")
+    void blockAll_InsideBind_ShouldCollectEveryElementWithinContext() {
+        // Arrange
+        Flux<String> flux = Flux.range(1, 3).flatMap(i -> CONTEXT_KEY.map(tx -> tx + ":" + i));
+
+        // Act
+        List<String> result = TransactionBinding.bind(Context.of("tx", "tx-1"), () -> TransactionBinding.blockAll(flux));
+
+        // Assert
+        assertEquals(List.of("tx-1:1", "tx-1:2", "tx-1:3"), result);
+    }
+}
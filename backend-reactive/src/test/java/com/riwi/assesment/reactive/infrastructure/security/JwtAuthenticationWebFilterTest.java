@@ -0,0 +1,83 @@
+package com.riwi.assesment.reactive.infrastructure.security;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.WebFilterChain;
+
+import com.riwi.assesment.infrastructure.security.JwtTokenProvider;
+import com.riwi.assesment.infrastructure.security.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for JwtAuthenticationWebFilter.
+ * The chain records the principal it sees in the Reactor context.
+ */
+class JwtAuthenticationWebFilterTest {
+
+    private static final String SECRET = "ThisIsAVeryLongSecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60_000L);
+    private final JwtAuthenticationWebFilter filter = new JwtAuthenticationWebFilter(
+            new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), 100));
+
+    private String principal;
+
+    private final WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+            .map(context -> context.getAuthentication().getName())
+            .defaultIfEmpty("anonymous")
+            .doOnNext(name -> principal = name)
+            .then();
+
+    @Test
+    @DisplayName("Filter_ValidBearerToken_ShouldAuthenticateAsTokenSubject")
+    void filter_ValidBearerToken_ShouldAuthenticateAsTokenSubject() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        String token = tokenProvider.generateToken(userId, "alice");
+
+        // Act
+        filter(request("Bearer " + token)).block();
+
+        // Assert
+        assertEquals(userId.toString(), principal);
+    }
+
+    @Test
+    @DisplayName("Filter_InvalidToken_ShouldContinueUnauthenticated")
+    void filter_InvalidToken_ShouldContinueUnauthenticated() {
+        // Act
+        filter(request("Bearer not-a-jwt")).block();
+
+        // Assert
+        assertEquals("anonymous", principal);
+    }
+
+    @Test
+    @DisplayName("Filter_NoBearerHeader_ShouldContinueUnauthenticated")
+    void filter_NoBearerHeader_ShouldContinueUnauthenticated() {
+        // Act
+        filter(request("Basic dXNlcjpwYXNz")).block();
+
+        // Assert
+        assertEquals("anonymous", principal);
+    }
+
+    private Mono<Void> filter(MockServerHttpRequest request) {
+        return filter.filter(MockServerWebExchange.from(request), chain);
+    }
+
+    private static MockServerHttpRequest request(String authorization) {
+        return MockServerHttpRequest.get("/api/projects")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .build();
+    }
+}
@@ -5,13 +5,14 @@ import java.util.UUID;
 import com.riwi.assesment.domain.exception.ProjectCannotBeActivatedException;
 import com.riwi.assesment.domain.exception.ProjectNotFoundException;
 import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.exception.VersionMismatchException;
 import com.riwi.assesment.domain.model.Project;
 import com.riwi.assesment.domain.port.in.ActivateProjectUseCase;
 import com.riwi.assesment.domain.port.out.AuditLogPort;
 import com.riwi.assesment.domain.port.out.CurrentUserPort;
 import com.riwi.assesment.domain.port.out.NotificationPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
-import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
 
 /**
  * Service that implements the ActivateProjectUseCase.
@@ -20,29 +21,35 @@ import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
 public class ActivateProjectService implements ActivateProjectUseCase {
 
     private final ProjectRepositoryPort projectRepository;
-    private final TaskRepositoryPort taskRepository;
     private final CurrentUserPort currentUserPort;
     private final AuditLogPort auditLogPort;
     private final NotificationPort notificationPort;
+    private final TransactionPort transactionPort;
 
     public ActivateProjectService(
             ProjectRepositoryPort projectRepository,
-            TaskRepositoryPort taskRepository,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         this.projectRepository = projectRepository;
-        this.taskRepository = taskRepository;
         this.currentUserPort = currentUserPort;
         this.auditLogPort = auditLogPort;
         this.notificationPort = notificationPort;
+        this.transactionPort = transactionPort;
     }
 
     @Override
     public Project execute(ActivateProjectCommand command) {
-        UUID projectId = command.projectId();
         UUID currentUserId = currentUserPort.getCurrentUserId();
 
+        // Re-read and re-check from scratch if another request updated the project in between;
+        // each attempt is its own transaction, so a lost race rolls back nothing but itself
+        return OptimisticRetry.run(() -> transactionPort.inTransaction(
+                () -> activate(command.projectId(), command.expectedVersion(), currentUserId)));
+    }
+
+    private Project activate(UUID projectId, Long expectedVersion, UUID currentUserId) {
         // Find project or throw exception
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
@@ -57,8 +64,13 @@ public class ActivateProjectService implements ActivateProjectUseCase {
             throw new UnauthorizedAccessException(currentUserId, projectId);
         }
 
-        // Check if project has at least one active task
-        boolean hasActiveTasks = taskRepository.existsByProjectIdAndCompletedFalseAndDeletedFalse(projectId);
+        // The client's If-Match version is stale
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new VersionMismatchException("Project", projectId, expectedVersion, project.getVersion());
+        }
+
+        // Check if project has at least one active task (read from the denormalized counters)
+        boolean hasActiveTasks = project.hasOpenTasks();
 
         // Check if project can be activated (domain validates status and active tasks requirement)
         if (!project.canBeActivated(hasActiveTasks)) {
@@ -73,7 +85,7 @@ public class ActivateProjectService implements ActivateProjectUseCase {
             throw new ProjectCannotBeActivatedException(e.getMessage());
         }
 
-        // Persist the updated project
+        // Persist the updated project (conditional on the version read above)
         Project savedProject = projectRepository.save(project);
 
         // Register audit log
@@ -0,0 +1,55 @@
+package com.riwi.assesment.application.service;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+import com.riwi.assesment.domain.model.BulkTaskResult.Status;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.port.in.BulkCompleteTasksUseCase;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service that implements the BulkCompleteTasksUseCase.
+ * Loads every task with its project in one query, then completes the valid ones with a single UPDATE.
+ */
+public class BulkCompleteTasksService extends BulkTaskService implements BulkCompleteTasksUseCase {
+
+    public BulkCompleteTasksService(
+            TaskRepositoryPort taskRepository,
+            ProjectRepositoryPort projectRepository,
+            CurrentUserPort currentUserPort,
+            AuditLogPort auditLogPort,
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
+        super(taskRepository, projectRepository, currentUserPort, auditLogPort, notificationPort,
+                transactionPort, "COMPLETE_TASK", "completed");
+    }
+
+    @Override
+    public List<BulkTaskResult> execute(BulkCompleteTasksCommand command) {
+        return run(command.taskIds());
+    }
+
+    @Override
+    protected Status checkState(TaskWithProject row) {
+        return row.task().canBeCompleted(row.project()) ? Status.SUCCEEDED : Status.INVALID_STATE;
+    }
+
+    @Override
+    protected List<Task> update(List<UUID> candidates, UUID currentUserId) {
+        return taskRepository.completeAllOwnedBy(candidates, currentUserId);
+    }
+
+    @Override
+    protected void adjustCounters(UUID projectId, List<Task> tasks) {
+        // Move the completed tasks from the open to the completed counter
+        projectRepository.adjustTaskCounters(projectId, 0, -tasks.size(), tasks.size());
+    }
+}
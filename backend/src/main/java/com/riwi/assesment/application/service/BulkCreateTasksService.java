@@ -0,0 +1,96 @@
+package com.riwi.assesment.application.service;
+
+import com.riwi.assesment.domain.exception.ProjectNotFoundException;
+import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.domain.port.in.BulkCreateTasksUseCase;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service that implements the BulkCreateTasksUseCase.
+ * Validates the project once, then inserts tasks and audit entries as batches.
+ */
+public class BulkCreateTasksService implements BulkCreateTasksUseCase {
+
+    private final TaskRepositoryPort taskRepository;
+    private final ProjectRepositoryPort projectRepository;
+    private final CurrentUserPort currentUserPort;
+    private final AuditLogPort auditLogPort;
+    private final NotificationPort notificationPort;
+    private final TransactionPort transactionPort;
+
+    public BulkCreateTasksService(
+            TaskRepositoryPort taskRepository,
+            ProjectRepositoryPort projectRepository,
+            CurrentUserPort currentUserPort,
+            AuditLogPort auditLogPort,
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.currentUserPort = currentUserPort;
+        this.auditLogPort = auditLogPort;
+        this.notificationPort = notificationPort;
+        this.transactionPort = transactionPort;
+    }
+
+    @Override
+    public List<Task> execute(BulkCreateTasksCommand command) {
+        UUID projectId = command.projectId();
+        UUID currentUserId = currentUserPort.getCurrentUserId();
+
+        // Find project or throw exception
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+
+        // Check if project is deleted
+        if (project.isDeleted()) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        // Validate ownership once for the whole batch
+        if (!project.isOwnedBy(currentUserId)) {
+            throw new UnauthorizedAccessException(currentUserId, projectId);
+        }
+
+        // Create new tasks
+        List<Task> tasks = command.titles().stream()
+                .map(title -> Task.builder()
+                        .id(UuidV7.generate())
+                        .projectId(projectId)
+                        .title(title)
+                        .completed(false)
+                        .deleted(false)
+                        .build())
+                .toList();
+
+        // Persist the batch, its counters, audit logs and notification in one transaction
+        return transactionPort.inTransaction(() -> {
+            // New tasks are open until completed; no row is updated if the project was deleted since it was read
+            if (!projectRepository.addOpenTasks(projectId, tasks.size())) {
+                throw new ProjectNotFoundException(projectId);
+            }
+
+            List<Task> savedTasks = taskRepository.saveAll(tasks);
+
+            // Register audit logs as one batch
+            auditLogPort.registerAll("CREATE_TASK", savedTasks.stream().map(Task::getId).toList());
+
+            // Send a single notification for the batch
+            notificationPort.notify(
+                    savedTasks.size() + " tasks have been created in project '" + project.getName() + "'");
+
+            return savedTasks;
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package com.riwi.assesment.application.service;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.port.in.BulkDeleteTasksUseCase;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service that implements the BulkDeleteTasksUseCase.
+ * Loads every task with its project in one query, then soft-deletes the valid ones with a single UPDATE.
+ */
+public class BulkDeleteTasksService extends BulkTaskService implements BulkDeleteTasksUseCase {
+
+    public BulkDeleteTasksService(
+            TaskRepositoryPort taskRepository,
+            ProjectRepositoryPort projectRepository,
+            CurrentUserPort currentUserPort,
+            AuditLogPort auditLogPort,
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
+        super(taskRepository, projectRepository, currentUserPort, auditLogPort, notificationPort,
+                transactionPort, "DELETE_TASK", "deleted");
+    }
+
+    @Override
+    public List<BulkTaskResult> execute(BulkDeleteTasksCommand command) {
+        return run(command.taskIds());
+    }
+
+    @Override
+    protected List<Task> update(List<UUID> candidates, UUID currentUserId) {
+        return taskRepository.deleteAllOwnedBy(candidates, currentUserId);
+    }
+
+    @Override
+    protected void adjustCounters(UUID projectId, List<Task> tasks) {
+        // Remove the deleted tasks from the total and from the counter matching their state
+        int completed = (int) tasks.stream().filter(Task::isCompleted).count();
+        projectRepository.adjustTaskCounters(projectId, -tasks.size(), -(tasks.size() - completed), -completed);
+    }
+}
@@ -0,0 +1,149 @@
+package com.riwi.assesment.application.service;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+import com.riwi.assesment.domain.model.BulkTaskResult.Status;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shared flow of the bulk task use cases.
+ * Loads every task with its project in one query and applies the single-task rules to each id in memory.
+ * It then changes the valid ones with a single conditional UPDATE. Counters, audit logs and one
+ * notification are recorded in the same transaction, for the tasks the UPDATE actually changed.
+ */
+abstract class BulkTaskService {
+
+    protected final TaskRepositoryPort taskRepository;
+    protected final ProjectRepositoryPort projectRepository;
+    private final CurrentUserPort currentUserPort;
+    private final AuditLogPort auditLogPort;
+    private final NotificationPort notificationPort;
+    private final TransactionPort transactionPort;
+    private final String auditAction;
+    private final String pastTense;
+
+    BulkTaskService(
+            TaskRepositoryPort taskRepository,
+            ProjectRepositoryPort projectRepository,
+            CurrentUserPort currentUserPort,
+            AuditLogPort auditLogPort,
+            NotificationPort notificationPort,
+            TransactionPort transactionPort,
+            String auditAction,
+            String pastTense) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.currentUserPort = currentUserPort;
+        this.auditLogPort = auditLogPort;
+        this.notificationPort = notificationPort;
+        this.transactionPort = transactionPort;
+        this.auditAction = auditAction;
+        this.pastTense = pastTense;
+    }
+
+    /**
+     * Runs the operation on the given distinct ids.
+     * @return one result per id, in request order
+     */
+    protected List<BulkTaskResult> run(List<UUID> taskIds) {
+        UUID currentUserId = currentUserPort.getCurrentUserId();
+
+        // Load all tasks with their projects in one round trip
+        Map<UUID, TaskWithProject> found = taskRepository.findWithProjectByIds(taskIds).stream()
+                .collect(Collectors.toMap(row -> row.task().getId(), Function.identity()));
+
+        // Apply the single-task rules to each id without touching the database
+        Map<UUID, Status> statuses = new HashMap<>();
+        List<UUID> candidates = new ArrayList<>();
+        for (UUID taskId : taskIds) {
+            Status status = check(found.get(taskId), currentUserId);
+            statuses.put(taskId, status);
+            if (status == Status.SUCCEEDED) {
+                candidates.add(taskId);
+            }
+        }
+
+        List<Task> updated = candidates.isEmpty()
+                ? List.of()
+                : transactionPort.inTransaction(() -> apply(candidates, currentUserId));
+
+        // Candidates changed concurrently between the check and the update are not returned
+        Map<UUID, Task> updatedById = updated.stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        for (UUID taskId : candidates) {
+            if (!updatedById.containsKey(taskId)) {
+                statuses.put(taskId, Status.INVALID_STATE);
+            }
+        }
+
+        return taskIds.stream()
+                .map(taskId -> new BulkTaskResult(taskId, statuses.get(taskId)))
+                .toList();
+    }
+
+    /**
+     * Changes the candidates with one statement that repeats the ownership and state checks.
+     * @return the tasks actually changed, in their new state
+     */
+    protected abstract List<Task> update(List<UUID> candidates, UUID currentUserId);
+
+    /**
+     * Applies the counter changes for the updated tasks of one project.
+     * @param tasks the updated tasks of the project, in their new state
+     */
+    protected abstract void adjustCounters(UUID projectId, List<Task> tasks);
+
+    /**
+     * Rules beyond existence and ownership; SUCCEEDED when the task can be changed.
+     */
+    protected Status checkState(TaskWithProject row) {
+        return Status.SUCCEEDED;
+    }
+
+    /**
+     * Updates the candidates and records the counters, audit logs and notification
+     * for the ones actually updated; runs in one transaction.
+     */
+    private List<Task> apply(List<UUID> candidates, UUID currentUserId) {
+        List<Task> updated = update(candidates, currentUserId);
+        if (updated.isEmpty()) {
+            return updated;
+        }
+
+        updated.stream()
+                .collect(Collectors.groupingBy(Task::getProjectId))
+                .forEach(this::adjustCounters);
+
+        // Register audit logs as one batch
+        auditLogPort.registerAll(auditAction, updated.stream().map(Task::getId).toList());
+
+        // Send a single notification for the batch
+        notificationPort.notify(updated.size() + " tasks have been " + pastTense);
+
+        return updated;
+    }
+
+    private Status check(TaskWithProject row, UUID currentUserId) {
+        if (row == null || row.task().isDeleted() || row.project().isDeleted()) {
+            return Status.NOT_FOUND;
+        }
+        if (!row.project().isOwnedBy(currentUserId)) {
+            return Status.FORBIDDEN;
+        }
+        return checkState(row);
+    }
+}
@@ -6,6 +6,7 @@ import com.riwi.assesment.domain.exception.ProjectNotFoundException;
 import com.riwi.assesment.domain.exception.TaskCannotBeCompletedException;
 import com.riwi.assesment.domain.exception.TaskNotFoundException;
 import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.exception.VersionMismatchException;
 import com.riwi.assesment.domain.model.Project;
 import com.riwi.assesment.domain.model.Task;
 import com.riwi.assesment.domain.port.in.CompleteTaskUseCase;
@@ -14,6 +15,7 @@ import com.riwi.assesment.domain.port.out.CurrentUserPort;
 import com.riwi.assesment.domain.port.out.NotificationPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
 import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
 
 /**
  * Service that implements the CompleteTaskUseCase.
@@ -26,18 +28,21 @@ public class CompleteTaskService implements CompleteTaskUseCase {
     private final CurrentUserPort currentUserPort;
     private final AuditLogPort auditLogPort;
     private final NotificationPort notificationPort;
+    private final TransactionPort transactionPort;
 
     public CompleteTaskService(
             TaskRepositoryPort taskRepository,
             ProjectRepositoryPort projectRepository,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.currentUserPort = currentUserPort;
         this.auditLogPort = auditLogPort;
         this.notificationPort = notificationPort;
+        this.transactionPort = transactionPort;
     }
 
     @Override
@@ -45,13 +50,35 @@ public class CompleteTaskService implements CompleteTaskUseCase {
         UUID taskId = command.taskId();
         UUID currentUserId = currentUserPort.getCurrentUserId();
 
+        // Fast path: complete and move the counters in one conditional statement,
+        // committed together with the audit log and the notification
+        return transactionPort.inTransaction(() -> {
+            Task completedTask = taskRepository
+                    .completeOwnedBy(taskId, currentUserId, command.expectedVersion())
+                    .orElseThrow(() -> explainRejection(taskId, currentUserId, command.expectedVersion()));
+
+            // Register audit log
+            auditLogPort.register("COMPLETE_TASK", completedTask.getId());
+
+            // Send notification
+            notificationPort.notify("Task '" + completedTask.getTitle() + "' has been completed");
+
+            return completedTask;
+        });
+    }
+
+    /**
+     * Called only when the conditional update changed nothing: re-reads the task and its
+     * project to report the same error the step-by-step checks would have raised.
+     */
+    private RuntimeException explainRejection(UUID taskId, UUID currentUserId, Long expectedVersion) {
         // Find task or throw exception
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException(taskId));
 
         // Check if task is deleted
         if (task.isDeleted()) {
-            throw new TaskNotFoundException(taskId);
+            return new TaskNotFoundException(taskId);
         }
 
         // Find the project that the task belongs to
@@ -60,36 +87,21 @@ public class CompleteTaskService implements CompleteTaskUseCase {
 
         // Check if project is deleted
         if (project.isDeleted()) {
-            throw new ProjectNotFoundException(task.getProjectId());
+            return new ProjectNotFoundException(task.getProjectId());
         }
 
         // Validate ownership through the project
         if (!project.isOwnedBy(currentUserId)) {
-            throw new UnauthorizedAccessException(currentUserId, task.getProjectId());
+            return new UnauthorizedAccessException(currentUserId, task.getProjectId());
         }
 
-        // Check if task can be completed (includes project status validation)
-        if (!task.canBeCompleted(project)) {
-            throw new TaskCannotBeCompletedException(
-                    "Task cannot be completed. It may be already completed, deleted, or the project is not active");
+        // The client's If-Match version is stale
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            return new VersionMismatchException("Task", taskId, expectedVersion, task.getVersion());
         }
 
-        // Complete the task (domain logic validates project is active)
-        try {
-            task.complete(project);
-        } catch (IllegalStateException e) {
-            throw new TaskCannotBeCompletedException(e.getMessage());
-        }
-
-        // Persist the updated task
-        Task savedTask = taskRepository.save(task);
-
-        // Register audit log
-        auditLogPort.register("COMPLETE_TASK", savedTask.getId());
-
-        // Send notification
-        notificationPort.notify("Task '" + savedTask.getTitle() + "' has been completed");
-
-        return savedTask;
+        // Task is already completed or the project is not active (possibly changed concurrently)
+        return new TaskCannotBeCompletedException(
+                "Task cannot be completed. It may be already completed, deleted, or the project is not active");
     }
 }
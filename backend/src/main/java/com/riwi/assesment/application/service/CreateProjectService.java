@@ -2,11 +2,14 @@ package com.riwi.assesment.application.service;
 
 import com.riwi.assesment.domain.model.Project;
 import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.UuidV7;
 import com.riwi.assesment.domain.port.in.CreateProjectUseCase;
 import com.riwi.assesment.domain.port.out.AuditLogPort;
 import com.riwi.assesment.domain.port.out.CurrentUserPort;
 import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.OwnershipPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
 
 import java.util.UUID;
 
@@ -17,19 +20,25 @@ import java.util.UUID;
 public class CreateProjectService implements CreateProjectUseCase {
 
     private final ProjectRepositoryPort projectRepository;
+    private final OwnershipPort ownershipPort;
     private final CurrentUserPort currentUserPort;
     private final AuditLogPort auditLogPort;
     private final NotificationPort notificationPort;
+    private final TransactionPort transactionPort;
 
     public CreateProjectService(
             ProjectRepositoryPort projectRepository,
+            OwnershipPort ownershipPort,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         this.projectRepository = projectRepository;
+        this.ownershipPort = ownershipPort;
         this.currentUserPort = currentUserPort;
         this.auditLogPort = auditLogPort;
         this.notificationPort = notificationPort;
+        this.transactionPort = transactionPort;
     }
 
     @Override
@@ -39,22 +48,27 @@ public class CreateProjectService implements CreateProjectUseCase {
 
         // Create new project in DRAFT status
         Project project = Project.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.generate())
                 .ownerId(currentUserId)
                 .name(command.name())
                 .status(ProjectStatus.DRAFT)
                 .deleted(false)
                 .build();
 
-        // Persist the project
-        Project savedProject = projectRepository.save(project);
+        // Persist the project with its audit log and notification in one transaction
+        return transactionPort.inTransaction(() -> {
+            Project savedProject = projectRepository.save(project);
 
-        // Register audit log
-        auditLogPort.register("CREATE_PROJECT", savedProject.getId());
+            // Register audit log
+            auditLogPort.register("CREATE_PROJECT", savedProject.getId());
 
-        // Send notification
-        notificationPort.notify("Project '" + savedProject.getName() + "' has been created");
+            // Send notification
+            notificationPort.notify("Project '" + savedProject.getName() + "' has been created");
 
-        return savedProject;
+            // Known to ownership checks once committed, so the first task needs no lookup
+            ownershipPort.projectCreated(savedProject.getId(), savedProject.getOwnerId());
+
+            return savedProject;
+        });
     }
 }
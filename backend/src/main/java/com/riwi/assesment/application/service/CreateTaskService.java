@@ -2,14 +2,16 @@ package com.riwi.assesment.application.service;
 
 import com.riwi.assesment.domain.exception.ProjectNotFoundException;
 import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
-import com.riwi.assesment.domain.model.Project;
 import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.UuidV7;
 import com.riwi.assesment.domain.port.in.CreateTaskUseCase;
 import com.riwi.assesment.domain.port.out.AuditLogPort;
 import com.riwi.assesment.domain.port.out.CurrentUserPort;
 import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.OwnershipPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
 import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
 
 import java.util.UUID;
 
@@ -21,21 +23,27 @@ public class CreateTaskService implements CreateTaskUseCase {
 
     private final TaskRepositoryPort taskRepository;
     private final ProjectRepositoryPort projectRepository;
+    private final OwnershipPort ownershipPort;
     private final CurrentUserPort currentUserPort;
     private final AuditLogPort auditLogPort;
     private final NotificationPort notificationPort;
+    private final TransactionPort transactionPort;
 
     public CreateTaskService(
             TaskRepositoryPort taskRepository,
             ProjectRepositoryPort projectRepository,
+            OwnershipPort ownershipPort,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
+        this.ownershipPort = ownershipPort;
         this.currentUserPort = currentUserPort;
         this.auditLogPort = auditLogPort;
         this.notificationPort = notificationPort;
+        this.transactionPort = transactionPort;
     }
 
     @Override
@@ -43,38 +51,43 @@ public class CreateTaskService implements CreateTaskUseCase {
         UUID projectId = command.projectId();
         UUID currentUserId = currentUserPort.getCurrentUserId();
 
-        // Find project or throw exception
-        Project project = projectRepository.findById(projectId)
+        // Find the owner of the project (not found if it is deleted) or throw exception; the lookup
+        // may be cached, so the project is checked again in the database before writing
+        UUID ownerId = ownershipPort.findOwnerId(projectId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
-        // Check if project is deleted
-        if (project.isDeleted()) {
-            throw new ProjectNotFoundException(projectId);
-        }
-
         // Validate ownership
-        if (!project.isOwnedBy(currentUserId)) {
+        if (!ownerId.equals(currentUserId)) {
             throw new UnauthorizedAccessException(currentUserId, projectId);
         }
 
         // Create new task
         Task task = Task.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.generate())
                 .projectId(projectId)
                 .title(command.title())
                 .completed(false)
                 .deleted(false)
                 .build();
 
-        // Persist the task
-        Task savedTask = taskRepository.save(task);
+        // Persist the task, its counters, audit log and notification in one transaction
+        return transactionPort.inTransaction(() -> {
+            // A new task is open until completed; no row is updated if the project was deleted meanwhile,
+            // including through another instance whose deletion the ownership cache has not seen yet
+            if (!projectRepository.addOpenTasks(projectId, 1)) {
+                ownershipPort.projectDeleted(projectId);
+                throw new ProjectNotFoundException(projectId);
+            }
+
+            Task savedTask = taskRepository.save(task);
 
-        // Register audit log
-        auditLogPort.register("CREATE_TASK", savedTask.getId());
+            // Register audit log
+            auditLogPort.register("CREATE_TASK", savedTask.getId());
 
-        // Send notification
-        notificationPort.notify("Task '" + savedTask.getTitle() + "' has been created");
+            // Send notification
+            notificationPort.notify("Task '" + savedTask.getTitle() + "' has been created");
 
-        return savedTask;
+            return savedTask;
+        });
     }
 }
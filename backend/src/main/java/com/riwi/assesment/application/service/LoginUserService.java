@@ -2,11 +2,14 @@ package com.riwi.assesment.application.service;
 
 import java.util.Optional;
 
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.exception.ServiceOverloadedException;
 import com.riwi.assesment.domain.model.User;
 import com.riwi.assesment.domain.port.in.LoginUserUseCase;
 import com.riwi.assesment.domain.port.out.AuditLogPort;
 import com.riwi.assesment.domain.port.out.PasswordEncoderPort;
 import com.riwi.assesment.domain.port.out.TokenProviderPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
 import com.riwi.assesment.domain.port.out.UserRepositoryPort;
 
 /**
@@ -19,16 +22,19 @@ public class LoginUserService implements LoginUserUseCase {
     private final PasswordEncoderPort passwordEncoder;
     private final TokenProviderPort tokenProvider;
     private final AuditLogPort auditLogPort;
+    private final TransactionPort transactionPort;
 
     public LoginUserService(
             UserRepositoryPort userRepository,
             PasswordEncoderPort passwordEncoder,
             TokenProviderPort tokenProvider,
-            AuditLogPort auditLogPort) {
+            AuditLogPort auditLogPort,
+            TransactionPort transactionPort) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
         this.auditLogPort = auditLogPort;
+        this.transactionPort = transactionPort;
     }
 
     @Override
@@ -42,11 +48,16 @@ public class LoginUserService implements LoginUserUseCase {
 
         User user = userOptional.get();
 
-        // Verify password
+        // Verify password; the lookup above has released its connection, none is held while hashing
         if (!passwordEncoder.matches(command.password(), user.getPassword())) {
             return new LoginUserResult(null, null, false, "Invalid username or password");
         }
 
+        // The raw password is only known here, so this is where older hashes are upgraded
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user = rehashPassword(user, command.password());
+        }
+
         // Generate token
         String token = tokenProvider.generateToken(user.getId(), user.getUsername());
 
@@ -55,4 +66,24 @@ public class LoginUserService implements LoginUserUseCase {
 
         return new LoginUserResult(user, token, true, "Login successful");
     }
+
+    /**
+     * Re-encodes the password with the current hashing settings. Best effort: if hashing is
+     * saturated or the user changed concurrently, the login still succeeds and the upgrade is
+     * retried on a later login.
+     */
+    private User rehashPassword(User user, String rawPassword) {
+        try {
+            User rehashed = User.builder()
+                    .id(user.getId())
+                    .username(user.getUsername())
+                    .email(user.getEmail())
+                    .password(passwordEncoder.encode(rawPassword))
+                    .version(user.getVersion())
+                    .build();
+            return transactionPort.inTransaction(() -> userRepository.save(rehashed));
+        } catch (ServiceOverloadedException | ConcurrentUpdateException e) {
+            return user;
+        }
+    }
 }
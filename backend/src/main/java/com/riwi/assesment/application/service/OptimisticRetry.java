@@ -0,0 +1,31 @@
+package com.riwi.assesment.application.service;
+
+import java.util.function.Supplier;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+
+/**
+ * Re-runs a read-check-write use case when its optimistic write lost a race.
+ * Each attempt re-reads the entity, so business rules are re-evaluated against the
+ * winner's state; the number of attempts is bounded so hot rows fail fast with 409.
+ */
+final class OptimisticRetry {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private OptimisticRetry() {
+        // Utility class
+    }
+
+    static <T> T run(Supplier<T> attempt) {
+        ConcurrentUpdateException lastConflict = null;
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            try {
+                return attempt.get();
+            } catch (ConcurrentUpdateException e) {
+                lastConflict = e;
+            }
+        }
+        throw lastConflict;
+    }
+}
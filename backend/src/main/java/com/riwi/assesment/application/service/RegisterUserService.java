@@ -1,12 +1,12 @@
 package com.riwi.assesment.application.service;
 
-import java.util.UUID;
-
 import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.model.UuidV7;
 import com.riwi.assesment.domain.port.in.RegisterUserUseCase;
 import com.riwi.assesment.domain.port.out.AuditLogPort;
 import com.riwi.assesment.domain.port.out.PasswordEncoderPort;
 import com.riwi.assesment.domain.port.out.TokenProviderPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
 import com.riwi.assesment.domain.port.out.UserRepositoryPort;
 
 /**
@@ -19,16 +19,19 @@ public class RegisterUserService implements RegisterUserUseCase {
     private final PasswordEncoderPort passwordEncoder;
     private final TokenProviderPort tokenProvider;
     private final AuditLogPort auditLogPort;
+    private final TransactionPort transactionPort;
 
     public RegisterUserService(
             UserRepositoryPort userRepository,
             PasswordEncoderPort passwordEncoder,
             TokenProviderPort tokenProvider,
-            AuditLogPort auditLogPort) {
+            AuditLogPort auditLogPort,
+            TransactionPort transactionPort) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
         this.auditLogPort = auditLogPort;
+        this.transactionPort = transactionPort;
     }
 
     @Override
@@ -45,21 +48,22 @@ public class RegisterUserService implements RegisterUserUseCase {
 
         // Create new user with encoded password
         User user = User.builder()
-                .id(UUID.randomUUID())
+                .id(UuidV7.generate())
                 .username(command.username())
                 .email(command.email())
                 .password(passwordEncoder.encode(command.password()))
                 .build();
 
-        // Persist the user
-        User savedUser = userRepository.save(user);
+        // Persist the user and its audit log in one transaction
+        User savedUser = transactionPort.inTransaction(() -> {
+            User created = userRepository.save(user);
+            auditLogPort.register("USER_REGISTERED", created.getId());
+            return created;
+        });
 
         // Generate token
         String token = tokenProvider.generateToken(savedUser.getId(), savedUser.getUsername());
 
-        // Register audit log
-        auditLogPort.register("USER_REGISTERED", savedUser.getId());
-
         return new RegisterUserResult(savedUser, token, true, "User registered successfully");
     }
 }
@@ -0,0 +1,14 @@
+package com.riwi.assesment.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when an entity could not be written because another request
+ * modified (or deleted) it after it was read.
+ */
+public class ConcurrentUpdateException extends DomainException {
+
+    public ConcurrentUpdateException(String entityType, UUID id) {
+        super(entityType + " " + id + " was modified or deleted concurrently");
+    }
+}
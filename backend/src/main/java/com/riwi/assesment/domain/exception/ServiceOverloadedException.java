@@ -0,0 +1,19 @@
+package com.riwi.assesment.domain.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is refused
+ * instead of queued indefinitely. The client may retry after retryAfterSeconds.
+ */
+public class ServiceOverloadedException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String resource, long retryAfterSeconds) {
+        super(resource + " is at capacity, please retry later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
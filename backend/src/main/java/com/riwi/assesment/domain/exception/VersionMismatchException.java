@@ -0,0 +1,14 @@
+package com.riwi.assesment.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a client-supplied version (If-Match) does not match
+ * the current version of the entity it wants to modify.
+ */
+public class VersionMismatchException extends DomainException {
+
+    public VersionMismatchException(String entityType, UUID id, long expectedVersion, long currentVersion) {
+        super(entityType + " " + id + " is at version " + currentVersion + ", expected " + expectedVersion);
+    }
+}
@@ -0,0 +1,24 @@
+package com.riwi.assesment.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk task operation for a single task id.
+ */
+public record BulkTaskResult(UUID taskId, Status status) {
+
+    public enum Status {
+        /** The operation was applied to the task. */
+        SUCCEEDED,
+        /** The task does not exist or is deleted, or its project is deleted. */
+        NOT_FOUND,
+        /** The task belongs to a project owned by another user. */
+        FORBIDDEN,
+        /** The task exists but its state (or its project's state) does not allow the operation. */
+        INVALID_STATE
+    }
+
+    public boolean succeeded() {
+        return status == Status.SUCCEEDED;
+    }
+}
@@ -0,0 +1,18 @@
+package com.riwi.assesment.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * nextCursor is null when there are no more items after this page.
+ */
+public record CursorPage<T>(List<T> items, PageCursor nextCursor) {
+
+    public CursorPage {
+        items = List.copyOf(items);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.riwi.assesment.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset position inside a listing ordered by (createdAt, id).
+ * The next page starts strictly after this position, so the cost of
+ * fetching any page does not depend on how many pages came before it.
+ */
+public record PageCursor(LocalDateTime createdAt, UUID id) {
+
+    public PageCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor creation time cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id cannot be null");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.riwi.assesment.domain.model;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -14,18 +15,30 @@ public class Project {
     private String name;
     private ProjectStatus status;
     private boolean deleted;
+    private LocalDateTime createdAt;
+    private int totalTasks;
+    private int openTasks;
+    private int completedTasks;
+    private Long version;
 
     public Project() {
         this.status = ProjectStatus.DRAFT;
         this.deleted = false;
     }
 
-    public Project(UUID id, UUID ownerId, String name, ProjectStatus status, boolean deleted) {
+    public Project(UUID id, UUID ownerId, String name, ProjectStatus status, boolean deleted,
+                   LocalDateTime createdAt, int totalTasks, int openTasks, int completedTasks,
+                   Long version) {
         this.id = id;
         this.ownerId = ownerId;
         this.name = name;
         this.status = status;
         this.deleted = deleted;
+        this.createdAt = createdAt;
+        this.totalTasks = totalTasks;
+        this.openTasks = openTasks;
+        this.completedTasks = completedTasks;
+        this.version = version;
     }
 
     // Builder pattern for fluent construction
@@ -68,6 +81,14 @@ public class Project {
         this.status = ProjectStatus.ACTIVE;
     }
 
+    /**
+     * Checks if the project has at least one active (not completed, not deleted) task,
+     * based on the task counters maintained on write.
+     */
+    public boolean hasOpenTasks() {
+        return this.openTasks > 0;
+    }
+
     /**
      * Checks if the project is active.
      */
@@ -117,6 +138,26 @@ public class Project {
         return deleted;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getTotalTasks() {
+        return totalTasks;
+    }
+
+    public int getOpenTasks() {
+        return openTasks;
+    }
+
+    public int getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     // Setters
     public void setId(UUID id) {
         this.id = id;
@@ -138,6 +179,26 @@ public class Project {
         this.deleted = deleted;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setTotalTasks(int totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    public void setOpenTasks(int openTasks) {
+        this.openTasks = openTasks;
+    }
+
+    public void setCompletedTasks(int completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Builder class
     public static class ProjectBuilder {
         private UUID id;
@@ -145,6 +206,11 @@ public class Project {
         private String name;
         private ProjectStatus status = ProjectStatus.DRAFT;
         private boolean deleted = false;
+        private LocalDateTime createdAt;
+        private int totalTasks;
+        private int openTasks;
+        private int completedTasks;
+        private Long version;
 
         public ProjectBuilder id(UUID id) {
             this.id = id;
@@ -171,8 +237,34 @@ public class Project {
             return this;
         }
 
+        public ProjectBuilder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public ProjectBuilder totalTasks(int totalTasks) {
+            this.totalTasks = totalTasks;
+            return this;
+        }
+
+        public ProjectBuilder openTasks(int openTasks) {
+            this.openTasks = openTasks;
+            return this;
+        }
+
+        public ProjectBuilder completedTasks(int completedTasks) {
+            this.completedTasks = completedTasks;
+            return this;
+        }
+
+        public ProjectBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Project build() {
-            return new Project(id, ownerId, name, status, deleted);
+            return new Project(id, ownerId, name, status, deleted, createdAt,
+                    totalTasks, openTasks, completedTasks, version);
         }
     }
 }
@@ -0,0 +1,14 @@
+package com.riwi.assesment.domain.model;
+
+import java.util.List;
+
+/**
+ * Read model pairing a project with its (possibly truncated) list of live tasks.
+ * hasMoreTasks is true when the task list was cut at the requested per-project limit.
+ */
+public record ProjectWithTasks(Project project, List<Task> tasks, boolean hasMoreTasks) {
+
+    public ProjectWithTasks {
+        tasks = List.copyOf(tasks);
+    }
+}
@@ -1,5 +1,6 @@
 package com.riwi.assesment.domain.model;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -14,18 +15,23 @@ public class Task {
     private String title;
     private boolean completed;
     private boolean deleted;
+    private LocalDateTime createdAt;
+    private Long version;
 
     public Task() {
         this.completed = false;
         this.deleted = false;
     }
 
-    public Task(UUID id, UUID projectId, String title, boolean completed, boolean deleted) {
+    public Task(UUID id, UUID projectId, String title, boolean completed, boolean deleted,
+                LocalDateTime createdAt, Long version) {
         this.id = id;
         this.projectId = projectId;
         this.title = title;
         this.completed = completed;
         this.deleted = deleted;
+        this.createdAt = createdAt;
+        this.version = version;
     }
 
     // Builder pattern for fluent construction
@@ -97,6 +103,14 @@ public class Task {
         return deleted;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     // Setters
     public void setId(UUID id) {
         this.id = id;
@@ -118,6 +132,14 @@ public class Task {
         this.deleted = deleted;
     }
 
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Builder class
     public static class TaskBuilder {
         private UUID id;
@@ -125,6 +147,8 @@ public class Task {
         private String title;
         private boolean completed = false;
         private boolean deleted = false;
+        private LocalDateTime createdAt;
+        private Long version;
 
         public TaskBuilder id(UUID id) {
             this.id = id;
@@ -151,8 +175,18 @@ public class Task {
             return this;
         }
 
+        public TaskBuilder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public TaskBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public Task build() {
-            return new Task(id, projectId, title, completed, deleted);
+            return new Task(id, projectId, title, completed, deleted, createdAt, version);
         }
     }
 }
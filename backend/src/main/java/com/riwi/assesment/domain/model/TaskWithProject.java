@@ -0,0 +1,8 @@
+package com.riwi.assesment.domain.model;
+
+/**
+ * Read model pairing a task with the project it belongs to, loaded together
+ * so ownership and state rules can be checked without a second query.
+ */
+public record TaskWithProject(Task task, Project project) {
+}
@@ -13,15 +13,17 @@ public class User {
     private String username;
     private String email;
     private String password;
+    private Long version;
 
     public User() {
     }
 
-    public User(UUID id, String username, String email, String password) {
+    public User(UUID id, String username, String email, String password, Long version) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
+        this.version = version;
     }
 
     // Builder pattern for fluent construction
@@ -46,6 +48,10 @@ public class User {
         return password;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     // Setters
     public void setId(UUID id) {
         this.id = id;
@@ -63,12 +69,17 @@ public class User {
         this.password = password;
     }
 
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Builder class
     public static class UserBuilder {
         private UUID id;
         private String username;
         private String email;
         private String password;
+        private Long version;
 
         public UserBuilder id(UUID id) {
             this.id = id;
@@ -90,8 +101,13 @@ public class User {
             return this;
         }
 
+        public UserBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public User build() {
-            return new User(id, username, email, password);
+            return new User(id, username, email, password, version);
         }
     }
 }
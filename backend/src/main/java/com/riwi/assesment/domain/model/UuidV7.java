@@ -0,0 +1,51 @@
+package com.riwi.assesment.domain.model;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator for time-ordered UUIDs (version 7, RFC 9562).
+ * The 48 most significant bits hold the Unix time in milliseconds, so new ids are
+ * appended at the right edge of B-tree indexes instead of landing on random pages.
+ * A 12-bit counter keeps ids strictly increasing within this process even when many
+ * are generated in the same millisecond; the remaining 62 bits are random.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Last issued (timestamp << 12 | counter), used to guarantee monotonic ids. */
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    private UuidV7() {
+        // Utility class
+    }
+
+    public static UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter(System.currentTimeMillis());
+
+        long mostSigBits = (timestampAndCounter >>> 12) << 16   // unix_ts_ms (48 bits)
+                | 0x7000L                                      // version 7
+                | (timestampAndCounter & 0x0FFFL);             // counter (12 bits)
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;                         // IETF variant
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns the next (timestamp << 12 | counter) value. Uses the clock when it has moved
+     * forward; otherwise increments the counter, which on overflow carries into the timestamp.
+     */
+    private static long nextTimestampAndCounter(long nowMillis) {
+        long candidate = nowMillis << 12;
+        while (true) {
+            long last = LAST_TIMESTAMP_AND_COUNTER.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_TIMESTAMP_AND_COUNTER.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
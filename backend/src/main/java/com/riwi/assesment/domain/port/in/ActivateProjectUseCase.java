@@ -12,13 +12,18 @@ public interface ActivateProjectUseCase {
 
     /**
      * Command object containing the data needed to activate a project.
+     * expectedVersion is optional; when present the project must still be at that version.
      */
-    record ActivateProjectCommand(UUID projectId) {
+    record ActivateProjectCommand(UUID projectId, Long expectedVersion) {
         public ActivateProjectCommand {
             if (projectId == null) {
                 throw new IllegalArgumentException("Project ID cannot be null");
             }
         }
+
+        public ActivateProjectCommand(UUID projectId) {
+            this(projectId, null);
+        }
     }
 
     /**
@@ -34,6 +39,8 @@ public interface ActivateProjectUseCase {
      * @throws com.riwi.assesment.domain.exception.ProjectNotFoundException if project doesn't exist
      * @throws com.riwi.assesment.domain.exception.UnauthorizedAccessException if user doesn't own the project
      * @throws com.riwi.assesment.domain.exception.ProjectCannotBeActivatedException if project cannot be activated
+     * @throws com.riwi.assesment.domain.exception.VersionMismatchException if expectedVersion is stale
+     * @throws com.riwi.assesment.domain.exception.ConcurrentUpdateException if concurrent writers kept winning the race
      */
     Project execute(ActivateProjectCommand command);
 }
@@ -0,0 +1,51 @@
+package com.riwi.assesment.domain.port.in;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Input port for completing many tasks at once.
+ * This interface defines the use case contract for bulk task completion.
+ */
+public interface BulkCompleteTasksUseCase {
+
+    /**
+     * Maximum number of task ids accepted in a single bulk request.
+     */
+    int MAX_TASKS = 500;
+
+    /**
+     * Command object containing the ids of the tasks to complete.
+     * Duplicate ids are ignored; the first occurrence fixes the result order.
+     */
+    record BulkCompleteTasksCommand(List<UUID> taskIds) {
+        public BulkCompleteTasksCommand {
+            if (taskIds == null || taskIds.isEmpty()) {
+                throw new IllegalArgumentException("At least one task ID is required");
+            }
+            if (taskIds.stream().anyMatch(Objects::isNull)) {
+                throw new IllegalArgumentException("Task ID cannot be null");
+            }
+            taskIds = List.copyOf(new LinkedHashSet<>(taskIds));
+            if (taskIds.size() > MAX_TASKS) {
+                throw new IllegalArgumentException("Cannot complete more than " + MAX_TASKS + " tasks at once");
+            }
+        }
+    }
+
+    /**
+     * Completes every task that passes the same rules as single completion:
+     * - The task and its project exist and are not deleted
+     * - The project is owned by the current user
+     * - The task is not completed yet and the project is ACTIVE
+     * Tasks that fail a rule are reported and skipped; they do not abort the others.
+     *
+     * @param command the command containing the task ids
+     * @return one result per distinct task id, in request order
+     */
+    List<BulkTaskResult> execute(BulkCompleteTasksCommand command);
+}
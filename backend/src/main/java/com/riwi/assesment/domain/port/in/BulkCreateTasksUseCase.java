@@ -0,0 +1,53 @@
+package com.riwi.assesment.domain.port.in;
+
+import com.riwi.assesment.domain.model.Task;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Input port for creating many tasks in one project at once.
+ * This interface defines the use case contract for bulk task creation.
+ */
+public interface BulkCreateTasksUseCase {
+
+    /**
+     * Maximum number of tasks accepted in a single bulk request.
+     */
+    int MAX_TASKS = 500;
+
+    /**
+     * Command object containing the data needed to create several tasks.
+     */
+    record BulkCreateTasksCommand(UUID projectId, List<String> titles) {
+        public BulkCreateTasksCommand {
+            if (projectId == null) {
+                throw new IllegalArgumentException("Project ID cannot be null");
+            }
+            if (titles == null || titles.isEmpty()) {
+                throw new IllegalArgumentException("At least one task title is required");
+            }
+            if (titles.size() > MAX_TASKS) {
+                throw new IllegalArgumentException("Cannot create more than " + MAX_TASKS + " tasks at once");
+            }
+            if (titles.stream().anyMatch(title -> title == null || title.isBlank())) {
+                throw new IllegalArgumentException("Task title cannot be null or blank");
+            }
+            titles = List.copyOf(titles);
+        }
+    }
+
+    /**
+     * Creates all tasks for the specified project, in the given order.
+     * Ownership is validated once for the whole batch, and either every task is created or none is.
+     * The project must:
+     * - Exist and not be deleted
+     * - Be owned by the current user (ownership validation)
+     *
+     * @param command the command containing the project and task titles
+     * @return the created tasks, in the same order as the titles
+     * @throws com.riwi.assesment.domain.exception.ProjectNotFoundException if project doesn't exist
+     * @throws com.riwi.assesment.domain.exception.UnauthorizedAccessException if user doesn't own the project
+     */
+    List<Task> execute(BulkCreateTasksCommand command);
+}
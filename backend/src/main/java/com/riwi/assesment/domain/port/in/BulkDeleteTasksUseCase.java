@@ -0,0 +1,48 @@
+package com.riwi.assesment.domain.port.in;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Input port for soft-deleting many tasks at once.
+ * This interface defines the use case contract for bulk task deletion.
+ */
+public interface BulkDeleteTasksUseCase {
+
+    /**
+     * Maximum number of task ids accepted in a single bulk request.
+     */
+    int MAX_TASKS = 500;
+
+    /**
+     * Command object containing the ids of the tasks to delete.
+     * Duplicate ids are ignored; the first occurrence fixes the result order.
+     */
+    record BulkDeleteTasksCommand(List<UUID> taskIds) {
+        public BulkDeleteTasksCommand {
+            if (taskIds == null || taskIds.isEmpty()) {
+                throw new IllegalArgumentException("At least one task ID is required");
+            }
+            if (taskIds.stream().anyMatch(Objects::isNull)) {
+                throw new IllegalArgumentException("Task ID cannot be null");
+            }
+            taskIds = List.copyOf(new LinkedHashSet<>(taskIds));
+            if (taskIds.size() > MAX_TASKS) {
+                throw new IllegalArgumentException("Cannot delete more than " + MAX_TASKS + " tasks at once");
+            }
+        }
+    }
+
+    /**
+     * Soft-deletes every task that exists, is not deleted and belongs to a project owned by the current user.
+     * Tasks that fail a rule are reported and skipped; they do not abort the others.
+     *
+     * @param command the command containing the task ids
+     * @return one result per distinct task id, in request order
+     */
+    List<BulkTaskResult> execute(BulkDeleteTasksCommand command);
+}
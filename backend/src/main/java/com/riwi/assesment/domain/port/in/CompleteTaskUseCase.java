@@ -12,13 +12,18 @@ public interface CompleteTaskUseCase {
 
     /**
      * Command object containing the data needed to complete a task.
+     * expectedVersion is optional; when present the task must still be at that version.
      */
-    record CompleteTaskCommand(UUID taskId) {
+    record CompleteTaskCommand(UUID taskId, Long expectedVersion) {
         public CompleteTaskCommand {
             if (taskId == null) {
                 throw new IllegalArgumentException("Task ID cannot be null");
             }
         }
+
+        public CompleteTaskCommand(UUID taskId) {
+            this(taskId, null);
+        }
     }
 
     /**
@@ -33,6 +38,7 @@ public interface CompleteTaskUseCase {
      * @throws com.riwi.assesment.domain.exception.TaskNotFoundException if task doesn't exist
      * @throws com.riwi.assesment.domain.exception.UnauthorizedAccessException if user doesn't own the project
      * @throws com.riwi.assesment.domain.exception.TaskCannotBeCompletedException if task cannot be completed
+     * @throws com.riwi.assesment.domain.exception.VersionMismatchException if expectedVersion is stale
      */
     Task execute(CompleteTaskCommand command);
 }
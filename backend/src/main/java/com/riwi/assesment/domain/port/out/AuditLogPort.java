@@ -1,5 +1,6 @@
 package com.riwi.assesment.domain.port.out;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -14,4 +15,11 @@ public interface AuditLogPort {
      * @param entityId the ID of the affected entity
      */
     void register(String action, UUID entityId);
+
+    /**
+     * Registers one audit log entry per entity for the same action, written as a batch.
+     * @param action the action performed (e.g., "CREATE_TASK")
+     * @param entityIds the IDs of the affected entities
+     */
+    void registerAll(String action, List<UUID> entityIds);
 }
@@ -0,0 +1,30 @@
+package com.riwi.assesment.domain.port.out;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for project ownership lookups used by authorization checks.
+ * Answers "who owns this project" without loading the project, so implementations
+ * can serve it from memory. Ownership never changes once a project exists; only
+ * creation and deletion need to be reported.
+ */
+public interface OwnershipPort {
+
+    /**
+     * Finds the owner of a project that exists and is not deleted.
+     * @param projectId the project id
+     * @return the owner id, or empty if the project does not exist or is deleted
+     */
+    Optional<UUID> findOwnerId(UUID projectId);
+
+    /**
+     * Reports a newly created project. Takes effect when the current transaction commits, if any.
+     */
+    void projectCreated(UUID projectId, UUID ownerId);
+
+    /**
+     * Reports a deleted project; later lookups must not find it.
+     */
+    void projectDeleted(UUID projectId);
+}
@@ -20,4 +20,12 @@ public interface PasswordEncoderPort {
      * @return true if passwords match, false otherwise
      */
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Tells whether an encoded password was produced with weaker settings than the current ones
+     * and should be re-encoded the next time the raw password is known.
+     * @param encodedPassword the stored encoded password
+     * @return true if the password should be re-encoded
+     */
+    boolean upgradeEncoding(String encodedPassword);
 }
@@ -1,6 +1,9 @@
 package com.riwi.assesment.domain.port.out;
 
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
 import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +19,8 @@ public interface ProjectRepositoryPort {
      * Saves a project to the database.
      * @param project the project to save
      * @return the saved project with generated ID if new
+     * @throws com.riwi.assesment.domain.exception.ConcurrentUpdateException if the project was modified
+     *         or deleted since it was read (its version no longer matches)
      */
     Project save(Project project);
 
@@ -40,6 +45,44 @@ public interface ProjectRepositoryPort {
      */
     List<Project> findByOwnerIdAndDeletedFalse(UUID ownerId);
 
+    /**
+     * Finds one page of non-deleted projects owned by a user, ordered by (createdAt, id).
+     * @param ownerId the owner's user ID
+     * @param after the position to continue from, or null for the first page
+     * @param limit the maximum number of projects to return
+     * @return the page of projects and the cursor for the next page, if any
+     */
+    CursorPage<Project> findPageByOwnerId(UUID ownerId, PageCursor after, int limit);
+
+    /**
+     * Loads all non-deleted projects of a user together with their non-deleted tasks
+     * in a single query. Projects and tasks are ordered by (createdAt, id).
+     * @param ownerId the owner's user ID
+     * @param tasksPerProject maximum tasks returned per project, or null for all of them
+     * @return the projects with their tasks
+     */
+    List<ProjectWithTasks> findWithTasksByOwnerId(UUID ownerId, Integer tasksPerProject);
+
+    /**
+     * Atomically applies relative changes to a project's denormalized task counters.
+     * Must be called by every write that creates, completes or deletes a task.
+     * @param projectId the project ID
+     * @param totalDelta change in the number of non-deleted tasks
+     * @param openDelta change in the number of non-deleted, not completed tasks
+     * @param completedDelta change in the number of non-deleted, completed tasks
+     */
+    void adjustTaskCounters(UUID projectId, int totalDelta, int openDelta, int completedDelta);
+
+    /**
+     * Atomically adds newly created, open tasks to the counters of a project that is not deleted.
+     * This is the database check that the project is still live when tasks are created, since the
+     * ownership lookup before it may be answered from a per-instance cache.
+     * @param projectId the project ID
+     * @param count the number of tasks created
+     * @return false, with nothing changed, if the project does not exist or is deleted
+     */
+    boolean addOpenTasks(UUID projectId, int count);
+
     /**
      * Checks if a project exists by ID.
      * @param id the project ID
@@ -4,7 +4,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
 import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
 
 /**
  * Output port for Task persistence operations.
@@ -16,9 +19,18 @@ public interface TaskRepositoryPort {
      * Saves a task to the database.
      * @param task the task to save
      * @return the saved task with generated ID if new
+     * @throws com.riwi.assesment.domain.exception.ConcurrentUpdateException if the task was modified
+     *         or deleted since it was read (its version no longer matches)
      */
     Task save(Task task);
 
+    /**
+     * Inserts several new tasks as a batch.
+     * @param tasks the tasks to insert; none of them may have been persisted before
+     * @return the saved tasks, in the same order
+     */
+    List<Task> saveAll(List<Task> tasks);
+
     /**
      * Finds a task by its ID.
      * @param id the task ID
@@ -40,6 +52,52 @@ public interface TaskRepositoryPort {
      */
     List<Task> findByProjectIdAndDeletedFalse(UUID projectId);
 
+    /**
+     * Finds one page of non-deleted tasks of a project, ordered by (createdAt, id).
+     * @param projectId the project ID
+     * @param after the position to continue from, or null for the first page
+     * @param limit the maximum number of tasks to return
+     * @return the page of tasks and the cursor for the next page, if any
+     */
+    CursorPage<Task> findPageByProjectId(UUID projectId, PageCursor after, int limit);
+
+    /**
+     * Loads tasks together with their projects in a single query, including deleted rows
+     * so callers can tell "deleted" from "never existed".
+     * @param taskIds the task IDs
+     * @return one entry per existing task; unknown ids are absent
+     */
+    List<TaskWithProject> findWithProjectByIds(List<UUID> taskIds);
+
+    /**
+     * Completes, in one set-based statement, those of the given tasks that are not deleted,
+     * not completed, and belong to a non-deleted ACTIVE project owned by the given user.
+     * @param taskIds the task IDs
+     * @param ownerId the user that must own the tasks' projects
+     * @return the tasks that were actually completed
+     */
+    List<Task> completeAllOwnedBy(List<UUID> taskIds, UUID ownerId);
+
+    /**
+     * Completes a single task in one statement if it is not deleted, not completed, and belongs to
+     * a non-deleted ACTIVE project owned by the given user. The same statement moves the task from
+     * the project's open to completed counter.
+     * @param taskId the task ID
+     * @param ownerId the user that must own the task's project
+     * @param expectedVersion the version the task must be at, or null to skip the version check
+     * @return the completed task, or empty if any condition did not hold (nothing is changed then)
+     */
+    Optional<Task> completeOwnedBy(UUID taskId, UUID ownerId, Long expectedVersion);
+
+    /**
+     * Soft-deletes, in one set-based statement, those of the given tasks that are not deleted
+     * and belong to a non-deleted project owned by the given user.
+     * @param taskIds the task IDs
+     * @param ownerId the user that must own the tasks' projects
+     * @return the tasks that were actually deleted, with their completion state before deletion
+     */
+    List<Task> deleteAllOwnedBy(List<UUID> taskIds, UUID ownerId);
+
     /**
      * Counts the number of non-deleted tasks in a project.
      * @param projectId the project ID
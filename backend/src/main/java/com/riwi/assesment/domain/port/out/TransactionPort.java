@@ -0,0 +1,19 @@
+package com.riwi.assesment.domain.port.out;
+
+import java.util.function.Supplier;
+
+/**
+ * Output port for transaction demarcation.
+ * Lets application services commit a domain change together with the side effects it records
+ * (audit entries, notifications) without depending on a transaction framework.
+ */
+public interface TransactionPort {
+
+    /**
+     * Runs the given work in a transaction, joining the current one if there is any.
+     * The transaction is rolled back if the work throws.
+     * @param work the work to run
+     * @return the value returned by the work
+     */
+    <T> T inTransaction(Supplier<T> work);
+}
@@ -15,6 +15,8 @@ public interface UserRepositoryPort {
      * Saves a user to the database.
      * @param user the user to save
      * @return the saved user with generated ID if new
+     * @throws com.riwi.assesment.domain.exception.ConcurrentUpdateException if the user was modified
+     *         or deleted since it was read (its version no longer matches)
      */
     User save(User user);
 
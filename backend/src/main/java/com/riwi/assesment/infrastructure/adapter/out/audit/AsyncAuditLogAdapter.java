@@ -0,0 +1,282 @@
+package com.riwi.assesment.infrastructure.adapter.out.audit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.AuditLogEntity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Adapter implementing AuditLogPort without a database round trip in the request thread.
+ * Entries are built (id, user id from the security context, timestamp) when registered and queued once the
+ * caller's transaction commits, so a rolled-back change leaves no entry. They are kept in a
+ * bounded lock-free queue and written by a single background flusher in batches of up to batch-size,
+ * as soon as a batch is full or flush-interval has passed. Batches go through Hibernate JDBC batching,
+ * which the PostgreSQL driver rewrites into multi-row INSERTs.
+ * When the queue is full the overflow policy applies: SYNC writes the entry in the caller's thread,
+ * DROP discards it (counted), BLOCK waits up to block-timeout for space and then writes synchronously.
+ * Once shutdown has started, new entries are written synchronously and the queue is drained within
+ * shutdown-timeout.
+ * The transactional outbox replaces this writer and is on by default: entries then go to outbox_events
+ * in the caller's transaction and OutboxDispatcher writes them. This adapter only runs with
+ * outbox.enabled=false, for deployments that trade the outbox's durability for no extra write per action;
+ * queued entries are lost if the process dies before a flush.
+ */
+@Component
+@Primary
+@ConditionalOnExpression("!${outbox.enabled:true} and '${audit-logs.writer.mode:async}' == 'async'")
+public class AsyncAuditLogAdapter implements AuditLogPort {
+
+    public enum OverflowPolicy { BLOCK, DROP, SYNC }
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncAuditLogAdapter.class);
+
+    private final AuditLogAdapter syncWriter;
+    private final TransactionTemplate newTransaction;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+    private final Duration shutdownTimeout;
+
+    // ConcurrentLinkedQueue is lock-free but unbounded; the counter enforces the bound
+    private final Queue<AuditLogEntity> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter syncFallbackCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean accepting = true;
+    private Thread flusher;
+
+    public AsyncAuditLogAdapter(AuditLogAdapter syncWriter,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${audit-logs.writer.queue-capacity:10000}") int capacity,
+                                @Value("${audit-logs.writer.batch-size:500}") int batchSize,
+                                @Value("${audit-logs.writer.flush-interval:PT0.2S}") Duration flushInterval,
+                                @Value("${audit-logs.writer.overflow:SYNC}") OverflowPolicy overflowPolicy,
+                                @Value("${audit-logs.writer.block-timeout:PT0.05S}") Duration blockTimeout,
+                                @Value("${audit-logs.writer.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("queue-capacity and batch-size must be positive");
+        }
+        this.syncWriter = syncWriter;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("audit.queue.depth", size, AtomicInteger::get)
+                .description("Audit log entries waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+                .description("Time to write one batch of audit log entries")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.entries.dropped")
+                .description("Audit log entries discarded because the queue was full")
+                .register(meterRegistry);
+        this.syncFallbackCounter = Counter.builder("audit.entries.sync.fallback")
+                .description("Audit log entries written in the caller's thread because the queue was full or closed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.entries.failed")
+                .description("Audit log entries lost because their batch could not be written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = new Thread(this::runFlusher, "audit-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void register(String action, UUID entityId) {
+        enqueueAfterCommit(List.of(new AuditLogEntity(action, entityId, AuditLogAdapter.currentUserId())));
+    }
+
+    @Override
+    public void registerAll(String action, List<UUID> entityIds) {
+        UUID userId = AuditLogAdapter.currentUserId();
+        enqueueAfterCommit(entityIds.stream()
+                .map(entityId -> new AuditLogEntity(action, entityId, userId))
+                .toList());
+    }
+
+    /**
+     * Queues the entries when the caller's transaction commits and drops them if it rolls back;
+     * outside a transaction they are queued right away.
+     */
+    private void enqueueAfterCommit(List<AuditLogEntity> entries) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.forEach(this::enqueue);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.forEach(AsyncAuditLogAdapter.this::enqueue);
+            }
+        });
+    }
+
+    private void enqueue(AuditLogEntity entry) {
+        if (!accepting) {
+            writeSync(entry);
+            return;
+        }
+        if (tryOffer(entry)) {
+            reclaimIfClosed(entry);
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP -> {
+                droppedCounter.increment();
+                logger.warn("Audit log queue full, dropped entry: action={}, entityId={}",
+                        entry.getAction(), entry.getEntityId());
+            }
+            case BLOCK -> {
+                if (offerWithin(entry, blockTimeout)) {
+                    reclaimIfClosed(entry);
+                } else {
+                    writeSync(entry);
+                }
+            }
+            case SYNC -> writeSync(entry);
+        }
+    }
+
+    /**
+     * Shutdown may have started after the accepting check and its drain may already be over.
+     * Takes the entry back and writes it here, unless the drain has taken it already.
+     */
+    private void reclaimIfClosed(AuditLogEntity entry) {
+        if (!accepting && queue.remove(entry)) {
+            size.decrementAndGet();
+            writeSync(entry);
+        }
+    }
+
+    private boolean tryOffer(AuditLogEntity entry) {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        queue.offer(entry);
+        if (current + 1 >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    private boolean offerWithin(AuditLogEntity entry, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (tryOffer(entry)) {
+                return true;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return tryOffer(entry);
+    }
+
+    private void writeSync(AuditLogEntity entry) {
+        syncFallbackCounter.increment();
+        // In its own transaction: after commit the caller's transaction no longer writes anything
+        newTransaction.executeWithoutResult(status -> syncWriter.write(List.of(entry)));
+    }
+
+    private void runFlusher() {
+        while (accepting) {
+            if (size.get() < batchSize) {
+                LockSupport.parkNanos(this, flushInterval.toNanos());
+            }
+            flushBatch();
+        }
+    }
+
+    /**
+     * Writes up to one batch of queued entries.
+     * @return the number of entries taken from the queue
+     */
+    int flushBatch() {
+        List<AuditLogEntity> batch = new ArrayList<>(Math.min(batchSize, Math.max(size.get(), 1)));
+        AuditLogEntity entry;
+        while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        size.addAndGet(-batch.size());
+        try {
+            flushTimer.record(() -> syncWriter.write(batch));
+            logger.debug("Audit logs flushed: count={}", batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            logger.error("Failed to write {} audit log entries", batch.size(), e);
+        }
+        return batch.size();
+    }
+
+    int queueDepth() {
+        return size.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        accepting = false;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            try {
+                flusher.join(shutdownTimeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        while (size.get() > 0 && System.nanoTime() < deadline) {
+            flushBatch();
+        }
+        if (size.get() > 0) {
+            logger.warn("Audit log queue not fully drained on shutdown: {} entries lost", size.get());
+        }
+    }
+}
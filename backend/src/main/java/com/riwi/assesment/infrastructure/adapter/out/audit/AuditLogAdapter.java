@@ -5,17 +5,22 @@ import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.AuditLog
 import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaAuditLogRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Adapter implementing AuditLogPort.
- * Persists audit log entries to the database.
+ * Persists audit log entries to the database synchronously, in the caller's thread.
+ * Used directly when the outbox is disabled and audit-logs.writer.mode is sync, by AsyncAuditLogAdapter
+ * as its fallback, and by OutboxDispatcher to deliver outbox entries.
  */
 @Component
+@Profile("!in-memory")
 public class AuditLogAdapter implements AuditLogPort {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditLogAdapter.class);
@@ -28,7 +33,7 @@ public class AuditLogAdapter implements AuditLogPort {
 
     @Override
     public void register(String action, UUID entityId) {
-        UUID userId = getCurrentUserId();
+        UUID userId = currentUserId();
         
         AuditLogEntity auditLog = new AuditLogEntity(action, entityId, userId);
         auditLogRepository.save(auditLog);
@@ -37,7 +42,35 @@ public class AuditLogAdapter implements AuditLogPort {
                 action, entityId, userId);
     }
 
-    private UUID getCurrentUserId() {
+    @Override
+    public void registerAll(String action, List<UUID> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        UUID userId = currentUserId();
+
+        List<AuditLogEntity> auditLogs = entityIds.stream()
+                .map(entityId -> new AuditLogEntity(action, entityId, userId))
+                .toList();
+        auditLogRepository.saveAllAndFlush(auditLogs);
+
+        logger.info("Audit logs registered: action={}, count={}, userId={}",
+                action, entityIds.size(), userId);
+    }
+
+    /**
+     * Writes entries that were captured earlier (user id and timestamp already set) as one batch.
+     * Used by the asynchronous writer and the outbox dispatcher. The inserts are flushed before returning,
+     * so a failure surfaces here and not later at commit.
+     */
+    public void write(List<AuditLogEntity> auditLogs) {
+        auditLogRepository.saveAllAndFlush(auditLogs);
+    }
+
+    /**
+     * Resolves the authenticated user id from the security context of the current thread.
+     */
+    public static UUID currentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() instanceof UUID) {
             return (UUID) authentication.getPrincipal();
@@ -0,0 +1,78 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.infrastructure.adapter.out.audit.AuditLogAdapter;
+
+/**
+ * In-memory adapter implementing AuditLogPort.
+ * Keeps the most recent entries in a fixed-size ring (in-memory-persistence.audit-log-capacity), so a long
+ * load test cannot run the heap out; older entries are overwritten. Registering is one atomic increment
+ * and one array store, with no lock and no logging.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryAuditLogAdapter implements AuditLogPort {
+
+    /**
+     * One audit_logs row.
+     */
+    public record Entry(UUID id, String action, UUID entityId, UUID userId, LocalDateTime createdAt) {
+    }
+
+    private final AtomicReferenceArray<Entry> ring;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public InMemoryAuditLogAdapter(@Value("${in-memory-persistence.audit-log-capacity:100000}") int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("in-memory-persistence.audit-log-capacity must be positive");
+        }
+        this.ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    @Override
+    public void register(String action, UUID entityId) {
+        record(action, entityId, AuditLogAdapter.currentUserId());
+    }
+
+    @Override
+    public void registerAll(String action, List<UUID> entityIds) {
+        UUID userId = AuditLogAdapter.currentUserId();
+        for (UUID entityId : entityIds) {
+            record(action, entityId, userId);
+        }
+    }
+
+    /**
+     * The retained entries for one entity, oldest first.
+     */
+    public List<Entry> findByEntityId(UUID entityId) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < ring.length(); i++) {
+            Entry entry = ring.get(i);
+            if (entry != null && entry.entityId().equals(entityId)) {
+                entries.add(entry);
+            }
+        }
+        // UUIDv7 ids are time-ordered
+        entries.sort(Comparator.comparing(Entry::id));
+        return entries;
+    }
+
+    private void record(String action, UUID entityId, UUID userId) {
+        Entry entry = new Entry(UuidV7.generate(), action, entityId, userId, LocalDateTime.now());
+        ring.set((int) (sequence.getAndIncrement() % ring.length()), entry);
+    }
+}
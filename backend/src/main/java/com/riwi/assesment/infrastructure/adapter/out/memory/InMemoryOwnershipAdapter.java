@@ -0,0 +1,40 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.port.out.OwnershipPort;
+
+/**
+ * In-memory adapter implementing OwnershipPort.
+ * The projects table is already in memory, so there is nothing to cache: lookups read the row and
+ * creation and deletion need no bookkeeping.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryOwnershipAdapter implements OwnershipPort {
+
+    private final InMemoryProjectPersistenceAdapter projectAdapter;
+
+    public InMemoryOwnershipAdapter(InMemoryProjectPersistenceAdapter projectAdapter) {
+        this.projectAdapter = projectAdapter;
+    }
+
+    @Override
+    public Optional<UUID> findOwnerId(UUID projectId) {
+        return projectAdapter.findOwnerId(projectId);
+    }
+
+    @Override
+    public void projectCreated(UUID projectId, UUID ownerId) {
+        // Visible as soon as it is saved
+    }
+
+    @Override
+    public void projectDeleted(UUID projectId) {
+        // Invisible as soon as it is saved as deleted
+    }
+}
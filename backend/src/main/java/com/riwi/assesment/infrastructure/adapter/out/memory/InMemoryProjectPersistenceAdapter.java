@@ -0,0 +1,223 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.ProjectRow;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.RowKey;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.TaskRow;
+
+/**
+ * In-memory adapter implementing ProjectRepositoryPort with the semantics of ProjectPersistenceAdapter:
+ * deleted projects are invisible to every read, saves are version-checked, and constraint violations
+ * raise the same Spring DataAccessExceptions the database would.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryProjectPersistenceAdapter implements ProjectRepositoryPort {
+
+    private final InMemoryStore store;
+
+    public InMemoryProjectPersistenceAdapter(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Project save(Project project) {
+        if (project.getVersion() == null) {
+            return InMemoryRows.project(insert(project));
+        }
+
+        // Like the conditional UPDATE: only a non-deleted row still at the expected version is changed
+        ProjectRow updated = store.write(project.getId(), () -> {
+            ProjectRow current = store.projects.get(project.getId());
+            if (current == null || current.deleted() || current.version() != project.getVersion()) {
+                return null;
+            }
+            ProjectRow next = new ProjectRow(current.id(), current.ownerId(), project.getName(), project.getStatus(),
+                    project.isDeleted(), current.createdAt(), current.totalTasks(), current.openTasks(),
+                    current.completedTasks(), current.version() + 1);
+            store.replaceProject(current, next);
+            return next;
+        });
+        if (updated == null) {
+            throw new ConcurrentUpdateException("Project", project.getId());
+        }
+        return InMemoryRows.project(updated);
+    }
+
+    @Override
+    public Optional<Project> findById(UUID id) {
+        return live(id).map(InMemoryRows::project);
+    }
+
+    @Override
+    public List<Project> findByOwnerId(UUID ownerId) {
+        return findByOwnerIdAndDeletedFalse(ownerId);
+    }
+
+    @Override
+    public List<Project> findByOwnerIdAndDeletedFalse(UUID ownerId) {
+        List<Project> result = new ArrayList<>();
+        for (RowKey key : store.liveProjectKeys(ownerId, null)) {
+            live(key.id()).ifPresent(row -> result.add(InMemoryRows.project(row)));
+        }
+        return result;
+    }
+
+    @Override
+    public CursorPage<Project> findPageByOwnerId(UUID ownerId, PageCursor after, int limit) {
+        RowKey from = after == null ? null : new RowKey(after.createdAt(), after.id());
+
+        // Collect one extra row to know whether a next page exists
+        List<Project> items = new ArrayList<>(limit + 1);
+        for (RowKey key : store.liveProjectKeys(ownerId, from)) {
+            if (items.size() > limit) {
+                break;
+            }
+            live(key.id()).ifPresent(row -> items.add(InMemoryRows.project(row)));
+        }
+
+        if (items.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        List<Project> page = items.subList(0, limit);
+        Project last = page.get(limit - 1);
+        return new CursorPage<>(List.copyOf(page), new PageCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    @Override
+    public List<ProjectWithTasks> findWithTasksByOwnerId(UUID ownerId, Integer tasksPerProject) {
+        List<ProjectWithTasks> result = new ArrayList<>();
+        for (RowKey projectKey : store.liveProjectKeys(ownerId, null)) {
+            Optional<ProjectRow> project = live(projectKey.id());
+            if (project.isEmpty()) {
+                continue;
+            }
+            List<Task> tasks = new ArrayList<>();
+            boolean hasMore = false;
+            for (RowKey taskKey : store.liveTaskKeys(projectKey.id(), null)) {
+                TaskRow task = store.tasks.get(taskKey.id());
+                if (task == null || task.deleted()) {
+                    continue;
+                }
+                if (tasksPerProject != null && tasks.size() == tasksPerProject) {
+                    hasMore = true;
+                    break;
+                }
+                tasks.add(InMemoryRows.task(task));
+            }
+            result.add(new ProjectWithTasks(InMemoryRows.project(project.get()), tasks, hasMore));
+        }
+        return result;
+    }
+
+    @Override
+    public void adjustTaskCounters(UUID projectId, int totalDelta, int openDelta, int completedDelta) {
+        // Applies to deleted projects too, like the plain UPDATE ... WHERE id = :projectId
+        store.write(projectId, () -> {
+            ProjectRow current = store.projects.get(projectId);
+            if (current != null) {
+                store.replaceProject(current, new ProjectRow(current.id(), current.ownerId(), current.name(),
+                        current.status(), current.deleted(), current.createdAt(),
+                        current.totalTasks() + totalDelta,
+                        current.openTasks() + openDelta,
+                        current.completedTasks() + completedDelta,
+                        current.version()));
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean addOpenTasks(UUID projectId, int count) {
+        return store.write(projectId, () -> {
+            ProjectRow current = store.projects.get(projectId);
+            if (current == null || current.deleted()) {
+                return false;
+            }
+            store.replaceProject(current, new ProjectRow(current.id(), current.ownerId(), current.name(),
+                    current.status(), current.deleted(), current.createdAt(),
+                    current.totalTasks() + count,
+                    current.openTasks() + count,
+                    current.completedTasks(),
+                    current.version()));
+            return true;
+        });
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return live(id).isPresent();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        // A deleted project is not found, so it is not removed (same as JPA with @SQLRestriction)
+        boolean removed = store.write(id, () -> {
+            ProjectRow current = store.projects.get(id);
+            if (current == null || current.deleted()) {
+                return false;
+            }
+            store.replaceProject(current, null);
+            return true;
+        });
+        if (removed) {
+            // ON DELETE CASCADE, including the project's deleted tasks
+            for (TaskRow task : store.tasks.values()) {
+                if (task.projectId().equals(id)) {
+                    store.write(task.id(), () -> {
+                        TaskRow current = store.tasks.get(task.id());
+                        if (current != null) {
+                            store.replaceTask(current, null);
+                        }
+                        return null;
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Owner of a live project, for InMemoryOwnershipAdapter.
+     */
+    Optional<UUID> findOwnerId(UUID projectId) {
+        return live(projectId).map(ProjectRow::ownerId);
+    }
+
+    private ProjectRow insert(Project project) {
+        if (!store.users.containsKey(project.getOwnerId())) {
+            throw new DataIntegrityViolationException("Project owner " + project.getOwnerId() + " does not exist");
+        }
+        UUID id = project.getId() != null ? project.getId() : UuidV7.generate();
+        ProjectRow row = new ProjectRow(id, project.getOwnerId(), project.getName(), project.getStatus(),
+                project.isDeleted(), InMemoryStore.createdAtOrNow(project.getCreatedAt()), 0, 0, 0, 0L);
+        return store.write(id, () -> {
+            if (store.projects.containsKey(id)) {
+                throw new DuplicateKeyException("Project " + id + " already exists");
+            }
+            store.replaceProject(null, row);
+            return row;
+        });
+    }
+
+    private Optional<ProjectRow> live(UUID id) {
+        ProjectRow row = store.projects.get(id);
+        return row == null || row.deleted() ? Optional.empty() : Optional.of(row);
+    }
+}
@@ -0,0 +1,55 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.ProjectRow;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.TaskRow;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.UserRow;
+
+/**
+ * Maps stored rows to new domain objects. Domain objects are mutable, so every read hands out a fresh
+ * copy, the same as loading a row from the database.
+ */
+final class InMemoryRows {
+
+    private InMemoryRows() {
+    }
+
+    static Project project(ProjectRow row) {
+        return Project.builder()
+                .id(row.id())
+                .ownerId(row.ownerId())
+                .name(row.name())
+                .status(row.status())
+                .deleted(row.deleted())
+                .createdAt(row.createdAt())
+                .totalTasks(row.totalTasks())
+                .openTasks(row.openTasks())
+                .completedTasks(row.completedTasks())
+                .version(row.version())
+                .build();
+    }
+
+    static Task task(TaskRow row) {
+        return Task.builder()
+                .id(row.id())
+                .projectId(row.projectId())
+                .title(row.title())
+                .completed(row.completed())
+                .deleted(row.deleted())
+                .createdAt(row.createdAt())
+                .version(row.version())
+                .build();
+    }
+
+    static User user(UserRow row) {
+        return User.builder()
+                .id(row.id())
+                .username(row.username())
+                .email(row.email())
+                .password(row.password())
+                .version(row.version())
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Loads the users, projects and tasks of V5__Add_seed_data.sql into the in-memory store at startup,
+ * with the task counters V7 backfills, so the in-memory profile answers like a freshly migrated database.
+ */
+@Component
+@Profile("in-memory")
+@ConditionalOnProperty(name = "in-memory-persistence.seed-test-data", havingValue = "true", matchIfMissing = true)
+public class InMemorySeedData {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemorySeedData.class);
+
+    // BCrypt of Test123!, as in V5
+    private static final String PASSWORD = "$2a$10$LN1WS3L1hQTnGIZBeQtULOLOVr64vtbpoYruBUHaS3GC73.Nzmk4a";
+
+    private static final UUID ADMIN = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final UUID JOHN = UUID.fromString("b0eebc99-9c0b-4ef8-bb6d-6bb9bd380a22");
+    private static final UUID JANE = UUID.fromString("c0eebc99-9c0b-4ef8-bb6d-6bb9bd380a33");
+
+    private static final UUID ADMIN_PROJECT_1 = UUID.fromString("d0eebc99-9c0b-4ef8-bb6d-6bb9bd380a44");
+    private static final UUID ADMIN_PROJECT_2 = UUID.fromString("e0eebc99-9c0b-4ef8-bb6d-6bb9bd380a55");
+    private static final UUID JOHN_PROJECT_1 = UUID.fromString("f0eebc99-9c0b-4ef8-bb6d-6bb9bd380a66");
+    private static final UUID JOHN_DELETED_PROJECT = UUID.fromString("10eebc99-9c0b-4ef8-bb6d-6bb9bd380a77");
+    private static final UUID JANE_PROJECT_1 = UUID.fromString("20eebc99-9c0b-4ef8-bb6d-6bb9bd380a88");
+
+    private final InMemoryUserPersistenceAdapter userAdapter;
+    private final InMemoryProjectPersistenceAdapter projectAdapter;
+    private final InMemoryTaskPersistenceAdapter taskAdapter;
+
+    public InMemorySeedData(InMemoryUserPersistenceAdapter userAdapter,
+                            InMemoryProjectPersistenceAdapter projectAdapter,
+                            InMemoryTaskPersistenceAdapter taskAdapter) {
+        this.userAdapter = userAdapter;
+        this.projectAdapter = projectAdapter;
+        this.taskAdapter = taskAdapter;
+    }
+
+    @PostConstruct
+    void load() {
+        user(ADMIN, "admin", "admin@example.com");
+        user(JOHN, "johndoe", "john@example.com");
+        user(JANE, "janedoe", "jane@example.com");
+
+        project(ADMIN_PROJECT_1, ADMIN, "Admin Project 1", ProjectStatus.ACTIVE, false);
+        project(ADMIN_PROJECT_2, ADMIN, "Admin Project 2 (Draft)", ProjectStatus.DRAFT, false);
+        project(JOHN_PROJECT_1, JOHN, "John Project 1", ProjectStatus.ACTIVE, false);
+        project(JOHN_DELETED_PROJECT, JOHN, "John Deleted Project", ProjectStatus.DRAFT, true);
+        project(JANE_PROJECT_1, JANE, "Jane Project 1", ProjectStatus.DRAFT, false);
+
+        task("30eebc99-9c0b-4ef8-bb6d-6bb9bd380a99", ADMIN_PROJECT_1, "Setup development environment", true, false);
+        task("40eebc99-9c0b-4ef8-bb6d-6bb9bd380aaa", ADMIN_PROJECT_1, "Implement authentication", true, false);
+        task("50eebc99-9c0b-4ef8-bb6d-6bb9bd380abb", ADMIN_PROJECT_1, "Write unit tests", false, false);
+        task("60eebc99-9c0b-4ef8-bb6d-6bb9bd380acc", ADMIN_PROJECT_2, "Plan project architecture", false, false);
+        task("70eebc99-9c0b-4ef8-bb6d-6bb9bd380add", JOHN_PROJECT_1, "Create database schema", true, false);
+        task("80eebc99-9c0b-4ef8-bb6d-6bb9bd380aee", JOHN_PROJECT_1, "Implement REST API", false, false);
+        task("90eebc99-9c0b-4ef8-bb6d-6bb9bd380aff", JOHN_PROJECT_1, "Deleted task example", false, true);
+        task("a1eebc99-9c0b-4ef8-bb6d-6bb9bd380b11", JANE_PROJECT_1, "Research technologies", false, false);
+
+        logger.info("In-memory persistence seeded with 3 users, 5 projects and 8 tasks");
+    }
+
+    private void user(UUID id, String username, String email) {
+        userAdapter.save(User.builder().id(id).username(username).email(email).password(PASSWORD).build());
+    }
+
+    private void project(UUID id, UUID ownerId, String name, ProjectStatus status, boolean deleted) {
+        projectAdapter.save(Project.builder().id(id).ownerId(ownerId).name(name).status(status)
+                .deleted(deleted).build());
+    }
+
+    private void task(String id, UUID projectId, String title, boolean completed, boolean deleted) {
+        taskAdapter.save(Task.builder().id(UUID.fromString(id)).projectId(projectId).title(title)
+                .completed(completed).deleted(deleted).build());
+        if (!deleted) {
+            projectAdapter.adjustTaskCounters(projectId, 1, completed ? 0 : 1, completed ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.model.ProjectStatus;
+
+/**
+ * Tables and secondary indexes of the in-memory persistence engine (profile in-memory).
+ * Rows are immutable records in concurrent primary-key maps; a write replaces the whole row, so readers
+ * take no lock and see a row either before or after a change. Writers take the lock stripe of the row's
+ * primary key, which keeps a row and its index entries consistent with each other.
+ * The owner-to-projects and project-to-tasks indexes are sorted like the keyset pages, by (createdAt, id)
+ * with ids compared as unsigned bytes the way PostgreSQL orders uuid, and hold only non-deleted rows:
+ * exactly what a query on an entity with @SQLRestriction("deleted = false") sees. An index entry is added
+ * after its row is stored and removed after its row is marked deleted, so a reader following an index
+ * re-checks the row and never returns a deleted one.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryStore {
+
+    private static final int LOCK_STRIPES = 256;
+
+    /**
+     * Index order of projects and tasks: (createdAt, id), as in ORDER BY created_at, id.
+     */
+    static final Comparator<RowKey> KEY_ORDER = Comparator.comparing(RowKey::createdAt)
+            .thenComparing(RowKey::id, InMemoryStore::compareUnsigned);
+
+    final ConcurrentHashMap<UUID, ProjectRow> projects = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<UUID, TaskRow> tasks = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<UUID, UserRow> users = new ConcurrentHashMap<>();
+
+    // Unique constraints on users.username and users.email
+    final ConcurrentHashMap<String, UUID> userIdsByUsername = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, UUID> userIdsByEmail = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<UUID, NavigableSet<RowKey>> liveProjectsByOwner = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, NavigableSet<RowKey>> liveTasksByProject = new ConcurrentHashMap<>();
+
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public InMemoryStore() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    record RowKey(LocalDateTime createdAt, UUID id) {
+    }
+
+    record ProjectRow(UUID id, UUID ownerId, String name, ProjectStatus status, boolean deleted,
+                      LocalDateTime createdAt, int totalTasks, int openTasks, int completedTasks, long version) {
+
+        RowKey key() {
+            return new RowKey(createdAt, id);
+        }
+    }
+
+    record TaskRow(UUID id, UUID projectId, String title, boolean completed, boolean deleted,
+                   LocalDateTime createdAt, long version) {
+
+        RowKey key() {
+            return new RowKey(createdAt, id);
+        }
+    }
+
+    record UserRow(UUID id, String username, String email, String password, long version) {
+    }
+
+    /**
+     * Runs the write while holding the lock stripe of the given primary key.
+     * Never nest two calls: stripes are shared between keys, so nesting could deadlock.
+     */
+    <T> T write(UUID id, Supplier<T> write) {
+        ReentrantLock lock = locks[stripe(id)];
+        lock.lock();
+        try {
+            return write.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a new version of a project (null removes it) and keeps the owner index in step.
+     * The caller holds the project's lock stripe.
+     */
+    void replaceProject(ProjectRow previous, ProjectRow current) {
+        boolean wasLive = previous != null && !previous.deleted();
+        boolean isLive = current != null && !current.deleted();
+        if (current != null) {
+            projects.put(current.id(), current);
+        } else {
+            projects.remove(previous.id());
+        }
+        if (wasLive && !isLive) {
+            index(liveProjectsByOwner, previous.ownerId()).remove(previous.key());
+        } else if (isLive && !wasLive) {
+            index(liveProjectsByOwner, current.ownerId()).add(current.key());
+        }
+    }
+
+    /**
+     * Stores a new version of a task (null removes it) and keeps the project index in step.
+     * The caller holds the task's lock stripe.
+     */
+    void replaceTask(TaskRow previous, TaskRow current) {
+        boolean wasLive = previous != null && !previous.deleted();
+        boolean isLive = current != null && !current.deleted();
+        if (current != null) {
+            tasks.put(current.id(), current);
+        } else {
+            tasks.remove(previous.id());
+        }
+        if (wasLive && !isLive) {
+            index(liveTasksByProject, previous.projectId()).remove(previous.key());
+        } else if (isLive && !wasLive) {
+            index(liveTasksByProject, current.projectId()).add(current.key());
+        }
+    }
+
+    /**
+     * Non-deleted projects of an owner in (createdAt, id) order, strictly after the given key if any.
+     */
+    NavigableSet<RowKey> liveProjectKeys(UUID ownerId, RowKey after) {
+        return tail(liveProjectsByOwner.get(ownerId), after);
+    }
+
+    /**
+     * Non-deleted tasks of a project in (createdAt, id) order, strictly after the given key if any.
+     */
+    NavigableSet<RowKey> liveTaskKeys(UUID projectId, RowKey after) {
+        return tail(liveTasksByProject.get(projectId), after);
+    }
+
+    /**
+     * Same precision as a PostgreSQL timestamp column, so a row reads back equal to what was stored.
+     */
+    static LocalDateTime createdAtOrNow(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt : LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static NavigableSet<RowKey> tail(NavigableSet<RowKey> keys, RowKey after) {
+        if (keys == null) {
+            return Collections.emptyNavigableSet();
+        }
+        return after == null ? keys : keys.tailSet(after, false);
+    }
+
+    private static NavigableSet<RowKey> index(ConcurrentHashMap<UUID, NavigableSet<RowKey>> index, UUID key) {
+        return index.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>(KEY_ORDER));
+    }
+
+    private static int stripe(UUID id) {
+        int hash = id.hashCode();
+        return (hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1);
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,279 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.ProjectRow;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.RowKey;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.TaskRow;
+
+/**
+ * In-memory adapter implementing TaskRepositoryPort with the semantics of TaskPersistenceAdapter and
+ * JdbcTaskRepository. The set-based operations check every condition of their SQL WHERE clause and change
+ * each task under its own lock stripe; like the statements they replace, a task is either fully changed or
+ * left alone, but a batch is not isolated from concurrent writes to other tasks.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryTaskPersistenceAdapter implements TaskRepositoryPort {
+
+    private final InMemoryStore store;
+    private final InMemoryProjectPersistenceAdapter projectAdapter;
+
+    public InMemoryTaskPersistenceAdapter(InMemoryStore store, InMemoryProjectPersistenceAdapter projectAdapter) {
+        this.store = store;
+        this.projectAdapter = projectAdapter;
+    }
+
+    @Override
+    public Task save(Task task) {
+        if (task.getVersion() == null) {
+            return InMemoryRows.task(insert(task));
+        }
+
+        // Like the conditional UPDATE: only a non-deleted row still at the expected version is changed
+        TaskRow updated = store.write(task.getId(), () -> {
+            TaskRow current = store.tasks.get(task.getId());
+            if (current == null || current.deleted() || current.version() != task.getVersion()) {
+                return null;
+            }
+            TaskRow next = new TaskRow(current.id(), current.projectId(), task.getTitle(), task.isCompleted(),
+                    task.isDeleted(), current.createdAt(), current.version() + 1);
+            store.replaceTask(current, next);
+            return next;
+        });
+        if (updated == null) {
+            throw new ConcurrentUpdateException("Task", task.getId());
+        }
+        return InMemoryRows.task(updated);
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            saved.add(InMemoryRows.task(insert(task)));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(UUID id) {
+        return live(id).map(InMemoryRows::task);
+    }
+
+    @Override
+    public List<Task> findByProjectId(UUID projectId) {
+        return findByProjectIdAndDeletedFalse(projectId);
+    }
+
+    @Override
+    public List<Task> findByProjectIdAndDeletedFalse(UUID projectId) {
+        List<Task> result = new ArrayList<>();
+        for (RowKey key : store.liveTaskKeys(projectId, null)) {
+            live(key.id()).ifPresent(row -> result.add(InMemoryRows.task(row)));
+        }
+        return result;
+    }
+
+    @Override
+    public CursorPage<Task> findPageByProjectId(UUID projectId, PageCursor after, int limit) {
+        RowKey from = after == null ? null : new RowKey(after.createdAt(), after.id());
+
+        // Collect one extra row to know whether a next page exists
+        List<Task> items = new ArrayList<>(limit + 1);
+        for (RowKey key : store.liveTaskKeys(projectId, from)) {
+            if (items.size() > limit) {
+                break;
+            }
+            live(key.id()).ifPresent(row -> items.add(InMemoryRows.task(row)));
+        }
+
+        if (items.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        List<Task> page = items.subList(0, limit);
+        Task last = page.get(limit - 1);
+        return new CursorPage<>(List.copyOf(page), new PageCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    @Override
+    public List<TaskWithProject> findWithProjectByIds(List<UUID> taskIds) {
+        // Deleted tasks and projects included, as in the JOIN without @SQLRestriction
+        List<TaskWithProject> result = new ArrayList<>();
+        for (UUID taskId : new LinkedHashSet<>(taskIds)) {
+            TaskRow task = store.tasks.get(taskId);
+            ProjectRow project = task == null ? null : store.projects.get(task.projectId());
+            if (project != null) {
+                result.add(new TaskWithProject(InMemoryRows.task(task), InMemoryRows.project(project)));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Task> completeAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return updateAll(taskIds,
+                task -> !task.completed() && isActiveProjectOwnedBy(task.projectId(), ownerId),
+                InMemoryTaskPersistenceAdapter::completed);
+    }
+
+    @Override
+    public Optional<Task> completeOwnedBy(UUID taskId, UUID ownerId, Long expectedVersion) {
+        Optional<TaskRow> completed = update(taskId,
+                task -> (expectedVersion == null || task.version() == expectedVersion)
+                        && !task.completed()
+                        && isActiveProjectOwnedBy(task.projectId(), ownerId),
+                InMemoryTaskPersistenceAdapter::completed);
+
+        // The counter move of the single-statement version
+        completed.ifPresent(task -> projectAdapter.adjustTaskCounters(task.projectId(), 0, -1, 1));
+        return completed.map(InMemoryRows::task);
+    }
+
+    @Override
+    public List<Task> deleteAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return updateAll(taskIds,
+                task -> isLiveProjectOwnedBy(task.projectId(), ownerId),
+                task -> new TaskRow(task.id(), task.projectId(), task.title(), task.completed(), true,
+                        task.createdAt(), task.version() + 1));
+    }
+
+    @Override
+    public long countByProjectIdAndDeletedFalse(UUID projectId) {
+        long count = 0;
+        for (RowKey key : store.liveTaskKeys(projectId, null)) {
+            if (live(key.id()).isPresent()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean existsByProjectIdAndDeletedFalse(UUID projectId) {
+        return anyLive(projectId, task -> true);
+    }
+
+    @Override
+    public boolean existsByProjectIdAndCompletedFalseAndDeletedFalse(UUID projectId) {
+        return anyLive(projectId, task -> !task.completed());
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return live(id).isPresent();
+    }
+
+    @Override
+    public List<Task> findAllByProjectOwnerId(UUID ownerId) {
+        // Both sides of the JPQL join carry @SQLRestriction: live tasks of live projects
+        List<Task> result = new ArrayList<>();
+        for (RowKey projectKey : store.liveProjectKeys(ownerId, null)) {
+            if (isLiveProjectOwnedBy(projectKey.id(), ownerId)) {
+                result.addAll(findByProjectIdAndDeletedFalse(projectKey.id()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        // A deleted task is not found, so it is not removed (same as JPA with @SQLRestriction)
+        store.write(id, () -> {
+            TaskRow current = store.tasks.get(id);
+            if (current != null && !current.deleted()) {
+                store.replaceTask(current, null);
+            }
+            return null;
+        });
+    }
+
+    private TaskRow insert(Task task) {
+        if (!store.projects.containsKey(task.getProjectId())) {
+            throw new DataIntegrityViolationException("Project " + task.getProjectId() + " does not exist");
+        }
+        UUID id = task.getId() != null ? task.getId() : UuidV7.generate();
+        TaskRow row = new TaskRow(id, task.getProjectId(), task.getTitle(), task.isCompleted(), task.isDeleted(),
+                InMemoryStore.createdAtOrNow(task.getCreatedAt()), 0L);
+        return store.write(id, () -> {
+            if (store.tasks.containsKey(id)) {
+                throw new DuplicateKeyException("Task " + id + " already exists");
+            }
+            store.replaceTask(null, row);
+            return row;
+        });
+    }
+
+    /**
+     * Changes each listed task that is live and matches the condition; ids are deduplicated like = ANY.
+     */
+    private List<Task> updateAll(List<UUID> taskIds, Predicate<TaskRow> condition, UnaryOperator<TaskRow> change) {
+        List<Task> changed = new ArrayList<>();
+        for (UUID taskId : new LinkedHashSet<>(taskIds)) {
+            update(taskId, condition, change).ifPresent(row -> changed.add(InMemoryRows.task(row)));
+        }
+        return changed;
+    }
+
+    private Optional<TaskRow> update(UUID taskId, Predicate<TaskRow> condition, UnaryOperator<TaskRow> change) {
+        return Optional.ofNullable(store.write(taskId, () -> {
+            TaskRow current = store.tasks.get(taskId);
+            if (current == null || current.deleted() || !condition.test(current)) {
+                return null;
+            }
+            TaskRow next = change.apply(current);
+            store.replaceTask(current, next);
+            return next;
+        }));
+    }
+
+    private boolean anyLive(UUID projectId, Predicate<TaskRow> condition) {
+        for (RowKey key : store.liveTaskKeys(projectId, null)) {
+            Optional<TaskRow> task = live(key.id());
+            if (task.isPresent() && condition.test(task.get())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isLiveProjectOwnedBy(UUID projectId, UUID ownerId) {
+        ProjectRow project = store.projects.get(projectId);
+        return project != null && !project.deleted() && project.ownerId().equals(ownerId);
+    }
+
+    private boolean isActiveProjectOwnedBy(UUID projectId, UUID ownerId) {
+        ProjectRow project = store.projects.get(projectId);
+        return project != null && !project.deleted() && project.ownerId().equals(ownerId)
+                && project.status() == ProjectStatus.ACTIVE;
+    }
+
+    private Optional<TaskRow> live(UUID id) {
+        TaskRow row = store.tasks.get(id);
+        return row == null || row.deleted() ? Optional.empty() : Optional.of(row);
+    }
+
+    private static TaskRow completed(TaskRow task) {
+        return new TaskRow(task.id(), task.projectId(), task.title(), true, task.deleted(), task.createdAt(),
+                task.version() + 1);
+    }
+}
@@ -0,0 +1,24 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.util.function.Supplier;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.port.out.TransactionPort;
+
+/**
+ * In-memory adapter implementing TransactionPort.
+ * Runs the work in the caller's thread without isolation or rollback: each row write is atomic on its
+ * own, but a use case that fails halfway keeps the writes it already made. Acceptable for load tests and
+ * integration tests; the in-memory profile is not meant to hold data that has to stay consistent.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryTransactionAdapter implements TransactionPort {
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return work.get();
+    }
+}
@@ -0,0 +1,137 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.domain.port.out.UserRepositoryPort;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore.UserRow;
+
+/**
+ * In-memory adapter implementing UserRepositoryPort with the semantics of UserPersistenceAdapter.
+ * Usernames and emails are unique: a value is claimed in its index with putIfAbsent before the row is
+ * stored, so two concurrent registrations of the same name cannot both succeed.
+ */
+@Component
+@Profile("in-memory")
+public class InMemoryUserPersistenceAdapter implements UserRepositoryPort {
+
+    private final InMemoryStore store;
+
+    public InMemoryUserPersistenceAdapter(InMemoryStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public User save(User user) {
+        if (user.getVersion() == null) {
+            return InMemoryRows.user(insert(user));
+        }
+
+        // Like the conditional UPDATE: only a row still at the expected version is changed
+        UserRow updated = store.write(user.getId(), () -> {
+            UserRow current = store.users.get(user.getId());
+            if (current == null || current.version() != user.getVersion()) {
+                return null;
+            }
+            boolean usernameChanged = !current.username().equals(user.getUsername());
+            boolean emailChanged = !current.email().equals(user.getEmail());
+            if (usernameChanged) {
+                claim(store.userIdsByUsername, user.getUsername(), current.id(), "username");
+            }
+            if (emailChanged) {
+                try {
+                    claim(store.userIdsByEmail, user.getEmail(), current.id(), "email");
+                } catch (DuplicateKeyException e) {
+                    if (usernameChanged) {
+                        store.userIdsByUsername.remove(user.getUsername(), current.id());
+                    }
+                    throw e;
+                }
+            }
+            UserRow next = new UserRow(current.id(), user.getUsername(), user.getEmail(), user.getPassword(),
+                    current.version() + 1);
+            store.users.put(next.id(), next);
+            if (usernameChanged) {
+                store.userIdsByUsername.remove(current.username(), current.id());
+            }
+            if (emailChanged) {
+                store.userIdsByEmail.remove(current.email(), current.id());
+            }
+            return next;
+        });
+        if (updated == null) {
+            throw new ConcurrentUpdateException("User", user.getId());
+        }
+        return InMemoryRows.user(updated);
+    }
+
+    @Override
+    public Optional<User> findById(UUID id) {
+        return Optional.ofNullable(store.users.get(id)).map(InMemoryRows::user);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return lookup(store.userIdsByUsername, username, UserRow::username).map(InMemoryRows::user);
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return lookup(store.userIdsByEmail, email, UserRow::email).map(InMemoryRows::user);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return lookup(store.userIdsByUsername, username, UserRow::username).isPresent();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return lookup(store.userIdsByEmail, email, UserRow::email).isPresent();
+    }
+
+    private UserRow insert(User user) {
+        UUID id = user.getId() != null ? user.getId() : UuidV7.generate();
+        UserRow row = new UserRow(id, user.getUsername(), user.getEmail(), user.getPassword(), 0L);
+        return store.write(id, () -> {
+            if (store.users.containsKey(id)) {
+                throw new DuplicateKeyException("User " + id + " already exists");
+            }
+            claim(store.userIdsByUsername, row.username(), id, "username");
+            try {
+                claim(store.userIdsByEmail, row.email(), id, "email");
+            } catch (DuplicateKeyException e) {
+                store.userIdsByUsername.remove(row.username(), id);
+                throw e;
+            }
+            store.users.put(id, row);
+            return row;
+        });
+    }
+
+    /**
+     * Only a stored row that still has the value counts: a value claimed by an insert or a rename
+     * in progress is not visible yet, and a released one no longer is.
+     */
+    private Optional<UserRow> lookup(ConcurrentHashMap<String, UUID> index, String value,
+                                     Function<UserRow, String> column) {
+        UUID id = value == null ? null : index.get(value);
+        return id == null ? Optional.empty() : Optional.ofNullable(store.users.get(id))
+                .filter(row -> value.equals(column.apply(row)));
+    }
+
+    private static void claim(ConcurrentHashMap<String, UUID> index, String value, UUID id, String column) {
+        if (index.putIfAbsent(value, id) != null) {
+            throw new DuplicateKeyException("A user with this " + column + " already exists");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.riwi.assesment.infrastructure.adapter.out.outbox;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.infrastructure.adapter.out.audit.AuditLogAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository.OutboxEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adapter implementing AuditLogPort through the transactional outbox.
+ * The entry (with the user id from the security context) is inserted into outbox_events in the
+ * caller's transaction, so it commits or rolls back with the domain change; OutboxDispatcher
+ * copies it to audit_logs afterwards.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxAuditLogAdapter implements AuditLogPort {
+
+    private final JdbcOutboxRepository outboxRepository;
+    private final Counter enqueuedCounter;
+
+    public OutboxAuditLogAdapter(JdbcOutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.enqueuedCounter = Counter.builder("outbox.events.enqueued")
+                .tag("type", JdbcOutboxRepository.AUDIT)
+                .description("Events written to the outbox")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void register(String action, UUID entityId) {
+        registerAll(action, List.of(entityId));
+    }
+
+    @Override
+    public void registerAll(String action, List<UUID> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        UUID userId = AuditLogAdapter.currentUserId();
+        outboxRepository.insertAll(entityIds.stream()
+                .map(entityId -> OutboxEvent.audit(action, entityId, userId))
+                .toList());
+        enqueuedCounter.increment(entityIds.size());
+    }
+}
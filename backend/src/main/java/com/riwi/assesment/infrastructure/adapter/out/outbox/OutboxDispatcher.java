@@ -0,0 +1,184 @@
+package com.riwi.assesment.infrastructure.adapter.out.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.riwi.assesment.infrastructure.adapter.out.audit.AuditLogAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.notification.ConsoleNotificationAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.AuditLogEntity;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository.OutboxEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Background job that delivers outbox events to the audit and notification adapters.
+ * Each batch is claimed with FOR UPDATE SKIP LOCKED, delivered and deleted in one transaction:
+ * audit entries are inserted into audit_logs in that same transaction (so they land exactly once),
+ * notifications are sent just before it commits (so they are delivered at least once).
+ * A failed batch is rolled back and its events postponed with exponential backoff; events that
+ * failed before are retried one per transaction so a single bad event cannot hold back the rest.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final JdbcOutboxRepository outboxRepository;
+    private final AuditLogAdapter auditWriter;
+    private final ConsoleNotificationAdapter notifier;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retryDelay;
+
+    private final Map<String, Counter> dispatchedCounters;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final Timer lagTimer;
+
+    public OutboxDispatcher(JdbcOutboxRepository outboxRepository,
+                            AuditLogAdapter auditWriter,
+                            ConsoleNotificationAdapter notifier,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.dispatcher.batch-size:500}") int batchSize,
+                            @Value("${outbox.dispatcher.max-batches-per-run:20}") int maxBatchesPerRun,
+                            @Value("${outbox.dispatcher.retry-delay:PT5S}") Duration retryDelay) {
+        if (batchSize < 1 || maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("batch-size and max-batches-per-run must be positive");
+        }
+        this.outboxRepository = outboxRepository;
+        this.auditWriter = auditWriter;
+        this.notifier = notifier;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retryDelay = retryDelay;
+
+        this.dispatchedCounters = Map.of(
+                JdbcOutboxRepository.AUDIT, dispatchedCounter(meterRegistry, JdbcOutboxRepository.AUDIT),
+                JdbcOutboxRepository.NOTIFICATION, dispatchedCounter(meterRegistry, JdbcOutboxRepository.NOTIFICATION));
+        this.failedCounter = Counter.builder("outbox.events.failed")
+                .description("Outbox events whose delivery failed and was rescheduled")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.dispatch")
+                .description("Time to claim, deliver and delete one outbox batch")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("outbox.delivery.lag")
+                .description("Time from an event being written to the outbox to its delivery")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${outbox.dispatcher.initial-delay:PT5S}",
+               fixedDelayString = "${outbox.dispatcher.fixed-delay:PT0.5S}")
+    public void dispatch() {
+        // Fresh events in full batches while the backlog lasts, bounded so one run cannot spin forever
+        int batches = 0;
+        while (batches < maxBatchesPerRun && dispatchBatch(false, batchSize) == batchSize) {
+            batches++;
+        }
+
+        // Previously failed events in isolation
+        int retried = 0;
+        while (retried < batchSize && dispatchBatch(true, 1) == 1) {
+            retried++;
+        }
+    }
+
+    /**
+     * Claims, delivers and deletes up to limit events in one transaction.
+     * @return the number of events claimed, whether they were delivered or rescheduled
+     */
+    int dispatchBatch(boolean retried, int limit) {
+        List<OutboxEvent> claimed = new ArrayList<>();
+        try {
+            Integer delivered = transactionTemplate.execute(status -> {
+                claimed.addAll(outboxRepository.claimDue(retried, limit));
+                if (claimed.isEmpty()) {
+                    return 0;
+                }
+                batchTimer.record(() -> deliver(claimed));
+                return claimed.size();
+            });
+            recordDelivered(claimed);
+            return delivered != null ? delivered : 0;
+        } catch (RuntimeException e) {
+            if (claimed.isEmpty()) {
+                throw e;
+            }
+            log.warn("Outbox delivery of {} events failed, rescheduling: {}", claimed.size(), e.getMessage());
+            List<UUID> ids = claimed.stream().map(OutboxEvent::id).toList();
+            transactionTemplate.executeWithoutResult(
+                    status -> outboxRepository.markFailed(ids, String.valueOf(e.getMessage()), retryDelay));
+            failedCounter.increment(claimed.size());
+            return claimed.size();
+        }
+    }
+
+    private void deliver(List<OutboxEvent> events) {
+        List<AuditLogEntity> auditLogs = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (event.isAudit()) {
+                auditLogs.add(toAuditLog(event));
+            } else {
+                messages.add(event.message());
+            }
+        }
+
+        // Database side effects first, joined to this transaction, then the outbox rows they replace.
+        // The audit inserts are flushed here rather than at commit, so a failing insert throws before
+        // anything is sent
+        if (!auditLogs.isEmpty()) {
+            auditWriter.write(auditLogs);
+        }
+        outboxRepository.deleteAll(events.stream().map(OutboxEvent::id).toList());
+
+        // External side effects last: only sent once every write above succeeded. If the commit still
+        // fails, the batch is delivered again (at least once)
+        messages.forEach(notifier::notify);
+    }
+
+    private void recordDelivered(List<OutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : events) {
+            dispatchedCounters.get(event.eventType()).increment();
+            lagTimer.record(Duration.between(event.createdAt(), now));
+        }
+    }
+
+    /**
+     * The outbox id is reused as the audit id and the enqueue time as its timestamp,
+     * so the entry reflects when the action happened, not when it was delivered.
+     */
+    private static AuditLogEntity toAuditLog(OutboxEvent event) {
+        AuditLogEntity auditLog = new AuditLogEntity(event.action(), event.entityId(), event.userId());
+        auditLog.setId(event.id());
+        auditLog.setCreatedAt(event.createdAt());
+        return auditLog;
+    }
+
+    private static Counter dispatchedCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("outbox.events.dispatched")
+                .tag("type", type)
+                .description("Outbox events delivered")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.riwi.assesment.infrastructure.adapter.out.outbox;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository.OutboxEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adapter implementing NotificationPort through the transactional outbox.
+ * The message is inserted into outbox_events in the caller's transaction and sent by
+ * OutboxDispatcher once that transaction has committed, so a rolled-back change never notifies.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxNotificationAdapter implements NotificationPort {
+
+    private final JdbcOutboxRepository outboxRepository;
+    private final Counter enqueuedCounter;
+
+    public OutboxNotificationAdapter(JdbcOutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.enqueuedCounter = Counter.builder("outbox.events.enqueued")
+                .tag("type", JdbcOutboxRepository.NOTIFICATION)
+                .description("Events written to the outbox")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void notify(String message) {
+        outboxRepository.insertAll(List.of(OutboxEvent.notification(message)));
+        enqueuedCounter.increment();
+    }
+}
@@ -0,0 +1,250 @@
+package com.riwi.assesment.infrastructure.adapter.out.ownership;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.riwi.assesment.domain.port.out.OwnershipPort;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded in-memory index from project id to owner id, loaded lazily from the database.
+ * Entries are packed into a single long[] (project id, owner id and expiry: 40 bytes each, no
+ * per-entry objects) laid out as a set-associative table: a project id hashes to one set of
+ * WAYS slots and a full set replaces its oldest entry. Memory is fixed at startup.
+ * Lookups take an optimistic read on the set's lock stripe, so the hit path neither blocks nor writes.
+ * Deletions bump an invalidation counter so a lookup that read the database before the delete
+ * committed cannot put the project back. Each instance has its own index: the time-to-live bounds
+ * how long a project deleted through another instance stays visible here. Task creation does not rely
+ * on it alone: it checks that the project is live in the database (ProjectRepositoryPort#addOpenTasks).
+ */
+@Component
+@Profile("!in-memory")
+public class ProjectOwnershipIndex implements OwnershipPort {
+
+    static final int WAYS = 8;
+
+    // Slot layout: project id (msb, lsb), owner id (msb, lsb), expiry in nanoTime
+    private static final int STRIDE = 5;
+    private static final int LOCK_STRIPES = 64;
+
+    private final long[] slots;
+    private final int setMask;
+    private final StampedLock[] locks = new StampedLock[LOCK_STRIPES];
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Function<UUID, Optional<UUID>> loader;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public ProjectOwnershipIndex(JdbcProjectRepository jdbcProjectRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${ownership-index.max-entries:100000}") int maxEntries,
+                                 @Value("${ownership-index.time-to-live:PT10M}") Duration timeToLive) {
+        this(jdbcProjectRepository::findOwnerId, meterRegistry, maxEntries, timeToLive, System::nanoTime);
+    }
+
+    ProjectOwnershipIndex(Function<UUID, Optional<UUID>> loader,
+                          MeterRegistry meterRegistry,
+                          int maxEntries,
+                          Duration timeToLive,
+                          LongSupplier nanoClock) {
+        if (maxEntries < WAYS) {
+            throw new IllegalArgumentException("ownership-index.max-entries must be at least " + WAYS);
+        }
+        // Round the number of sets down to a power of two so the set index is a mask
+        int sets = Integer.highestOneBit(maxEntries / WAYS);
+        this.slots = new long[sets * WAYS * STRIDE];
+        this.setMask = sets - 1;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new StampedLock();
+        }
+        this.loader = loader;
+        this.ttlNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    @Override
+    public Optional<UUID> findOwnerId(UUID projectId) {
+        UUID cached = lookup(projectId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+
+        long invalidationsBeforeLoad = invalidations.get();
+        Optional<UUID> owner = loader.apply(projectId);
+        owner.ifPresent(ownerId -> store(projectId, ownerId, invalidationsBeforeLoad));
+        return owner;
+    }
+
+    @Override
+    public void projectCreated(UUID projectId, UUID ownerId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(projectId, ownerId, invalidations.get());
+                }
+            });
+        } else {
+            store(projectId, ownerId, invalidations.get());
+        }
+    }
+
+    @Override
+    public void projectDeleted(UUID projectId) {
+        invalidate(projectId);
+        // Again once the delete is visible, in case a concurrent lookup re-read the row meanwhile
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(projectId);
+                }
+            });
+        }
+    }
+
+    private UUID lookup(UUID projectId) {
+        long msb = projectId.getMostSignificantBits();
+        long lsb = projectId.getLeastSignificantBits();
+        int set = setOf(msb, lsb);
+        StampedLock lock = lockOf(set);
+
+        long stamp = lock.tryOptimisticRead();
+        UUID owner = find(set, msb, lsb);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                owner = find(set, msb, lsb);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return owner;
+    }
+
+    private UUID find(int set, long msb, long lsb) {
+        long now = nanoClock.getAsLong();
+        int base = set * WAYS * STRIDE;
+        for (int way = 0; way < WAYS; way++) {
+            int slot = base + way * STRIDE;
+            if (slots[slot] == msb && slots[slot + 1] == lsb && slots[slot + 4] - now > 0) {
+                return new UUID(slots[slot + 2], slots[slot + 3]);
+            }
+        }
+        return null;
+    }
+
+    private void store(UUID projectId, UUID ownerId, long expectedInvalidations) {
+        long msb = projectId.getMostSignificantBits();
+        long lsb = projectId.getLeastSignificantBits();
+        int set = setOf(msb, lsb);
+        StampedLock lock = lockOf(set);
+
+        long stamp = lock.writeLock();
+        try {
+            // A delete since the caller read the database may concern this project: do not resurrect it
+            if (invalidations.get() != expectedInvalidations) {
+                return;
+            }
+            int slot = victim(set, msb, lsb);
+            slots[slot] = msb;
+            slots[slot + 1] = lsb;
+            slots[slot + 2] = ownerId.getMostSignificantBits();
+            slots[slot + 3] = ownerId.getLeastSignificantBits();
+            slots[slot + 4] = nanoClock.getAsLong() + ttlNanos;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * The slot already holding the project, else an empty or expired one, else the oldest in the set.
+     */
+    private int victim(int set, long msb, long lsb) {
+        long now = nanoClock.getAsLong();
+        int base = set * WAYS * STRIDE;
+        int oldest = base;
+        int free = -1;
+        for (int way = 0; way < WAYS; way++) {
+            int slot = base + way * STRIDE;
+            if (slots[slot] == msb && slots[slot + 1] == lsb) {
+                return slot;
+            }
+            if (free < 0 && (isEmpty(slot) || slots[slot + 4] - now <= 0)) {
+                free = slot;
+            }
+            if (slots[slot + 4] - slots[oldest + 4] < 0) {
+                oldest = slot;
+            }
+        }
+        return free >= 0 ? free : oldest;
+    }
+
+    private void invalidate(UUID projectId) {
+        invalidations.incrementAndGet();
+        long msb = projectId.getMostSignificantBits();
+        long lsb = projectId.getLeastSignificantBits();
+        int set = setOf(msb, lsb);
+        StampedLock lock = lockOf(set);
+
+        long stamp = lock.writeLock();
+        try {
+            int base = set * WAYS * STRIDE;
+            for (int way = 0; way < WAYS; way++) {
+                int slot = base + way * STRIDE;
+                if (slots[slot] == msb && slots[slot + 1] == lsb) {
+                    for (int i = 0; i < STRIDE; i++) {
+                        slots[slot + i] = 0;
+                    }
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // The nil UUID is never a project id, so an all-zero key marks an empty slot
+    private boolean isEmpty(int slot) {
+        return slots[slot] == 0 && slots[slot + 1] == 0;
+    }
+
+    private int setOf(long msb, long lsb) {
+        // UUIDv7 puts a timestamp in the high bits; mix both halves so consecutive ids spread out
+        long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & setMask;
+    }
+
+    private StampedLock lockOf(int set) {
+        return locks[set & (LOCK_STRIPES - 1)];
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ownership.index.lookups")
+                .tag("result", result)
+                .description("Project ownership lookups served from memory (hit) or the database (miss)")
+                .register(meterRegistry);
+    }
+}
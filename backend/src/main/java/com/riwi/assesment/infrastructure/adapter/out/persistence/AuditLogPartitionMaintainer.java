@@ -0,0 +1,100 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcAuditLogPartitionRepository;
+
+/**
+ * Background job that keeps the monthly partitions of audit_logs in shape.
+ * Creates the current month and the next premake-months partitions ahead of time, plus any month
+ * whose rows landed in the default partition, and removes partitions older than retention-months:
+ * detached by default, so their rows can still be archived, or dropped when expired-action is DROP.
+ * A month that cannot be created is logged and retried on the next run; retention still applies.
+ */
+@Component
+@ConditionalOnProperty(name = "audit-logs.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogPartitionMaintainer {
+
+    public enum ExpiredAction { DETACH, DROP }
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogPartitionMaintainer.class);
+
+    private final JdbcAuditLogPartitionRepository partitionRepository;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final ExpiredAction expiredAction;
+    private final Clock clock;
+
+    @Autowired
+    public AuditLogPartitionMaintainer(JdbcAuditLogPartitionRepository partitionRepository,
+                                       @Value("${audit-logs.partitions.premake-months:3}") int premakeMonths,
+                                       @Value("${audit-logs.partitions.retention-months:12}") int retentionMonths,
+                                       @Value("${audit-logs.partitions.expired-action:DETACH}") ExpiredAction expiredAction) {
+        this(partitionRepository, premakeMonths, retentionMonths, expiredAction, Clock.systemDefaultZone());
+    }
+
+    AuditLogPartitionMaintainer(JdbcAuditLogPartitionRepository partitionRepository,
+                                int premakeMonths,
+                                int retentionMonths,
+                                ExpiredAction expiredAction,
+                                Clock clock) {
+        if (premakeMonths < 0 || retentionMonths < 1) {
+            throw new IllegalArgumentException("premake-months must be >= 0 and retention-months >= 1");
+        }
+        this.partitionRepository = partitionRepository;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+        this.expiredAction = expiredAction;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelayString = "${audit-logs.partitions.initial-delay:PT30S}",
+               fixedDelayString = "${audit-logs.partitions.fixed-delay:PT6H}")
+    public void maintain() {
+        YearMonth currentMonth = YearMonth.now(clock);
+
+        // Months with rows in the default partition get their own partition too, which moves the rows into it
+        Set<YearMonth> months = new TreeSet<>(partitionRepository.findDefaultPartitionMonths());
+        for (int i = 0; i <= premakeMonths; i++) {
+            months.add(currentMonth.plusMonths(i));
+        }
+        for (YearMonth month : months) {
+            try {
+                partitionRepository.createPartition(month);
+            } catch (RuntimeException e) {
+                log.error("Could not create the audit log partition for {}: {}", month, e.getMessage());
+            }
+        }
+
+        // The current month counts as the first month of retention
+        YearMonth oldestRetained = currentMonth.minusMonths(retentionMonths - 1L);
+        for (YearMonth month : partitionRepository.findPartitionMonths()) {
+            if (month.isBefore(oldestRetained)) {
+                if (expiredAction == ExpiredAction.DROP) {
+                    partitionRepository.dropPartition(month);
+                } else {
+                    partitionRepository.detachPartition(month);
+                }
+                log.info("Audit log partition for {} expired and was {}", month,
+                        expiredAction == ExpiredAction.DROP ? "dropped" : "detached");
+            }
+        }
+
+        long strayRows = partitionRepository.countDefaultPartitionRows();
+        if (strayRows > 0) {
+            log.warn("{} audit log rows are still in the default partition; they move to their monthly partition "
+                    + "once it is created, see the errors above", strayRows);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.ProjectEntity;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaProjectRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaUserRepository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Evicts second-level cache entries for rows written outside JPA (JdbcTemplate statements),
+ * which Hibernate cannot see. The entry is evicted right away and again after the surrounding
+ * transaction completes, so a concurrent read that re-cached the old row before the commit
+ * does not survive it. A no-op when the second-level cache is disabled.
+ */
+@Component
+@Profile("!in-memory")
+public class EntityCacheEvictor {
+
+    private final Cache cache;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache();
+    }
+
+    public void evictProject(UUID projectId) {
+        evictProjects(List.of(projectId));
+    }
+
+    public void evictProjects(Collection<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(projectIds);
+        evictTwice(() -> ids.forEach(id -> cache.evict(ProjectEntity.class, id)));
+    }
+
+    public void evictUser(UUID userId) {
+        evictTwice(() -> cache.evict(UserEntity.class, userId));
+    }
+
+    /**
+     * Drops every cached owner page; needed when a write changes which projects a page lists.
+     */
+    public void evictOwnerPages() {
+        evictTwice(() -> evictQueryRegion(JpaProjectRepository.OWNER_PAGES_CACHE_REGION));
+    }
+
+    /**
+     * Drops every cached username lookup; needed when a write changes a username.
+     */
+    public void evictUsernameLookups() {
+        evictTwice(() -> evictQueryRegion(JpaUserRepository.BY_USERNAME_CACHE_REGION));
+    }
+
+    private void evictQueryRegion(String region) {
+        cache.unwrap(org.hibernate.Cache.class).evictQueryRegion(region);
+    }
+
+    private static void evictTwice(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -4,50 +4,89 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
 import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.ProjectEntity;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.mapper.ProjectMapper;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaProjectRepository;
 
+import jakarta.persistence.EntityManager;
+
 /**
  * Persistence adapter implementing ProjectRepositoryPort.
  * Adapts the domain port to JPA infrastructure.
  */
 @Component
+@Profile("!in-memory")
 public class ProjectPersistenceAdapter implements ProjectRepositoryPort {
 
     private final JpaProjectRepository jpaProjectRepository;
+    private final JdbcProjectRepository jdbcProjectRepository;
+    private final EntityManager entityManager;
 
-    public ProjectPersistenceAdapter(JpaProjectRepository jpaProjectRepository) {
+    public ProjectPersistenceAdapter(JpaProjectRepository jpaProjectRepository,
+                                     JdbcProjectRepository jdbcProjectRepository,
+                                     EntityManager entityManager) {
         this.jpaProjectRepository = jpaProjectRepository;
+        this.jdbcProjectRepository = jdbcProjectRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
     public Project save(Project project) {
-        ProjectEntity entity;
-        
-        // Check if it's a new entity or existing
-        if (project.getId() != null && jpaProjectRepository.existsById(project.getId())) {
-            entity = ProjectMapper.toEntity(project);
-        } else {
-            // Create new entity without ID (let JPA generate it)
-            entity = new ProjectEntity();
+        // A null version means the project was never persisted: a single INSERT, no existence check.
+        // The id assigned by the domain is kept; ids are time-ordered so inserts append to the index.
+        if (project.getVersion() == null) {
+            ProjectEntity entity = new ProjectEntity();
+            entity.setId(project.getId() != null ? project.getId() : UuidV7.generate());
             entity.setOwnerId(project.getOwnerId());
             entity.setName(project.getName());
             entity.setStatus(ProjectMapper.toEntityStatus(project.getStatus()));
             entity.setDeleted(project.isDeleted());
+            entity.setCreatedAt(project.getCreatedAt());
+            return ProjectMapper.toDomain(jpaProjectRepository.save(entity));
+        }
+
+        // Existing project: one conditional UPDATE that doubles as the optimistic lock check.
+        // It runs through JDBC, so pending JPA writes are flushed first, and the persistence context is
+        // cleared afterwards so a retry inside the same transaction re-reads the row.
+        boolean inTransaction = entityManager.isJoinedToTransaction();
+        if (inTransaction) {
+            entityManager.flush();
         }
-        
-        ProjectEntity savedEntity = jpaProjectRepository.save(entity);
-        return ProjectMapper.toDomain(savedEntity);
+        boolean updated = jdbcProjectRepository.updateIfVersionMatches(
+                project.getId(),
+                project.getVersion(),
+                project.getName(),
+                ProjectMapper.toEntityStatus(project.getStatus()).name(),
+                project.isDeleted()
+        );
+        if (inTransaction) {
+            entityManager.clear();
+        }
+        if (!updated) {
+            throw new ConcurrentUpdateException("Project", project.getId());
+        }
+
+        ProjectEntity entity = ProjectMapper.toEntity(project);
+        entity.setVersion(project.getVersion() + 1);
+        return ProjectMapper.toDomain(entity);
     }
 
     @Override
     public Optional<Project> findById(UUID id) {
+        // A cache hit skips @SQLRestriction, so the soft-delete filter is re-applied here
         return jpaProjectRepository.findById(id)
+                .filter(entity -> !entity.isDeleted())
                 .map(ProjectMapper::toDomain);
     }
 
@@ -67,6 +106,42 @@ public class ProjectPersistenceAdapter implements ProjectRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public CursorPage<Project> findPageByOwnerId(UUID ownerId, PageCursor after, int limit) {
+        // Fetch one extra row to know whether a next page exists without a count query
+        List<ProjectEntity> rows = after == null
+                ? jpaProjectRepository.findFirstPageByOwnerId(ownerId, limit + 1)
+                : jpaProjectRepository.findPageByOwnerIdAfter(ownerId, after.createdAt(), after.id(), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<Project> items = rows.stream()
+                .limit(limit)
+                .map(ProjectMapper::toDomain)
+                .toList();
+
+        PageCursor nextCursor = null;
+        if (hasNext) {
+            Project last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    public List<ProjectWithTasks> findWithTasksByOwnerId(UUID ownerId, Integer tasksPerProject) {
+        return jdbcProjectRepository.findWithTasksByOwnerId(ownerId, tasksPerProject);
+    }
+
+    @Override
+    public void adjustTaskCounters(UUID projectId, int totalDelta, int openDelta, int completedDelta) {
+        jdbcProjectRepository.adjustTaskCounters(projectId, totalDelta, openDelta, completedDelta);
+    }
+
+    @Override
+    public boolean addOpenTasks(UUID projectId, int count) {
+        return jdbcProjectRepository.addOpenTasks(projectId, count);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaProjectRepository.existsById(id);
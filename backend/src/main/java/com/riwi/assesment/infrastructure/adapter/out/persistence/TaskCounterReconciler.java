@@ -0,0 +1,61 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
+
+/**
+ * Background job that detects and repairs drift in the denormalized project task counters.
+ * Counters can drift when a task write succeeds but the counter update does not
+ * (crash, connection loss) or when rows are changed outside the application.
+ * Walks all projects in id order in small batches so each statement stays short.
+ */
+@Component
+@ConditionalOnProperty(name = "task-counters.reconciler.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskCounterReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCounterReconciler.class);
+    // PostgreSQL orders uuids bytewise, so the nil UUID sorts before every id
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final JdbcProjectRepository jdbcProjectRepository;
+    private final int batchSize;
+
+    public TaskCounterReconciler(JdbcProjectRepository jdbcProjectRepository,
+                                 @Value("${task-counters.reconciler.batch-size:500}") int batchSize) {
+        this.jdbcProjectRepository = jdbcProjectRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${task-counters.reconciler.initial-delay:PT1M}",
+               fixedDelayString = "${task-counters.reconciler.fixed-delay:PT15M}")
+    public void reconcile() {
+        int scanned = 0;
+        int repaired = 0;
+        UUID afterId = MIN_UUID;
+
+        List<UUID> batch;
+        do {
+            batch = jdbcProjectRepository.findProjectIdsAfter(afterId, batchSize);
+            if (!batch.isEmpty()) {
+                repaired += jdbcProjectRepository.reconcileTaskCounters(batch);
+                scanned += batch.size();
+                afterId = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == batchSize);
+
+        if (repaired > 0) {
+            log.warn("Task counter reconciliation repaired {} of {} projects", repaired, scanned);
+        } else {
+            log.debug("Task counter reconciliation found no drift in {} projects", scanned);
+        }
+    }
+}
@@ -4,12 +4,19 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
 import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.model.UuidV7;
 import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.TaskEntity;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.mapper.TaskMapper;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcTaskRepository;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaTaskRepository;
 
 /**
@@ -17,32 +24,68 @@ import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaT
  * Adapts the domain port to JPA infrastructure.
  */
 @Component
+@Profile("!in-memory")
 public class TaskPersistenceAdapter implements TaskRepositoryPort {
 
     private final JpaTaskRepository jpaTaskRepository;
+    private final JdbcTaskRepository jdbcTaskRepository;
 
-    public TaskPersistenceAdapter(JpaTaskRepository jpaTaskRepository) {
+    public TaskPersistenceAdapter(JpaTaskRepository jpaTaskRepository,
+                                  JdbcTaskRepository jdbcTaskRepository) {
         this.jpaTaskRepository = jpaTaskRepository;
+        this.jdbcTaskRepository = jdbcTaskRepository;
     }
 
     @Override
     public Task save(Task task) {
-        TaskEntity entity;
-        
-        // Check if it's a new entity or existing
-        if (task.getId() != null && jpaTaskRepository.existsById(task.getId())) {
-            entity = TaskMapper.toEntity(task);
-        } else {
-            // Create new entity without ID (let JPA generate it)
-            entity = new TaskEntity();
+        // A null version means the task was never persisted: a single INSERT, no existence check.
+        // The id assigned by the domain is kept; ids are time-ordered so inserts append to the index.
+        if (task.getVersion() == null) {
+            TaskEntity entity = new TaskEntity();
+            entity.setId(task.getId() != null ? task.getId() : UuidV7.generate());
             entity.setProjectId(task.getProjectId());
             entity.setTitle(task.getTitle());
             entity.setCompleted(task.isCompleted());
             entity.setDeleted(task.isDeleted());
+            entity.setCreatedAt(task.getCreatedAt());
+            return TaskMapper.toDomain(jpaTaskRepository.save(entity));
         }
-        
-        TaskEntity savedEntity = jpaTaskRepository.save(entity);
-        return TaskMapper.toDomain(savedEntity);
+
+        // Existing task: one conditional UPDATE that doubles as the optimistic lock check
+        int updated = jpaTaskRepository.updateIfVersionMatches(
+                task.getId(),
+                task.getVersion(),
+                task.getTitle(),
+                task.isCompleted(),
+                task.isDeleted()
+        );
+        if (updated == 0) {
+            throw new ConcurrentUpdateException("Task", task.getId());
+        }
+
+        TaskEntity entity = TaskMapper.toEntity(task);
+        entity.setVersion(task.getVersion() + 1);
+        return TaskMapper.toDomain(entity);
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        // All rows are new, so Hibernate persists them and groups the INSERTs into JDBC batches
+        List<TaskEntity> entities = tasks.stream()
+                .map(task -> {
+                    TaskEntity entity = TaskMapper.toEntity(task);
+                    if (entity.getId() == null) {
+                        entity.setId(UuidV7.generate());
+                    }
+                    entity.setVersion(null);
+                    return entity;
+                })
+                .toList();
+
+        return jpaTaskRepository.saveAll(entities)
+                .stream()
+                .map(TaskMapper::toDomain)
+                .toList();
     }
 
     @Override
@@ -67,6 +110,47 @@ public class TaskPersistenceAdapter implements TaskRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public CursorPage<Task> findPageByProjectId(UUID projectId, PageCursor after, int limit) {
+        // Fetch one extra row to know whether a next page exists without a count query
+        List<TaskEntity> rows = after == null
+                ? jpaTaskRepository.findFirstPageByProjectId(projectId, limit + 1)
+                : jpaTaskRepository.findPageByProjectIdAfter(projectId, after.createdAt(), after.id(), limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<Task> items = rows.stream()
+                .limit(limit)
+                .map(TaskMapper::toDomain)
+                .toList();
+
+        PageCursor nextCursor = null;
+        if (hasNext) {
+            Task last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    @Override
+    public List<TaskWithProject> findWithProjectByIds(List<UUID> taskIds) {
+        return jdbcTaskRepository.findWithProjectByIds(taskIds);
+    }
+
+    @Override
+    public List<Task> completeAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return jdbcTaskRepository.completeAllOwnedBy(taskIds, ownerId);
+    }
+
+    @Override
+    public Optional<Task> completeOwnedBy(UUID taskId, UUID ownerId, Long expectedVersion) {
+        return jdbcTaskRepository.completeOwnedBy(taskId, ownerId, expectedVersion);
+    }
+
+    @Override
+    public List<Task> deleteAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return jdbcTaskRepository.deleteAllOwnedBy(taskIds, ownerId);
+    }
+
     @Override
     public long countByProjectIdAndDeletedFalse(UUID projectId) {
         return jpaTaskRepository.countByProjectIdAndDeletedFalse(projectId);
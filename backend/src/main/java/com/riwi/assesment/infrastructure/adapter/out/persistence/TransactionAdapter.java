@@ -0,0 +1,31 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.util.function.Supplier;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.riwi.assesment.domain.port.out.TransactionPort;
+
+/**
+ * Adapter implementing TransactionPort with Spring's programmatic transactions.
+ * JPA repositories and JdbcTemplate statements issued by the work share the same connection,
+ * so entity writes, counter updates and outbox inserts commit or roll back together.
+ */
+@Component
+@Profile("!in-memory")
+public class TransactionAdapter implements TransactionPort {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionAdapter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
@@ -3,12 +3,16 @@ package com.riwi.assesment.infrastructure.adapter.out.persistence;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
 import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.model.UuidV7;
 import com.riwi.assesment.domain.port.out.UserRepositoryPort;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.UserEntity;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.mapper.UserMapper;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcUserRepository;
 import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaUserRepository;
 
 /**
@@ -16,32 +20,45 @@ import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaU
  * Adapts the domain port to JPA infrastructure.
  */
 @Component
+@Profile("!in-memory")
 public class UserPersistenceAdapter implements UserRepositoryPort {
 
     private final JpaUserRepository jpaUserRepository;
+    private final JdbcUserRepository jdbcUserRepository;
 
-    public UserPersistenceAdapter(JpaUserRepository jpaUserRepository) {
+    public UserPersistenceAdapter(JpaUserRepository jpaUserRepository, JdbcUserRepository jdbcUserRepository) {
         this.jpaUserRepository = jpaUserRepository;
+        this.jdbcUserRepository = jdbcUserRepository;
     }
 
     @Override
     public User save(User user) {
-        UserEntity entity;
-        
-        // Check if it's a new entity (not in database) or existing
-        if (user.getId() != null && jpaUserRepository.existsById(user.getId())) {
-            // Update existing entity
-            entity = UserMapper.toEntity(user);
-        } else {
-            // Create new entity without ID (let JPA generate it)
-            entity = new UserEntity();
+        // A null version means the user was never persisted: a single INSERT, no existence check.
+        // The id assigned by the domain is kept; ids are time-ordered so inserts append to the index.
+        if (user.getVersion() == null) {
+            UserEntity entity = new UserEntity();
+            entity.setId(user.getId() != null ? user.getId() : UuidV7.generate());
             entity.setUsername(user.getUsername());
             entity.setEmail(user.getEmail());
             entity.setPassword(user.getPassword());
+            return UserMapper.toDomain(jpaUserRepository.save(entity));
         }
-        
-        UserEntity savedEntity = jpaUserRepository.save(entity);
-        return UserMapper.toDomain(savedEntity);
+
+        // Existing user: one conditional UPDATE that doubles as the optimistic lock check
+        boolean updated = jdbcUserRepository.updateIfVersionMatches(
+                user.getId(),
+                user.getVersion(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getPassword()
+        );
+        if (!updated) {
+            throw new ConcurrentUpdateException("User", user.getId());
+        }
+
+        UserEntity entity = UserMapper.toEntity(user);
+        entity.setVersion(user.getVersion() + 1);
+        return UserMapper.toDomain(entity);
     }
 
     @Override
@@ -3,23 +3,31 @@ package com.riwi.assesment.infrastructure.adapter.out.persistence.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.springframework.data.domain.Persistable;
+
+import com.riwi.assesment.domain.model.UuidV7;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 /**
  * JPA Entity for Audit Log.
  * Stores audit trail for business operations.
+ * Ids are assigned on construction (time-ordered UUIDv7); Persistable tells Spring Data
+ * the row is new so save() issues a plain INSERT instead of a merge SELECT first.
+ * The table is range-partitioned by created_at (see AuditLogPartitionMaintainer); the database
+ * primary key is (id, created_at), the id alone is unique because it is a UUIDv7.
  */
 @Entity
 @Table(name = "audit_logs")
-public class AuditLogEntity {
+public class AuditLogEntity implements Persistable<UUID> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false)
@@ -34,18 +42,34 @@ public class AuditLogEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    private boolean isNew = true;
+
     public AuditLogEntity() {
         this.createdAt = LocalDateTime.now();
     }
 
     public AuditLogEntity(String action, UUID entityId, UUID userId) {
+        this.id = UuidV7.generate();
         this.action = action;
         this.entityId = entityId;
         this.userId = userId;
         this.createdAt = LocalDateTime.now();
     }
 
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
     // Getters and Setters
+    @Override
     public UUID getId() {
         return id;
     }
@@ -1,30 +1,40 @@
 package com.riwi.assesment.infrastructure.adapter.out.persistence.entity;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLRestriction;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * JPA Entity for Project.
  * This is an infrastructure concern and should not leak into the domain.
  * Uses SQLRestriction for automatic soft delete filtering.
+ * Cached in the second-level cache (see CACHING.md); writes that bypass JPA, such as the task
+ * counter updates in JdbcProjectRepository, evict the entry through EntityCacheEvictor.
  */
 @Entity
 @Table(name = "projects")
 @SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ProjectEntity.CACHE_REGION)
 public class ProjectEntity {
 
+    public static final String CACHE_REGION = "projects";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(name = "owner_id", nullable = false)
@@ -40,15 +50,54 @@ public class ProjectEntity {
     @Column(nullable = false)
     private boolean deleted = false;
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /*
+     * Task counters are maintained by atomic SQL increments on every task write
+     * (see JdbcProjectRepository#adjustTaskCounters), never by entity state,
+     * so JPA must not include them in its INSERT or UPDATE statements.
+     */
+    @Column(name = "total_tasks", nullable = false, insertable = false, updatable = false)
+    private int totalTasks;
+
+    @Column(name = "open_tasks", nullable = false, insertable = false, updatable = false)
+    private int openTasks;
+
+    @Column(name = "completed_tasks", nullable = false, insertable = false, updatable = false)
+    private int completedTasks;
+
+    /**
+     * Optimistic lock version. A null version marks an entity that has never been persisted,
+     * which lets the adapter choose INSERT or UPDATE without querying the database.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public ProjectEntity() {
     }
 
-    public ProjectEntity(UUID id, UUID ownerId, String name, ProjectStatusEntity status, boolean deleted) {
+    public ProjectEntity(UUID id, UUID ownerId, String name, ProjectStatusEntity status, boolean deleted,
+                         LocalDateTime createdAt) {
         this.id = id;
         this.ownerId = ownerId;
         this.name = name;
         this.status = status;
         this.deleted = deleted;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Stamps the creation time used as the keyset pagination sort key.
+     * Truncated to microseconds to match the PostgreSQL TIMESTAMP precision,
+     * so cursors built from in-memory values compare equal to stored ones.
+     */
+    @PrePersist
+    void onPrePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
     }
 
     // Getters and Setters
@@ -91,4 +140,44 @@ public class ProjectEntity {
     public void setDeleted(boolean deleted) {
         this.deleted = deleted;
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(int totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    public int getOpenTasks() {
+        return openTasks;
+    }
+
+    public void setOpenTasks(int openTasks) {
+        this.openTasks = openTasks;
+    }
+
+    public int getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(int completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
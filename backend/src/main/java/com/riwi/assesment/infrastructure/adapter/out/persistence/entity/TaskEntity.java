@@ -1,15 +1,17 @@
 package com.riwi.assesment.infrastructure.adapter.out.persistence.entity;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 import org.hibernate.annotations.SQLRestriction;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * JPA Entity for Task.
@@ -22,7 +24,6 @@ import jakarta.persistence.Table;
 public class TaskEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(name = "project_id", nullable = false)
@@ -37,15 +38,40 @@ public class TaskEntity {
     @Column(nullable = false)
     private boolean deleted = false;
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Optimistic lock version. A null version marks an entity that has never been persisted,
+     * which lets the adapter choose INSERT or UPDATE without querying the database.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public TaskEntity() {
     }
 
-    public TaskEntity(UUID id, UUID projectId, String title, boolean completed, boolean deleted) {
+    public TaskEntity(UUID id, UUID projectId, String title, boolean completed, boolean deleted,
+                      LocalDateTime createdAt) {
         this.id = id;
         this.projectId = projectId;
         this.title = title;
         this.completed = completed;
         this.deleted = deleted;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Stamps the creation time used as the keyset pagination sort key.
+     * Truncated to microseconds to match the PostgreSQL TIMESTAMP precision,
+     * so cursors built from in-memory values compare equal to stored ones.
+     */
+    @PrePersist
+    void onPrePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
     }
 
     // Getters and Setters
@@ -88,4 +114,20 @@ public class TaskEntity {
     public void setDeleted(boolean deleted) {
         this.deleted = deleted;
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
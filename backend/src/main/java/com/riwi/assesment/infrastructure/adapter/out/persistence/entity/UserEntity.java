@@ -2,23 +2,31 @@ package com.riwi.assesment.infrastructure.adapter.out.persistence.entity;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * JPA Entity for User.
  * This is an infrastructure concern and should not leak into the domain.
+ * Cached in the second-level cache (see CACHING.md); updates go through JdbcUserRepository,
+ * which evicts the user it wrote.
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserEntity.CACHE_REGION)
 public class UserEntity {
 
+    public static final String CACHE_REGION = "users";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -30,6 +38,14 @@ public class UserEntity {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * Optimistic lock version. A null version marks an entity that has never been persisted,
+     * which lets the adapter choose INSERT or UPDATE without querying the database.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public UserEntity() {
     }
 
@@ -72,4 +88,12 @@ public class UserEntity {
     public void setPassword(String password) {
         this.password = password;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -24,6 +24,11 @@ public class ProjectMapper {
                 .name(entity.getName())
                 .status(toDomainStatus(entity.getStatus()))
                 .deleted(entity.isDeleted())
+                .createdAt(entity.getCreatedAt())
+                .totalTasks(entity.getTotalTasks())
+                .openTasks(entity.getOpenTasks())
+                .completedTasks(entity.getCompletedTasks())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -31,13 +36,19 @@ public class ProjectMapper {
         if (domain == null) {
             return null;
         }
-        return new ProjectEntity(
+        ProjectEntity entity = new ProjectEntity(
                 domain.getId(),
                 domain.getOwnerId(),
                 domain.getName(),
                 toEntityStatus(domain.getStatus()),
-                domain.isDeleted()
+                domain.isDeleted(),
+                domain.getCreatedAt()
         );
+        entity.setTotalTasks(domain.getTotalTasks());
+        entity.setOpenTasks(domain.getOpenTasks());
+        entity.setCompletedTasks(domain.getCompletedTasks());
+        entity.setVersion(domain.getVersion());
+        return entity;
     }
 
     public static ProjectStatus toDomainStatus(ProjectStatusEntity entityStatus) {
@@ -22,6 +22,8 @@ public class TaskMapper {
                 .title(entity.getTitle())
                 .completed(entity.isCompleted())
                 .deleted(entity.isDeleted())
+                .createdAt(entity.getCreatedAt())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -29,12 +31,15 @@ public class TaskMapper {
         if (domain == null) {
             return null;
         }
-        return new TaskEntity(
+        TaskEntity entity = new TaskEntity(
                 domain.getId(),
                 domain.getProjectId(),
                 domain.getTitle(),
                 domain.isCompleted(),
-                domain.isDeleted()
+                domain.isDeleted(),
+                domain.getCreatedAt()
         );
+        entity.setVersion(domain.getVersion());
+        return entity;
     }
 }
@@ -21,6 +21,7 @@ public class UserMapper {
                 .username(entity.getUsername())
                 .email(entity.getEmail())
                 .password(entity.getPassword())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -28,11 +29,13 @@ public class UserMapper {
         if (domain == null) {
             return null;
         }
-        return new UserEntity(
+        UserEntity entity = new UserEntity(
                 domain.getId(),
                 domain.getUsername(),
                 domain.getEmail(),
                 domain.getPassword()
         );
+        entity.setVersion(domain.getVersion());
+        return entity;
     }
 }
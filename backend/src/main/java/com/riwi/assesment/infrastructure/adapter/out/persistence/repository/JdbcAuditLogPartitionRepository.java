@@ -0,0 +1,96 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC repository for the monthly partitions of audit_logs.
+ * Partitions are named audit_logs_pYYYYMM by the create_audit_log_partition() database function.
+ */
+@Repository
+@Profile("!in-memory")
+public class JdbcAuditLogPartitionRepository {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    static final String FIND_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = CAST('audit_logs' AS regclass)
+            """;
+
+    static final String FIND_DEFAULT_PARTITION_MONTHS = """
+            SELECT DISTINCT CAST(date_trunc('month', created_at) AS date)
+            FROM audit_logs_default
+            """;
+
+    static final String COUNT_DEFAULT_PARTITION_ROWS = "SELECT COUNT(*) FROM audit_logs_default";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAuditLogPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Creates the partition for the given month if it does not exist yet, moving that month's rows
+     * out of the default partition into it.
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.queryForObject("SELECT create_audit_log_partition(?)", String.class, month.atDay(1));
+    }
+
+    /**
+     * Lists the months that currently have an attached monthly partition (the default partition is excluded).
+     */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS, String.class).stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.parse(matcher.group(1), PARTITION_MONTH))
+                .toList();
+    }
+
+    /**
+     * Detaches a month from audit_logs; its rows stay available in a standalone table for archiving.
+     */
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partitionName(month));
+    }
+
+    /**
+     * Drops a month and all of its rows.
+     */
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE " + partitionName(month));
+    }
+
+    /**
+     * Lists the months that have rows in the default partition, i.e. months without a partition of their own.
+     */
+    public List<YearMonth> findDefaultPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_DEFAULT_PARTITION_MONTHS, LocalDate.class).stream()
+                .map(YearMonth::from)
+                .toList();
+    }
+
+    public long countDefaultPartitionRows() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(COUNT_DEFAULT_PARTITION_ROWS, Long.class));
+    }
+
+    // Built from a YearMonth only, so the identifier can never carry user input
+    static String partitionName(YearMonth month) {
+        return "audit_logs_p" + month.format(PARTITION_MONTH);
+    }
+}
@@ -0,0 +1,169 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.riwi.assesment.domain.model.UuidV7;
+
+/**
+ * JDBC repository for the transactional outbox (outbox_events).
+ * Inserts join the caller's transaction; claims lock rows with FOR UPDATE SKIP LOCKED so
+ * several pollers, in one or many instances, take disjoint batches without waiting on each other.
+ */
+@Repository
+@Profile("!in-memory")
+public class JdbcOutboxRepository {
+
+    public static final String AUDIT = "AUDIT";
+    public static final String NOTIFICATION = "NOTIFICATION";
+
+    static final String INSERT = """
+            INSERT INTO outbox_events (id, event_type, action, entity_id, user_id, message, created_at)
+            VALUES (:id, :eventType, :action, :entityId, :userId, :message, :createdAt)
+            """;
+
+    /**
+     * Due events, oldest first. Events that already failed are claimed one at a time
+     * (see OutboxDispatcher), so the retried flag keeps them apart from fresh batches.
+     */
+    static final String CLAIM_DUE = """
+            SELECT id, event_type, action, entity_id, user_id, message, created_at, attempts
+            FROM outbox_events
+            WHERE available_at <= LOCALTIMESTAMP
+              AND (attempts > 0) = :retried
+            ORDER BY available_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    static final String DELETE_BY_IDS = """
+            DELETE FROM outbox_events
+            WHERE id = ANY(CAST(:ids AS UUID[]))
+            """;
+
+    /**
+     * Exponential backoff: base delay doubled per previous attempt, capped at 2^10 times the base.
+     */
+    static final String MARK_FAILED = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1,
+                last_error = :error,
+                available_at = LOCALTIMESTAMP
+                    + make_interval(secs => :baseDelaySeconds * power(2, LEAST(attempts, 10)))
+            WHERE id = ANY(CAST(:ids AS UUID[]))
+            """;
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = JdbcOutboxRepository::mapRow;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcOutboxRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes the events as one JDBC batch in the current transaction.
+     */
+    public void insertAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("id", event.id())
+                        .addValue("eventType", event.eventType())
+                        .addValue("action", event.action())
+                        .addValue("entityId", event.entityId())
+                        .addValue("userId", event.userId())
+                        .addValue("message", event.message())
+                        .addValue("createdAt", event.createdAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    /**
+     * Locks and returns up to limit due events. Must run inside a transaction: the locks, and so the
+     * claim, last until it commits or rolls back.
+     * @param retried true to claim events that failed before, false for events never attempted
+     */
+    public List<OutboxEvent> claimDue(boolean retried, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("retried", retried)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(CLAIM_DUE, params, ROW_MAPPER);
+    }
+
+    /**
+     * Removes delivered events.
+     */
+    public void deleteAll(List<UUID> ids) {
+        jdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", toArray(ids)));
+    }
+
+    /**
+     * Records a failed delivery and postpones the events by an exponentially growing delay.
+     */
+    public void markFailed(List<UUID> ids, String error, Duration baseDelay) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", toArray(ids))
+                .addValue("error", error)
+                .addValue("baseDelaySeconds", baseDelay.toMillis() / 1000.0);
+        jdbcTemplate.update(MARK_FAILED, params);
+    }
+
+    private static String[] toArray(List<UUID> ids) {
+        return ids.stream().map(UUID::toString).toArray(String[]::new);
+    }
+
+    private static OutboxEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxEvent(
+                rs.getObject("id", UUID.class),
+                rs.getString("event_type"),
+                rs.getString("action"),
+                rs.getObject("entity_id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getString("message"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getInt("attempts")
+        );
+    }
+
+    /**
+     * One side effect waiting for delivery: an audit entry (action, entityId, userId)
+     * or a notification (message).
+     */
+    public record OutboxEvent(
+            UUID id,
+            String eventType,
+            String action,
+            UUID entityId,
+            UUID userId,
+            String message,
+            LocalDateTime createdAt,
+            int attempts
+    ) {
+
+        public static OutboxEvent audit(String action, UUID entityId, UUID userId) {
+            return new OutboxEvent(UuidV7.generate(), AUDIT, action, entityId, userId, null, LocalDateTime.now(), 0);
+        }
+
+        public static OutboxEvent notification(String message) {
+            return new OutboxEvent(UuidV7.generate(), NOTIFICATION, null, null, null, message, LocalDateTime.now(), 0);
+        }
+
+        public boolean isAudit() {
+            return AUDIT.equals(eventType);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.EntityCacheEvictor;
+
+/**
+ * JDBC repository for set-based project queries that do not map onto a single entity.
+ * Used where JPA would need one query per project (N+1) or cannot express the SQL.
+ * Writes bypass Hibernate, so they evict the affected projects from the second-level cache.
+ */
+@Repository
+@Profile("!in-memory")
+public class JdbcProjectRepository {
+
+    /**
+     * One row per (project, task) pair; projects without tasks yield a single row with null task columns.
+     * The LATERAL subquery walks idx_tasks_project_created_id per project and stops after the limit.
+     * A null limit means LIMIT ALL.
+     */
+    static final String FIND_WITH_TASKS_BY_OWNER = """
+            SELECT p.id AS p_id, p.owner_id, p.name, p.status, p.created_at AS p_created_at,
+                   p.total_tasks, p.open_tasks, p.completed_tasks, p.version AS p_version,
+                   t.id AS t_id, t.title, t.completed, t.created_at AS t_created_at, t.version AS t_version
+            FROM projects p
+            LEFT JOIN LATERAL (
+                SELECT id, title, completed, created_at, version
+                FROM tasks
+                WHERE project_id = p.id AND deleted = false
+                ORDER BY created_at, id
+                LIMIT CAST(:taskLimit AS BIGINT)
+            ) t ON true
+            WHERE p.owner_id = :ownerId AND p.deleted = false
+            ORDER BY p.created_at, p.id, t.created_at, t.id
+            """;
+
+    static final String FIND_OWNER_ID = """
+            SELECT owner_id FROM projects
+            WHERE id = :projectId AND deleted = false
+            """;
+
+    static final String ADJUST_TASK_COUNTERS = """
+            UPDATE projects
+            SET total_tasks = total_tasks + :totalDelta,
+                open_tasks = open_tasks + :openDelta,
+                completed_tasks = completed_tasks + :completedDelta
+            WHERE id = :projectId
+            """;
+
+    static final String ADD_OPEN_TASKS = """
+            UPDATE projects
+            SET total_tasks = total_tasks + :count,
+                open_tasks = open_tasks + :count
+            WHERE id = :projectId AND deleted = false
+            """;
+
+    /**
+     * Conditional versioned update; returns the deleted flag the row had before, read through
+     * the self-join, so the caller knows whether the project left its owner's pages.
+     */
+    static final String UPDATE_IF_VERSION_MATCHES = """
+            UPDATE projects p
+            SET name = :name, status = :status, deleted = :deleted, version = p.version + 1
+            FROM projects previous
+            WHERE p.id = :id AND p.version = :version AND previous.id = p.id
+            RETURNING previous.deleted
+            """;
+
+    static final String FIND_PROJECT_IDS_AFTER = """
+            SELECT id FROM projects
+            WHERE id > :afterId
+            ORDER BY id
+            LIMIT :batchSize
+            """;
+
+    /**
+     * Locks a batch of projects in id order, so concurrent counter updates on them either committed
+     * before the recount or wait until the reconciliation commits.
+     */
+    static final String LOCK_PROJECTS = """
+            SELECT id FROM projects
+            WHERE id IN (:projectIds)
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    /**
+     * Recomputes the counters of the given projects from the tasks table and rewrites
+     * only the rows that drifted, so in-sync projects are not updated at all.
+     * Must run after LOCK_PROJECTS in the same transaction: under READ COMMITTED an UPDATE that waits
+     * on a row lock re-checks the row but keeps the counts from its own snapshot, and would overwrite
+     * the increment of the writer it waited for.
+     */
+    static final String RECONCILE_TASK_COUNTERS = """
+            WITH actual AS (
+                SELECT p.id,
+                       COUNT(t.id) FILTER (WHERE t.deleted = false) AS total_tasks,
+                       COUNT(t.id) FILTER (WHERE t.deleted = false AND t.completed = false) AS open_tasks,
+                       COUNT(t.id) FILTER (WHERE t.deleted = false AND t.completed = true) AS completed_tasks
+                FROM projects p
+                LEFT JOIN tasks t ON t.project_id = p.id
+                WHERE p.id IN (:projectIds)
+                GROUP BY p.id
+            )
+            UPDATE projects p
+            SET total_tasks = a.total_tasks,
+                open_tasks = a.open_tasks,
+                completed_tasks = a.completed_tasks
+            FROM actual a
+            WHERE p.id = a.id
+              AND (p.total_tasks, p.open_tasks, p.completed_tasks)
+                  IS DISTINCT FROM (a.total_tasks, a.open_tasks, a.completed_tasks)
+            RETURNING p.id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor cacheEvictor;
+
+    public JdbcProjectRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityCacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    // Read-only so it can be served by a read replica when replica routing is enabled
+    @Transactional(readOnly = true)
+    public List<ProjectWithTasks> findWithTasksByOwnerId(UUID ownerId, Integer tasksPerProject) {
+        // Ask for one extra task per project to detect truncation
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ownerId", ownerId)
+                .addValue("taskLimit", tasksPerProject == null ? null : tasksPerProject + 1L);
+
+        Map<UUID, Project> projects = new LinkedHashMap<>();
+        Map<UUID, List<Task>> tasks = new LinkedHashMap<>();
+
+        jdbcTemplate.query(FIND_WITH_TASKS_BY_OWNER, params, (ResultSet rs) -> {
+            UUID projectId = rs.getObject("p_id", UUID.class);
+            if (!projects.containsKey(projectId)) {
+                projects.put(projectId, mapProject(rs, projectId));
+                tasks.put(projectId, new ArrayList<>());
+            }
+            UUID taskId = rs.getObject("t_id", UUID.class);
+            if (taskId != null) {
+                tasks.get(projectId).add(mapTask(rs, taskId, projectId));
+            }
+        });
+
+        List<ProjectWithTasks> result = new ArrayList<>(projects.size());
+        projects.forEach((projectId, project) -> {
+            List<Task> projectTasks = tasks.get(projectId);
+            boolean hasMore = tasksPerProject != null && projectTasks.size() > tasksPerProject;
+            if (hasMore) {
+                projectTasks = projectTasks.subList(0, tasksPerProject);
+            }
+            result.add(new ProjectWithTasks(project, projectTasks, hasMore));
+        });
+        return result;
+    }
+
+    /**
+     * Owner of a live project, reading a single column by primary key.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UUID> findOwnerId(UUID projectId) {
+        return jdbcTemplate.queryForList(FIND_OWNER_ID,
+                new MapSqlParameterSource("projectId", projectId), UUID.class).stream().findFirst();
+    }
+
+    /**
+     * Applies relative changes to a project's task counters in a single atomic UPDATE,
+     * so concurrent task writes never lose increments.
+     */
+    public void adjustTaskCounters(UUID projectId, int totalDelta, int openDelta, int completedDelta) {
+        jdbcTemplate.update(ADJUST_TASK_COUNTERS, new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("totalDelta", totalDelta)
+                .addValue("openDelta", openDelta)
+                .addValue("completedDelta", completedDelta));
+        cacheEvictor.evictProject(projectId);
+    }
+
+    /**
+     * Adds open tasks to the counters of a live project; the deleted = false condition is evaluated
+     * on the locked row, so it sees a delete committed by another instance.
+     * @return false if no live project matched
+     */
+    public boolean addOpenTasks(UUID projectId, int count) {
+        int updated = jdbcTemplate.update(ADD_OPEN_TASKS, new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("count", count));
+        cacheEvictor.evictProject(projectId);
+        return updated == 1;
+    }
+
+    /**
+     * Updates an existing project in a single statement, only if it still has the expected version.
+     * Only this project is evicted from the entity cache, plus the owner pages when it was soft-deleted;
+     * a JPQL bulk update would make Hibernate evict the whole projects region. The project is evicted
+     * on a version mismatch too, so a retry re-reads the row written by another instance.
+     * @return false when the row is gone or was modified concurrently
+     */
+    public boolean updateIfVersionMatches(UUID id, Long version, String name, String status, boolean deleted) {
+        List<Boolean> previouslyDeleted = jdbcTemplate.queryForList(UPDATE_IF_VERSION_MATCHES,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("version", version)
+                        .addValue("name", name)
+                        .addValue("status", status)
+                        .addValue("deleted", deleted), Boolean.class);
+        cacheEvictor.evictProject(id);
+        if (previouslyDeleted.isEmpty()) {
+            return false;
+        }
+        if (previouslyDeleted.get(0) != deleted) {
+            cacheEvictor.evictOwnerPages();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the next batch of project ids in id order, for keyset iteration over all projects.
+     */
+    public List<UUID> findProjectIdsAfter(UUID afterId, int batchSize) {
+        return jdbcTemplate.queryForList(FIND_PROJECT_IDS_AFTER, new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("batchSize", batchSize), UUID.class);
+    }
+
+    /**
+     * Repairs the task counters of the given projects, holding their row locks until the repair commits.
+     * @return the number of projects whose counters had drifted
+     */
+    @Transactional
+    public int reconcileTaskCounters(List<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("projectIds", projectIds);
+        jdbcTemplate.queryForList(LOCK_PROJECTS, params, UUID.class);
+        // A new statement takes a new snapshot, which sees every write that held one of the locks
+        List<UUID> repaired = jdbcTemplate.queryForList(RECONCILE_TASK_COUNTERS, params, UUID.class);
+        cacheEvictor.evictProjects(repaired);
+        return repaired.size();
+    }
+
+    private static Project mapProject(ResultSet rs, UUID projectId) throws SQLException {
+        return Project.builder()
+                .id(projectId)
+                .ownerId(rs.getObject("owner_id", UUID.class))
+                .name(rs.getString("name"))
+                .status(ProjectStatus.valueOf(rs.getString("status")))
+                .deleted(false)
+                .createdAt(rs.getObject("p_created_at", LocalDateTime.class))
+                .totalTasks(rs.getInt("total_tasks"))
+                .openTasks(rs.getInt("open_tasks"))
+                .completedTasks(rs.getInt("completed_tasks"))
+                .version(rs.getLong("p_version"))
+                .build();
+    }
+
+    private static Task mapTask(ResultSet rs, UUID taskId, UUID projectId) throws SQLException {
+        return Task.builder()
+                .id(taskId)
+                .projectId(projectId)
+                .title(rs.getString("title"))
+                .completed(rs.getBoolean("completed"))
+                .deleted(false)
+                .createdAt(rs.getObject("t_created_at", LocalDateTime.class))
+                .version(rs.getLong("t_version"))
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.EntityCacheEvictor;
+
+/**
+ * JDBC repository for set-based task operations.
+ * Id lists are bound as a single uuid[] parameter (= ANY), so every batch size
+ * shares one statement shape and one cached plan.
+ */
+@Repository
+@Profile("!in-memory")
+public class JdbcTaskRepository {
+
+    static final String FIND_WITH_PROJECT_BY_IDS = """
+            SELECT t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version,
+                   p.owner_id, p.name AS project_name, p.status AS project_status,
+                   p.deleted AS project_deleted, p.version AS project_version
+            FROM tasks t
+            JOIN projects p ON p.id = t.project_id
+            WHERE t.id = ANY(CAST(:taskIds AS UUID[]))
+            """;
+
+    static final String COMPLETE_ALL_OWNED_BY = """
+            UPDATE tasks t
+            SET completed = true, version = t.version + 1
+            FROM projects p
+            WHERE t.id = ANY(CAST(:taskIds AS UUID[]))
+              AND t.project_id = p.id
+              AND t.deleted = false
+              AND t.completed = false
+              AND p.owner_id = :ownerId
+              AND p.deleted = false
+              AND p.status = 'ACTIVE'
+            RETURNING t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version
+            """;
+
+    static final String DELETE_ALL_OWNED_BY = """
+            UPDATE tasks t
+            SET deleted = true, version = t.version + 1
+            FROM projects p
+            WHERE t.id = ANY(CAST(:taskIds AS UUID[]))
+              AND t.project_id = p.id
+              AND t.deleted = false
+              AND p.owner_id = :ownerId
+              AND p.deleted = false
+            RETURNING t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version
+            """;
+
+    /**
+     * Conditional completion and counter move as one statement.
+     * The counter CTE only fires when the UPDATE returned a row, so a
+     * failed condition leaves both tables untouched.
+     */
+    static final String COMPLETE_OWNED_BY = """
+            WITH completed AS (
+                UPDATE tasks t
+                SET completed = true, version = t.version + 1
+                FROM projects p
+                WHERE t.id = :taskId
+                  AND (CAST(:expectedVersion AS BIGINT) IS NULL OR t.version = :expectedVersion)
+                  AND t.project_id = p.id
+                  AND t.deleted = false
+                  AND t.completed = false
+                  AND p.owner_id = :ownerId
+                  AND p.deleted = false
+                  AND p.status = 'ACTIVE'
+                RETURNING t.id, t.project_id, t.title, t.completed, t.deleted, t.created_at, t.version
+            ), counters AS (
+                UPDATE projects
+                SET open_tasks = open_tasks - 1, completed_tasks = completed_tasks + 1
+                WHERE id IN (SELECT project_id FROM completed)
+            )
+            SELECT * FROM completed
+            """;
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = (rs, rowNum) -> mapTask(rs);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor cacheEvictor;
+
+    public JdbcTaskRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityCacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    // Read-only so it can be served by a read replica when replica routing is enabled
+    @Transactional(readOnly = true)
+    public List<TaskWithProject> findWithProjectByIds(List<UUID> taskIds) {
+        return jdbcTemplate.query(FIND_WITH_PROJECT_BY_IDS, idsParam(taskIds), (rs, rowNum) ->
+                new TaskWithProject(mapTask(rs), Project.builder()
+                        .id(rs.getObject("project_id", UUID.class))
+                        .ownerId(rs.getObject("owner_id", UUID.class))
+                        .name(rs.getString("project_name"))
+                        .status(ProjectStatus.valueOf(rs.getString("project_status")))
+                        .deleted(rs.getBoolean("project_deleted"))
+                        .version(rs.getLong("project_version"))
+                        .build()));
+    }
+
+    public List<Task> completeAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return jdbcTemplate.query(COMPLETE_ALL_OWNED_BY,
+                idsParam(taskIds).addValue("ownerId", ownerId), TASK_ROW_MAPPER);
+    }
+
+    public Optional<Task> completeOwnedBy(UUID taskId, UUID ownerId, Long expectedVersion) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("taskId", taskId)
+                .addValue("ownerId", ownerId)
+                .addValue("expectedVersion", expectedVersion, Types.BIGINT);
+        Optional<Task> completed = jdbcTemplate.query(COMPLETE_OWNED_BY, params, TASK_ROW_MAPPER)
+                .stream().findFirst();
+        // The statement also moved the project's counters
+        completed.ifPresent(task -> cacheEvictor.evictProject(task.getProjectId()));
+        return completed;
+    }
+
+    public List<Task> deleteAllOwnedBy(List<UUID> taskIds, UUID ownerId) {
+        return jdbcTemplate.query(DELETE_ALL_OWNED_BY,
+                idsParam(taskIds).addValue("ownerId", ownerId), TASK_ROW_MAPPER);
+    }
+
+    private static MapSqlParameterSource idsParam(List<UUID> taskIds) {
+        String[] ids = taskIds.stream().map(UUID::toString).toArray(String[]::new);
+        return new MapSqlParameterSource("taskIds", ids);
+    }
+
+    private static Task mapTask(ResultSet rs) throws SQLException {
+        return Task.builder()
+                .id(rs.getObject("id", UUID.class))
+                .projectId(rs.getObject("project_id", UUID.class))
+                .title(rs.getString("title"))
+                .completed(rs.getBoolean("completed"))
+                .deleted(rs.getBoolean("deleted"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .version(rs.getLong("version"))
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.riwi.assesment.infrastructure.adapter.out.persistence.EntityCacheEvictor;
+
+/**
+ * JDBC repository for user writes that must not go through a JPQL bulk update.
+ * Writes bypass Hibernate, so they evict the affected user from the second-level cache.
+ */
+@Repository
+@Profile("!in-memory")
+public class JdbcUserRepository {
+
+    /**
+     * Conditional versioned update; returns the username the row had before, read through
+     * the self-join, so the caller knows whether cached username lookups went stale.
+     */
+    static final String UPDATE_IF_VERSION_MATCHES = """
+            UPDATE users u
+            SET username = :username, email = :email, password = :password, version = u.version + 1
+            FROM users previous
+            WHERE u.id = :id AND u.version = :version AND previous.id = u.id
+            RETURNING previous.username
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor cacheEvictor;
+
+    public JdbcUserRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityCacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    /**
+     * Updates an existing user in a single statement, only if it still has the expected version.
+     * Only this user is evicted from the entity cache, plus the username lookups when the username
+     * changed; a JPQL bulk update would make Hibernate evict the whole users region. The user is evicted
+     * on a version mismatch too, so a retry re-reads the row written by another instance.
+     * @return false when the row is gone or was modified concurrently
+     */
+    public boolean updateIfVersionMatches(UUID id, Long version, String username, String email, String password) {
+        List<String> previousUsername = jdbcTemplate.queryForList(UPDATE_IF_VERSION_MATCHES,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("version", version)
+                        .addValue("username", username)
+                        .addValue("email", email)
+                        .addValue("password", password), String.class);
+        cacheEvictor.evictUser(id);
+        if (previousUsername.isEmpty()) {
+            return false;
+        }
+        if (!previousUsername.get(0).equals(username)) {
+            cacheEvictor.evictUsernameLookups();
+        }
+        return true;
+    }
+}
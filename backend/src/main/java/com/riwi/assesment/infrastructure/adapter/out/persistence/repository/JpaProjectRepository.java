@@ -1,16 +1,22 @@
 package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.ProjectEntity;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Spring Data JPA Repository for ProjectEntity.
  * Note: @SQLRestriction on entity automatically filters out deleted records.
@@ -19,6 +25,8 @@ import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.ProjectE
 @Repository
 public interface JpaProjectRepository extends JpaRepository<ProjectEntity, UUID> {
 
+    String OWNER_PAGES_CACHE_REGION = "project-owner-pages";
+
     /**
      * Find all projects by owner (automatically excludes deleted due to @SQLRestriction).
      */
@@ -34,4 +42,49 @@ public interface JpaProjectRepository extends JpaRepository<ProjectEntity, UUID>
      */
     @Query(value = "SELECT * FROM projects WHERE id = :id", nativeQuery = true)
     Optional<ProjectEntity> findByIdIncludingDeleted(@Param("id") UUID id);
+
+    /**
+     * First page of an owner's projects in keyset order.
+     * Served by the partial index idx_projects_owner_created_id.
+     * Both owner-page queries are cached as lists of ids in the query cache; the projects table
+     * is declared as their query space so any JPA write to it invalidates the cached pages.
+     */
+    // Read-only so it can be served by a read replica when replica routing is enabled; declared query
+    // methods get no transaction from Spring Data, so without it the page would always read the primary
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = OWNER_PAGES_CACHE_REGION),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects")
+    })
+    @Query(value = """
+            SELECT * FROM projects
+            WHERE owner_id = :ownerId AND deleted = false
+            ORDER BY created_at, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ProjectEntity> findFirstPageByOwnerId(@Param("ownerId") UUID ownerId,
+                                               @Param("limit") int limit);
+
+    /**
+     * Page of an owner's projects strictly after the given (created_at, id) position.
+     * The row comparison lets PostgreSQL seek directly into the index.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = OWNER_PAGES_CACHE_REGION),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects")
+    })
+    @Query(value = """
+            SELECT * FROM projects
+            WHERE owner_id = :ownerId AND deleted = false
+              AND (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ProjectEntity> findPageByOwnerIdAfter(@Param("ownerId") UUID ownerId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               @Param("limit") int limit);
 }
@@ -1,13 +1,16 @@
 package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.TaskEntity;
 
@@ -71,4 +74,53 @@ public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID> {
      */
     @Query("SELECT t FROM TaskEntity t JOIN ProjectEntity p ON t.projectId = p.id WHERE p.ownerId = :ownerId")
     List<TaskEntity> findAllByProjectOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * First page of a project's tasks in keyset order.
+     * Served by the partial index idx_tasks_project_created_id.
+     */
+    // Read-only so it can be served by a read replica (see JpaProjectRepository.findFirstPageByOwnerId)
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT * FROM tasks
+            WHERE project_id = :projectId AND deleted = false
+            ORDER BY created_at, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TaskEntity> findFirstPageByProjectId(@Param("projectId") UUID projectId,
+                                              @Param("limit") int limit);
+
+    /**
+     * Page of a project's tasks strictly after the given (created_at, id) position.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT * FROM tasks
+            WHERE project_id = :projectId AND deleted = false
+              AND (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TaskEntity> findPageByProjectIdAfter(@Param("projectId") UUID projectId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") UUID id,
+                                              @Param("limit") int limit);
+
+    /**
+     * Updates an existing task in a single statement, only if it still has the expected version.
+     * Replaces the SELECT + UPDATE pair a JPA merge would issue.
+     * @return the number of updated rows: 0 when the row is gone or was modified concurrently
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE TaskEntity t
+            SET t.title = :title, t.completed = :completed, t.deleted = :deleted, t.version = t.version + 1
+            WHERE t.id = :id AND t.version = :version
+            """)
+    int updateIfVersionMatches(@Param("id") UUID id,
+                               @Param("version") Long version,
+                               @Param("title") String title,
+                               @Param("completed") boolean completed,
+                               @Param("deleted") boolean deleted);
 }
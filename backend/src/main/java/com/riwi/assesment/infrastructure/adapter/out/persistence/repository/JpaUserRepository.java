@@ -1,7 +1,10 @@
 package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
 
 import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,6 +16,16 @@ import java.util.UUID;
 @Repository
 public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
 
+    String BY_USERNAME_CACHE_REGION = "user-by-username";
+
+    /**
+     * Login lookup. The result (the user id) is kept in the query cache and the user itself in the
+     * entity cache, so a repeated login needs no SQL; any write to users invalidates the cached result.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_USERNAME_CACHE_REGION)
+    })
     Optional<UserEntity> findByUsername(String username);
 
     Optional<UserEntity> findByEmail(String email);
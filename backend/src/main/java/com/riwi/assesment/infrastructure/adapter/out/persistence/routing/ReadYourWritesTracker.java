@@ -0,0 +1,60 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.routing;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Remembers which users wrote recently so their reads can be pinned to the primary.
+ * A replica that is still replaying the user's last commit would otherwise return data
+ * older than what the user just saw acknowledged. The window should exceed the replica
+ * lag tolerated by ReplicaSet. State is per instance: with several backend instances the
+ * load balancer should keep a user on one instance (sticky sessions) for the guarantee to hold.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<UUID, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Records a committed write by the user, pinning their reads to the primary for the window.
+     */
+    public void recordWrite(UUID userId) {
+        pinnedUntil.put(userId, nanoClock.getAsLong() + windowNanos);
+    }
+
+    /**
+     * Whether the user wrote within the window.
+     */
+    public boolean isPinned(UUID userId) {
+        Long until = pinnedUntil.get(userId);
+        return until != null && until - nanoClock.getAsLong() > 0;
+    }
+
+    /**
+     * Forgets users whose window has passed, keeping the map as small as the set of active writers.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.read-your-writes-window:PT5S}")
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    int size() {
+        return pinnedUntil.size();
+    }
+}
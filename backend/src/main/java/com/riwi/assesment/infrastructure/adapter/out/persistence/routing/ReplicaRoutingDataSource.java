@@ -0,0 +1,109 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.routing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DataSource that sends read-only transactions to a read replica and everything else to the primary.
+ * Reads stay on the primary when the user wrote within the read-your-writes window, or when no replica
+ * is within the tolerated lag. Committed read-write transactions pin their user.
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the transaction's read-only flag is only known
+ * once it has begun, so the physical connection has to be chosen at the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicas;
+    private final ReadYourWritesTracker tracker;
+    private final Supplier<UUID> currentUser;
+
+    private final Counter writes;
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+    private final Counter replicaReads;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    ReplicaSet replicas,
+                                    ReadYourWritesTracker tracker,
+                                    Supplier<UUID> currentUser,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.tracker = tracker;
+        this.currentUser = currentUser;
+
+        Map<Object, Object> targets = new HashMap<>(replicas.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.writes = routeCounter(meterRegistry, "write");
+        this.pinnedReads = routeCounter(meterRegistry, "read-pinned");
+        this.fallbackReads = routeCounter(meterRegistry, "read-fallback");
+        this.replicaReads = routeCounter(meterRegistry, "read-replica");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit();
+            writes.increment();
+            return PRIMARY;
+        }
+
+        UUID userId = currentUser.get();
+        if (userId != null && tracker.isPinned(userId)) {
+            pinnedReads.increment();
+            return PRIMARY;
+        }
+
+        return replicas.pick()
+                .<Object>map(replica -> {
+                    replicaReads.increment();
+                    return replica;
+                })
+                .orElseGet(() -> {
+                    fallbackReads.increment();
+                    return PRIMARY;
+                });
+    }
+
+    /**
+     * Pins the current user once the read-write transaction commits. Connections taken outside a
+     * transaction (auto-commit reads) do not pin: every write goes through a transaction.
+     */
+    private void pinAfterCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        UUID userId = currentUser.get();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite(userId);
+            }
+        });
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("datasource.routing")
+                .tag("route", route)
+                .description("Connections routed by the replica-aware DataSource")
+                .register(meterRegistry);
+    }
+}
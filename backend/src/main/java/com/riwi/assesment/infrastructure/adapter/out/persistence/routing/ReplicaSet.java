@@ -0,0 +1,132 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * The read replica pools, with their replication lag.
+ * Each replica is probed periodically; one whose lag exceeds max-lag, or that cannot be reached,
+ * stops receiving reads until it catches up. Healthy replicas are used round-robin.
+ * A database that is not in recovery (a stub pointing at the primary) reports no lag.
+ */
+public class ReplicaSet {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaSet.class);
+
+    /**
+     * Replication lag in seconds: zero when everything received has been replayed (an idle primary
+     * does not advance the replay timestamp), otherwise the age of the last replayed transaction.
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final Map<String, DataSource> dataSources;
+    private final Map<String, JdbcTemplate> probes = new LinkedHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaSet(Map<String, DataSource> dataSources, Duration maxLag, MeterRegistry meterRegistry) {
+        this.dataSources = Map.copyOf(dataSources);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        dataSources.forEach((key, dataSource) -> {
+            JdbcTemplate probe = new JdbcTemplate(dataSource);
+            probe.setQueryTimeout(Math.max(1, (int) maxLag.toSeconds()));
+            probes.put(key, probe);
+            // Unknown until the first probe: no reads are sent to the replica before that
+            lagSeconds.put(key, Double.NaN);
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(key, Double.NaN))
+                    .tag("replica", key)
+                    .baseUnit("seconds")
+                    .description("Replication lag of the read replica; NaN when it cannot be reached")
+                    .register(meterRegistry);
+        });
+    }
+
+    public Map<String, DataSource> dataSources() {
+        return dataSources;
+    }
+
+    /**
+     * Picks the next healthy replica, or none when every replica is lagging or down.
+     */
+    public Optional<String> pick() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval:PT1S}")
+    public void probe() {
+        probes.forEach((key, probe) -> {
+            double lag;
+            try {
+                Double measured = probe.queryForObject(LAG_QUERY, Double.class);
+                lag = measured != null ? measured : Double.NaN;
+            } catch (RuntimeException e) {
+                log.debug("Replica {} is unreachable: {}", key, e.getMessage());
+                lag = Double.NaN;
+            }
+            update(key, lag);
+        });
+    }
+
+    /**
+     * Records a probe result; NaN marks the replica as unreachable.
+     */
+    void update(String key, double lag) {
+        boolean wasHealthy = healthy.contains(key);
+        boolean isHealthy = !Double.isNaN(lag) && lag <= maxLagSeconds;
+        lagSeconds.put(key, lag);
+
+        if (wasHealthy != isHealthy) {
+            List<String> updated = new ArrayList<>();
+            for (String candidate : probes.keySet()) {
+                if (candidate.equals(key) ? isHealthy : healthy.contains(candidate)) {
+                    updated.add(candidate);
+                }
+            }
+            healthy = List.copyOf(updated);
+            if (isHealthy) {
+                log.info("Replica {} is back in rotation (lag {}s)", key, lag);
+            } else {
+                log.warn("Replica {} removed from rotation (lag {}s, max {}s)", key, lag, maxLagSeconds);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
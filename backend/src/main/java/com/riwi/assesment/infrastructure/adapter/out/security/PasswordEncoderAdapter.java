@@ -1,30 +1,165 @@
 package com.riwi.assesment.infrastructure.adapter.out.security;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import com.riwi.assesment.domain.exception.ServiceOverloadedException;
 import com.riwi.assesment.domain.port.out.PasswordEncoderPort;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
 /**
  * Security adapter implementing PasswordEncoderPort.
  * Adapts the domain port to Spring Security's PasswordEncoder.
+ * Hashing is deliberately slow (the BCrypt cost is calibrated at startup, see SecurityConfig), so
+ * encode and matches run on a dedicated pool of threads (one per core by default) with a bounded
+ * queue instead of on the web server's worker threads. When the queue is full, or the result is not
+ * ready within wait-timeout, the call fails fast with ServiceOverloadedException (503 + Retry-After)
+ * rather than piling up requests that would all miss their deadline anyway.
  */
 @Component
 public class PasswordEncoderAdapter implements PasswordEncoderPort {
 
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderAdapter.class);
+
+    static final String ENCODE = "encode";
+    static final String MATCHES = "matches";
+    private static final String RESOURCE = "Password hashing";
+
     private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final long retryAfterSeconds;
+
+    private final Map<String, Timer> hashTimers;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
 
-    public PasswordEncoderAdapter(PasswordEncoder passwordEncoder) {
+    public PasswordEncoderAdapter(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${password-hashing.threads:0}") int threads,
+                                  @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password-hashing.wait-timeout:PT2S}") Duration waitTimeout,
+                                  @Value("${password-hashing.retry-after:PT1S}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("password-hashing.queue-capacity must be positive");
+        }
         this.passwordEncoder = passwordEncoder;
+        this.waitTimeout = waitTimeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimers = Map.of(
+                ENCODE, hashTimer(meterRegistry, ENCODE),
+                MATCHES, hashTimer(meterRegistry, MATCHES));
+        this.queueFullCounter = rejectedCounter(meterRegistry, "queue-full");
+        this.timeoutCounter = rejectedCounter(meterRegistry, "timeout");
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing operations waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing operations currently running")
+                .register(meterRegistry);
     }
 
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return submit(ENCODE, () -> passwordEncoder.encode(rawPassword));
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return submit(MATCHES, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only parses the cost prefix, no hashing involved
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(String operation, Callable<T> hashing) {
+        Timer timer = hashTimers.get(operation);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(hashing));
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new ServiceOverloadedException(RESOURCE, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Drops the task if it is still queued; a hash already running finishes on its own
+            future.cancel(false);
+            executor.purge();
+            timeoutCounter.increment();
+            log.warn("Password {} did not complete within {} ms", operation, waitTimeout.toMillis());
+            throw new ServiceOverloadedException(RESOURCE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password " + operation, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password " + operation + " failed", cause);
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing")
+                .tag("operation", operation)
+                .description("Time spent hashing or verifying one password, excluding queue wait")
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("password.hashing.rejected")
+                .tag("reason", reason)
+                .description("Password hashing operations refused with 503 because the pool was saturated")
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,24 @@
+package com.riwi.assesment.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.riwi.assesment.infrastructure.observability.PortMetricsPostProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Latency of every use case and output port call, published as usecase.executions and port.calls.
+ * Histograms and their bounds are set under management.metrics.distribution in application.yaml.
+ */
+@Configuration
+@ConditionalOnProperty(name = "port-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsConfig {
+
+    @Bean
+    public static PortMetricsPostProcessor portMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortMetricsPostProcessor(meterRegistry);
+    }
+}
@@ -0,0 +1,108 @@
+package com.riwi.assesment.infrastructure.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.routing.ReadYourWritesTracker;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.routing.ReplicaRoutingDataSource;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.routing.ReplicaSet;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read replica routing, enabled with datasource.replicas.enabled.
+ * Replaces the auto-configured DataSource with a routing one: read-only transactions go to
+ * the replicas listed in datasource.replicas.urls, everything else (and Flyway) to the primary
+ * configured under spring.datasource. Replicas use the primary's credentials.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${datasource.replicas.urls:}") String[] urls,
+                                 @Value("${datasource.replicas.pool-size:10}") int poolSize,
+                                 @Value("${datasource.replicas.max-lag:PT2S}") Duration maxLag) {
+        List<String> replicaUrls = Arrays.stream(urls).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (replicaUrls.isEmpty()) {
+            throw new IllegalArgumentException("datasource.replicas.urls must list at least one JDBC URL");
+        }
+
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replicaUrls.get(i));
+            pool.setUsername(properties.determineUsername());
+            pool.setPassword(properties.determinePassword());
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+            pools.put(pool.getPoolName(), pool);
+        }
+        return new ReplicaSet(pools, maxLag, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replicas.read-your-writes-window:PT5S}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaSet replicaSet,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 CurrentUserPort currentUserPort,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicaSet,
+                readYourWritesTracker,
+                () -> currentUserOrNull(currentUserPort),
+                meterRegistry
+        );
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static UUID currentUserOrNull(CurrentUserPort currentUserPort) {
+        try {
+            return currentUserPort.getCurrentUserId();
+        } catch (IllegalStateException e) {
+            // Anonymous requests (login, registration) and background jobs
+            return null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.riwi.assesment.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduler for background maintenance jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,115 @@
+package com.riwi.assesment.infrastructure.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.ProjectEntity;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.entity.UserEntity;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaProjectRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JpaUserRepository;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+/**
+ * Hibernate second-level and query cache, enabled with second-level-cache.enabled.
+ * Regions live in a local Caffeine-backed JCache manager created here, so every region is
+ * bounded by size and time-to-live; Hibernate is told to fail on any region not declared below.
+ * Per-region hit/miss counts are published as cache.gets{cache=region, result=hit|miss}.
+ * See CACHING.md for what is cached and how entries are invalidated.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Hibernate's last-write time per table, used to invalidate cached query results.
+     * Holds one entry per table and must never lose one, so it is not bounded.
+     */
+    static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+
+    static final List<String> BOUNDED_REGIONS = List.of(
+            ProjectEntity.CACHE_REGION,
+            UserEntity.CACHE_REGION,
+            JpaProjectRepository.OWNER_PAGES_CACHE_REGION,
+            JpaUserRepository.BY_USERNAME_CACHE_REGION,
+            DEFAULT_QUERY_REGION);
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager secondLevelCacheManager(
+            @Value("${second-level-cache.max-entries-per-region:10000}") long maxEntries,
+            @Value("${second-level-cache.time-to-live:PT1M}") Duration timeToLive) {
+        // A manager of its own per application context, so test contexts never share regions
+        URI uri = URI.create("hibernate-second-level-cache-" + UUID.randomUUID());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+
+        for (String region : BOUNDED_REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = regionConfiguration();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        cacheManager.createCache(TIMESTAMPS_REGION, regionConfiguration());
+        return cacheManager;
+    }
+
+    /**
+     * Points Hibernate at the cache manager above, or switches caching off when there is none.
+     * Caching is off unless this customizer turns it on (see application.yaml), so slices
+     * that do not load this configuration, such as @DataJpaTest, run uncached.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(ObjectProvider<CacheManager> cacheManager) {
+        return properties -> {
+            CacheManager manager = cacheManager.getIfAvailable();
+            if (manager == null) {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                return;
+            }
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, manager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> secondLevelCacheManager.getCacheNames().forEach(region ->
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(region)));
+    }
+
+    /**
+     * Hibernate caches immutable disassembled state, so entries are stored by reference
+     * (no copy on every read); statistics feed the hit/miss metrics.
+     */
+    private static CaffeineConfiguration<Object, Object> regionConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
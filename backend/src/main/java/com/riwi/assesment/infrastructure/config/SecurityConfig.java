@@ -1,7 +1,14 @@
 package com.riwi.assesment.infrastructure.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -14,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.riwi.assesment.infrastructure.security.BCryptCostCalibrator;
 import com.riwi.assesment.infrastructure.security.JwtAccessDeniedHandler;
 import com.riwi.assesment.infrastructure.security.JwtAuthenticationEntryPoint;
 import com.riwi.assesment.infrastructure.security.JwtAuthenticationFilter;
@@ -39,7 +47,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, Environment environment) throws Exception {
+        // With a dedicated management port, actuator endpoints are not served on the API port at all
+        boolean separateManagementPort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
+
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .exceptionHandling(exception -> exception
@@ -49,31 +60,47 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .authorizeHttpRequests(auth -> auth
-                        // Public endpoints
-                        .requestMatchers("/api/auth/**").permitAll()
-                        // Swagger/OpenAPI
-                        .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
-                        // Actuator health endpoint
-                        .requestMatchers("/actuator/**").permitAll()
-                        // Allow GET requests for reading (optional, can be restricted)
-                        .requestMatchers(HttpMethod.GET, "/api/projects/**").authenticated()
-                        // All write operations require authentication
-                        .requestMatchers(HttpMethod.POST, "/api/**").authenticated()
-                        .requestMatchers(HttpMethod.PUT, "/api/**").authenticated()
-                        .requestMatchers(HttpMethod.PATCH, "/api/**").authenticated()
-                        .requestMatchers(HttpMethod.DELETE, "/api/**").authenticated()
-                        // Any other request
-                        .anyRequest().authenticated()
-                )
+                .authorizeHttpRequests(auth -> {
+                    auth
+                            // Public endpoints
+                            .requestMatchers("/api/auth/**").permitAll()
+                            // Swagger/OpenAPI
+                            .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+                            // Actuator health endpoint, and its probes on the API port
+                            .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                            .requestMatchers("/livez", "/readyz").permitAll();
+                    if (separateManagementPort) {
+                        // Metrics and the Prometheus scrape, reachable only on the management port
+                        auth.requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll();
+                    }
+                    auth
+                            // Allow GET requests for reading (optional, can be restricted)
+                            .requestMatchers(HttpMethod.GET, "/api/projects/**").authenticated()
+                            // All write operations require authentication
+                            .requestMatchers(HttpMethod.POST, "/api/**").authenticated()
+                            .requestMatchers(HttpMethod.PUT, "/api/**").authenticated()
+                            .requestMatchers(HttpMethod.PATCH, "/api/**").authenticated()
+                            .requestMatchers(HttpMethod.DELETE, "/api/**").authenticated()
+                            // Any other request
+                            .anyRequest().authenticated();
+                })
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * BCrypt with an explicit cost, or one calibrated on this host for target-latency when cost is 0.
+     * Stored hashes with a lower cost are re-encoded on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password-hashing.cost:0}") int cost,
+            @Value("${password-hashing.target-latency:PT0.1S}") Duration targetLatency,
+            @Value("${password-hashing.min-cost:10}") int minCost,
+            @Value("${password-hashing.max-cost:14}") int maxCost) {
+        int strength = cost > 0 ? cost : BCryptCostCalibrator.calibrate(targetLatency, minCost, maxCost);
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
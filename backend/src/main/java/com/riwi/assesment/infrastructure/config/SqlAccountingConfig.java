@@ -0,0 +1,52 @@
+package com.riwi.assesment.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.riwi.assesment.infrastructure.observability.SqlAccountingListener;
+import com.riwi.assesment.infrastructure.observability.SqlAccountingReporter;
+import com.riwi.assesment.infrastructure.observability.UseCaseSqlAccountingPostProcessor;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * SQL statement accounting per HTTP request and per use case.
+ * Wraps the application DataSource (the bean named dataSource, which is the routing DataSource when
+ * read replicas are enabled) in a datasource-proxy that feeds SqlAccounting, and the use case beans
+ * in accounting proxies. Flyway's dedicated primary pool is not wrapped.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlAccountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+                    return bean;
+                }
+                SqlAccountingListener listener = new SqlAccountingListener();
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(listener)
+                        .methodListener(listener)
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public static UseCaseSqlAccountingPostProcessor useCaseSqlAccountingPostProcessor(
+            ObjectProvider<SqlAccountingReporter> reporter) {
+        return new UseCaseSqlAccountingPostProcessor(reporter);
+    }
+}
@@ -4,12 +4,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.riwi.assesment.application.service.ActivateProjectService;
+import com.riwi.assesment.application.service.BulkCompleteTasksService;
+import com.riwi.assesment.application.service.BulkCreateTasksService;
+import com.riwi.assesment.application.service.BulkDeleteTasksService;
 import com.riwi.assesment.application.service.CompleteTaskService;
 import com.riwi.assesment.application.service.CreateProjectService;
 import com.riwi.assesment.application.service.CreateTaskService;
 import com.riwi.assesment.application.service.LoginUserService;
 import com.riwi.assesment.application.service.RegisterUserService;
 import com.riwi.assesment.domain.port.in.ActivateProjectUseCase;
+import com.riwi.assesment.domain.port.in.BulkCompleteTasksUseCase;
+import com.riwi.assesment.domain.port.in.BulkCreateTasksUseCase;
+import com.riwi.assesment.domain.port.in.BulkDeleteTasksUseCase;
 import com.riwi.assesment.domain.port.in.CompleteTaskUseCase;
 import com.riwi.assesment.domain.port.in.CreateProjectUseCase;
 import com.riwi.assesment.domain.port.in.CreateTaskUseCase;
@@ -18,10 +24,12 @@ import com.riwi.assesment.domain.port.in.RegisterUserUseCase;
 import com.riwi.assesment.domain.port.out.AuditLogPort;
 import com.riwi.assesment.domain.port.out.CurrentUserPort;
 import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.OwnershipPort;
 import com.riwi.assesment.domain.port.out.PasswordEncoderPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
 import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
 import com.riwi.assesment.domain.port.out.TokenProviderPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
 import com.riwi.assesment.domain.port.out.UserRepositoryPort;
 
 /**
@@ -34,30 +42,34 @@ public class UseCaseConfig {
     @Bean
     public CreateProjectUseCase createProjectUseCase(
             ProjectRepositoryPort projectRepository,
+            OwnershipPort ownershipPort,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         return new CreateProjectService(
                 projectRepository,
+                ownershipPort,
                 currentUserPort,
                 auditLogPort,
-                notificationPort
+                notificationPort,
+                transactionPort
         );
     }
 
     @Bean
     public ActivateProjectUseCase activateProjectUseCase(
             ProjectRepositoryPort projectRepository,
-            TaskRepositoryPort taskRepository,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         return new ActivateProjectService(
                 projectRepository,
-                taskRepository,
                 currentUserPort,
                 auditLogPort,
-                notificationPort
+                notificationPort,
+                transactionPort
         );
     }
 
@@ -65,15 +77,37 @@ public class UseCaseConfig {
     public CreateTaskUseCase createTaskUseCase(
             TaskRepositoryPort taskRepository,
             ProjectRepositoryPort projectRepository,
+            OwnershipPort ownershipPort,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         return new CreateTaskService(
                 taskRepository,
                 projectRepository,
+                ownershipPort,
                 currentUserPort,
                 auditLogPort,
-                notificationPort
+                notificationPort,
+                transactionPort
+        );
+    }
+
+    @Bean
+    public BulkCreateTasksUseCase bulkCreateTasksUseCase(
+            TaskRepositoryPort taskRepository,
+            ProjectRepositoryPort projectRepository,
+            CurrentUserPort currentUserPort,
+            AuditLogPort auditLogPort,
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
+        return new BulkCreateTasksService(
+                taskRepository,
+                projectRepository,
+                currentUserPort,
+                auditLogPort,
+                notificationPort,
+                transactionPort
         );
     }
 
@@ -83,13 +117,51 @@ public class UseCaseConfig {
             ProjectRepositoryPort projectRepository,
             CurrentUserPort currentUserPort,
             AuditLogPort auditLogPort,
-            NotificationPort notificationPort) {
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
         return new CompleteTaskService(
                 taskRepository,
                 projectRepository,
                 currentUserPort,
                 auditLogPort,
-                notificationPort
+                notificationPort,
+                transactionPort
+        );
+    }
+
+    @Bean
+    public BulkCompleteTasksUseCase bulkCompleteTasksUseCase(
+            TaskRepositoryPort taskRepository,
+            ProjectRepositoryPort projectRepository,
+            CurrentUserPort currentUserPort,
+            AuditLogPort auditLogPort,
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
+        return new BulkCompleteTasksService(
+                taskRepository,
+                projectRepository,
+                currentUserPort,
+                auditLogPort,
+                notificationPort,
+                transactionPort
+        );
+    }
+
+    @Bean
+    public BulkDeleteTasksUseCase bulkDeleteTasksUseCase(
+            TaskRepositoryPort taskRepository,
+            ProjectRepositoryPort projectRepository,
+            CurrentUserPort currentUserPort,
+            AuditLogPort auditLogPort,
+            NotificationPort notificationPort,
+            TransactionPort transactionPort) {
+        return new BulkDeleteTasksService(
+                taskRepository,
+                projectRepository,
+                currentUserPort,
+                auditLogPort,
+                notificationPort,
+                transactionPort
         );
     }
 
@@ -98,12 +170,14 @@ public class UseCaseConfig {
             UserRepositoryPort userRepository,
             PasswordEncoderPort passwordEncoder,
             TokenProviderPort tokenProvider,
-            AuditLogPort auditLogPort) {
+            AuditLogPort auditLogPort,
+            TransactionPort transactionPort) {
         return new RegisterUserService(
                 userRepository,
                 passwordEncoder,
                 tokenProvider,
-                auditLogPort
+                auditLogPort,
+                transactionPort
         );
     }
 
@@ -112,12 +186,14 @@ public class UseCaseConfig {
             UserRepositoryPort userRepository,
             PasswordEncoderPort passwordEncoder,
             TokenProviderPort tokenProvider,
-            AuditLogPort auditLogPort) {
+            AuditLogPort auditLogPort,
+            TransactionPort transactionPort) {
         return new LoginUserService(
                 userRepository,
                 passwordEncoder,
                 tokenProvider,
-                auditLogPort
+                auditLogPort,
+                transactionPort
         );
     }
 }
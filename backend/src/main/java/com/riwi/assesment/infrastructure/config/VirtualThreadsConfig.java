@@ -0,0 +1,39 @@
+package com.riwi.assesment.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Reports which threading mode the servlet stack runs in.
+ * spring.threads.virtual.enabled (the virtual-threads profile) is silently ignored by Spring Boot
+ * below Java 21, so a deployment that asked for virtual threads on an older runtime is logged as such.
+ */
+@Configuration
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    static final String ENABLED_PROPERTY = "spring.threads.virtual.enabled";
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> threadingModeReporter(Environment environment) {
+        return event -> {
+            boolean requested = environment.getProperty(ENABLED_PROPERTY, Boolean.class, false);
+            if (Threading.VIRTUAL.isActive(environment)) {
+                log.info("Running on virtual threads (Java {})", JavaVersion.getJavaVersion());
+            } else if (requested) {
+                log.warn("{}=true needs Java 21 or later, running on platform threads (Java {}). Build with -Pjava21",
+                        ENABLED_PROPERTY, JavaVersion.getJavaVersion());
+            } else {
+                log.info("Running on platform threads");
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import com.riwi.assesment.domain.port.in.CreateProjectUseCase;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every call through a port of the domain:
+ * - use cases (beans implementing an interface of domain.port.in) as
+ *   usecase.executions{usecase, outcome, exception}
+ * - adapters (beans implementing an interface of domain.port.out) as
+ *   port.calls{port, method, adapter, outcome, exception}
+ * Use cases are injected by interface and get a JDK proxy. Some adapters are injected by their class
+ * (AuditLogAdapter into the outbox dispatcher, the in-memory adapters into each other), so adapters get a
+ * class-based proxy. A bean that already is a Spring AOP proxy gets the timing advice added in front.
+ *
+ * The tags of every port method are computed when the bean is wrapped and its success timer is kept after
+ * the first call, so a call costs a map lookup, two System.nanoTime reads and one Timer.record (about
+ * 0.2 µs with a Prometheus histogram, see PortMetricsBenchmark). A method that is never called publishes
+ * no series; error timers are looked up when an error occurs.
+ */
+public class PortMetricsPostProcessor implements BeanPostProcessor {
+
+    public static final String USE_CASE_METRIC = "usecase.executions";
+    public static final String PORT_METRIC = "port.calls";
+
+    private static final String USE_CASE_PACKAGE = CreateProjectUseCase.class.getPackageName();
+    private static final String PORT_PACKAGE = ProjectRepositoryPort.class.getPackageName();
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = ClassUtils.getUserClass(AopUtils.getTargetClass(bean));
+        Class<?>[] useCases = portInterfaces(bean, USE_CASE_PACKAGE);
+        Class<?>[] ports = useCases.length == 0 ? portInterfaces(bean, PORT_PACKAGE) : useCases;
+        if (ports.length == 0) {
+            return bean;
+        }
+
+        boolean useCase = useCases.length > 0;
+        MeterRegistry registry = meterRegistry.getObject();
+        Map<Method, TimedMethod> methods = new HashMap<>();
+        for (Class<?> port : ports) {
+            for (Method method : port.getMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                TimedMethod timed = useCase
+                        ? new TimedMethod(registry, USE_CASE_METRIC,
+                                "Time to execute a use case",
+                                Tags.of("usecase", port.getSimpleName()))
+                        : new TimedMethod(registry, PORT_METRIC,
+                                "Time spent in an output port call, adapter included",
+                                Tags.of("port", port.getSimpleName(), "method", method.getName(),
+                                        "adapter", targetClass.getSimpleName()));
+                methods.put(method, timed);
+                methods.put(ClassUtils.getMostSpecificMethod(method, targetClass), timed);
+            }
+        }
+        PortTimingInterceptor interceptor = new PortTimingInterceptor(methods);
+
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        if (useCase || Modifier.isFinal(targetClass.getModifiers()) || Proxy.isProxyClass(bean.getClass())) {
+            factory.setInterfaces(ports);
+        } else {
+            factory.setProxyTargetClass(true);
+        }
+        factory.addAdvice(interceptor);
+        return factory.getProxy(targetClass.getClassLoader());
+    }
+
+    private static Class<?>[] portInterfaces(Object bean, String packageName) {
+        return Arrays.stream(ClassUtils.getAllInterfaces(bean))
+                .filter(type -> type.getPackageName().equals(packageName))
+                .toArray(Class<?>[]::new);
+    }
+
+    /**
+     * Times the calls of port methods and lets every other method through untouched.
+     */
+    private static final class PortTimingInterceptor implements MethodInterceptor {
+
+        private final Map<Method, TimedMethod> methods;
+
+        private PortTimingInterceptor(Map<Method, TimedMethod> methods) {
+            this.methods = methods;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            TimedMethod timed = methods.get(invocation.getMethod());
+            if (timed == null) {
+                return invocation.proceed();
+            }
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                timed.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                timed.error(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * The timers of one port method: success is registered on the first call and kept, errors are looked
+     * up per exception type.
+     */
+    private static final class TimedMethod {
+
+        private final MeterRegistry meterRegistry;
+        private final String name;
+        private final String description;
+        private final Tags tags;
+        // Racing first calls register the same timer, the registry returns the existing one
+        private volatile Timer success;
+
+        private TimedMethod(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+            this.meterRegistry = meterRegistry;
+            this.name = name;
+            this.description = description;
+            this.tags = tags;
+        }
+
+        private Timer success() {
+            Timer timer = success;
+            if (timer == null) {
+                timer = timer("success", "none");
+                success = timer;
+            }
+            return timer;
+        }
+
+        private Timer error(Throwable e) {
+            return timer("error", e.getClass().getSimpleName());
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(name)
+                    .tags(tags)
+                    .tags("outcome", outcome, "exception", exception)
+                    .description(description)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-thread SQL statement accounting.
+ * A scope is opened around a unit of work (an HTTP request, a use case, a test); every statement
+ * executed by the thread while it is open is added to it and to every enclosing scope.
+ * Statements run by other threads (schedulers, the outbox dispatcher) are not attributed.
+ */
+public final class SqlAccounting {
+
+    // Only threads with an open scope hold a deque, so untracked threads pay a single null check
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+
+    private SqlAccounting() {
+        // Utility class
+    }
+
+    /**
+     * Opens a scope on the current thread; close it (try-with-resources) in the same thread.
+     */
+    public static Scope open() {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        Scope scope = new Scope();
+        scopes.push(scope);
+        return scope;
+    }
+
+    static void recordStatement(String sql, long elapsedNanos, long affectedRows) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        for (Scope scope : scopes) {
+            scope.statements++;
+            scope.rows += affectedRows;
+            scope.nanos += elapsedNanos;
+            scope.executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void recordRow() {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        for (Scope scope : scopes) {
+            scope.rows++;
+        }
+    }
+
+    /**
+     * Statement, row and time totals of one unit of work.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private int statements;
+        private long rows;
+        private long nanos;
+        // Keyed by SQL text: prepared statements carry placeholders, so repeats of one query share a key
+        private final Map<String, Integer> executions = new LinkedHashMap<>();
+        private boolean closed;
+
+        private Scope() {
+        }
+
+        /**
+         * Number of statements executed (a JDBC batch counts once).
+         */
+        public int statements() {
+            return statements;
+        }
+
+        /**
+         * Rows read through result sets plus rows reported as affected by updates.
+         */
+        public long rows() {
+            return rows;
+        }
+
+        /**
+         * Time spent executing statements, as seen by the driver.
+         */
+        public Duration dbTime() {
+            return Duration.ofNanos(nanos);
+        }
+
+        /**
+         * Each distinct SQL text with the number of times it ran, in first-execution order.
+         */
+        public Map<String, Integer> executions() {
+            return Map.copyOf(executions);
+        }
+
+        /**
+         * SQL texts that ran at least threshold times: the signature of an N+1 access pattern.
+         */
+        public List<String> repeatedStatements(int threshold) {
+            return executions.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Deque<Scope> scopes = SCOPES.get();
+            if (scopes == null) {
+                return;
+            }
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Opens an SqlAccounting scope around every HTTP request, outside the security filters,
+ * and reports it under the matched route template (e.g. "GET /api/projects/{id}").
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    private final SqlAccountingReporter reporter;
+
+    public SqlAccountingFilter(SqlAccountingReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlAccounting.Scope scope = SqlAccounting.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            reporter.report(SqlAccountingReporter.HTTP, routeOf(request), scope);
+        }
+    }
+
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Unmatched paths share one name to keep metric cardinality bounded
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+}
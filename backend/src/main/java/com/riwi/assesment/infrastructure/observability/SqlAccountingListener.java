@@ -0,0 +1,72 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * datasource-proxy listener feeding SqlAccounting.
+ * Statements are timed here with nanosecond precision (the proxy reports milliseconds);
+ * rows are counted as result sets are iterated and from update counts.
+ */
+public class SqlAccountingListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START = SqlAccountingListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        long elapsed = start != null ? System.nanoTime() - start : 0L;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        SqlAccounting.recordStatement(sql, elapsed, affectedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        // Nothing to do before the call
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlAccounting.recordRow();
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        if (result instanceof long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        // Result sets are counted row by row as they are read
+        return 0L;
+    }
+}
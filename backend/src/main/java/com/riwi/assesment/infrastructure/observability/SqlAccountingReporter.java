@@ -0,0 +1,76 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes the totals of a closed SqlAccounting scope as metrics, and as a DEBUG log line.
+ * Metrics are tagged with the kind of scope (http, use_case) and its name (route template or use case),
+ * so the cardinality is bounded by the number of endpoints and use cases.
+ * A statement repeated n-plus-one-threshold times within one scope is logged at WARN as a probable N+1.
+ */
+@Component
+@ConditionalOnProperty(name = "sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingReporter {
+
+    public static final String HTTP = "http";
+    public static final String USE_CASE = "use_case";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlAccountingReporter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public SqlAccountingReporter(MeterRegistry meterRegistry,
+                                 @Value("${sql-accounting.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public void report(String kind, String name, SqlAccounting.Scope scope) {
+        DistributionSummary.builder("sql.statements")
+                .tags("kind", kind, "name", name)
+                .description("SQL statements executed per unit of work")
+                .register(meterRegistry)
+                .record(scope.statements());
+        DistributionSummary.builder("sql.rows")
+                .tags("kind", kind, "name", name)
+                .description("Rows read or written per unit of work")
+                .register(meterRegistry)
+                .record(scope.rows());
+        Timer.builder("sql.time")
+                .tags("kind", kind, "name", name)
+                .description("Time spent in SQL statements per unit of work")
+                .register(meterRegistry)
+                .record(scope.dbTime());
+
+        List<String> repeated = scope.repeatedStatements(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("sql.n_plus_one")
+                    .tags("kind", kind, "name", name)
+                    .description("Units of work that repeated one statement n-plus-one-threshold times or more")
+                    .register(meterRegistry)
+                    .increment();
+            for (String sql : repeated) {
+                log.warn("Possible N+1 in {} '{}': executed {} times: {}",
+                        kind, name, scope.executions().get(sql), sql);
+            }
+        }
+
+        // Per-unit summaries are for local debugging; the meters above carry them in production
+        if (log.isDebugEnabled()) {
+            log.debug("SQL for {} {}: statements={}, rows={}, time={}ms",
+                    kind, name, scope.statements(), scope.rows(), scope.dbTime().toNanos() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import com.riwi.assesment.domain.port.in.CreateProjectUseCase;
+
+/**
+ * Wraps every use case bean (any bean implementing an interface of domain.port.in) in a proxy that
+ * opens an SqlAccounting scope per invocation and reports it under the use case interface name.
+ * A JDK proxy keeps the application services free of framework annotations.
+ */
+public class UseCaseSqlAccountingPostProcessor implements BeanPostProcessor {
+
+    private static final String USE_CASE_PACKAGE = CreateProjectUseCase.class.getPackageName();
+
+    private final ObjectProvider<SqlAccountingReporter> reporter;
+
+    public UseCaseSqlAccountingPostProcessor(ObjectProvider<SqlAccountingReporter> reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?>[] useCases = Arrays.stream(ClassUtils.getAllInterfaces(bean))
+                .filter(type -> type.getPackageName().equals(USE_CASE_PACKAGE))
+                .toArray(Class<?>[]::new);
+        if (useCases.length == 0) {
+            return bean;
+        }
+
+        String name = useCases[0].getSimpleName();
+        return Proxy.newProxyInstance(bean.getClass().getClassLoader(), useCases, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return invoke(bean, method, args);
+            }
+            SqlAccounting.Scope scope = SqlAccounting.open();
+            try {
+                return invoke(bean, method, args);
+            } finally {
+                scope.close();
+                reporter.getObject().report(SqlAccountingReporter.USE_CASE, name, scope);
+            }
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
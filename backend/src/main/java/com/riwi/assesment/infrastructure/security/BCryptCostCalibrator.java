@@ -0,0 +1,65 @@
+package com.riwi.assesment.infrastructure.security;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Picks the BCrypt cost for a target hashing latency on the current host.
+ * A few hashes are timed at a cheap probe cost and the median is extrapolated: every extra cost
+ * round doubles the work, so the chosen cost is the highest one whose estimated time stays within
+ * the target, clamped to [minCost, maxCost].
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    static final int PROBE_COST = 8;
+    private static final int PROBE_ROUNDS = 5;
+    private static final String PROBE_PASSWORD = "calibration-probe";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        // One untimed hash first so class loading and JIT warm-up do not count
+        BCrypt.hashpw(PROBE_PASSWORD, BCrypt.gensalt(PROBE_COST));
+        Duration probe = measure(PROBE_COST, PROBE_ROUNDS, System::nanoTime);
+        int cost = costFor(target, probe, PROBE_COST, minCost, maxCost);
+        log.info("BCrypt cost {} selected: cost {} took {} ms (median of {}), target {} ms",
+                cost, PROBE_COST, probe.toMillis(), PROBE_ROUNDS, target.toMillis());
+        return cost;
+    }
+
+    /**
+     * Median time of one hash at the given cost.
+     */
+    static Duration measure(int cost, int rounds, LongSupplier nanoClock) {
+        long[] samples = new long[rounds];
+        for (int i = 0; i < rounds; i++) {
+            String salt = BCrypt.gensalt(cost);
+            long start = nanoClock.getAsLong();
+            BCrypt.hashpw(PROBE_PASSWORD, salt);
+            samples[i] = nanoClock.getAsLong() - start;
+        }
+        Arrays.sort(samples);
+        return Duration.ofNanos(samples[rounds / 2]);
+    }
+
+    static int costFor(Duration target, Duration probe, int probeCost, int minCost, int maxCost) {
+        if (minCost < 4 || maxCost > 31 || minCost > maxCost) {
+            throw new IllegalArgumentException("BCrypt cost bounds must satisfy 4 <= min-cost <= max-cost <= 31");
+        }
+        if (target.isNegative() || target.isZero()) {
+            return minCost;
+        }
+        // Highest cost c with probe * 2^(c - probeCost) <= target
+        double ratio = (double) target.toNanos() / Math.max(1, probe.toNanos());
+        int cost = probeCost + (int) Math.floor(Math.log(ratio) / Math.log(2));
+        return Math.max(minCost, Math.min(maxCost, cost));
+    }
+}
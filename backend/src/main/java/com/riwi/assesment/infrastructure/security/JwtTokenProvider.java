@@ -1,7 +1,9 @@
 package com.riwi.assesment.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,15 +16,23 @@ import java.util.function.Function;
 
 /**
  * Utility class for JWT token operations.
+ * The signing key and the parser are built once; both are immutable and thread-safe.
  */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+    }
 
     /**
      * Generates a JWT token for the given user ID.
@@ -36,10 +46,27 @@ public class JwtTokenProvider {
                 .claim("username", username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry and extracts every claim the application uses, in one parse.
+     * @throws io.jsonwebtoken.JwtException if the token is expired, malformed or wrongly signed
+     * @throws IllegalArgumentException if the token is empty or its subject is not a user id
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token has no subject or expiration");
+        }
+        return new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                claims.get("username", String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
     /**
      * Extracts the user ID from the token.
      */
@@ -60,10 +87,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
@@ -84,15 +108,6 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,17 @@
+package com.riwi.assesment.infrastructure.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The claims of a JWT whose signature has been verified.
+ * @param userId the token subject
+ * @param username the username claim
+ * @param expiresAt the exp claim; the token must not be accepted at or after this instant
+ */
+public record VerifiedToken(UUID userId, String username, Instant expiresAt) {
+
+    public boolean isExpiredAt(long epochMillis) {
+        return expiresAt.toEpochMilli() <= epochMillis;
+    }
+}
@@ -0,0 +1,160 @@
+package com.riwi.assesment.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of verified JWT claims, so a client sending the same token on every request pays for
+ * signature verification and JSON parsing once instead of per request.
+ * Entries are keyed by the SHA-256 of the token (the token itself is never kept), hold only tokens that
+ * verified successfully, and expire with the token's own exp claim; an expired entry is never returned
+ * even before it is evicted. Once max-entries is reached, Caffeine evicts the entries least likely to be
+ * used again (by recency and frequency), so a burst of one-off tokens cannot flush the active sessions.
+ * Hit/miss counts are published as cache.gets{cache=jwt-claims, result=hit|miss}, and the verification
+ * done on a miss as jwt.verification{result=valid|invalid}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "jwt-claims";
+
+    private final Function<String, VerifiedToken> verifier;
+    private final LongSupplier currentTimeMillis;
+    private final Cache<TokenHash, VerifiedToken> cache;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    @Autowired
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.claims-cache.max-entries:10000}") long maxEntries) {
+        this(jwtTokenProvider::verify, meterRegistry, maxEntries, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(Function<String, VerifiedToken> verifier,
+                       MeterRegistry meterRegistry,
+                       long maxEntries,
+                       LongSupplier currentTimeMillis) {
+        this.verifier = verifier;
+        this.currentTimeMillis = currentTimeMillis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.validTimer = verificationTimer(meterRegistry, "valid");
+        this.invalidTimer = verificationTimer(meterRegistry, "invalid");
+    }
+
+    /**
+     * Returns the verified claims of the token, from the cache or by verifying it now.
+     * @return empty if the token is expired, malformed or wrongly signed
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        TokenHash key = TokenHash.of(token);
+        long now = currentTimeMillis.getAsLong();
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpiredAt(now)) {
+                return Optional.of(cached);
+            }
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+
+        VerifiedToken verified;
+        long start = System.nanoTime();
+        try {
+            verified = verifier.apply(token);
+            validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.empty();
+        }
+        if (verified.isExpiredAt(now)) {
+            return Optional.empty();
+        }
+        cache.put(key, verified);
+        return Optional.of(verified);
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .tag("result", result)
+                .description("Time to verify a token's signature and parse its claims on a cache miss")
+                .register(meterRegistry);
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Time-to-live of each entry is the time left until the token's exp claim.
+     */
+    private final class UntilTokenExpiry implements Expiry<TokenHash, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenHash key, VerifiedToken value, long currentTime) {
+            long millisLeft = value.expiresAt().toEpochMilli() - currentTimeMillis.getAsLong();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millisLeft));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenHash key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenHash key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * SHA-256 of a token as four longs: a compact key with cheap equals and hashCode.
+     */
+    record TokenHash(long h0, long h1, long h2, long h3) {
+
+        static TokenHash of(String token) {
+            byte[] digest = sha256().digest(token.getBytes(StandardCharsets.UTF_8));
+            return new TokenHash(toLong(digest, 0), toLong(digest, 8), toLong(digest, 16), toLong(digest, 24));
+        }
+
+        private static long toLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = offset; i < offset + 8; i++) {
+                value = (value << 8) | (bytes[i] & 0xFF);
+            }
+            return value;
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+            }
+        }
+    }
+}
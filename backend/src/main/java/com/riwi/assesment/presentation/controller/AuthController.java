@@ -87,6 +87,26 @@ public class AuthController {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Password hashing capacity exhausted - retry after the Retry-After header",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            examples = @ExampleObject(
+                                    name = "Service Unavailable",
+                                    value = """
+                                            {
+                                              "type": "https://api.projectmanager.com/errors/service-unavailable",
+                                              "title": "Service Unavailable",
+                                              "status": 503,
+                                              "detail": "Password hashing is at capacity, please retry later",
+                                              "instance": "/api/auth/register",
+                                              "timestamp": "2025-01-15T10:30:00Z"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -170,6 +190,26 @@ public class AuthController {
                                             """
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Password hashing capacity exhausted - retry after the Retry-After header",
+                    content = @Content(
+                            mediaType = "application/problem+json",
+                            examples = @ExampleObject(
+                                    name = "Service Unavailable",
+                                    value = """
+                                            {
+                                              "type": "https://api.projectmanager.com/errors/service-unavailable",
+                                              "title": "Service Unavailable",
+                                              "status": 503,
+                                              "detail": "Password hashing is at capacity, please retry later",
+                                              "instance": "/api/auth/login",
+                                              "timestamp": "2025-01-15T10:30:00Z"
+                                            }
+                                            """
+                            )
+                    )
             )
     })
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -0,0 +1,109 @@
+package com.riwi.assesment.presentation.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.presentation.dto.DashboardResponse;
+import com.riwi.assesment.presentation.support.CursorCodec;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * REST Controller for the dashboard read model.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Dashboard", description = "Aggregated read endpoints for the UI. All endpoints require JWT authentication.")
+@SecurityRequirement(name = "bearerAuth")
+public class DashboardController {
+
+    private final ProjectRepositoryPort projectRepository;
+    private final CurrentUserPort currentUserPort;
+
+    public DashboardController(ProjectRepositoryPort projectRepository,
+                               CurrentUserPort currentUserPort) {
+        this.projectRepository = projectRepository;
+        this.currentUserPort = currentUserPort;
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get dashboard",
+            description = """
+                    Retrieves all non-deleted projects of the authenticated user together with their tasks
+                    in a single request, backed by a single database query.
+                    
+                    Each project carries at most `tasksPerProject` tasks (50 when omitted, capped at 200);
+                    `hasMoreTasks` tells whether the rest must be fetched from `GET /api/projects/{projectId}/tasks`.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Projects with their tasks",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = DashboardResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Dashboard",
+                                    value = """
+                                            {
+                                              "projects": [
+                                                {
+                                                  "project": {
+                                                    "id": "550e8400-e29b-41d4-a716-446655440000",
+                                                    "ownerId": "660e8400-e29b-41d4-a716-446655440001",
+                                                    "name": "Website Redesign",
+                                                    "status": "ACTIVE",
+                                                    "deleted": false,
+                                                    "createdAt": "2025-01-15T10:30:00"
+                                                  },
+                                                  "tasks": [
+                                                    {
+                                                      "id": "770e8400-e29b-41d4-a716-446655440002",
+                                                      "projectId": "550e8400-e29b-41d4-a716-446655440000",
+                                                      "title": "Design homepage mockup",
+                                                      "completed": false,
+                                                      "deleted": false,
+                                                      "createdAt": "2025-01-15T11:00:00"
+                                                    }
+                                                  ],
+                                                  "hasMoreTasks": false
+                                                }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid tasksPerProject", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @Parameter(description = "Maximum tasks per project (default 50, capped at 200)", example = "20")
+            @RequestParam(required = false) Integer tasksPerProject) {
+        UUID currentUserId = currentUserPort.getCurrentUserId();
+        int taskLimit = CursorCodec.pageSize(tasksPerProject);
+
+        List<ProjectWithTasks> projects = projectRepository.findWithTasksByOwnerId(currentUserId, taskLimit);
+
+        return ResponseEntity.ok(DashboardResponse.fromDomain(projects));
+    }
+}
@@ -3,6 +3,7 @@ package com.riwi.assesment.presentation.controller;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,22 +12,33 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.riwi.assesment.domain.exception.VersionMismatchException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.PageCursor;
 import com.riwi.assesment.domain.model.Project;
 import com.riwi.assesment.domain.model.Task;
 import com.riwi.assesment.domain.port.in.ActivateProjectUseCase;
+import com.riwi.assesment.domain.port.in.BulkCreateTasksUseCase;
 import com.riwi.assesment.domain.port.in.CreateProjectUseCase;
 import com.riwi.assesment.domain.port.in.CreateTaskUseCase;
 import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.OwnershipPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
 import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.presentation.dto.BulkCreateTasksRequest;
 import com.riwi.assesment.presentation.dto.CreateProjectRequest;
 import com.riwi.assesment.presentation.dto.CreateTaskRequest;
+import com.riwi.assesment.presentation.dto.PageResponse;
 import com.riwi.assesment.presentation.dto.ProblemDetails;
 import com.riwi.assesment.presentation.dto.ProjectResponse;
 import com.riwi.assesment.presentation.dto.TaskResponse;
+import com.riwi.assesment.presentation.support.CursorCodec;
+import com.riwi.assesment.presentation.support.ETags;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -52,20 +64,26 @@ public class ProjectController {
     private final CreateProjectUseCase createProjectUseCase;
     private final ActivateProjectUseCase activateProjectUseCase;
     private final CreateTaskUseCase createTaskUseCase;
+    private final BulkCreateTasksUseCase bulkCreateTasksUseCase;
     private final ProjectRepositoryPort projectRepository;
+    private final OwnershipPort ownershipPort;
     private final TaskRepositoryPort taskRepository;
     private final CurrentUserPort currentUserPort;
 
     public ProjectController(CreateProjectUseCase createProjectUseCase,
                              ActivateProjectUseCase activateProjectUseCase,
                              CreateTaskUseCase createTaskUseCase,
+                             BulkCreateTasksUseCase bulkCreateTasksUseCase,
                              ProjectRepositoryPort projectRepository,
+                             OwnershipPort ownershipPort,
                              TaskRepositoryPort taskRepository,
                              CurrentUserPort currentUserPort) {
         this.createProjectUseCase = createProjectUseCase;
         this.activateProjectUseCase = activateProjectUseCase;
         this.createTaskUseCase = createTaskUseCase;
+        this.bulkCreateTasksUseCase = bulkCreateTasksUseCase;
         this.projectRepository = projectRepository;
+        this.ownershipPort = ownershipPort;
         this.taskRepository = taskRepository;
         this.currentUserPort = currentUserPort;
     }
@@ -131,50 +149,56 @@ public class ProjectController {
 
     @GetMapping
     @Operation(
-            summary = "Get all projects",
-            description = "Retrieves all non-deleted projects owned by the authenticated user."
+            summary = "Get projects",
+            description = """
+                    Retrieves the non-deleted projects owned by the authenticated user, oldest first.
+                    
+                    Results are paginated with an opaque cursor: pass the `nextCursor` of a page as `cursor`
+                    to fetch the next one. Every page costs the same regardless of its position.
+                    """
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "List of projects",
+                    description = "Page of projects",
                     content = @Content(
                             mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = ProjectResponse.class)),
+                            schema = @Schema(implementation = PageResponse.class),
                             examples = @ExampleObject(
-                                    name = "Project List",
+                                    name = "Project Page",
                                     value = """
-                                            [
-                                              {
-                                                "id": "550e8400-e29b-41d4-a716-446655440000",
-                                                "name": "Website Redesign",
-                                                "status": "ACTIVE",
-                                                "taskCount": 3,
-                                                "createdAt": "2025-01-15T10:30:00Z"
-                                              },
-                                              {
-                                                "id": "660e8400-e29b-41d4-a716-446655440001",
-                                                "name": "Mobile App",
-                                                "status": "PLANNING",
-                                                "taskCount": 0,
-                                                "createdAt": "2025-01-16T09:00:00Z"
-                                              }
-                                            ]
+                                            {
+                                              "items": [
+                                                {
+                                                  "id": "550e8400-e29b-41d4-a716-446655440000",
+                                                  "ownerId": "660e8400-e29b-41d4-a716-446655440001",
+                                                  "name": "Website Redesign",
+                                                  "status": "ACTIVE",
+                                                  "deleted": false,
+                                                  "createdAt": "2025-01-15T10:30:00"
+                                                }
+                                              ],
+                                              "nextCursor": "MjAyNS0wMS0xNVQxMDozMDp8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw",
+                                              "hasMore": true
+                                            }
                                             """
                             )
                     )
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size", content = @Content(mediaType = "application/problem+json")),
             @ApiResponse(responseCode = "401", description = "Authentication required")
     })
-    public ResponseEntity<List<ProjectResponse>> getProjects() {
+    public ResponseEntity<PageResponse<ProjectResponse>> getProjects(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 50, capped at 200)", example = "50")
+            @RequestParam(required = false) Integer limit) {
         UUID currentUserId = currentUserPort.getCurrentUserId();
-        
-        List<ProjectResponse> projects = projectRepository.findByOwnerIdAndDeletedFalse(currentUserId)
-                .stream()
-                .map(ProjectResponse::fromDomain)
-                .toList();
 
-        return ResponseEntity.ok(projects);
+        CursorPage<Project> page = projectRepository.findPageByOwnerId(
+                currentUserId, CursorCodec.decode(cursor), CursorCodec.pageSize(limit));
+
+        return ResponseEntity.ok(PageResponse.fromDomain(page, ProjectResponse::fromDomain));
     }
 
     @GetMapping("/{id}")
@@ -201,7 +225,9 @@ public class ProjectController {
         return projectRepository.findById(id)
                 .filter(project -> !project.isDeleted())
                 .filter(project -> project.isOwnedBy(currentUserPort.getCurrentUserId()))
-                .map(project -> ResponseEntity.ok(ProjectResponse.fromDomain(project)))
+                .map(project -> ResponseEntity.ok()
+                        .eTag(ETags.of(project))
+                        .body(ProjectResponse.fromDomain(project)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -258,17 +284,23 @@ public class ProjectController {
                     )
             ),
             @ApiResponse(responseCode = "404", description = "Project not found"),
+            @ApiResponse(responseCode = "409", description = "Project kept being modified concurrently", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current project version", content = @Content(mediaType = "application/problem+json")),
             @ApiResponse(responseCode = "401", description = "Authentication required")
     })
     public ResponseEntity<ProjectResponse> activateProject(
             @Parameter(description = "Project UUID", example = "550e8400-e29b-41d4-a716-446655440000", required = true)
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the project as last read; the request fails with 412 if the project version changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         ActivateProjectUseCase.ActivateProjectCommand command =
-                new ActivateProjectUseCase.ActivateProjectCommand(id);
+                new ActivateProjectUseCase.ActivateProjectCommand(id, ETags.parseIfMatch(ifMatch));
 
         Project project = activateProjectUseCase.execute(command);
 
-        return ResponseEntity.ok(ProjectResponse.fromDomain(project));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(project))
+                .body(ProjectResponse.fromDomain(project));
     }
 
     @PostMapping("/{projectId}/tasks")
@@ -330,57 +362,117 @@ public class ProjectController {
                 .body(TaskResponse.fromDomain(task));
     }
 
+    @PostMapping("/{projectId}/tasks/bulk")
+    @Operation(
+            summary = "Create many tasks for a project",
+            description = """
+                    Creates up to 500 tasks in a single request. Ownership is checked once, tasks and their
+                    audit entries are inserted as JDBC batches, and either all tasks are created or none.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Tasks created successfully, in the order of the submitted titles",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "404", description = "Project not found", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "403", description = "Access denied - Project belongs to another user", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Titles of the tasks to create",
+            required = true,
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BulkCreateTasksRequest.class),
+                    examples = @ExampleObject(
+                            name = "Bulk Create Tasks",
+                            value = """
+                                    {
+                                      "titles": ["Design homepage mockup", "Implement responsive layout"]
+                                    }
+                                    """
+                    )
+            )
+    )
+    public ResponseEntity<List<TaskResponse>> createTasks(
+            @Parameter(description = "Project UUID", example = "550e8400-e29b-41d4-a716-446655440000", required = true)
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkCreateTasksRequest request) {
+        BulkCreateTasksUseCase.BulkCreateTasksCommand command =
+                new BulkCreateTasksUseCase.BulkCreateTasksCommand(projectId, request.titles());
+
+        List<TaskResponse> tasks = bulkCreateTasksUseCase.execute(command)
+                .stream()
+                .map(TaskResponse::fromDomain)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(tasks);
+    }
+
     @GetMapping("/{projectId}/tasks")
     @Operation(
-            summary = "Get all tasks for a project",
-            description = "Retrieves all non-deleted tasks belonging to a specific project."
+            summary = "Get tasks for a project",
+            description = """
+                    Retrieves the non-deleted tasks belonging to a specific project, oldest first.
+                    
+                    Results are paginated with an opaque cursor: pass the `nextCursor` of a page as `cursor`
+                    to fetch the next one.
+                    """
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "List of tasks",
+                    description = "Page of tasks",
                     content = @Content(
                             mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class)),
+                            schema = @Schema(implementation = PageResponse.class),
                             examples = @ExampleObject(
-                                    name = "Task List",
+                                    name = "Task Page",
                                     value = """
-                                            [
-                                              {
-                                                "id": "770e8400-e29b-41d4-a716-446655440002",
-                                                "title": "Design homepage mockup",
-                                                "status": "COMPLETED",
-                                                "projectId": "550e8400-e29b-41d4-a716-446655440000",
-                                                "createdAt": "2025-01-15T11:00:00Z"
-                                              },
-                                              {
-                                                "id": "880e8400-e29b-41d4-a716-446655440003",
-                                                "title": "Implement responsive layout",
-                                                "status": "PENDING",
-                                                "projectId": "550e8400-e29b-41d4-a716-446655440000",
-                                                "createdAt": "2025-01-15T12:00:00Z"
-                                              }
-                                            ]
+                                            {
+                                              "items": [
+                                                {
+                                                  "id": "770e8400-e29b-41d4-a716-446655440002",
+                                                  "projectId": "550e8400-e29b-41d4-a716-446655440000",
+                                                  "title": "Design homepage mockup",
+                                                  "completed": true,
+                                                  "deleted": false,
+                                                  "createdAt": "2025-01-15T11:00:00"
+                                                }
+                                              ],
+                                              "nextCursor": null,
+                                              "hasMore": false
+                                            }
                                             """
                             )
                     )
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size", content = @Content(mediaType = "application/problem+json")),
             @ApiResponse(responseCode = "404", description = "Project not found"),
             @ApiResponse(responseCode = "401", description = "Authentication required")
     })
-    public ResponseEntity<List<TaskResponse>> getProjectTasks(
+    public ResponseEntity<PageResponse<TaskResponse>> getProjectTasks(
             @Parameter(description = "Project UUID", example = "550e8400-e29b-41d4-a716-446655440000", required = true)
-            @PathVariable UUID projectId) {
+            @PathVariable UUID projectId,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 50, capped at 200)", example = "50")
+            @RequestParam(required = false) Integer limit) {
+        PageCursor after = CursorCodec.decode(cursor);
+        int pageSize = CursorCodec.pageSize(limit);
+
         // Verify project ownership
-        return projectRepository.findById(projectId)
-                .filter(project -> !project.isDeleted())
-                .filter(project -> project.isOwnedBy(currentUserPort.getCurrentUserId()))
-                .map(project -> {
-                    List<TaskResponse> tasks = taskRepository.findByProjectIdAndDeletedFalse(projectId)
-                            .stream()
-                            .map(TaskResponse::fromDomain)
-                            .toList();
-                    return ResponseEntity.ok(tasks);
+        return ownershipPort.findOwnerId(projectId)
+                .filter(currentUserPort.getCurrentUserId()::equals)
+                .map(ownerId -> {
+                    CursorPage<Task> page = taskRepository.findPageByProjectId(projectId, after, pageSize);
+                    return ResponseEntity.ok(PageResponse.fromDomain(page, TaskResponse::fromDomain));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -393,19 +485,28 @@ public class ProjectController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Project deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Project not found or access denied"),
+            @ApiResponse(responseCode = "409", description = "Project was modified concurrently", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current project version", content = @Content(mediaType = "application/problem+json")),
             @ApiResponse(responseCode = "401", description = "Authentication required")
     })
     public ResponseEntity<Void> deleteProject(
             @Parameter(description = "Project UUID", example = "550e8400-e29b-41d4-a716-446655440000", required = true)
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the project as last read; the request fails with 412 if the project version changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         UUID currentUserId = currentUserPort.getCurrentUserId();
+        Long expectedVersion = ETags.parseIfMatch(ifMatch);
         
         return projectRepository.findById(id)
                 .filter(project -> !project.isDeleted())
                 .filter(project -> project.isOwnedBy(currentUserId))
                 .map(project -> {
+                    if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+                        throw new VersionMismatchException("Project", id, expectedVersion, project.getVersion());
+                    }
                     project.markAsDeleted();
                     projectRepository.save(project);
+                    ownershipPort.projectDeleted(id);
                     return ResponseEntity.noContent().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
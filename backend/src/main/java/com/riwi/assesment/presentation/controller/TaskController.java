@@ -1,21 +1,35 @@
 package com.riwi.assesment.presentation.controller;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.riwi.assesment.domain.exception.VersionMismatchException;
+import com.riwi.assesment.domain.model.BulkTaskResult;
 import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.port.in.BulkCompleteTasksUseCase;
+import com.riwi.assesment.domain.port.in.BulkDeleteTasksUseCase;
 import com.riwi.assesment.domain.port.in.CompleteTaskUseCase;
 import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.OwnershipPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
 import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.TransactionPort;
+import com.riwi.assesment.presentation.dto.BulkTaskIdsRequest;
+import com.riwi.assesment.presentation.dto.BulkTaskOperationResponse;
 import com.riwi.assesment.presentation.dto.ProblemDetails;
 import com.riwi.assesment.presentation.dto.TaskResponse;
+import com.riwi.assesment.presentation.support.ETags;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +40,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 /**
  * REST Controller for task endpoints.
@@ -37,18 +52,30 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class TaskController {
 
     private final CompleteTaskUseCase completeTaskUseCase;
+    private final BulkCompleteTasksUseCase bulkCompleteTasksUseCase;
+    private final BulkDeleteTasksUseCase bulkDeleteTasksUseCase;
     private final TaskRepositoryPort taskRepository;
     private final ProjectRepositoryPort projectRepository;
+    private final OwnershipPort ownershipPort;
     private final CurrentUserPort currentUserPort;
+    private final TransactionPort transactionPort;
 
     public TaskController(CompleteTaskUseCase completeTaskUseCase,
+                          BulkCompleteTasksUseCase bulkCompleteTasksUseCase,
+                          BulkDeleteTasksUseCase bulkDeleteTasksUseCase,
                           TaskRepositoryPort taskRepository,
                           ProjectRepositoryPort projectRepository,
-                          CurrentUserPort currentUserPort) {
+                          OwnershipPort ownershipPort,
+                          CurrentUserPort currentUserPort,
+                          TransactionPort transactionPort) {
         this.completeTaskUseCase = completeTaskUseCase;
+        this.bulkCompleteTasksUseCase = bulkCompleteTasksUseCase;
+        this.bulkDeleteTasksUseCase = bulkDeleteTasksUseCase;
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
+        this.ownershipPort = ownershipPort;
         this.currentUserPort = currentUserPort;
+        this.transactionPort = transactionPort;
     }
 
     @PatchMapping("/{id}/complete")
@@ -104,18 +131,113 @@ public class TaskController {
                     )
             ),
             @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current task version", content = @Content(mediaType = "application/problem+json")),
             @ApiResponse(responseCode = "401", description = "Authentication required"),
             @ApiResponse(responseCode = "403", description = "Access denied - Task belongs to another user's project")
     })
     public ResponseEntity<TaskResponse> completeTask(
             @Parameter(description = "Task UUID", example = "770e8400-e29b-41d4-a716-446655440002", required = true)
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the task as last read; the request fails with 412 if it changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         CompleteTaskUseCase.CompleteTaskCommand command =
-                new CompleteTaskUseCase.CompleteTaskCommand(id);
+                new CompleteTaskUseCase.CompleteTaskCommand(id, ETags.parseIfMatch(ifMatch));
 
         Task task = completeTaskUseCase.execute(command);
 
-        return ResponseEntity.ok(TaskResponse.fromDomain(task));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(task.getVersion()))
+                .body(TaskResponse.fromDomain(task));
+    }
+
+    @PostMapping("/bulk/complete")
+    @Operation(
+            summary = "Mark many tasks as completed",
+            description = """
+                    Completes up to 500 tasks in a single request with the same rules as single completion.
+                    
+                    All tasks are validated with one query and updated with one statement. Tasks that cannot be
+                    completed are skipped and reported per id (`NOT_FOUND`, `FORBIDDEN`, `INVALID_STATE`);
+                    they do not abort the others.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-task outcome, in request order",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkTaskOperationResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Partial Success",
+                                    value = """
+                                            {
+                                              "results": [
+                                                { "taskId": "770e8400-e29b-41d4-a716-446655440002", "status": "SUCCEEDED" },
+                                                { "taskId": "770e8400-e29b-41d4-a716-446655440003", "status": "INVALID_STATE" }
+                                              ],
+                                              "succeeded": 1,
+                                              "failed": 1
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    public ResponseEntity<BulkTaskOperationResponse> completeTasks(@Valid @RequestBody BulkTaskIdsRequest request) {
+        BulkCompleteTasksUseCase.BulkCompleteTasksCommand command =
+                new BulkCompleteTasksUseCase.BulkCompleteTasksCommand(request.taskIds());
+
+        List<BulkTaskResult> results = bulkCompleteTasksUseCase.execute(command);
+
+        return ResponseEntity.ok(BulkTaskOperationResponse.fromDomain(results));
+    }
+
+    @PostMapping("/bulk/delete")
+    @Operation(
+            summary = "Delete many tasks",
+            description = """
+                    Soft-deletes up to 500 tasks in a single request.
+                    
+                    All tasks are validated with one query and updated with one statement. Tasks that cannot be
+                    deleted are skipped and reported per id (`NOT_FOUND`, `FORBIDDEN`, `INVALID_STATE`);
+                    they do not abort the others.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-task outcome, in request order",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkTaskOperationResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Partial Success",
+                                    value = """
+                                            {
+                                              "results": [
+                                                { "taskId": "770e8400-e29b-41d4-a716-446655440002", "status": "SUCCEEDED" },
+                                                { "taskId": "770e8400-e29b-41d4-a716-446655440003", "status": "NOT_FOUND" }
+                                              ],
+                                              "succeeded": 1,
+                                              "failed": 1
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Validation failed", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "401", description = "Authentication required")
+    })
+    public ResponseEntity<BulkTaskOperationResponse> deleteTasks(@Valid @RequestBody BulkTaskIdsRequest request) {
+        BulkDeleteTasksUseCase.BulkDeleteTasksCommand command =
+                new BulkDeleteTasksUseCase.BulkDeleteTasksCommand(request.taskIds());
+
+        List<BulkTaskResult> results = bulkDeleteTasksUseCase.execute(command);
+
+        return ResponseEntity.ok(BulkTaskOperationResponse.fromDomain(results));
     }
 
     @DeleteMapping("/{id}")
@@ -126,22 +248,34 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Task deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Task not found or access denied"),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently", content = @Content(mediaType = "application/problem+json")),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current task version", content = @Content(mediaType = "application/problem+json")),
             @ApiResponse(responseCode = "401", description = "Authentication required")
     })
     public ResponseEntity<Void> deleteTask(
             @Parameter(description = "Task UUID", example = "770e8400-e29b-41d4-a716-446655440002", required = true)
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the task as last read; the request fails with 412 if it changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         UUID currentUserId = currentUserPort.getCurrentUserId();
+        Long expectedVersion = ETags.parseIfMatch(ifMatch);
         
-        return taskRepository.findById(id)
+        // The soft delete and the counter update commit together
+        return transactionPort.inTransaction(() -> taskRepository.findById(id)
                 .filter(task -> !task.isDeleted())
-                .flatMap(task -> projectRepository.findById(task.getProjectId())
-                        .filter(project -> project.isOwnedBy(currentUserId))
-                        .map(project -> {
+                .flatMap(task -> ownershipPort.findOwnerId(task.getProjectId())
+                        .filter(currentUserId::equals)
+                        .map(ownerId -> {
+                            if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                                throw new VersionMismatchException("Task", id, expectedVersion, task.getVersion());
+                            }
                             task.markAsDeleted();
                             taskRepository.save(task);
+                            projectRepository.adjustTaskCounters(task.getProjectId(), -1,
+                                    task.isCompleted() ? 0 : -1,
+                                    task.isCompleted() ? -1 : 0);
                             return ResponseEntity.noContent().<Void>build();
                         }))
-                .orElse(ResponseEntity.notFound().build());
+                .orElse(ResponseEntity.notFound().build()));
     }
 }
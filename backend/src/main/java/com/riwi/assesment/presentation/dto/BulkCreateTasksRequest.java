@@ -0,0 +1,26 @@
+package com.riwi.assesment.presentation.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for creating several tasks in one request.
+ */
+@Schema(description = "Request payload for creating many tasks in a project at once")
+public record BulkCreateTasksRequest(
+        @ArraySchema(
+                arraySchema = @Schema(description = "Titles of the tasks to create, in order"),
+                schema = @Schema(example = "Design homepage mockup", minLength = 1, maxLength = 255),
+                minItems = 1,
+                maxItems = 500
+        )
+        @NotEmpty(message = "At least one task title is required")
+        @Size(max = 500, message = "Cannot create more than 500 tasks at once")
+        List<@NotBlank(message = "Task title is required")
+             @Size(max = 255, message = "Task title cannot exceed 255 characters") String> titles
+) {}
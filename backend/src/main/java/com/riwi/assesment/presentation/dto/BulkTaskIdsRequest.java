@@ -0,0 +1,26 @@
+package com.riwi.assesment.presentation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for applying one operation to several tasks in one request.
+ */
+@Schema(description = "Request payload listing the tasks a bulk operation applies to")
+public record BulkTaskIdsRequest(
+        @ArraySchema(
+                arraySchema = @Schema(description = "Ids of the tasks to process; duplicates are ignored"),
+                schema = @Schema(example = "770e8400-e29b-41d4-a716-446655440002"),
+                minItems = 1,
+                maxItems = 500
+        )
+        @NotEmpty(message = "At least one task ID is required")
+        @Size(max = 500, message = "Cannot process more than 500 tasks at once")
+        List<@NotNull(message = "Task ID cannot be null") UUID> taskIds
+) {}
@@ -0,0 +1,43 @@
+package com.riwi.assesment.presentation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the outcome of a bulk task operation.
+ */
+@Schema(description = "Per-task outcome of a bulk task operation")
+public record BulkTaskOperationResponse(
+        @Schema(description = "One entry per distinct task id, in request order")
+        List<Result> results,
+
+        @Schema(description = "Number of tasks the operation was applied to", example = "2")
+        int succeeded,
+
+        @Schema(description = "Number of tasks that were skipped", example = "1")
+        int failed
+) {
+    @Schema(description = "Outcome for a single task")
+    public record Result(
+            @Schema(description = "Task identifier", example = "770e8400-e29b-41d4-a716-446655440002")
+            UUID taskId,
+
+            @Schema(description = "Outcome of the operation for this task", example = "SUCCEEDED")
+            BulkTaskResult.Status status
+    ) {}
+
+    public static BulkTaskOperationResponse fromDomain(List<BulkTaskResult> results) {
+        int succeeded = (int) results.stream().filter(BulkTaskResult::succeeded).count();
+        return new BulkTaskOperationResponse(
+                results.stream()
+                        .map(result -> new Result(result.taskId(), result.status()))
+                        .toList(),
+                succeeded,
+                results.size() - succeeded
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.riwi.assesment.presentation.dto;
+
+import java.util.List;
+
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the dashboard response: every project of the user with its tasks.
+ */
+@Schema(description = "All non-deleted projects of the authenticated user with their tasks")
+public record DashboardResponse(
+        @Schema(description = "Projects ordered by creation time")
+        List<ProjectEntry> projects
+) {
+    @Schema(description = "A project together with its tasks")
+    public record ProjectEntry(
+            @Schema(description = "Project details")
+            ProjectResponse project,
+
+            @Schema(description = "Non-deleted tasks of the project, ordered by creation time")
+            List<TaskResponse> tasks,
+
+            @Schema(description = "Whether tasks were cut at the tasksPerProject limit", example = "false")
+            boolean hasMoreTasks
+    ) {
+        public static ProjectEntry fromDomain(ProjectWithTasks projectWithTasks) {
+            return new ProjectEntry(
+                    ProjectResponse.fromDomain(projectWithTasks.project()),
+                    projectWithTasks.tasks().stream().map(TaskResponse::fromDomain).toList(),
+                    projectWithTasks.hasMoreTasks()
+            );
+        }
+    }
+
+    public static DashboardResponse fromDomain(List<ProjectWithTasks> projects) {
+        return new DashboardResponse(projects.stream().map(ProjectEntry::fromDomain).toList());
+    }
+}
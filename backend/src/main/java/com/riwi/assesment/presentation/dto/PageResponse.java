@@ -0,0 +1,34 @@
+package com.riwi.assesment.presentation.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.presentation.support.CursorCodec;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for a cursor-paginated listing response.
+ */
+@Schema(description = "One page of results with an opaque cursor for the next page")
+public record PageResponse<T>(
+        @Schema(description = "Items in this page, ordered by creation time")
+        List<T> items,
+
+        @Schema(description = "Opaque token to pass as 'cursor' to fetch the next page; null on the last page",
+                example = "MjAyNS0wMS0xNVQxMDozMDp8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw",
+                nullable = true)
+        String nextCursor,
+
+        @Schema(description = "Whether more items exist after this page", example = "true")
+        boolean hasMore
+) {
+    public static <D, T> PageResponse<T> fromDomain(CursorPage<D> page, Function<D, T> mapper) {
+        return new PageResponse<>(
+                page.items().stream().map(mapper).toList(),
+                CursorCodec.encode(page.nextCursor()),
+                page.hasNext()
+        );
+    }
+}
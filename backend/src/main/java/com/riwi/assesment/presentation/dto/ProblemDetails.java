@@ -129,6 +129,36 @@ public record ProblemDetails(
         );
     }
     
+    /**
+     * Creates a ProblemDetails for PRECONDITION_FAILED errors (stale If-Match).
+     */
+    public static ProblemDetails preconditionFailed(String detail, String instance) {
+        return new ProblemDetails(
+                URI.create(BASE_TYPE_URI + "precondition-failed"),
+                "Precondition Failed",
+                412,
+                detail,
+                instance != null ? URI.create(instance) : null,
+                Instant.now(),
+                null
+        );
+    }
+    
+    /**
+     * Creates a ProblemDetails for SERVICE_UNAVAILABLE errors (capacity exhausted).
+     */
+    public static ProblemDetails serviceUnavailable(String detail, String instance) {
+        return new ProblemDetails(
+                URI.create(BASE_TYPE_URI + "service-unavailable"),
+                "Service Unavailable",
+                503,
+                detail,
+                instance != null ? URI.create(instance) : null,
+                Instant.now(),
+                null
+        );
+    }
+    
     /**
      * Creates a ProblemDetails for INTERNAL_SERVER_ERROR.
      */
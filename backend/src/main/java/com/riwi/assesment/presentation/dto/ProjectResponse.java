@@ -1,5 +1,6 @@
 package com.riwi.assesment.presentation.dto;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.riwi.assesment.domain.model.Project;
@@ -24,7 +25,22 @@ public record ProjectResponse(
         String status,
         
         @Schema(description = "Whether the project is soft-deleted", example = "false")
-        boolean deleted
+        boolean deleted,
+
+        @Schema(description = "Creation timestamp", example = "2025-01-15T10:30:00")
+        LocalDateTime createdAt,
+
+        @Schema(description = "Number of non-deleted tasks", example = "3")
+        int taskCount,
+
+        @Schema(description = "Number of non-deleted tasks not yet completed", example = "2")
+        int openTaskCount,
+
+        @Schema(description = "Number of non-deleted completed tasks", example = "1")
+        int completedTaskCount,
+
+        @Schema(description = "Version for optimistic concurrency; also the first part of the ETag header", example = "2")
+        Long version
 ) {
     public static ProjectResponse fromDomain(Project project) {
         return new ProjectResponse(
@@ -32,7 +48,12 @@ public record ProjectResponse(
                 project.getOwnerId(),
                 project.getName(),
                 project.getStatus().name(),
-                project.isDeleted()
+                project.isDeleted(),
+                project.getCreatedAt(),
+                project.getTotalTasks(),
+                project.getOpenTasks(),
+                project.getCompletedTasks(),
+                project.getVersion()
         );
     }
 }
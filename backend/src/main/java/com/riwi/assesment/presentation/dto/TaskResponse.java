@@ -1,5 +1,6 @@
 package com.riwi.assesment.presentation.dto;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.riwi.assesment.domain.model.Task;
@@ -24,7 +25,13 @@ public record TaskResponse(
         boolean completed,
         
         @Schema(description = "Whether the task is soft-deleted", example = "false")
-        boolean deleted
+        boolean deleted,
+
+        @Schema(description = "Creation timestamp", example = "2025-01-15T11:00:00")
+        LocalDateTime createdAt,
+
+        @Schema(description = "Version for optimistic concurrency; also sent as the ETag header", example = "1")
+        Long version
 ) {
     public static TaskResponse fromDomain(Task task) {
         return new TaskResponse(
@@ -32,7 +39,9 @@ public record TaskResponse(
                 task.getProjectId(),
                 task.getTitle(),
                 task.isCompleted(),
-                task.isDeleted()
+                task.isDeleted(),
+                task.getCreatedAt(),
+                task.getVersion()
         );
     }
 }
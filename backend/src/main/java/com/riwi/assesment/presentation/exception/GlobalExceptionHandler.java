@@ -6,6 +6,8 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,13 +17,16 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
 import com.riwi.assesment.domain.exception.InvalidCredentialsException;
 import com.riwi.assesment.domain.exception.ProjectCannotBeActivatedException;
 import com.riwi.assesment.domain.exception.ProjectNotFoundException;
+import com.riwi.assesment.domain.exception.ServiceOverloadedException;
 import com.riwi.assesment.domain.exception.TaskCannotBeCompletedException;
 import com.riwi.assesment.domain.exception.TaskNotFoundException;
 import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
 import com.riwi.assesment.domain.exception.UserAlreadyExistsException;
+import com.riwi.assesment.domain.exception.VersionMismatchException;
 import com.riwi.assesment.presentation.dto.ProblemDetails;
 
 /**
@@ -108,6 +113,42 @@ public class GlobalExceptionHandler {
                 .body(problem);
     }
 
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ProblemDetails> handleConcurrentUpdate(ConcurrentUpdateException ex, WebRequest request) {
+        log.info("Concurrent update conflict: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.conflict(
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetails> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        log.info("Optimistic locking failure: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.conflict(
+                "The resource was modified concurrently. Reload it and try again.",
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<ProblemDetails> handleVersionMismatch(VersionMismatchException ex, WebRequest request) {
+        log.info("If-Match precondition failed: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.preconditionFailed(
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
     @ExceptionHandler(InvalidCredentialsException.class)
     public ResponseEntity<ProblemDetails> handleInvalidCredentials(InvalidCredentialsException ex) {
         log.warn("Invalid credentials attempt");
@@ -119,6 +160,19 @@ public class GlobalExceptionHandler {
                 .body(problem);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ProblemDetails> handleServiceOverloaded(ServiceOverloadedException ex, WebRequest request) {
+        log.warn("Request refused, capacity exhausted: {}", ex.getMessage());
+        ProblemDetails problem = ProblemDetails.serviceUnavailable(
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .contentType(MediaType.parseMediaType(PROBLEM_JSON))
+                .body(problem);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ProblemDetails> handleIllegalArgument(IllegalArgumentException ex, WebRequest request) {
         log.warn("Invalid argument: {}", ex.getMessage());
@@ -0,0 +1,73 @@
+package com.riwi.assesment.presentation.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.riwi.assesment.domain.model.PageCursor;
+
+/**
+ * Encodes keyset cursors as opaque URL-safe tokens and validates page sizes.
+ * Clients must treat the token as opaque; its layout may change at any time.
+ */
+public final class CursorCodec {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final char SEPARATOR = '|';
+
+    private CursorCodec() {
+        // Utility class
+    }
+
+    public static String encode(PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt().toString() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode(PageCursor)}.
+     * @return the cursor, or null when no token was supplied (first page)
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Bad Base64, UUID or timestamp: one message, so the token layout is not revealed
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Resolves the requested page size, applying the default and the upper cap.
+     * @throws IllegalArgumentException if the requested size is not positive
+     */
+    public static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requested < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,56 @@
+package com.riwi.assesment.presentation.support;
+
+import com.riwi.assesment.domain.model.Project;
+
+/**
+ * Converts entity versions to strong ETags and parses If-Match headers back into versions.
+ * A task ETag is the quoted version number, e.g. "3". A project ETag also carries the task counters,
+ * e.g. "3.10.4.6", because they are part of the body but change without a version bump.
+ */
+public final class ETags {
+
+    private ETags() {
+        // Utility class
+    }
+
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    public static String of(Project project) {
+        if (project.getVersion() == null) {
+            return null;
+        }
+        return "\"" + project.getVersion() + "." + project.getTotalTasks() + "." + project.getOpenTasks()
+                + "." + project.getCompletedTasks() + "\"";
+    }
+
+    /**
+     * Parses an If-Match header carrying a single ETag produced by {@link #of(Long)} or {@link #of(Project)}.
+     * Only the version is compared: the counters are derived from the tasks and are not guarded by If-Match.
+     * @return the expected version, or null when the header is absent or "*" (no precondition)
+     * @throws IllegalArgumentException if the header is not a single ETag of this API
+     */
+    public static Long parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String value = header.trim();
+        if (value.startsWith("W/")) {
+            throw new IllegalArgumentException("If-Match requires a strong ETag");
+        }
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+        String tag = value.substring(1, value.length() - 1);
+        if (!tag.matches("\\d+(\\.\\d+){3}|\\d+")) {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+        int end = tag.indexOf('.');
+        try {
+            return Long.parseLong(end < 0 ? tag : tag.substring(0, end));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+-- V10__Replace_redundant_indexes.sql
+-- Drop indexes no query uses and keep one index per real access path.
+-- Every remaining index is listed with the queries it serves; QueryPlanTest verifies the plans.
+
+-- users: the UNIQUE constraints on username and email already create unique indexes
+DROP INDEX IF EXISTS idx_users_username;
+DROP INDEX IF EXISTS idx_users_email;
+
+-- projects: booleans and a two-value status column are never selective on their own.
+-- Kept: idx_projects_owner_id for the users foreign key (ON DELETE CASCADE).
+DROP INDEX IF EXISTS idx_projects_deleted;
+DROP INDEX IF EXISTS idx_projects_status;
+
+-- The V6 keyset indexes INCLUDE columns so pages could be index-only scans. Since V7 and V8 the page
+-- and dashboard queries also read the task counters and version, so every page visits the heap anyway.
+-- Including those too would make each counter or version update rewrite the index entry instead of
+-- a HOT update, so the keyset indexes are rebuilt as plain (owner/project, created_at, id) indexes.
+
+-- Owner listings, pages and the dashboard's project scan
+DROP INDEX IF EXISTS idx_projects_owner_created_id;
+CREATE INDEX IF NOT EXISTS idx_projects_owner_created_id
+    ON projects(owner_id, created_at, id)
+    WHERE deleted = FALSE;
+
+-- tasks: same for the booleans; idx_tasks_project_id is a prefix of the composite index below
+DROP INDEX IF EXISTS idx_tasks_deleted;
+DROP INDEX IF EXISTS idx_tasks_completed;
+DROP INDEX IF EXISTS idx_tasks_project_id;
+DROP INDEX IF EXISTS idx_tasks_project_completed_deleted;
+
+-- Foreign key (ON DELETE CASCADE) and counter reconciliation, which counts all rows of a
+-- project by state: index-only scan thanks to the included columns
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id
+    ON tasks(project_id)
+    INCLUDE (completed, deleted);
+
+-- "Does the project have an open task?" probes: only open tasks are indexed
+CREATE INDEX IF NOT EXISTS idx_tasks_project_open
+    ON tasks(project_id)
+    WHERE deleted = FALSE AND completed = FALSE;
+
+-- Task listings, pages, counts and the dashboard's per-project LATERAL scan
+DROP INDEX IF EXISTS idx_tasks_project_created_id;
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created_id
+    ON tasks(project_id, created_at, id)
+    WHERE deleted = FALSE;
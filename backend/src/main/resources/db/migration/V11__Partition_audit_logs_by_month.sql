@@ -0,0 +1,63 @@
+-- V11__Partition_audit_logs_by_month.sql
+-- Range-partition audit_logs by created_at, one partition per month.
+-- Expired months are removed by detaching or dropping a partition instead of bulk DELETEs, and each
+-- insert only maintains the indexes of the current month. AuditLogPartitionMaintainer creates
+-- future partitions ahead of time and applies the retention policy.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER INDEX audit_logs_pkey RENAME TO audit_logs_legacy_pkey;
+
+-- The partition key must be part of the primary key; ids are UUIDv7 so they stay unique on their own
+CREATE TABLE audit_logs (
+    id UUID NOT NULL DEFAULT uuid_generate_v7(),
+    action VARCHAR(100) NOT NULL,
+    entity_id UUID NOT NULL,
+    user_id UUID,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT audit_logs_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Safety net so inserts never fail if the maintainer falls behind; it should stay empty
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Creates the partition for the month containing p_month (audit_logs_pYYYYMM) if it does not exist
+CREATE OR REPLACE FUNCTION create_audit_log_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', p_month)::DATE;
+    partition_name TEXT := 'audit_logs_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+    END IF;
+    RETURN partition_name;
+END
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every month that has existing rows, up to three months ahead
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+                   date_trunc('month', LEAST(COALESCE((SELECT MIN(created_at) FROM audit_logs_legacy), LOCALTIMESTAMP),
+                                             LOCALTIMESTAMP)),
+                   date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months',
+                   INTERVAL '1 month')::DATE
+    LOOP
+        PERFORM create_audit_log_partition(month_start);
+    END LOOP;
+END
+$$;
+
+INSERT INTO audit_logs (id, action, entity_id, user_id, created_at)
+SELECT id, action, entity_id, user_id, created_at FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+-- Lookups by entity or user, newest first within the recent partitions.
+-- Created after the copy; indexes on the parent are created on every partition.
+-- The action and standalone created_at indexes are gone: partition pruning covers time ranges.
+CREATE INDEX IF NOT EXISTS idx_audit_logs_entity_created ON audit_logs (entity_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_user_created ON audit_logs (user_id, created_at);
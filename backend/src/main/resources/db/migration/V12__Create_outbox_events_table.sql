@@ -0,0 +1,21 @@
+-- V12__Create_outbox_events_table.sql
+-- Transactional outbox: audit entries and notifications are recorded in the same transaction as the
+-- domain change and delivered afterwards by a poller, so a crash can no longer lose them.
+-- Delivery is at-least-once: an event is deleted only in the transaction that dispatched it.
+
+CREATE TABLE outbox_events (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    event_type VARCHAR(20) NOT NULL,
+    action VARCHAR(100),
+    entity_id UUID,
+    user_id UUID,
+    message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    CONSTRAINT chk_outbox_events_type CHECK (event_type IN ('AUDIT', 'NOTIFICATION'))
+);
+
+-- Pollers claim the oldest due events; ids are time-ordered so this is also insertion order
+CREATE INDEX idx_outbox_events_available ON outbox_events(available_at, id);
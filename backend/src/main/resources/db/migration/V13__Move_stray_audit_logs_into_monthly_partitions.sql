@@ -0,0 +1,37 @@
+-- V13__Move_stray_audit_logs_into_monthly_partitions.sql
+-- Once rows for a month have landed in audit_logs_default, PostgreSQL refuses to create that month's
+-- partition. create_audit_log_partition now moves those rows out first: it detaches the default
+-- partition, creates the month, copies the month's rows into it, deletes them from the default
+-- partition and attaches it again. The caller's transaction holds an ACCESS EXCLUSIVE lock on
+-- audit_logs throughout, so concurrent audit inserts wait instead of failing.
+
+CREATE OR REPLACE FUNCTION create_audit_log_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', p_month)::DATE;
+    month_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'audit_logs_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM audit_logs_default WHERE created_at >= month_start AND created_at < month_end) THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, month_start, month_end);
+        RETURN partition_name;
+    END IF;
+
+    -- Locks every partition before the move, so no row for this month can arrive in between
+    LOCK TABLE audit_logs IN ACCESS EXCLUSIVE MODE;
+    ALTER TABLE audit_logs DETACH PARTITION audit_logs_default;
+    EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, month_start, month_end);
+    EXECUTE format('INSERT INTO %I (id, action, entity_id, user_id, created_at) ' ||
+                   'SELECT id, action, entity_id, user_id, created_at FROM audit_logs_default ' ||
+                   'WHERE created_at >= %L AND created_at < %L',
+                   partition_name, month_start, month_end);
+    DELETE FROM audit_logs_default WHERE created_at >= month_start AND created_at < month_end;
+    ALTER TABLE audit_logs ATTACH PARTITION audit_logs_default DEFAULT;
+    RETURN partition_name;
+END
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,18 @@
+-- V6__Add_created_at_and_keyset_indexes.sql
+-- Add creation timestamps and keyset pagination indexes for project and task listings
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Listings are ordered by (created_at, id) and only return live rows.
+-- The partial indexes match that predicate and order exactly, and INCLUDE the
+-- remaining entity columns so a page can be served by an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_projects_owner_created_id
+    ON projects(owner_id, created_at, id)
+    INCLUDE (name, status, deleted)
+    WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created_id
+    ON tasks(project_id, created_at, id)
+    INCLUDE (title, completed, deleted)
+    WHERE deleted = FALSE;
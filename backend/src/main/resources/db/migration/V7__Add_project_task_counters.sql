@@ -0,0 +1,22 @@
+-- V7__Add_project_task_counters.sql
+-- Denormalized task counters on projects, maintained by atomic increments on every task write
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS total_tasks INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS open_tasks INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS completed_tasks INTEGER NOT NULL DEFAULT 0;
+
+-- Backfill from existing tasks
+UPDATE projects p
+SET total_tasks = c.total_tasks,
+    open_tasks = c.open_tasks,
+    completed_tasks = c.completed_tasks
+FROM (
+    SELECT project_id,
+           COUNT(*) AS total_tasks,
+           COUNT(*) FILTER (WHERE completed = FALSE) AS open_tasks,
+           COUNT(*) FILTER (WHERE completed = TRUE) AS completed_tasks
+    FROM tasks
+    WHERE deleted = FALSE
+    GROUP BY project_id
+) c
+WHERE p.id = c.project_id;
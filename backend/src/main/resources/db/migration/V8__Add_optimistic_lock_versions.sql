@@ -0,0 +1,8 @@
+-- V8__Add_optimistic_lock_versions.sql
+-- Optimistic lock version columns. Updates are issued as
+-- UPDATE ... SET version = version + 1 WHERE id = ? AND version = ?
+-- so the adapters never need to read a row before writing it.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
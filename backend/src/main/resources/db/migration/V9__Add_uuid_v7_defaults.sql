@@ -0,0 +1,23 @@
+-- V9__Add_uuid_v7_defaults.sql
+-- Time-ordered UUIDv7 (RFC 9562) as the default primary key for rows inserted outside the application.
+-- The application assigns UUIDv7 ids itself; this keeps manual and scripted inserts index-friendly too.
+-- Layout: 48-bit Unix epoch milliseconds, version 7, then random bits with the IETF variant.
+
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+DECLARE
+    uuid_bytes BYTEA;
+BEGIN
+    -- Start from a random v4 UUID (variant bits already set) and overwrite the first 6 bytes
+    uuid_bytes := overlay(uuid_send(gen_random_uuid())
+                          PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                          FROM 1 FOR 6);
+    -- Set the version nibble to 7
+    uuid_bytes := set_byte(uuid_bytes, 6, (get_byte(uuid_bytes, 6) & 15) | 112);
+    RETURN encode(uuid_bytes, 'hex')::UUID;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE projects ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE tasks ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE audit_logs ALTER COLUMN id SET DEFAULT uuid_generate_v7();
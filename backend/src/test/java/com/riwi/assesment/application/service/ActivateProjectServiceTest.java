@@ -17,13 +17,16 @@ import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
 import com.riwi.assesment.domain.exception.ProjectCannotBeActivatedException;
 import com.riwi.assesment.domain.exception.ProjectNotFoundException;
 import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.exception.VersionMismatchException;
 import com.riwi.assesment.domain.model.Project;
 import com.riwi.assesment.domain.model.ProjectStatus;
 import com.riwi.assesment.domain.port.in.ActivateProjectUseCase;
@@ -31,7 +34,6 @@ import com.riwi.assesment.domain.port.out.AuditLogPort;
 import com.riwi.assesment.domain.port.out.CurrentUserPort;
 import com.riwi.assesment.domain.port.out.NotificationPort;
 import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
-import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
 
 /**
  * Unit tests for ActivateProjectService.
@@ -43,9 +45,6 @@ class ActivateProjectServiceTest {
     @Mock
     private ProjectRepositoryPort projectRepository;
 
-    @Mock
-    private TaskRepositoryPort taskRepository;
-
     @Mock
     private CurrentUserPort currentUserPort;
 
@@ -55,6 +54,8 @@ class ActivateProjectServiceTest {
     @Mock
     private NotificationPort notificationPort;
 
+    private InlineTransactionPort transactionPort;
+
     private ActivateProjectService activateProjectService;
 
     private UUID ownerId;
@@ -63,12 +64,13 @@ class ActivateProjectServiceTest {
 
     @BeforeEach
     void setUp() {
+        transactionPort = new InlineTransactionPort();
         activateProjectService = new ActivateProjectService(
                 projectRepository,
-                taskRepository,
                 currentUserPort,
                 auditLogPort,
-                notificationPort
+                notificationPort,
+                transactionPort
         );
 
         ownerId = UUID.randomUUID();
@@ -87,9 +89,10 @@ class ActivateProjectServiceTest {
     @DisplayName("ActivateProject_WithTasks_ShouldSucceed")
     void activateProject_WithTasks_ShouldSucceed() {
         // Arrange
+        draftProject.setTotalTasks(1);
+        draftProject.setOpenTasks(1);
         when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(draftProject));
-        when(taskRepository.existsByProjectIdAndCompletedFalseAndDeletedFalse(projectId)).thenReturn(true);
         when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         ActivateProjectUseCase.ActivateProjectCommand command =
@@ -105,7 +108,6 @@ class ActivateProjectServiceTest {
 
         // Verify interactions
         verify(projectRepository).findById(projectId);
-        verify(taskRepository).existsByProjectIdAndCompletedFalseAndDeletedFalse(projectId);
         verify(projectRepository).save(any(Project.class));
         verify(auditLogPort).register(eq("ACTIVATE_PROJECT"), eq(projectId));
         verify(notificationPort).notify(contains("activated"));
@@ -117,7 +119,6 @@ class ActivateProjectServiceTest {
         // Arrange
         when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(draftProject));
-        when(taskRepository.existsByProjectIdAndCompletedFalseAndDeletedFalse(projectId)).thenReturn(false);
 
         ActivateProjectUseCase.ActivateProjectCommand command =
                 new ActivateProjectUseCase.ActivateProjectCommand(projectId);
@@ -136,6 +137,27 @@ class ActivateProjectServiceTest {
         verify(notificationPort, never()).notify(anyString());
     }
 
+    @Test
+    @DisplayName("ActivateProject_WithOnlyCompletedTasks_ShouldFail")
+    void activateProject_WithOnlyCompletedTasks_ShouldFail() {
+        // Arrange
+        draftProject.setTotalTasks(2);
+        draftProject.setCompletedTasks(2);
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(draftProject));
+
+        ActivateProjectUseCase.ActivateProjectCommand command =
+                new ActivateProjectUseCase.ActivateProjectCommand(projectId);
+
+        // Act & Assert
+        assertThrows(
+                ProjectCannotBeActivatedException.class,
+                () -> activateProjectService.execute(command)
+        );
+
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
     @Test
     @DisplayName("ActivateProject_ByNonOwner_ShouldFail")
     void activateProject_ByNonOwner_ShouldFail() {
@@ -155,8 +177,7 @@ class ActivateProjectServiceTest {
 
         assertNotNull(exception);
 
-        // Verify that task check and save were never called
-        verify(taskRepository, never()).existsByProjectIdAndDeletedFalse(any(UUID.class));
+        // Verify that save was never called
         verify(projectRepository, never()).save(any(Project.class));
         verify(auditLogPort, never()).register(anyString(), any(UUID.class));
     }
@@ -235,4 +256,86 @@ class ActivateProjectServiceTest {
 
         verify(projectRepository, never()).save(any(Project.class));
     }
+
+    @Test
+    @DisplayName("ActivateProject_ConcurrentUpdate_ShouldRetryWithFreshRead")
+    void activateProject_ConcurrentUpdate_ShouldRetryWithFreshRead() {
+        // Arrange - first write loses the race, second one succeeds
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(projectRepository.findById(projectId))
+                .thenAnswer(invocation -> Optional.of(draftProjectWithOpenTask(3L)))
+                .thenAnswer(invocation -> Optional.of(draftProjectWithOpenTask(4L)));
+        when(projectRepository.save(any(Project.class)))
+                .thenThrow(new ConcurrentUpdateException("Project", projectId))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ActivateProjectUseCase.ActivateProjectCommand command =
+                new ActivateProjectUseCase.ActivateProjectCommand(projectId);
+
+        // Act
+        Project result = activateProjectService.execute(command);
+
+        // Assert
+        assertEquals(ProjectStatus.ACTIVE, result.getStatus());
+        assertEquals(4L, result.getVersion());
+        verify(projectRepository, times(2)).findById(projectId);
+        verify(auditLogPort, times(1)).register(eq("ACTIVATE_PROJECT"), eq(projectId));
+        assertEquals(2, transactionPort.started);
+        assertEquals(1, transactionPort.rolledBack);
+    }
+
+    @Test
+    @DisplayName("ActivateProject_PersistentConflict_ShouldGiveUpAfterMaxAttempts")
+    void activateProject_PersistentConflict_ShouldGiveUpAfterMaxAttempts() {
+        // Arrange
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(projectRepository.findById(projectId))
+                .thenAnswer(invocation -> Optional.of(draftProjectWithOpenTask(1L)));
+        when(projectRepository.save(any(Project.class)))
+                .thenThrow(new ConcurrentUpdateException("Project", projectId));
+
+        ActivateProjectUseCase.ActivateProjectCommand command =
+                new ActivateProjectUseCase.ActivateProjectCommand(projectId);
+
+        // Act & Assert
+        assertThrows(
+                ConcurrentUpdateException.class,
+                () -> activateProjectService.execute(command)
+        );
+
+        verify(projectRepository, times(OptimisticRetry.MAX_ATTEMPTS)).save(any(Project.class));
+        verify(auditLogPort, never()).register(anyString(), any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("ActivateProject_StaleIfMatchVersion_ShouldFail")
+    void activateProject_StaleIfMatchVersion_ShouldFail() {
+        // Arrange
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(draftProjectWithOpenTask(5L)));
+
+        ActivateProjectUseCase.ActivateProjectCommand command =
+                new ActivateProjectUseCase.ActivateProjectCommand(projectId, 4L);
+
+        // Act & Assert
+        assertThrows(
+                VersionMismatchException.class,
+                () -> activateProjectService.execute(command)
+        );
+
+        verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    private Project draftProjectWithOpenTask(Long version) {
+        return Project.builder()
+                .id(projectId)
+                .ownerId(ownerId)
+                .name("Test Project")
+                .status(ProjectStatus.DRAFT)
+                .deleted(false)
+                .totalTasks(1)
+                .openTasks(1)
+                .version(version)
+                .build();
+    }
 }
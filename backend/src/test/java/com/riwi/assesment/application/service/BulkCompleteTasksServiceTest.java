@@ -0,0 +1,217 @@
+package com.riwi.assesment.application.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+import com.riwi.assesment.domain.model.BulkTaskResult.Status;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.port.in.BulkCompleteTasksUseCase;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+
+/**
+ * Unit tests for BulkCompleteTasksService.
+ * Tests are focused on business logic validation without Spring context.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkCompleteTasksServiceTest {
+
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private ProjectRepositoryPort projectRepository;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @Mock
+    private AuditLogPort auditLogPort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    private InlineTransactionPort transactionPort;
+
+    private BulkCompleteTasksService bulkCompleteTasksService;
+
+    private UUID ownerId;
+    private Project activeProject;
+
+    @BeforeEach
+    void setUp() {
+        transactionPort = new InlineTransactionPort();
+        bulkCompleteTasksService = new BulkCompleteTasksService(
+                taskRepository,
+                projectRepository,
+                currentUserPort,
+                auditLogPort,
+                notificationPort,
+                transactionPort
+        );
+
+        ownerId = UUID.randomUUID();
+        activeProject = project(ownerId, ProjectStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("BulkCompleteTasks_MixedTasks_ShouldReportEachStatusInRequestOrder")
+    void bulkCompleteTasks_MixedTasks_ShouldReportEachStatusInRequestOrder() {
+        // Arrange
+        Task open = task(activeProject, false);
+        Task alreadyCompleted = task(activeProject, true);
+        Project foreignProject = project(UUID.randomUUID(), ProjectStatus.ACTIVE);
+        Task foreign = task(foreignProject, false);
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(open.getId(), alreadyCompleted.getId(), foreign.getId(), missingId);
+
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findWithProjectByIds(ids)).thenReturn(List.of(
+                new TaskWithProject(open, activeProject),
+                new TaskWithProject(alreadyCompleted, activeProject),
+                new TaskWithProject(foreign, foreignProject)));
+        when(taskRepository.completeAllOwnedBy(List.of(open.getId()), ownerId)).thenReturn(List.of(completed(open)));
+
+        // Act
+        List<BulkTaskResult> results = bulkCompleteTasksService.execute(
+                new BulkCompleteTasksUseCase.BulkCompleteTasksCommand(ids));
+
+        // Assert
+        assertEquals(List.of(
+                new BulkTaskResult(open.getId(), Status.SUCCEEDED),
+                new BulkTaskResult(alreadyCompleted.getId(), Status.INVALID_STATE),
+                new BulkTaskResult(foreign.getId(), Status.FORBIDDEN),
+                new BulkTaskResult(missingId, Status.NOT_FOUND)), results);
+        verify(projectRepository).adjustTaskCounters(activeProject.getId(), 0, -1, 1);
+        verify(auditLogPort).registerAll("COMPLETE_TASK", List.of(open.getId()));
+        verify(notificationPort).notify(anyString());
+    }
+
+    @Test
+    @DisplayName("BulkCompleteTasks_ProjectNotActive_ShouldNotIssueUpdate")
+    void bulkCompleteTasks_ProjectNotActive_ShouldNotIssueUpdate() {
+        // Arrange
+        Project draftProject = project(ownerId, ProjectStatus.DRAFT);
+        Task open = task(draftProject, false);
+
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findWithProjectByIds(List.of(open.getId())))
+                .thenReturn(List.of(new TaskWithProject(open, draftProject)));
+
+        // Act
+        List<BulkTaskResult> results = bulkCompleteTasksService.execute(
+                new BulkCompleteTasksUseCase.BulkCompleteTasksCommand(List.of(open.getId())));
+
+        // Assert
+        assertEquals(Status.INVALID_STATE, results.get(0).status());
+        verify(taskRepository, never()).completeAllOwnedBy(anyList(), any());
+        verify(projectRepository, never()).adjustTaskCounters(any(), anyInt(), anyInt(), anyInt());
+        verify(auditLogPort, never()).registerAll(anyString(), anyList());
+        verify(notificationPort, never()).notify(anyString());
+    }
+
+    @Test
+    @DisplayName("BulkCompleteTasks_TaskChangedConcurrently_ShouldReportInvalidState")
+    void bulkCompleteTasks_TaskChangedConcurrently_ShouldReportInvalidState() {
+        // Arrange
+        Task first = task(activeProject, false);
+        Task second = task(activeProject, false);
+        List<UUID> ids = List.of(first.getId(), second.getId());
+
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findWithProjectByIds(ids)).thenReturn(List.of(
+                new TaskWithProject(first, activeProject),
+                new TaskWithProject(second, activeProject)));
+        // The second task was completed by another request before the UPDATE ran
+        when(taskRepository.completeAllOwnedBy(ids, ownerId)).thenReturn(List.of(completed(first)));
+
+        // Act
+        List<BulkTaskResult> results = bulkCompleteTasksService.execute(
+                new BulkCompleteTasksUseCase.BulkCompleteTasksCommand(ids));
+
+        // Assert
+        assertEquals(Status.SUCCEEDED, results.get(0).status());
+        assertEquals(Status.INVALID_STATE, results.get(1).status());
+        verify(projectRepository).adjustTaskCounters(eq(activeProject.getId()), eq(0), eq(-1), eq(1));
+    }
+
+    @Test
+    @DisplayName("BulkCompleteTasksCommand_DuplicateIds_ShouldKeepFirstOccurrence")
+    void bulkCompleteTasksCommand_DuplicateIds_ShouldKeepFirstOccurrence() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // Act
+        BulkCompleteTasksUseCase.BulkCompleteTasksCommand command =
+                new BulkCompleteTasksUseCase.BulkCompleteTasksCommand(List.of(first, second, first));
+
+        // Assert
+        assertEquals(List.of(first, second), command.taskIds());
+    }
+
+    @Test
+    @DisplayName("BulkCompleteTasksCommand_EmptyIds_ShouldThrowIllegalArgumentException")
+    void bulkCompleteTasksCommand_EmptyIds_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new BulkCompleteTasksUseCase.BulkCompleteTasksCommand(List.of()));
+    }
+
+    private static Project project(UUID ownerId, ProjectStatus status) {
+        return Project.builder()
+                .id(UUID.randomUUID())
+                .ownerId(ownerId)
+                .name("Test Project")
+                .status(status)
+                .deleted(false)
+                .version(0L)
+                .build();
+    }
+
+    private static Task task(Project project, boolean completed) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .projectId(project.getId())
+                .title("Task")
+                .completed(completed)
+                .deleted(false)
+                .version(0L)
+                .build();
+    }
+
+    private static Task completed(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .projectId(task.getProjectId())
+                .title(task.getTitle())
+                .completed(true)
+                .deleted(false)
+                .version(task.getVersion() + 1)
+                .build();
+    }
+}
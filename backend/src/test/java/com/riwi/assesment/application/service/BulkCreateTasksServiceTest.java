@@ -0,0 +1,188 @@
+package com.riwi.assesment.application.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.riwi.assesment.domain.exception.ProjectNotFoundException;
+import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.port.in.BulkCreateTasksUseCase;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+
+/**
+ * Unit tests for BulkCreateTasksService.
+ * Tests are focused on business logic validation without Spring context.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkCreateTasksServiceTest {
+
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private ProjectRepositoryPort projectRepository;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @Mock
+    private AuditLogPort auditLogPort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    private InlineTransactionPort transactionPort;
+
+    private BulkCreateTasksService bulkCreateTasksService;
+
+    private UUID ownerId;
+    private UUID projectId;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        transactionPort = new InlineTransactionPort();
+        bulkCreateTasksService = new BulkCreateTasksService(
+                taskRepository,
+                projectRepository,
+                currentUserPort,
+                auditLogPort,
+                notificationPort,
+                transactionPort
+        );
+
+        ownerId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+
+        project = Project.builder()
+                .id(projectId)
+                .ownerId(ownerId)
+                .name("Test Project")
+                .status(ProjectStatus.DRAFT)
+                .deleted(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("BulkCreateTasks_ShouldSaveAllAndAuditOnce")
+    void bulkCreateTasks_ShouldSaveAllAndAuditOnce() {
+        // Arrange
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.addOpenTasks(projectId, 3)).thenReturn(true);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkCreateTasksUseCase.BulkCreateTasksCommand command =
+                new BulkCreateTasksUseCase.BulkCreateTasksCommand(projectId, List.of("First", "Second", "Third"));
+
+        // Act
+        List<Task> result = bulkCreateTasksService.execute(command);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(List.of("First", "Second", "Third"), result.stream().map(Task::getTitle).toList());
+        result.forEach(task -> {
+            assertEquals(projectId, task.getProjectId());
+            assertFalse(task.isCompleted());
+        });
+
+        // Verify interactions: one lookup, one batch, one counter update, one audit batch, one notification
+        verify(projectRepository, times(1)).findById(projectId);
+        verify(taskRepository, times(1)).saveAll(anyList());
+        verify(projectRepository).addOpenTasks(projectId, 3);
+        verify(auditLogPort).registerAll(eq("CREATE_TASK"), eq(result.stream().map(Task::getId).toList()));
+        verify(notificationPort, times(1)).notify(contains("3 tasks"));
+    }
+
+    @Test
+    @DisplayName("BulkCreateTasks_ByNonOwner_ShouldFail")
+    void bulkCreateTasks_ByNonOwner_ShouldFail() {
+        // Arrange
+        when(currentUserPort.getCurrentUserId()).thenReturn(UUID.randomUUID());
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+
+        BulkCreateTasksUseCase.BulkCreateTasksCommand command =
+                new BulkCreateTasksUseCase.BulkCreateTasksCommand(projectId, List.of("First"));
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> bulkCreateTasksService.execute(command));
+
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(auditLogPort, never()).registerAll(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("BulkCreateTasks_DeletedProject_ShouldFail")
+    void bulkCreateTasks_DeletedProject_ShouldFail() {
+        // Arrange
+        project.markAsDeleted();
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+
+        BulkCreateTasksUseCase.BulkCreateTasksCommand command =
+                new BulkCreateTasksUseCase.BulkCreateTasksCommand(projectId, List.of("First"));
+
+        // Act & Assert
+        assertThrows(ProjectNotFoundException.class, () -> bulkCreateTasksService.execute(command));
+
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(projectRepository, never()).addOpenTasks(any(UUID.class), any(Integer.class));
+    }
+
+    @Test
+    @DisplayName("BulkCreateTasks_ProjectDeletedAfterLookup_ShouldFail")
+    void bulkCreateTasks_ProjectDeletedAfterLookup_ShouldFail() {
+        // Arrange: the project was live when read but is deleted when the counters are updated
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.addOpenTasks(projectId, 1)).thenReturn(false);
+
+        BulkCreateTasksUseCase.BulkCreateTasksCommand command =
+                new BulkCreateTasksUseCase.BulkCreateTasksCommand(projectId, List.of("First"));
+
+        // Act & Assert
+        assertThrows(ProjectNotFoundException.class, () -> bulkCreateTasksService.execute(command));
+
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(auditLogPort, never()).registerAll(anyString(), anyList());
+        verify(notificationPort, never()).notify(anyString());
+    }
+
+    @Test
+    @DisplayName("BulkCreateTasksCommand_TooManyTitles_ShouldFail")
+    void bulkCreateTasksCommand_TooManyTitles_ShouldFail() {
+        // Arrange
+        List<String> titles = Collections.nCopies(BulkCreateTasksUseCase.MAX_TASKS + 1, "Task");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new BulkCreateTasksUseCase.BulkCreateTasksCommand(projectId, titles));
+    }
+}
@@ -0,0 +1,241 @@
+package com.riwi.assesment.application.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.riwi.assesment.domain.model.BulkTaskResult;
+import com.riwi.assesment.domain.model.BulkTaskResult.Status;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.port.in.BulkDeleteTasksUseCase;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+
+/**
+ * Unit tests for BulkDeleteTasksService.
+ * Tests are focused on business logic validation without Spring context.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkDeleteTasksServiceTest {
+
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private ProjectRepositoryPort projectRepository;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @Mock
+    private AuditLogPort auditLogPort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    private InlineTransactionPort transactionPort;
+
+    private BulkDeleteTasksService bulkDeleteTasksService;
+
+    private UUID ownerId;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        transactionPort = new InlineTransactionPort();
+        bulkDeleteTasksService = new BulkDeleteTasksService(
+                taskRepository,
+                projectRepository,
+                currentUserPort,
+                auditLogPort,
+                notificationPort,
+                transactionPort
+        );
+
+        ownerId = UUID.randomUUID();
+        project = project(ownerId, false);
+    }
+
+    @Test
+    @DisplayName("BulkDeleteTasks_MixedTasks_ShouldReportEachStatusInRequestOrder")
+    void bulkDeleteTasks_MixedTasks_ShouldReportEachStatusInRequestOrder() {
+        // Arrange
+        Task open = task(project, false, false);
+        Task alreadyDeleted = task(project, false, true);
+        Project foreignProject = project(UUID.randomUUID(), false);
+        Task foreign = task(foreignProject, false, false);
+        Project deletedProject = project(ownerId, true);
+        Task underDeletedProject = task(deletedProject, false, false);
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(open.getId(), alreadyDeleted.getId(), foreign.getId(),
+                underDeletedProject.getId(), missingId);
+
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findWithProjectByIds(ids)).thenReturn(List.of(
+                new TaskWithProject(open, project),
+                new TaskWithProject(alreadyDeleted, project),
+                new TaskWithProject(foreign, foreignProject),
+                new TaskWithProject(underDeletedProject, deletedProject)));
+        when(taskRepository.deleteAllOwnedBy(List.of(open.getId()), ownerId)).thenReturn(List.of(deleted(open)));
+
+        // Act
+        List<BulkTaskResult> results = bulkDeleteTasksService.execute(
+                new BulkDeleteTasksUseCase.BulkDeleteTasksCommand(ids));
+
+        // Assert
+        assertEquals(List.of(
+                new BulkTaskResult(open.getId(), Status.SUCCEEDED),
+                new BulkTaskResult(alreadyDeleted.getId(), Status.NOT_FOUND),
+                new BulkTaskResult(foreign.getId(), Status.FORBIDDEN),
+                new BulkTaskResult(underDeletedProject.getId(), Status.NOT_FOUND),
+                new BulkTaskResult(missingId, Status.NOT_FOUND)), results);
+        verify(auditLogPort).registerAll("DELETE_TASK", List.of(open.getId()));
+        verify(notificationPort).notify("1 tasks have been deleted");
+    }
+
+    @Test
+    @DisplayName("BulkDeleteTasks_OpenAndCompletedTasks_ShouldAdjustMatchingCounters")
+    void bulkDeleteTasks_OpenAndCompletedTasks_ShouldAdjustMatchingCounters() {
+        // Arrange: deletion does not depend on project status or completion
+        Project draftProject = project(ownerId, false);
+        Task open = task(draftProject, false, false);
+        Task completed = task(draftProject, true, false);
+        Task other = task(project, true, false);
+        List<UUID> ids = List.of(open.getId(), completed.getId(), other.getId());
+
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findWithProjectByIds(ids)).thenReturn(List.of(
+                new TaskWithProject(open, draftProject),
+                new TaskWithProject(completed, draftProject),
+                new TaskWithProject(other, project)));
+        when(taskRepository.deleteAllOwnedBy(ids, ownerId))
+                .thenReturn(List.of(deleted(open), deleted(completed), deleted(other)));
+
+        // Act
+        List<BulkTaskResult> results = bulkDeleteTasksService.execute(
+                new BulkDeleteTasksUseCase.BulkDeleteTasksCommand(ids));
+
+        // Assert
+        assertEquals(List.of(Status.SUCCEEDED, Status.SUCCEEDED, Status.SUCCEEDED),
+                results.stream().map(BulkTaskResult::status).toList());
+        verify(projectRepository).adjustTaskCounters(draftProject.getId(), -2, -1, -1);
+        verify(projectRepository).adjustTaskCounters(project.getId(), -1, 0, -1);
+        verify(notificationPort).notify("3 tasks have been deleted");
+    }
+
+    @Test
+    @DisplayName("BulkDeleteTasks_TaskDeletedConcurrently_ShouldReportInvalidState")
+    void bulkDeleteTasks_TaskDeletedConcurrently_ShouldReportInvalidState() {
+        // Arrange
+        Task first = task(project, false, false);
+        Task second = task(project, false, false);
+        List<UUID> ids = List.of(first.getId(), second.getId());
+
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findWithProjectByIds(ids)).thenReturn(List.of(
+                new TaskWithProject(first, project),
+                new TaskWithProject(second, project)));
+        // The second task was deleted by another request before the UPDATE ran
+        when(taskRepository.deleteAllOwnedBy(ids, ownerId)).thenReturn(List.of(deleted(first)));
+
+        // Act
+        List<BulkTaskResult> results = bulkDeleteTasksService.execute(
+                new BulkDeleteTasksUseCase.BulkDeleteTasksCommand(ids));
+
+        // Assert
+        assertEquals(Status.SUCCEEDED, results.get(0).status());
+        assertEquals(Status.INVALID_STATE, results.get(1).status());
+        verify(projectRepository).adjustTaskCounters(project.getId(), -1, -1, 0);
+        verify(auditLogPort).registerAll("DELETE_TASK", List.of(first.getId()));
+    }
+
+    @Test
+    @DisplayName("BulkDeleteTasks_NothingDeletable_ShouldNotIssueUpdate")
+    void bulkDeleteTasks_NothingDeletable_ShouldNotIssueUpdate() {
+        // Arrange
+        Project foreignProject = project(UUID.randomUUID(), false);
+        Task foreign = task(foreignProject, false, false);
+
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findWithProjectByIds(List.of(foreign.getId())))
+                .thenReturn(List.of(new TaskWithProject(foreign, foreignProject)));
+
+        // Act
+        List<BulkTaskResult> results = bulkDeleteTasksService.execute(
+                new BulkDeleteTasksUseCase.BulkDeleteTasksCommand(List.of(foreign.getId())));
+
+        // Assert
+        assertEquals(Status.FORBIDDEN, results.get(0).status());
+        verify(taskRepository, never()).deleteAllOwnedBy(anyList(), any());
+        verify(projectRepository, never()).adjustTaskCounters(any(), anyInt(), anyInt(), anyInt());
+        verify(auditLogPort, never()).registerAll(anyString(), anyList());
+        verify(notificationPort, never()).notify(anyString());
+    }
+
+    @Test
+    @DisplayName("BulkDeleteTasksCommand_TooManyIds_ShouldThrowIllegalArgumentException")
+    void bulkDeleteTasksCommand_TooManyIds_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(BulkDeleteTasksUseCase.MAX_TASKS + 1L)
+                .toList();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BulkDeleteTasksUseCase.BulkDeleteTasksCommand(ids));
+    }
+
+    private static Project project(UUID ownerId, boolean deleted) {
+        return Project.builder()
+                .id(UUID.randomUUID())
+                .ownerId(ownerId)
+                .name("Test Project")
+                .status(ProjectStatus.DRAFT)
+                .deleted(deleted)
+                .version(0L)
+                .build();
+    }
+
+    private static Task task(Project project, boolean completed, boolean deleted) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .projectId(project.getId())
+                .title("Task")
+                .completed(completed)
+                .deleted(deleted)
+                .version(0L)
+                .build();
+    }
+
+    private static Task deleted(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .projectId(task.getProjectId())
+                .title(task.getTitle())
+                .completed(task.isCompleted())
+                .deleted(true)
+                .version(task.getVersion() + 1)
+                .build();
+    }
+}
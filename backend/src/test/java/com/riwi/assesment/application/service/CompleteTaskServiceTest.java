@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
@@ -25,6 +26,7 @@ import com.riwi.assesment.domain.exception.ProjectNotFoundException;
 import com.riwi.assesment.domain.exception.TaskCannotBeCompletedException;
 import com.riwi.assesment.domain.exception.TaskNotFoundException;
 import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.exception.VersionMismatchException;
 import com.riwi.assesment.domain.model.Project;
 import com.riwi.assesment.domain.model.ProjectStatus;
 import com.riwi.assesment.domain.model.Task;
@@ -57,6 +59,8 @@ class CompleteTaskServiceTest {
     @Mock
     private NotificationPort notificationPort;
 
+    private InlineTransactionPort transactionPort;
+
     private CompleteTaskService completeTaskService;
 
     private UUID ownerId;
@@ -67,12 +71,14 @@ class CompleteTaskServiceTest {
 
     @BeforeEach
     void setUp() {
+        transactionPort = new InlineTransactionPort();
         completeTaskService = new CompleteTaskService(
                 taskRepository,
                 projectRepository,
                 currentUserPort,
                 auditLogPort,
-                notificationPort
+                notificationPort,
+                transactionPort
         );
 
         ownerId = UUID.randomUUID();
@@ -101,9 +107,8 @@ class CompleteTaskServiceTest {
     void completeTask_ShouldSucceed() {
         // Arrange
         when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(incompleteTask));
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.completeOwnedBy(taskId, ownerId, null))
+                .thenReturn(Optional.of(completed(incompleteTask)));
 
         CompleteTaskUseCase.CompleteTaskCommand command =
                 new CompleteTaskUseCase.CompleteTaskCommand(taskId);
@@ -115,10 +120,11 @@ class CompleteTaskServiceTest {
         assertNotNull(result);
         assertTrue(result.isCompleted());
 
-        // Verify interactions
-        verify(taskRepository).findById(taskId);
-        verify(projectRepository).findById(projectId);
-        verify(taskRepository).save(any(Task.class));
+        // Verify the fast path needs no reads or separate writes
+        verify(taskRepository, never()).findById(any(UUID.class));
+        verify(projectRepository, never()).findById(any(UUID.class));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(projectRepository, never()).adjustTaskCounters(any(UUID.class), anyInt(), anyInt(), anyInt());
     }
 
     @Test
@@ -126,9 +132,8 @@ class CompleteTaskServiceTest {
     void completeTask_ShouldGenerateAuditAndNotification() {
         // Arrange
         when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(incompleteTask));
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.completeOwnedBy(taskId, ownerId, null))
+                .thenReturn(Optional.of(completed(incompleteTask)));
 
         CompleteTaskUseCase.CompleteTaskCommand command =
                 new CompleteTaskUseCase.CompleteTaskCommand(taskId);
@@ -143,6 +148,49 @@ class CompleteTaskServiceTest {
         verify(notificationPort, times(1)).notify(contains("completed"));
     }
 
+    @Test
+    @DisplayName("CompleteTask_ConditionsHoldButUpdateRejected_ShouldFail")
+    void completeTask_ConditionsHoldButUpdateRejected_ShouldFail() {
+        // Arrange - Task completed by a concurrent request between the update and the re-read
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(incompleteTask));
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+
+        CompleteTaskUseCase.CompleteTaskCommand command =
+                new CompleteTaskUseCase.CompleteTaskCommand(taskId);
+
+        // Act & Assert
+        assertThrows(
+                TaskCannotBeCompletedException.class,
+                () -> completeTaskService.execute(command)
+        );
+
+        verify(notificationPort, never()).notify(anyString());
+    }
+
+    @Test
+    @DisplayName("CompleteTask_StaleIfMatchVersion_ShouldFail")
+    void completeTask_StaleIfMatchVersion_ShouldFail() {
+        // Arrange - the conditional update rejected version 1; the task is at version 2
+        incompleteTask.setVersion(2L);
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(incompleteTask));
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+
+        CompleteTaskUseCase.CompleteTaskCommand command =
+                new CompleteTaskUseCase.CompleteTaskCommand(taskId, 1L);
+
+        // Act & Assert
+        assertThrows(
+                VersionMismatchException.class,
+                () -> completeTaskService.execute(command)
+        );
+
+        verify(taskRepository).completeOwnedBy(taskId, ownerId, 1L);
+        verify(auditLogPort, never()).register(anyString(), any(UUID.class));
+        verify(notificationPort, never()).notify(anyString());
+    }
+
     @Test
     @DisplayName("CompleteTask_AlreadyCompleted_ShouldFail")
     void completeTask_AlreadyCompleted_ShouldFail() {
@@ -172,7 +220,6 @@ class CompleteTaskServiceTest {
 
         // Verify that save was never called
         verify(taskRepository, never()).save(any(Task.class));
-        verify(auditLogPort, never()).register(anyString(), any(UUID.class));
         verify(notificationPort, never()).notify(anyString());
     }
 
@@ -218,7 +265,7 @@ class CompleteTaskServiceTest {
 
         // Verify that save was never called
         verify(taskRepository, never()).save(any(Task.class));
-        verify(auditLogPort, never()).register(anyString(), any(UUID.class));
+        verify(notificationPort, never()).notify(anyString());
     }
 
     @Test
@@ -306,7 +353,16 @@ class CompleteTaskServiceTest {
 
         // Verify that save was never called
         verify(taskRepository, never()).save(any(Task.class));
-        verify(auditLogPort, never()).register(anyString(), any(UUID.class));
         verify(notificationPort, never()).notify(anyString());
     }
+
+    private static Task completed(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .projectId(task.getProjectId())
+                .title(task.getTitle())
+                .completed(true)
+                .deleted(false)
+                .build();
+    }
 }
@@ -0,0 +1,131 @@
+package com.riwi.assesment.application.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.riwi.assesment.domain.exception.ProjectNotFoundException;
+import com.riwi.assesment.domain.exception.UnauthorizedAccessException;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.port.in.CreateTaskUseCase;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.OwnershipPort;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+
+/**
+ * Unit tests for CreateTaskService.
+ * Tests are focused on business logic validation without Spring context.
+ */
+@ExtendWith(MockitoExtension.class)
+class CreateTaskServiceTest {
+
+    @Mock
+    private TaskRepositoryPort taskRepository;
+
+    @Mock
+    private ProjectRepositoryPort projectRepository;
+
+    @Mock
+    private OwnershipPort ownershipPort;
+
+    @Mock
+    private CurrentUserPort currentUserPort;
+
+    @Mock
+    private AuditLogPort auditLogPort;
+
+    @Mock
+    private NotificationPort notificationPort;
+
+    private CreateTaskService createTaskService;
+
+    private UUID ownerId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        createTaskService = new CreateTaskService(
+                taskRepository,
+                projectRepository,
+                ownershipPort,
+                currentUserPort,
+                auditLogPort,
+                notificationPort,
+                new InlineTransactionPort()
+        );
+
+        ownerId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("CreateTask_ShouldSaveAndCountOpenTask")
+    void createTask_ShouldSaveAndCountOpenTask() {
+        // Arrange
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(ownershipPort.findOwnerId(projectId)).thenReturn(Optional.of(ownerId));
+        when(projectRepository.addOpenTasks(projectId, 1)).thenReturn(true);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Task result = createTaskService.execute(new CreateTaskUseCase.CreateTaskCommand(projectId, "New task"));
+
+        // Assert
+        assertEquals(projectId, result.getProjectId());
+        assertFalse(result.isCompleted());
+        verify(auditLogPort).register("CREATE_TASK", result.getId());
+        verify(notificationPort).notify(eq("Task 'New task' has been created"));
+    }
+
+    @Test
+    @DisplayName("CreateTask_ByNonOwner_ShouldFail")
+    void createTask_ByNonOwner_ShouldFail() {
+        // Arrange
+        when(currentUserPort.getCurrentUserId()).thenReturn(UUID.randomUUID());
+        when(ownershipPort.findOwnerId(projectId)).thenReturn(Optional.of(ownerId));
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class,
+                () -> createTaskService.execute(new CreateTaskUseCase.CreateTaskCommand(projectId, "New task")));
+
+        verify(projectRepository, never()).addOpenTasks(any(UUID.class), anyInt());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("CreateTask_ProjectDeletedOnAnotherInstance_ShouldFail")
+    void createTask_ProjectDeletedOnAnotherInstance_ShouldFail() {
+        // Arrange: the ownership index still holds the project, the database no longer has it live
+        when(currentUserPort.getCurrentUserId()).thenReturn(ownerId);
+        when(ownershipPort.findOwnerId(projectId)).thenReturn(Optional.of(ownerId));
+        when(projectRepository.addOpenTasks(projectId, 1)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ProjectNotFoundException.class,
+                () -> createTaskService.execute(new CreateTaskUseCase.CreateTaskCommand(projectId, "New task")));
+
+        verify(ownershipPort).projectDeleted(projectId);
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(auditLogPort, never()).register(anyString(), any(UUID.class));
+        verify(notificationPort, never()).notify(anyString());
+    }
+}
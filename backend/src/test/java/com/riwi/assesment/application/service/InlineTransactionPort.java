@@ -0,0 +1,26 @@
+package com.riwi.assesment.application.service;
+
+import java.util.function.Supplier;
+
+import com.riwi.assesment.domain.port.out.TransactionPort;
+
+/**
+ * TransactionPort for unit tests: runs the work in the caller's thread and counts
+ * how many transactions were started and how many ended with an exception (rolled back).
+ */
+class InlineTransactionPort implements TransactionPort {
+
+    int started;
+    int rolledBack;
+
+    @Override
+    public <T> T inTransaction(Supplier<T> work) {
+        started++;
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            rolledBack++;
+            throw e;
+        }
+    }
+}
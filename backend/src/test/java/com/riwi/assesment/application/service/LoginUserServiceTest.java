@@ -0,0 +1,147 @@
+package com.riwi.assesment.application.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.port.in.LoginUserUseCase.LoginUserCommand;
+import com.riwi.assesment.domain.port.in.LoginUserUseCase.LoginUserResult;
+import com.riwi.assesment.domain.port.out.AuditLogPort;
+import com.riwi.assesment.domain.port.out.PasswordEncoderPort;
+import com.riwi.assesment.domain.port.out.TokenProviderPort;
+import com.riwi.assesment.domain.port.out.UserRepositoryPort;
+
+/**
+ * Unit tests for LoginUserService.
+ * Focused on the transparent password rehash after a successful login.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginUserServiceTest {
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private PasswordEncoderPort passwordEncoder;
+
+    @Mock
+    private TokenProviderPort tokenProvider;
+
+    @Mock
+    private AuditLogPort auditLogPort;
+
+    private InlineTransactionPort transactionPort;
+
+    private LoginUserService loginUserService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionPort = new InlineTransactionPort();
+        loginUserService = new LoginUserService(
+                userRepository,
+                passwordEncoder,
+                tokenProvider,
+                auditLogPort,
+                transactionPort
+        );
+
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .username("johndoe")
+                .email("john@example.com")
+                .password("old-hash")
+                .version(3L)
+                .build();
+        when(userRepository.findByUsername("johndoe")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("Execute_CurrentHash_ShouldNotRehash")
+    void execute_CurrentHash_ShouldNotRehash() {
+        // Arrange
+        when(passwordEncoder.matches("secret", "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(false);
+
+        // Act
+        LoginUserResult result = loginUserService.execute(new LoginUserCommand("johndoe", "secret"));
+
+        // Assert
+        assertTrue(result.success());
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepository, never()).save(any());
+        assertEquals(0, transactionPort.started);
+    }
+
+    @Test
+    @DisplayName("Execute_OutdatedHash_ShouldSaveRehashedPassword")
+    void execute_OutdatedHash_ShouldSaveRehashedPassword() {
+        // Arrange
+        when(passwordEncoder.matches("secret", "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("new-hash");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        LoginUserResult result = loginUserService.execute(new LoginUserCommand("johndoe", "secret"));
+
+        // Assert
+        assertTrue(result.success());
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertEquals("new-hash", saved.getValue().getPassword());
+        assertEquals(3L, saved.getValue().getVersion());
+        assertEquals(1, transactionPort.started);
+    }
+
+    @Test
+    @DisplayName("Execute_RehashConflicts_ShouldStillLogIn")
+    void execute_RehashConflicts_ShouldStillLogIn() {
+        // Arrange
+        when(passwordEncoder.matches("secret", "old-hash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("old-hash")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("new-hash");
+        when(userRepository.save(any(User.class))).thenThrow(new ConcurrentUpdateException("User", user.getId()));
+        when(tokenProvider.generateToken(user.getId(), "johndoe")).thenReturn("token");
+
+        // Act
+        LoginUserResult result = loginUserService.execute(new LoginUserCommand("johndoe", "secret"));
+
+        // Assert
+        assertTrue(result.success());
+        assertEquals("token", result.token());
+        assertEquals(1, transactionPort.rolledBack);
+    }
+
+    @Test
+    @DisplayName("Execute_WrongPassword_ShouldNotRehash")
+    void execute_WrongPassword_ShouldNotRehash() {
+        // Arrange
+        when(passwordEncoder.matches("wrong", "old-hash")).thenReturn(false);
+
+        // Act
+        LoginUserResult result = loginUserService.execute(new LoginUserCommand("johndoe", "wrong"));
+
+        // Assert
+        assertFalse(result.success());
+        verify(passwordEncoder, never()).upgradeEncoding(any());
+        verify(userRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,55 @@
+package com.riwi.assesment.domain.model;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the UUIDv7 generator.
+ */
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Generate_ShouldSetVersionAndVariant")
+    void generate_ShouldSetVersionAndVariant() {
+        // Act
+        UUID uuid = UuidV7.generate();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    @DisplayName("Generate_ShouldEmbedCurrentTimestamp")
+    void generate_ShouldEmbedCurrentTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        // Assert
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    @Test
+    @DisplayName("Generate_ManyInSameMillisecond_ShouldBeStrictlyIncreasing")
+    void generate_ManyInSameMillisecond_ShouldBeStrictlyIncreasing() {
+        // Arrange
+        UUID previous = UuidV7.generate();
+
+        // Act & Assert: compare as PostgreSQL does (unsigned, most significant bits first)
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                    "ids must increase: " + previous + " then " + next);
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.riwi.assesment.infrastructure.adapter.out.audit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.riwi.assesment.infrastructure.adapter.out.audit.AsyncAuditLogAdapter.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for AsyncAuditLogAdapter.
+ * The flusher thread is not started; batches are flushed explicitly so every test is deterministic.
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncAuditLogAdapterTest {
+
+    @Mock
+    private AuditLogAdapter syncWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Register_ShouldQueueWithoutWriting")
+    void register_ShouldQueueWithoutWriting() {
+        // Arrange
+        AsyncAuditLogAdapter adapter = adapter(10, 5, OverflowPolicy.SYNC);
+
+        // Act
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+        adapter.registerAll("CREATE_TASK", List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Assert
+        assertEquals(3, adapter.queueDepth());
+        assertEquals(3.0, meterRegistry.get("audit.queue.depth").gauge().value());
+        verify(syncWriter, never()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("Register_InsideTransaction_ShouldQueueOnlyAfterCommit")
+    void register_InsideTransaction_ShouldQueueOnlyAfterCommit() {
+        // Arrange
+        AsyncAuditLogAdapter adapter = adapter(10, 5, OverflowPolicy.SYNC);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+        adapter.registerAll("CREATE_TASK", List.of(UUID.randomUUID(), UUID.randomUUID()));
+        int beforeCommit = adapter.queueDepth();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(0, beforeCommit);
+        assertEquals(3, adapter.queueDepth());
+    }
+
+    @Test
+    @DisplayName("Register_TransactionRolledBack_ShouldNotQueue")
+    void register_TransactionRolledBack_ShouldNotQueue() {
+        // Arrange
+        AsyncAuditLogAdapter adapter = adapter(10, 5, OverflowPolicy.SYNC);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(0, adapter.queueDepth());
+        verify(syncWriter, never()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("FlushBatch_ShouldWriteAtMostBatchSizeEntries")
+    void flushBatch_ShouldWriteAtMostBatchSizeEntries() {
+        // Arrange
+        AsyncAuditLogAdapter adapter = adapter(10, 2, OverflowPolicy.SYNC);
+        adapter.registerAll("CREATE_TASK", List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        // Act
+        int first = adapter.flushBatch();
+        int second = adapter.flushBatch();
+
+        // Assert
+        assertEquals(2, first);
+        assertEquals(1, second);
+        assertEquals(0, adapter.queueDepth());
+        verify(syncWriter).write(argThat(batch -> batch.size() == 2));
+        verify(syncWriter).write(argThat(batch -> batch.size() == 1));
+        assertEquals(2, meterRegistry.get("audit.flush").timer().count());
+    }
+
+    @Test
+    @DisplayName("Register_QueueFullWithSyncPolicy_ShouldWriteInCallerThread")
+    void register_QueueFullWithSyncPolicy_ShouldWriteInCallerThread() {
+        // Arrange
+        AsyncAuditLogAdapter adapter = adapter(1, 10, OverflowPolicy.SYNC);
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+
+        // Act
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+
+        // Assert
+        assertEquals(1, adapter.queueDepth());
+        verify(syncWriter, times(1)).write(argThat(batch -> batch.size() == 1));
+        assertEquals(1.0, meterRegistry.get("audit.entries.sync.fallback").counter().count());
+    }
+
+    @Test
+    @DisplayName("Register_QueueFullWithDropPolicy_ShouldDiscardAndCount")
+    void register_QueueFullWithDropPolicy_ShouldDiscardAndCount() {
+        // Arrange
+        AsyncAuditLogAdapter adapter = adapter(1, 10, OverflowPolicy.DROP);
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+
+        // Act
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+
+        // Assert
+        assertEquals(1, adapter.queueDepth());
+        verify(syncWriter, never()).write(anyList());
+        assertEquals(1.0, meterRegistry.get("audit.entries.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Shutdown_ShouldDrainQueueAndWriteLaterEntriesSynchronously")
+    void shutdown_ShouldDrainQueueAndWriteLaterEntriesSynchronously() {
+        // Arrange
+        AsyncAuditLogAdapter adapter = adapter(10, 10, OverflowPolicy.DROP);
+        adapter.registerAll("CREATE_TASK", List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Act
+        adapter.shutdown();
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+
+        // Assert
+        assertEquals(0, adapter.queueDepth());
+        verify(syncWriter).write(argThat(batch -> batch.size() == 2));
+        verify(syncWriter).write(argThat(batch -> batch.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Register_CommitAfterShutdown_ShouldWriteSynchronouslyInNewTransaction")
+    void register_CommitAfterShutdown_ShouldWriteSynchronouslyInNewTransaction() {
+        // Arrange: the request registered before shutdown and commits while the queue drains
+        AsyncAuditLogAdapter adapter = adapter(10, 10, OverflowPolicy.DROP);
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.register("COMPLETE_TASK", UUID.randomUUID());
+        adapter.shutdown();
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(0, adapter.queueDepth());
+        verify(syncWriter).write(argThat(batch -> batch.size() == 1));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        assertEquals(1.0, meterRegistry.get("audit.entries.sync.fallback").counter().count());
+    }
+
+    private AsyncAuditLogAdapter adapter(int capacity, int batchSize, OverflowPolicy policy) {
+        return new AsyncAuditLogAdapter(syncWriter, transactionManager, meterRegistry, capacity, batchSize,
+                Duration.ofMillis(200), policy, Duration.ofMillis(1), Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,41 @@
+package com.riwi.assesment.infrastructure.adapter.out.memory;
+
+import org.junit.jupiter.api.BeforeEach;
+
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.UserRepositoryPort;
+import com.riwi.assesment.support.RepositoryPortContract;
+
+/**
+ * Runs the repository port contract against the in-memory adapters, on a fresh store per test.
+ */
+class InMemoryRepositoryPortContractTest implements RepositoryPortContract {
+
+    private InMemoryUserPersistenceAdapter userAdapter;
+    private InMemoryProjectPersistenceAdapter projectAdapter;
+    private InMemoryTaskPersistenceAdapter taskAdapter;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryStore store = new InMemoryStore();
+        userAdapter = new InMemoryUserPersistenceAdapter(store);
+        projectAdapter = new InMemoryProjectPersistenceAdapter(store);
+        taskAdapter = new InMemoryTaskPersistenceAdapter(store, projectAdapter);
+    }
+
+    @Override
+    public UserRepositoryPort userRepository() {
+        return userAdapter;
+    }
+
+    @Override
+    public ProjectRepositoryPort projectRepository() {
+        return projectAdapter;
+    }
+
+    @Override
+    public TaskRepositoryPort taskRepository() {
+        return taskAdapter;
+    }
+}
@@ -0,0 +1,107 @@
+package com.riwi.assesment.infrastructure.adapter.out.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.infrastructure.adapter.out.audit.AuditLogAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.notification.ConsoleNotificationAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository.OutboxEvent;
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Integration tests for OutboxDispatcher against PostgreSQL: the audit inserts of a batch must
+ * succeed before any of its notifications is sent.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AuditLogAdapter.class, JdbcOutboxRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxDeliveryTest extends PostgresContainerSupport {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    @Autowired
+    private JdbcOutboxRepository outboxRepository;
+
+    @Autowired
+    private AuditLogAdapter auditWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ConsoleNotificationAdapter notifier;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        notifier = mock(ConsoleNotificationAdapter.class);
+        dispatcher = new OutboxDispatcher(outboxRepository, auditWriter, notifier, transactionManager,
+                new SimpleMeterRegistry(), 10, 5, RETRY_DELAY);
+    }
+
+    @Test
+    @DisplayName("DispatchBatch_AuditInsertFails_ShouldNotNotifyAndShouldReschedule")
+    void dispatchBatch_AuditInsertFails_ShouldNotNotifyAndShouldReschedule() {
+        // Arrange: an audit row with the event's key already exists, so its insert fails
+        OutboxEvent audit = OutboxEvent.audit("CREATE_TASK", UUID.randomUUID(), null);
+        OutboxEvent message = OutboxEvent.notification("Task 'A' has been created");
+        outboxRepository.insertAll(List.of(audit, message));
+        jdbcTemplate.update("""
+                INSERT INTO audit_logs (id, action, entity_id, user_id, created_at)
+                SELECT id, action, entity_id, user_id, created_at FROM outbox_events WHERE id = ?
+                """, audit.id());
+
+        // Act
+        int claimed = dispatcher.dispatchBatch(false, 10);
+
+        // Assert
+        assertEquals(2, claimed);
+        verify(notifier, never()).notify(anyString());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events WHERE attempts = 1", Integer.class));
+    }
+
+    @Test
+    @DisplayName("DispatchBatch_AuditInsertSucceeds_ShouldWriteAuditNotifyAndDelete")
+    void dispatchBatch_AuditInsertSucceeds_ShouldWriteAuditNotifyAndDelete() {
+        // Arrange
+        OutboxEvent audit = OutboxEvent.audit("CREATE_TASK", UUID.randomUUID(), null);
+        OutboxEvent message = OutboxEvent.notification("Task 'B' has been created");
+        outboxRepository.insertAll(List.of(audit, message));
+
+        // Act
+        int claimed = dispatcher.dispatchBatch(false, 10);
+
+        // Assert
+        assertEquals(2, claimed);
+        verify(notifier).notify("Task 'B' has been created");
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM audit_logs WHERE id = ?", Integer.class, audit.id()));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events", Integer.class));
+    }
+}
@@ -0,0 +1,125 @@
+package com.riwi.assesment.infrastructure.adapter.out.outbox;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.riwi.assesment.infrastructure.adapter.out.audit.AuditLogAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.notification.ConsoleNotificationAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcOutboxRepository.OutboxEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for OutboxDispatcher.
+ * The repository and delivery adapters are mocked; transactions run against a mocked manager.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    @Mock
+    private JdbcOutboxRepository outboxRepository;
+
+    @Mock
+    private AuditLogAdapter auditWriter;
+
+    @Mock
+    private ConsoleNotificationAdapter notifier;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OutboxDispatcher(outboxRepository, auditWriter, notifier, transactionManager,
+                meterRegistry, 10, 5, RETRY_DELAY);
+    }
+
+    @Test
+    @DisplayName("DispatchBatch_MixedEvents_ShouldWriteAuditBatchNotifyAndDelete")
+    void dispatchBatch_MixedEvents_ShouldWriteAuditBatchNotifyAndDelete() {
+        // Arrange
+        OutboxEvent first = OutboxEvent.audit("CREATE_TASK", UUID.randomUUID(), UUID.randomUUID());
+        OutboxEvent second = OutboxEvent.audit("CREATE_TASK", UUID.randomUUID(), UUID.randomUUID());
+        OutboxEvent message = OutboxEvent.notification("Task 'A' has been created");
+        when(outboxRepository.claimDue(false, 10)).thenReturn(List.of(first, second, message));
+
+        // Act
+        int claimed = dispatcher.dispatchBatch(false, 10);
+
+        // Assert
+        assertEquals(3, claimed);
+        verify(auditWriter).write(argThat(batch -> batch.size() == 2
+                && batch.get(0).getId().equals(first.id())
+                && batch.get(0).getCreatedAt().equals(first.createdAt())));
+        verify(notifier).notify("Task 'A' has been created");
+        verify(outboxRepository).deleteAll(List.of(first.id(), second.id(), message.id()));
+        verify(transactionManager).commit(any());
+        assertEquals(2.0, meterRegistry.get("outbox.events.dispatched").tag("type", "AUDIT").counter().count());
+        assertEquals(1.0, meterRegistry.get("outbox.events.dispatched").tag("type", "NOTIFICATION").counter().count());
+    }
+
+    @Test
+    @DisplayName("DispatchBatch_AuditWriteFails_ShouldRollBackRescheduleAndNotNotify")
+    void dispatchBatch_AuditWriteFails_ShouldRollBackRescheduleAndNotNotify() {
+        // Arrange
+        OutboxEvent event = OutboxEvent.audit("CREATE_TASK", UUID.randomUUID(), null);
+        OutboxEvent message = OutboxEvent.notification("Task 'A' has been created");
+        when(outboxRepository.claimDue(false, 10)).thenReturn(List.of(event, message));
+        doThrow(new IllegalStateException("insert failed")).when(auditWriter).write(anyList());
+
+        // Act
+        int claimed = dispatcher.dispatchBatch(false, 10);
+
+        // Assert
+        assertEquals(2, claimed);
+        verify(transactionManager).rollback(any());
+        verify(outboxRepository, never()).deleteAll(anyList());
+        verify(notifier, never()).notify(any());
+        verify(outboxRepository).markFailed(List.of(event.id(), message.id()), "insert failed", RETRY_DELAY);
+        assertEquals(2.0, meterRegistry.get("outbox.events.failed").counter().count());
+        assertEquals(0.0, meterRegistry.get("outbox.events.dispatched").tag("type", "AUDIT").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dispatch_FailedEvents_ShouldBeRetriedOnePerTransaction")
+    void dispatch_FailedEvents_ShouldBeRetriedOnePerTransaction() {
+        // Arrange
+        OutboxEvent retried = OutboxEvent.notification("Project 'P' has been created");
+        when(outboxRepository.claimDue(false, 10)).thenReturn(List.of());
+        when(outboxRepository.claimDue(true, 1)).thenReturn(List.of(retried), List.of());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(notifier).notify("Project 'P' has been created");
+        verify(outboxRepository).deleteAll(List.of(retried.id()));
+        verify(auditWriter, never()).write(anyList());
+        verify(outboxRepository, never()).markFailed(anyList(), any(), eq(RETRY_DELAY));
+    }
+}
@@ -0,0 +1,169 @@
+package com.riwi.assesment.infrastructure.adapter.out.ownership;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.riwi.assesment.domain.model.UuidV7;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ProjectOwnershipIndex.
+ * The database is a map counted on every load; time is a manual nanosecond clock.
+ */
+class ProjectOwnershipIndexTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final Map<UUID, UUID> database = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicLong nanoClock = new AtomicLong();
+    private Runnable duringLoad = () -> { };
+
+    private ProjectOwnershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex(64);
+    }
+
+    @Test
+    @DisplayName("FindOwnerId_SecondLookup_ShouldNotLoadAgain")
+    void findOwnerId_SecondLookup_ShouldNotLoadAgain() {
+        // Arrange
+        UUID projectId = UuidV7.generate();
+        UUID ownerId = UUID.randomUUID();
+        database.put(projectId, ownerId);
+        index.findOwnerId(projectId);
+
+        // Act
+        Optional<UUID> owner = index.findOwnerId(projectId);
+
+        // Assert
+        assertEquals(Optional.of(ownerId), owner);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("FindOwnerId_UnknownProject_ShouldNotCacheAbsence")
+    void findOwnerId_UnknownProject_ShouldNotCacheAbsence() {
+        // Arrange
+        UUID projectId = UuidV7.generate();
+        index.findOwnerId(projectId);
+        database.put(projectId, UUID.randomUUID());
+
+        // Act
+        Optional<UUID> owner = index.findOwnerId(projectId);
+
+        // Assert
+        assertTrue(owner.isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("ProjectCreated_ShouldAnswerWithoutLoading")
+    void projectCreated_ShouldAnswerWithoutLoading() {
+        // Arrange
+        UUID projectId = UuidV7.generate();
+        UUID ownerId = UUID.randomUUID();
+
+        // Act
+        index.projectCreated(projectId, ownerId);
+
+        // Assert
+        assertEquals(Optional.of(ownerId), index.findOwnerId(projectId));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("ProjectDeleted_ShouldHideCachedProject")
+    void projectDeleted_ShouldHideCachedProject() {
+        // Arrange
+        UUID projectId = UuidV7.generate();
+        index.projectCreated(projectId, UUID.randomUUID());
+
+        // Act
+        index.projectDeleted(projectId);
+
+        // Assert
+        assertTrue(index.findOwnerId(projectId).isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("ProjectDeleted_DuringLoad_ShouldNotResurrectProject")
+    void projectDeleted_DuringLoad_ShouldNotResurrectProject() {
+        // Arrange - the load reads the row, then the project is deleted before the result is stored
+        UUID projectId = UuidV7.generate();
+        database.put(projectId, UUID.randomUUID());
+        duringLoad = () -> {
+            database.remove(projectId);
+            index.projectDeleted(projectId);
+        };
+
+        // Act
+        Optional<UUID> stale = index.findOwnerId(projectId);
+        duringLoad = () -> { };
+        Optional<UUID> owner = index.findOwnerId(projectId);
+
+        // Assert
+        assertTrue(stale.isPresent());
+        assertTrue(owner.isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("FindOwnerId_AfterTimeToLive_ShouldLoadAgain")
+    void findOwnerId_AfterTimeToLive_ShouldLoadAgain() {
+        // Arrange
+        UUID projectId = UuidV7.generate();
+        database.put(projectId, UUID.randomUUID());
+        index.findOwnerId(projectId);
+
+        // Act
+        nanoClock.addAndGet(TTL.toNanos() + 1);
+        index.findOwnerId(projectId);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("FindOwnerId_MoreProjectsThanCapacity_ShouldStayBoundedAndCorrect")
+    void findOwnerId_MoreProjectsThanCapacity_ShouldStayBoundedAndCorrect() {
+        // Arrange - room for 16 entries, 1000 projects
+        index = newIndex(16);
+        Map<UUID, UUID> owners = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            UUID projectId = UuidV7.generate();
+            owners.put(projectId, UUID.randomUUID());
+            nanoClock.incrementAndGet();
+        }
+        database.putAll(owners);
+
+        // Act & Assert - every answer is right whether it came from memory or the database
+        owners.forEach((projectId, ownerId) -> index.findOwnerId(projectId));
+        owners.forEach((projectId, ownerId) -> assertEquals(Optional.of(ownerId), index.findOwnerId(projectId)));
+        assertTrue(loads.get() > 1000);
+    }
+
+    private ProjectOwnershipIndex newIndex(int maxEntries) {
+        return new ProjectOwnershipIndex(projectId -> {
+            loads.incrementAndGet();
+            Optional<UUID> owner = Optional.ofNullable(database.get(projectId));
+            duringLoad.run();
+            return owner;
+        }, new SimpleMeterRegistry(), maxEntries, TTL, nanoClock::get);
+    }
+}
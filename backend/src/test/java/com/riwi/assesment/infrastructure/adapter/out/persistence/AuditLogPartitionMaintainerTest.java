@@ -0,0 +1,138 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.riwi.assesment.infrastructure.adapter.out.persistence.AuditLogPartitionMaintainer.ExpiredAction;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcAuditLogPartitionRepository;
+
+/**
+ * Unit tests for AuditLogPartitionMaintainer.
+ * The clock is fixed to 2026-10-17, so the current month is 2026-10.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcAuditLogPartitionRepository partitionRepository;
+
+    @Test
+    @DisplayName("Maintain_ShouldCreateCurrentAndFutureMonths")
+    void maintain_ShouldCreateCurrentAndFutureMonths() {
+        // Arrange
+        AuditLogPartitionMaintainer maintainer = maintainer(3, 12, ExpiredAction.DETACH);
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of());
+
+        // Act
+        maintainer.maintain();
+
+        // Assert
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 10));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 11));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 12));
+        verify(partitionRepository).createPartition(YearMonth.of(2027, 1));
+        verify(partitionRepository, times(4)).createPartition(any(YearMonth.class));
+    }
+
+    @Test
+    @DisplayName("Maintain_ExpiredMonths_ShouldDetachOnlyMonthsOutsideRetention")
+    void maintain_ExpiredMonths_ShouldDetachOnlyMonthsOutsideRetention() {
+        // Arrange - 12 months of retention keeps 2025-11 .. 2026-10
+        AuditLogPartitionMaintainer maintainer = maintainer(0, 12, ExpiredAction.DETACH);
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2025, 9), YearMonth.of(2025, 10), YearMonth.of(2025, 11), YearMonth.of(2026, 10)));
+
+        // Act
+        maintainer.maintain();
+
+        // Assert
+        verify(partitionRepository).detachPartition(YearMonth.of(2025, 9));
+        verify(partitionRepository).detachPartition(YearMonth.of(2025, 10));
+        verify(partitionRepository, never()).detachPartition(YearMonth.of(2025, 11));
+        verify(partitionRepository, never()).detachPartition(YearMonth.of(2026, 10));
+        verify(partitionRepository, never()).dropPartition(any(YearMonth.class));
+    }
+
+    @Test
+    @DisplayName("Maintain_DropAction_ShouldDropExpiredMonths")
+    void maintain_DropAction_ShouldDropExpiredMonths() {
+        // Arrange
+        AuditLogPartitionMaintainer maintainer = maintainer(0, 1, ExpiredAction.DROP);
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2026, 9), YearMonth.of(2026, 10)));
+
+        // Act
+        maintainer.maintain();
+
+        // Assert
+        verify(partitionRepository).dropPartition(YearMonth.of(2026, 9));
+        verify(partitionRepository, never()).dropPartition(YearMonth.of(2026, 10));
+        verify(partitionRepository, never()).detachPartition(any(YearMonth.class));
+    }
+
+    @Test
+    @DisplayName("Maintain_RowsInDefaultPartition_ShouldCreateTheirMonths")
+    void maintain_RowsInDefaultPartition_ShouldCreateTheirMonths() {
+        // Arrange - rows from an outage landed in the default partition
+        AuditLogPartitionMaintainer maintainer = maintainer(0, 12, ExpiredAction.DETACH);
+        when(partitionRepository.findDefaultPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2026, 8), YearMonth.of(2026, 9)));
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of());
+
+        // Act
+        maintainer.maintain();
+
+        // Assert
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 8));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 9));
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 10));
+        verify(partitionRepository, times(3)).createPartition(any(YearMonth.class));
+    }
+
+    @Test
+    @DisplayName("Maintain_CreateFails_ShouldCreateOtherMonthsAndApplyRetention")
+    void maintain_CreateFails_ShouldCreateOtherMonthsAndApplyRetention() {
+        // Arrange
+        AuditLogPartitionMaintainer maintainer = maintainer(1, 1, ExpiredAction.DROP);
+        doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .when(partitionRepository).createPartition(YearMonth.of(2026, 10));
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of(YearMonth.of(2026, 9)));
+
+        // Act
+        maintainer.maintain();
+
+        // Assert
+        verify(partitionRepository).createPartition(YearMonth.of(2026, 11));
+        verify(partitionRepository).dropPartition(YearMonth.of(2026, 9));
+    }
+
+    @Test
+    @DisplayName("Constructor_ZeroRetention_ShouldThrowIllegalArgumentException")
+    void constructor_ZeroRetention_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> maintainer(3, 0, ExpiredAction.DETACH));
+    }
+
+    private AuditLogPartitionMaintainer maintainer(int premakeMonths, int retentionMonths, ExpiredAction action) {
+        return new AuditLogPartitionMaintainer(partitionRepository, premakeMonths, retentionMonths, action, CLOCK);
+    }
+}
@@ -0,0 +1,52 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.UserRepositoryPort;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcTaskRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcUserRepository;
+import com.riwi.assesment.support.PostgresContainerSupport;
+import com.riwi.assesment.support.RepositoryPortContract;
+
+/**
+ * Runs the repository port contract against the JPA adapters on PostgreSQL, committing every call.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserPersistenceAdapter.class, ProjectPersistenceAdapter.class, EntityCacheEvictor.class,
+        TaskPersistenceAdapter.class, JdbcProjectRepository.class, JdbcTaskRepository.class, JdbcUserRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRepositoryPortContractTest extends PostgresContainerSupport implements RepositoryPortContract {
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    @Autowired
+    private ProjectPersistenceAdapter projectAdapter;
+
+    @Autowired
+    private TaskPersistenceAdapter taskAdapter;
+
+    @Override
+    public UserRepositoryPort userRepository() {
+        return userAdapter;
+    }
+
+    @Override
+    public ProjectRepositoryPort projectRepository() {
+        return projectAdapter;
+    }
+
+    @Override
+    public TaskRepositoryPort taskRepository() {
+        return taskAdapter;
+    }
+}
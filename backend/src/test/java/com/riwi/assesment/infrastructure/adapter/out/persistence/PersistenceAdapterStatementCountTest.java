@@ -0,0 +1,176 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcTaskRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcUserRepository;
+import com.riwi.assesment.infrastructure.config.SqlAccountingConfig;
+import com.riwi.assesment.infrastructure.observability.SqlAccounting;
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+/**
+ * Integration tests asserting how many SQL statements each adapter save path issues.
+ * Runs against PostgreSQL without a wrapping test transaction, so every save commits as in production.
+ * Statements are counted at the DataSource, so JPA and JDBC writes are counted alike.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SqlAccountingConfig.class, UserPersistenceAdapter.class, ProjectPersistenceAdapter.class, EntityCacheEvictor.class,
+        TaskPersistenceAdapter.class, JdbcProjectRepository.class, JdbcTaskRepository.class, JdbcUserRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PersistenceAdapterStatementCountTest extends PostgresContainerSupport {
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    @Autowired
+    private ProjectPersistenceAdapter projectAdapter;
+
+    @Autowired
+    private TaskPersistenceAdapter taskAdapter;
+
+    @Test
+    @DisplayName("SaveNewUser_ShouldIssueSingleInsert")
+    void saveNewUser_ShouldIssueSingleInsert() {
+        // Act
+        int statements = statementsOf(() -> userAdapter.save(newUser()));
+
+        // Assert
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("SaveExistingUser_ShouldIssueSingleUpdate")
+    void saveExistingUser_ShouldIssueSingleUpdate() {
+        // Arrange
+        User user = userAdapter.save(newUser());
+        user.setEmail("changed-" + user.getEmail());
+
+        // Act
+        int statements = statementsOf(() -> userAdapter.save(user));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(user.getVersion() + 1, userAdapter.findById(user.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("SaveNewProject_ShouldIssueSingleInsert")
+    void saveNewProject_ShouldIssueSingleInsert() {
+        // Arrange
+        User owner = userAdapter.save(newUser());
+
+        // Act
+        int statements = statementsOf(() -> projectAdapter.save(newProject(owner)));
+
+        // Assert
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("SaveExistingProject_ShouldIssueSingleUpdate")
+    void saveExistingProject_ShouldIssueSingleUpdate() {
+        // Arrange
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+        project.activate(true);
+
+        // Act
+        int statements = statementsOf(() -> projectAdapter.save(project));
+
+        // Assert
+        assertEquals(1, statements);
+        assertEquals(project.getVersion() + 1, projectAdapter.findById(project.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("SaveNewTask_ShouldIssueSingleInsert")
+    void saveNewTask_ShouldIssueSingleInsert() {
+        // Arrange
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+
+        // Act
+        int statements = statementsOf(() -> taskAdapter.save(newTask(project)));
+
+        // Assert
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("SaveExistingTask_ShouldIssueSingleUpdate")
+    void saveExistingTask_ShouldIssueSingleUpdate() {
+        // Arrange
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+        project.activate(true);
+        project = projectAdapter.save(project);
+        Task task = taskAdapter.save(newTask(project));
+        task.complete(project);
+
+        // Act
+        int statements = statementsOf(() -> taskAdapter.save(task));
+
+        // Assert
+        assertEquals(1, statements);
+    }
+
+    @Test
+    @DisplayName("SaveStaleTask_ShouldFailWithOptimisticLock")
+    void saveStaleTask_ShouldFailWithOptimisticLock() {
+        // Arrange
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+        Task task = taskAdapter.save(newTask(project));
+        task.setTitle("First writer");
+        taskAdapter.save(task);
+        task.setTitle("Second writer with stale version");
+
+        // Act & Assert
+        int statements = statementsOf(() ->
+                assertThrows(ConcurrentUpdateException.class, () -> taskAdapter.save(task)));
+        assertEquals(1, statements);
+    }
+
+    private static int statementsOf(Runnable work) {
+        try (SqlAccounting.Scope scope = SqlAccounting.open()) {
+            work.run();
+            return scope.statements();
+        }
+    }
+
+    private static User newUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .username("user-" + suffix)
+                .email("user-" + suffix + "@example.com")
+                .password("$2a$10$hash")
+                .build();
+    }
+
+    private static Project newProject(User owner) {
+        return Project.builder()
+                .ownerId(owner.getId())
+                .name("Statement count project")
+                .build();
+    }
+
+    private static Task newTask(Project project) {
+        return Task.builder()
+                .projectId(project.getId())
+                .title("Statement count task")
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcTaskRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcUserRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.routing.ReplicaSet;
+import com.riwi.assesment.infrastructure.adapter.out.security.CurrentUserAdapter;
+import com.riwi.assesment.infrastructure.config.ReadReplicaConfig;
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Integration tests for read replica routing of the persistence adapters on PostgreSQL.
+ * The replica pool points at the test database itself, which reports no lag; the route each
+ * connection took is read from the datasource.routing counters.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadReplicaConfig.class, CurrentUserAdapter.class, ReplicaReadRoutingTest.Metrics.class,
+        UserPersistenceAdapter.class, ProjectPersistenceAdapter.class, EntityCacheEvictor.class,
+        TaskPersistenceAdapter.class, JdbcProjectRepository.class, JdbcTaskRepository.class, JdbcUserRepository.class})
+@TestPropertySource(properties = {
+        "datasource.replicas.enabled=true",
+        "datasource.replicas.urls=${spring.datasource.url}",
+        "datasource.replicas.pool-size=2"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaReadRoutingTest extends PostgresContainerSupport {
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    @Autowired
+    private ProjectPersistenceAdapter projectAdapter;
+
+    @Autowired
+    private TaskPersistenceAdapter taskAdapter;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        // Anonymous caller, so the writes below pin nobody to the primary
+        User owner = userAdapter.save(User.builder()
+                .username("replica-" + UUID.randomUUID())
+                .email(UUID.randomUUID() + "@example.com")
+                .password("hash")
+                .build());
+        project = projectAdapter.save(Project.builder().ownerId(owner.getId()).name("Replica").build());
+        taskAdapter.save(Task.builder().projectId(project.getId()).title("Replica task").build());
+        replicaSet.probe();
+    }
+
+    @Test
+    @DisplayName("FindPageByOwnerId_ShouldReadFromReplica")
+    void findPageByOwnerId_ShouldReadFromReplica() {
+        // Arrange
+        double before = replicaReads();
+
+        // Act
+        int found = projectAdapter.findPageByOwnerId(project.getOwnerId(), null, 10).items().size();
+
+        // Assert
+        assertEquals(1, found);
+        assertEquals(before + 1, replicaReads());
+    }
+
+    @Test
+    @DisplayName("FindPageByProjectId_ShouldReadFromReplica")
+    void findPageByProjectId_ShouldReadFromReplica() {
+        // Arrange
+        double before = replicaReads();
+
+        // Act
+        int found = taskAdapter.findPageByProjectId(project.getId(), null, 10).items().size();
+
+        // Assert
+        assertEquals(1, found);
+        assertEquals(before + 1, replicaReads());
+    }
+
+    private double replicaReads() {
+        return meterRegistry.get("datasource.routing").tag("route", "read-replica").counter().count();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
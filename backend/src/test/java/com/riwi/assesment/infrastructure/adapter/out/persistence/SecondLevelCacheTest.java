@@ -0,0 +1,236 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcUserRepository;
+import com.riwi.assesment.infrastructure.config.SecondLevelCacheConfig;
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration tests for the second-level and query cache: hot lookups are served without SQL,
+ * and writes made through JPA, through JDBC or as soft deletes are never hidden by a cached entry.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SecondLevelCacheConfig.class, UserPersistenceAdapter.class, ProjectPersistenceAdapter.class,
+        JdbcProjectRepository.class, JdbcUserRepository.class, EntityCacheEvictor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest extends PostgresContainerSupport {
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    @Autowired
+    private ProjectPersistenceAdapter projectAdapter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("FindProjectById_AfterFirstRead_ShouldIssueNoStatement")
+    void findProjectById_AfterFirstRead_ShouldIssueNoStatement() {
+        // Arrange
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+        projectAdapter.findById(project.getId());
+
+        // Act
+        statistics.clear();
+        boolean found = projectAdapter.findById(project.getId()).isPresent();
+
+        // Assert
+        assertTrue(found);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("FindByUsername_AfterFirstRead_ShouldIssueNoStatement")
+    void findByUsername_AfterFirstRead_ShouldIssueNoStatement() {
+        // Arrange
+        User user = userAdapter.save(newUser());
+        userAdapter.findByUsername(user.getUsername());
+
+        // Act
+        statistics.clear();
+        boolean found = userAdapter.findByUsername(user.getUsername()).isPresent();
+
+        // Assert
+        assertTrue(found);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("AdjustTaskCounters_WithCachedProject_ShouldEvictIt")
+    void adjustTaskCounters_WithCachedProject_ShouldEvictIt() {
+        // Arrange
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+        projectAdapter.findById(project.getId());
+
+        // Act
+        projectAdapter.adjustTaskCounters(project.getId(), 1, 1, 0);
+
+        // Assert
+        Project reloaded = projectAdapter.findById(project.getId()).orElseThrow();
+        assertEquals(1, reloaded.getTotalTasks());
+        assertEquals(1, reloaded.getOpenTasks());
+    }
+
+    @Test
+    @DisplayName("SoftDelete_WithCachedProject_ShouldHideItFromFindById")
+    void softDelete_WithCachedProject_ShouldHideItFromFindById() {
+        // Arrange
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+        projectAdapter.findById(project.getId());
+        project.setDeleted(true);
+
+        // Act
+        projectAdapter.save(project);
+
+        // Assert
+        assertTrue(projectAdapter.findById(project.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("SaveExistingProject_WhenCachedVersionIsStale_ShouldSucceedAfterReRead")
+    void saveExistingProject_WhenCachedVersionIsStale_ShouldSucceedAfterReRead() {
+        // Arrange: another instance updated the row, this instance still caches the old version
+        Project project = projectAdapter.save(newProject(userAdapter.save(newUser())));
+        projectAdapter.findById(project.getId());
+        jdbcTemplate.update("UPDATE projects SET version = version + 1 WHERE id = ?", project.getId());
+        Project stale = projectAdapter.findById(project.getId()).orElseThrow();
+        stale.setName("Stale rename");
+        assertThrows(ConcurrentUpdateException.class, () -> projectAdapter.save(stale));
+
+        // Act
+        Project fresh = projectAdapter.findById(project.getId()).orElseThrow();
+        fresh.setName("Fresh rename");
+        Project saved = projectAdapter.save(fresh);
+
+        // Assert
+        assertEquals(project.getVersion() + 2, saved.getVersion());
+        assertEquals("Fresh rename", projectAdapter.findById(project.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("SaveExistingProject_WithOtherCachedProject_ShouldKeepItCached")
+    void saveExistingProject_WithOtherCachedProject_ShouldKeepItCached() {
+        // Arrange
+        User owner = userAdapter.save(newUser());
+        Project updated = projectAdapter.save(newProject(owner));
+        Project unrelated = projectAdapter.save(newProject(owner));
+        projectAdapter.findById(updated.getId());
+        projectAdapter.findById(unrelated.getId());
+        updated.setName("Renamed project");
+
+        // Act
+        projectAdapter.save(updated);
+
+        // Assert
+        statistics.clear();
+        assertEquals("Renamed project", projectAdapter.findById(updated.getId()).orElseThrow().getName());
+        assertTrue(projectAdapter.findById(unrelated.getId()).isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("SaveExistingUser_WithOtherCachedUser_ShouldKeepItCached")
+    void saveExistingUser_WithOtherCachedUser_ShouldKeepItCached() {
+        // Arrange
+        User updated = userAdapter.save(newUser());
+        User unrelated = userAdapter.save(newUser());
+        userAdapter.findByUsername(unrelated.getUsername());
+        updated.setPassword("$2a$12$rehashed");
+
+        // Act
+        userAdapter.save(updated);
+
+        // Assert
+        statistics.clear();
+        assertTrue(userAdapter.findByUsername(unrelated.getUsername()).isPresent());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("SoftDelete_WithCachedOwnerPage_ShouldDropItFromPage")
+    void softDelete_WithCachedOwnerPage_ShouldDropItFromPage() {
+        // Arrange
+        User owner = userAdapter.save(newUser());
+        Project kept = projectAdapter.save(newProject(owner));
+        Project deleted = projectAdapter.save(newProject(owner));
+        projectAdapter.findPageByOwnerId(owner.getId(), null, 20);
+        deleted.setDeleted(true);
+
+        // Act
+        projectAdapter.save(deleted);
+
+        // Assert
+        assertEquals(List.of(kept.getId()), projectAdapter.findPageByOwnerId(owner.getId(), null, 20).items()
+                .stream().map(Project::getId).toList());
+    }
+
+    @Test
+    @DisplayName("FindPageByOwnerId_AfterNewProject_ShouldIncludeIt")
+    void findPageByOwnerId_AfterNewProject_ShouldIncludeIt() {
+        // Arrange
+        User owner = userAdapter.save(newUser());
+        projectAdapter.save(newProject(owner));
+        projectAdapter.findPageByOwnerId(owner.getId(), null, 20);
+
+        // Act
+        projectAdapter.save(newProject(owner));
+
+        // Assert
+        assertEquals(2, projectAdapter.findPageByOwnerId(owner.getId(), null, 20).items().size());
+    }
+
+    private static User newUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .username("user-" + suffix)
+                .email("user-" + suffix + "@example.com")
+                .password("$2a$10$hash")
+                .build();
+    }
+
+    private static Project newProject(User owner) {
+        return Project.builder()
+                .ownerId(owner.getId())
+                .name("Cached project")
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcProjectRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcTaskRepository;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.repository.JdbcUserRepository;
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+/**
+ * Integration tests for TaskCounterReconciler against PostgreSQL: drifted counters are found and
+ * rewritten from the tasks table, counters in sync are left alone, concurrent counter updates are kept.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserPersistenceAdapter.class, ProjectPersistenceAdapter.class, EntityCacheEvictor.class,
+        TaskPersistenceAdapter.class, JdbcProjectRepository.class, JdbcTaskRepository.class, JdbcUserRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskCounterReconcilerTest extends PostgresContainerSupport {
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    @Autowired
+    private ProjectPersistenceAdapter projectAdapter;
+
+    @Autowired
+    private TaskPersistenceAdapter taskAdapter;
+
+    @Autowired
+    private JdbcProjectRepository jdbcProjectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        // Batches of two, so the walk spans several batches; a first run clears drift left by other tests
+        reconciler = new TaskCounterReconciler(jdbcProjectRepository, 2);
+        reconciler.reconcile();
+    }
+
+    @Test
+    @DisplayName("Reconcile_ShouldRewriteDriftedCountersFromTasks")
+    void reconcile_ShouldRewriteDriftedCountersFromTasks() {
+        // Arrange: tasks written without their counter updates, as after a crash between the two
+        Project drifted = projectAdapter.save(newProject());
+        taskAdapter.save(newTask(drifted, false));
+        taskAdapter.save(newTask(drifted, true));
+        Task deleted = taskAdapter.save(newTask(drifted, false));
+        deleted.markAsDeleted();
+        taskAdapter.save(deleted);
+        Project inflated = projectAdapter.save(newProject());
+        projectAdapter.adjustTaskCounters(inflated.getId(), 4, 3, 1);
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        assertEquals(List.of(2, 1, 1), counters(drifted.getId()));
+        assertEquals(List.of(0, 0, 0), counters(inflated.getId()));
+    }
+
+    @Test
+    @DisplayName("Reconcile_ShouldOnlyRewriteProjectsThatDrifted")
+    void reconcile_ShouldOnlyRewriteProjectsThatDrifted() {
+        // Arrange
+        Project inSync = projectAdapter.save(newProject());
+        taskAdapter.save(newTask(inSync, false));
+        projectAdapter.adjustTaskCounters(inSync.getId(), 1, 1, 0);
+        Project drifted = projectAdapter.save(newProject());
+        taskAdapter.save(newTask(drifted, false));
+
+        // Act
+        int repaired = jdbcProjectRepository.reconcileTaskCounters(List.of(inSync.getId(), drifted.getId()));
+        int repairedAgain = jdbcProjectRepository.reconcileTaskCounters(List.of(inSync.getId(), drifted.getId()));
+
+        // Assert
+        assertEquals(1, repaired);
+        assertEquals(0, repairedAgain);
+        assertEquals(List.of(1, 1, 0), counters(inSync.getId()));
+        assertEquals(List.of(1, 1, 0), counters(drifted.getId()));
+    }
+
+    @Test
+    @DisplayName("Reconcile_ShouldKeepCounterUpdateItWaitedFor")
+    void reconcile_ShouldKeepCounterUpdateItWaitedFor() throws Exception {
+        // Arrange: a task write holds the project row after updating its counters
+        Project project = projectAdapter.save(newProject());
+        CountDownLatch countersUpdated = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    taskAdapter.save(newTask(project, false));
+                    projectAdapter.adjustTaskCounters(project.getId(), 1, 1, 0);
+                    countersUpdated.countDown();
+                    await(release);
+                }));
+        await(countersUpdated);
+
+        // Act: reconcile while the write is in flight, then let the write commit
+        CompletableFuture<Integer> reconciled = CompletableFuture.supplyAsync(() ->
+                jdbcProjectRepository.reconcileTaskCounters(List.of(project.getId())));
+        awaitLockWaiter();
+        release.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+
+        // Assert: the recount ran after the write committed, so there was nothing to repair
+        assertEquals(0, reconciled.get(10, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 1, 0), counters(project.getId()));
+    }
+
+    private void awaitLockWaiter() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM pg_stat_activity
+                    WHERE datname = current_database() AND wait_event_type = 'Lock'
+                    """, Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Reconciliation never waited for the project row lock");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Integer> counters(UUID projectId) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT total_tasks, open_tasks, completed_tasks FROM projects WHERE id = ?", projectId);
+        return List.of(((Number) row.get("total_tasks")).intValue(), ((Number) row.get("open_tasks")).intValue(),
+                ((Number) row.get("completed_tasks")).intValue());
+    }
+
+    private Project newProject() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User owner = userAdapter.save(User.builder()
+                .username("reconcile-" + suffix)
+                .email("reconcile-" + suffix + "@example.com")
+                .password("$2a$10$hash")
+                .build());
+        return Project.builder().ownerId(owner.getId()).name("Reconciled project").build();
+    }
+
+    private static Task newTask(Project project, boolean completed) {
+        return Task.builder()
+                .projectId(project.getId())
+                .title("Reconciled task")
+                .completed(completed)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+/**
+ * Integration tests for the audit_logs partitions, against PostgreSQL.
+ * Uses a month far in the past so it never meets the partitions other tests write to.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcAuditLogPartitionRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcAuditLogPartitionRepositoryTest extends PostgresContainerSupport {
+
+    private static final YearMonth STRAY_MONTH = YearMonth.of(2001, 1);
+
+    @Autowired
+    private JdbcAuditLogPartitionRepository partitionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + JdbcAuditLogPartitionRepository.partitionName(STRAY_MONTH));
+        jdbcTemplate.update("DELETE FROM audit_logs_default WHERE created_at < '2001-02-01'");
+    }
+
+    @Test
+    @DisplayName("CreatePartition_WithRowsInDefaultPartition_ShouldMoveThemIntoIt")
+    void createPartition_WithRowsInDefaultPartition_ShouldMoveThemIntoIt() {
+        // Arrange
+        jdbcTemplate.update("""
+                INSERT INTO audit_logs (action, entity_id, created_at)
+                SELECT 'COMPLETE_TASK', gen_random_uuid(), TIMESTAMP '2001-01-15 10:00:00' FROM generate_series(1, 3)
+                """);
+        assertTrue(partitionRepository.findDefaultPartitionMonths().contains(STRAY_MONTH));
+
+        // Act
+        partitionRepository.createPartition(STRAY_MONTH);
+
+        // Assert
+        String partition = JdbcAuditLogPartitionRepository.partitionName(STRAY_MONTH);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partition, Long.class));
+        assertFalse(partitionRepository.findDefaultPartitionMonths().contains(STRAY_MONTH));
+        assertTrue(partitionRepository.findPartitionMonths().contains(STRAY_MONTH));
+        assertEquals(1, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM pg_inherits
+                WHERE inhparent = CAST('audit_logs' AS regclass) AND inhrelid = CAST('audit_logs_default' AS regclass)
+                """, Long.class));
+    }
+}
@@ -0,0 +1,235 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.repository;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+/**
+ * Verifies that every repository query is served by an index once the tables hold realistic volumes.
+ * Seeds 1,000 users, 20,000 projects, 200,000 tasks and one audit row per task, runs ANALYZE, then EXPLAINs each query
+ * and fails on any sequential scan. Native and JDBC queries are read from the repositories themselves, so
+ * the test follows any change to them. JPQL and derived queries are checked through hand-written SQL with
+ * the same filters, including the deleted = false restriction; it must be updated along with them.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest extends PostgresContainerSupport {
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<!:):(\\w+)");
+    private static final Pattern SEQUENTIAL_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Map<String, String> parameters;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("""
+                INSERT INTO users (username, email, password)
+                SELECT 'plan-user-' || g, 'plan-user-' || g || '@example.com', 'hash'
+                FROM generate_series(1, 1000) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO projects (owner_id, name, status, deleted, created_at)
+                SELECT u.id, 'Project ' || g,
+                       CASE WHEN g % 2 = 0 THEN 'ACTIVE' ELSE 'DRAFT' END,
+                       g % 10 = 0,
+                       LOCALTIMESTAMP - g * INTERVAL '1 hour'
+                FROM users u, generate_series(1, 20) g
+                WHERE u.username LIKE 'plan-user-%'
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO tasks (project_id, title, completed, deleted, created_at)
+                SELECT p.id, 'Task ' || g, g % 3 = 0, g % 7 = 0, p.created_at + g * INTERVAL '1 minute'
+                FROM projects p, generate_series(1, 10) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO audit_logs (action, entity_id, user_id, created_at)
+                SELECT 'COMPLETE_TASK', t.id, p.owner_id, LOCALTIMESTAMP - INTERVAL '1 second'
+                FROM tasks t JOIN projects p ON p.id = t.project_id
+                """);
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE projects");
+        jdbcTemplate.execute("ANALYZE tasks");
+        jdbcTemplate.execute("ANALYZE audit_logs");
+
+        UUID ownerId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE username = 'plan-user-500'", UUID.class);
+        UUID projectId = jdbcTemplate.queryForObject(
+                "SELECT id FROM projects WHERE owner_id = ? AND deleted = false LIMIT 1", UUID.class, ownerId);
+        UUID taskId = jdbcTemplate.queryForObject(
+                "SELECT id FROM tasks WHERE project_id = ? LIMIT 1", UUID.class, projectId);
+
+        parameters = Map.ofEntries(
+                Map.entry("ownerId", quote(ownerId)),
+                Map.entry("projectId", quote(projectId)),
+                Map.entry("projectIds", quote(projectId)),
+                Map.entry("afterId", quote(projectId)),
+                Map.entry("id", quote(taskId)),
+                Map.entry("taskId", quote(taskId)),
+                Map.entry("taskIds", "'{" + taskId + "}'"),
+                Map.entry("createdAt", "LOCALTIMESTAMP - INTERVAL '10 hours'"),
+                Map.entry("expectedVersion", "NULL"),
+                Map.entry("version", "0"),
+                Map.entry("limit", "50"),
+                Map.entry("taskLimit", "5"),
+                Map.entry("batchSize", "500"),
+                Map.entry("totalDelta", "1"),
+                Map.entry("openDelta", "1"),
+                Map.entry("completedDelta", "0"),
+                Map.entry("count", "1"),
+                Map.entry("username", "'plan-user-500'"),
+                Map.entry("email", "'plan-user-500@example.com'"),
+                Map.entry("password", "'hash'"),
+                Map.entry("name", "'x'"),
+                Map.entry("status", "'ACTIVE'"),
+                Map.entry("deleted", "false")
+        );
+    }
+
+    static Stream<Arguments> queries() throws NoSuchMethodException {
+        return Stream.of(
+                // JpaUserRepository (derived queries)
+                Arguments.of("users.findByUsername", "SELECT * FROM users WHERE username = :username"),
+                Arguments.of("users.findByEmail", "SELECT * FROM users WHERE email = :email"),
+                Arguments.of("users.existsByUsername", "SELECT id FROM users WHERE username = :username LIMIT 1"),
+                Arguments.of("users.existsByEmail", "SELECT id FROM users WHERE email = :email LIMIT 1"),
+
+                // JpaProjectRepository
+                Arguments.of("projects.findById", "SELECT * FROM projects WHERE id = :projectId AND deleted = false"),
+                Arguments.of("projects.findByOwnerId", "SELECT * FROM projects WHERE owner_id = :ownerId AND deleted = false"),
+                Arguments.of("projects.findByIdIncludingDeleted",
+                        nativeQuery(JpaProjectRepository.class, "findByIdIncludingDeleted")),
+                Arguments.of("projects.findFirstPageByOwnerId",
+                        nativeQuery(JpaProjectRepository.class, "findFirstPageByOwnerId")),
+                Arguments.of("projects.findPageByOwnerIdAfter",
+                        nativeQuery(JpaProjectRepository.class, "findPageByOwnerIdAfter")),
+
+                // JpaTaskRepository
+                Arguments.of("tasks.findById", "SELECT * FROM tasks WHERE id = :taskId AND deleted = false"),
+                Arguments.of("tasks.findByProjectId", "SELECT * FROM tasks WHERE project_id = :projectId AND deleted = false"),
+                Arguments.of("tasks.countByProjectId",
+                        "SELECT count(id) FROM tasks WHERE project_id = :projectId AND deleted = false"),
+                Arguments.of("tasks.existsByProjectIdAndCompletedFalse",
+                        "SELECT id FROM tasks WHERE project_id = :projectId AND completed = false AND deleted = false LIMIT 1"),
+                Arguments.of("tasks.findAllByProjectOwnerId",
+                        "SELECT t.* FROM tasks t JOIN projects p ON t.project_id = p.id AND p.deleted = false "
+                                + "WHERE p.owner_id = :ownerId AND t.deleted = false"),
+                Arguments.of("tasks.findByIdIncludingDeleted",
+                        nativeQuery(JpaTaskRepository.class, "findByIdIncludingDeleted")),
+                Arguments.of("tasks.findFirstPageByProjectId",
+                        nativeQuery(JpaTaskRepository.class, "findFirstPageByProjectId")),
+                Arguments.of("tasks.findPageByProjectIdAfter",
+                        nativeQuery(JpaTaskRepository.class, "findPageByProjectIdAfter")),
+                Arguments.of("tasks.updateIfVersionMatches",
+                        "UPDATE tasks SET title = 'x', completed = true, deleted = false, version = version + 1 "
+                                + "WHERE id = :taskId AND version = :version"),
+
+                // JdbcProjectRepository
+                Arguments.of("jdbc.findWithTasksByOwner", JdbcProjectRepository.FIND_WITH_TASKS_BY_OWNER),
+                Arguments.of("jdbc.findOwnerId", JdbcProjectRepository.FIND_OWNER_ID),
+                Arguments.of("jdbc.adjustTaskCounters", JdbcProjectRepository.ADJUST_TASK_COUNTERS),
+                Arguments.of("jdbc.addOpenTasks", JdbcProjectRepository.ADD_OPEN_TASKS),
+                Arguments.of("jdbc.findProjectIdsAfter", JdbcProjectRepository.FIND_PROJECT_IDS_AFTER),
+                Arguments.of("jdbc.reconcileTaskCounters", JdbcProjectRepository.RECONCILE_TASK_COUNTERS),
+                Arguments.of("jdbc.updateProjectIfVersionMatches", JdbcProjectRepository.UPDATE_IF_VERSION_MATCHES),
+
+                // JdbcUserRepository
+                Arguments.of("jdbc.updateUserIfVersionMatches", JdbcUserRepository.UPDATE_IF_VERSION_MATCHES),
+
+                // JdbcTaskRepository
+                Arguments.of("jdbc.findWithProjectByIds", JdbcTaskRepository.FIND_WITH_PROJECT_BY_IDS),
+                Arguments.of("jdbc.completeAllOwnedBy", JdbcTaskRepository.COMPLETE_ALL_OWNED_BY),
+                Arguments.of("jdbc.deleteAllOwnedBy", JdbcTaskRepository.DELETE_ALL_OWNED_BY),
+                Arguments.of("jdbc.completeOwnedBy", JdbcTaskRepository.COMPLETE_OWNED_BY),
+
+                // audit_logs lookups within recent partitions
+                Arguments.of("audit.byEntityRecent",
+                        "SELECT * FROM audit_logs WHERE entity_id = :taskId "
+                                + "AND created_at >= LOCALTIMESTAMP - INTERVAL '7 days' ORDER BY created_at DESC"),
+                Arguments.of("audit.byUserRecent",
+                        "SELECT * FROM audit_logs WHERE user_id = :ownerId "
+                                + "AND created_at >= LOCALTIMESTAMP - INTERVAL '7 days' ORDER BY created_at DESC LIMIT 50")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void query_AtScale_ShouldNotUseSequentialScan(String name, String sql) {
+        // Act
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + bind(sql), String.class));
+
+        // Assert
+        assertFalse(scansNonEmptyRelation(plan), name + " falls back to a sequential scan:\n" + plan);
+        assertTrue(plan.contains("Index"), name + " uses no index:\n" + plan);
+    }
+
+    /**
+     * Whether the plan scans a relation that holds data. The empty future and default audit_logs
+     * partitions are always scanned sequentially, which reads nothing.
+     */
+    private boolean scansNonEmptyRelation(String plan) {
+        Matcher matcher = SEQUENTIAL_SCAN.matcher(plan);
+        while (matcher.find()) {
+            Integer pages = jdbcTemplate.queryForObject(
+                    "SELECT relpages FROM pg_class WHERE relname = ?", Integer.class, matcher.group(1));
+            if (pages == null || pages > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inlines literal values for the named parameters, since EXPLAIN cannot take bind parameters.
+     */
+    private String bind(String sql) {
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String value = parameters.get(matcher.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("No test value for parameter :" + matcher.group(1));
+            }
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(bound);
+        return bound.toString();
+    }
+
+    private static String nativeQuery(Class<?> repository, String methodName) {
+        Method method = Arrays.stream(repository.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+        return method.getAnnotation(Query.class).value();
+    }
+
+    private static String quote(UUID id) {
+        return "'" + id + "'";
+    }
+}
@@ -0,0 +1,159 @@
+package com.riwi.assesment.infrastructure.adapter.out.persistence.routing;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ * Replicas are stub DataSources whose lag is fed to ReplicaSet directly instead of being probed;
+ * transactions are simulated through TransactionSynchronizationManager.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private UUID currentUserId;
+    private ReplicaSet replicaSet;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        replicaSet = new ReplicaSet(replicas, Duration.ofSeconds(2), meterRegistry);
+        tracker = new ReadYourWritesTracker(WINDOW, nanoClock::get);
+        currentUserId = UUID.randomUUID();
+        routing = new ReplicaRoutingDataSource(primary, replicaSet, tracker, () -> currentUserId, meterRegistry);
+        routing.afterPropertiesSet();
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("ReadOnlyTransaction_HealthyReplicas_ShouldRoundRobinReplicas")
+    void readOnlyTransaction_HealthyReplicas_ShouldRoundRobinReplicas() {
+        // Arrange
+        replicaSet.update("replica-0", 0.0);
+        replicaSet.update("replica-1", 0.5);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object first = routing.determineCurrentLookupKey();
+        Object second = routing.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals("replica-0", first);
+        assertEquals("replica-1", second);
+    }
+
+    @Test
+    @DisplayName("ReadWriteTransaction_ShouldUsePrimaryAndPinUserAfterCommit")
+    void readWriteTransaction_ShouldUsePrimaryAndPinUserAfterCommit() {
+        // Arrange
+        replicaSet.update("replica-0", 0.0);
+
+        // Act
+        Object key = routing.determineCurrentLookupKey();
+        boolean pinnedBeforeCommit = tracker.isPinned(currentUserId);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, key);
+        assertFalse(pinnedBeforeCommit);
+        assertTrue(tracker.isPinned(currentUserId));
+    }
+
+    @Test
+    @DisplayName("ReadOnlyTransaction_UserWroteRecently_ShouldReadFromPrimaryUntilWindowPasses")
+    void readOnlyTransaction_UserWroteRecently_ShouldReadFromPrimaryUntilWindowPasses() {
+        // Arrange
+        replicaSet.update("replica-0", 0.0);
+        tracker.recordWrite(currentUserId);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object withinWindow = routing.determineCurrentLookupKey();
+        nanoClock.addAndGet(WINDOW.toNanos() + 1);
+        Object afterWindow = routing.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, withinWindow);
+        assertEquals("replica-0", afterWindow);
+    }
+
+    @Test
+    @DisplayName("ReadOnlyTransaction_ReplicasLaggingOrDown_ShouldFallBackToPrimary")
+    void readOnlyTransaction_ReplicasLaggingOrDown_ShouldFallBackToPrimary() {
+        // Arrange
+        replicaSet.update("replica-0", 0.0);
+        replicaSet.update("replica-0", 10.0);
+        replicaSet.update("replica-1", Double.NaN);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Object whileLagging = routing.determineCurrentLookupKey();
+        replicaSet.update("replica-0", 1.0);
+        Object afterCatchUp = routing.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, whileLagging);
+        assertEquals("replica-0", afterCatchUp);
+    }
+
+    @Test
+    @DisplayName("EvictExpired_ShouldForgetUsersOutsideWindow")
+    void evictExpired_ShouldForgetUsersOutsideWindow() {
+        // Arrange
+        tracker.recordWrite(UUID.randomUUID());
+        nanoClock.addAndGet(WINDOW.toNanos());
+        tracker.recordWrite(currentUserId);
+
+        // Act
+        tracker.evictExpired();
+
+        // Assert
+        assertEquals(1, tracker.size());
+        assertTrue(tracker.isPinned(currentUserId));
+    }
+}
@@ -0,0 +1,143 @@
+package com.riwi.assesment.infrastructure.adapter.out.security;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.riwi.assesment.domain.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for PasswordEncoderAdapter.
+ * A single hashing thread is held on a latch to fill the pool on demand.
+ */
+class PasswordEncoderAdapterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private PasswordEncoderAdapter adapter;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (adapter != null) {
+            adapter.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("EncodeAndMatches_ShouldRunOffTheCallerThread")
+    void encodeAndMatches_ShouldRunOffTheCallerThread() {
+        // Arrange
+        adapter = newAdapter(new BCryptPasswordEncoder(4), 64, Duration.ofSeconds(5));
+
+        // Act
+        String encoded = adapter.encode("secret");
+
+        // Assert
+        assertTrue(adapter.matches("secret", encoded));
+        assertFalse(adapter.matches("other", encoded));
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    @DisplayName("Matches_QueueFull_ShouldFailFastWithOverload")
+    void matches_QueueFull_ShouldFailFastWithOverload() throws Exception {
+        // Arrange
+        adapter = newAdapter(blockingEncoder(), 1, Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> adapter.matches("running", "hash"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> adapter.matches("queued", "hash"));
+        waitForQueueDepth(1);
+
+        // Act
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> adapter.matches("rejected", "hash"));
+
+        // Assert
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").tag("reason", "queue-full").counter().count());
+    }
+
+    @Test
+    @DisplayName("Encode_ResultLate_ShouldFailWithOverloadAndDropQueuedWork")
+    void encode_ResultLate_ShouldFailWithOverloadAndDropQueuedWork() throws Exception {
+        // Arrange
+        adapter = newAdapter(blockingEncoder(), 4, Duration.ofMillis(50));
+        CompletableFuture.runAsync(() -> adapter.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // Act
+        assertThrows(ServiceOverloadedException.class, () -> adapter.encode("late"));
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get("password.hashing.queue.depth").gauge().value());
+        // The running call times out too, so only a lower bound is stable
+        assertTrue(meterRegistry.get("password.hashing.rejected").tag("reason", "timeout").counter().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("UpgradeEncoding_LowerStoredCost_ShouldBeTrue")
+    void upgradeEncoding_LowerStoredCost_ShouldBeTrue() {
+        // Arrange
+        adapter = newAdapter(new BCryptPasswordEncoder(5), 64, Duration.ofSeconds(5));
+        String weaker = new BCryptPasswordEncoder(4).encode("secret");
+        String current = new BCryptPasswordEncoder(5).encode("secret");
+
+        // Act & Assert
+        assertTrue(adapter.upgradeEncoding(weaker));
+        assertFalse(adapter.upgradeEncoding(current));
+    }
+
+    private PasswordEncoderAdapter newAdapter(PasswordEncoder encoder, int queueCapacity, Duration waitTimeout) {
+        return new PasswordEncoderAdapter(encoder, meterRegistry, 1, queueCapacity, waitTimeout, Duration.ofSeconds(1));
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                block();
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                block();
+                return false;
+            }
+
+            private void block() {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < depth
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.riwi.assesment.infrastructure.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+/**
+ * With the management port set to the API port, actuator is served next to the API: health and its
+ * probes stay public, metrics and the Prometheus scrape require a JWT.
+ */
+@SpringBootTest(properties = "management.server.port=${server.port}")
+@AutoConfigureMockMvc
+class ActuatorSecurityTest extends PostgresContainerSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Health_WithoutToken_ShouldBePublic")
+    void health_WithoutToken_ShouldBePublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/readyz")).andExpect(status().isOk());
+        mockMvc.perform(get("/livez")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Metrics_WithoutToken_ShouldBeUnauthorized")
+    void metrics_WithoutToken_ShouldBeUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+    }
+}
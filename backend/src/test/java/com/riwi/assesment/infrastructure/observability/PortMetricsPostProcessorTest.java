@@ -0,0 +1,152 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.riwi.assesment.application.service.CompleteTaskService;
+import com.riwi.assesment.application.service.CreateProjectService;
+import com.riwi.assesment.domain.exception.TaskNotFoundException;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.port.in.CompleteTaskUseCase;
+import com.riwi.assesment.domain.port.in.CompleteTaskUseCase.CompleteTaskCommand;
+import com.riwi.assesment.domain.port.in.CreateProjectUseCase;
+import com.riwi.assesment.domain.port.in.CreateProjectUseCase.CreateProjectCommand;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryAuditLogAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryOwnershipAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryProjectPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryTaskPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryTransactionAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryUserPersistenceAdapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for PortMetricsPostProcessor, wrapping the in-memory adapters and real application services
+ * the way the application context would.
+ */
+class PortMetricsPostProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PortMetricsPostProcessor postProcessor = new PortMetricsPostProcessor(
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+
+    private UUID ownerId;
+    private final CurrentUserPort currentUser = () -> ownerId;
+    private final NotificationPort notification = message -> { };
+
+    private InMemoryStore store;
+    private InMemoryProjectPersistenceAdapter projects;
+    private InMemoryAuditLogAdapter auditLog;
+    private InMemoryTransactionAdapter transaction;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryStore();
+        ownerId = new InMemoryUserPersistenceAdapter(store).save(User.builder()
+                .username("observer").email("observer@example.com").password("$2a$10$hash").build()).getId();
+        projects = wrap(new InMemoryProjectPersistenceAdapter(store), "projectPersistenceAdapter");
+        auditLog = wrap(new InMemoryAuditLogAdapter(1_000), "auditLogAdapter");
+        transaction = wrap(new InMemoryTransactionAdapter(), "transactionAdapter");
+    }
+
+    @Test
+    @DisplayName("UseCase_ShouldRecordExecutionAndItsPortCalls")
+    void useCase_ShouldRecordExecutionAndItsPortCalls() {
+        // Arrange
+        InMemoryOwnershipAdapter ownership = wrap(new InMemoryOwnershipAdapter(projects), "ownershipAdapter");
+        CreateProjectUseCase useCase = wrap(new CreateProjectService(projects, ownership, currentUser, auditLog,
+                notification, transaction), "createProjectUseCase");
+
+        // Act
+        useCase.execute(new CreateProjectCommand("Observed"));
+
+        // Assert
+        assertTrue(AopUtils.isJdkDynamicProxy(useCase));
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.USE_CASE_METRIC)
+                .tags("usecase", "CreateProjectUseCase", "outcome", "success", "exception", "none")
+                .timer().count());
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.PORT_METRIC)
+                .tags("port", "ProjectRepositoryPort", "method", "save",
+                        "adapter", "InMemoryProjectPersistenceAdapter", "outcome", "success")
+                .timer().count());
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.PORT_METRIC)
+                .tags("port", "TransactionPort", "method", "inTransaction")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("UseCase_WhenItThrows_ShouldRecordErrorWithExceptionType")
+    void useCase_WhenItThrows_ShouldRecordErrorWithExceptionType() {
+        // Arrange
+        InMemoryTaskPersistenceAdapter tasks = wrap(new InMemoryTaskPersistenceAdapter(store,
+                projects), "taskPersistenceAdapter");
+        CompleteTaskUseCase useCase = wrap(new CompleteTaskService(tasks, projects, currentUser, auditLog, notification,
+                transaction), "completeTaskUseCase");
+
+        // Act
+        assertThrows(TaskNotFoundException.class,
+                () -> useCase.execute(new CompleteTaskCommand(UUID.randomUUID(), null)));
+
+        // Assert
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.USE_CASE_METRIC)
+                .tags("usecase", "CompleteTaskUseCase", "outcome", "error", "exception", "TaskNotFoundException")
+                .timer().count());
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.PORT_METRIC)
+                .tags("port", "TransactionPort", "outcome", "error", "exception", "TaskNotFoundException")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Adapter_ShouldStayAssignableToItsClassAndTimeOnlyPortMethods")
+    void adapter_ShouldStayAssignableToItsClassAndTimeOnlyPortMethods() {
+        // Arrange: the ownership adapter takes the project adapter by class and calls a package-private method
+        Project project = projects.save(Project.builder().ownerId(ownerId).name("Owned").build());
+        InMemoryOwnershipAdapter ownership = wrap(new InMemoryOwnershipAdapter(projects), "ownershipAdapter");
+
+        // Act
+        Optional<UUID> owner = ownership.findOwnerId(project.getId());
+
+        // Assert
+        assertTrue(AopUtils.isCglibProxy(projects));
+        assertInstanceOf(InMemoryProjectPersistenceAdapter.class, projects);
+        assertEquals(Optional.of(ownerId), owner);
+        assertEquals(1, meterRegistry.get(PortMetricsPostProcessor.PORT_METRIC)
+                .tags("port", "OwnershipPort", "method", "findOwnerId", "adapter", "InMemoryOwnershipAdapter")
+                .timer().count());
+        assertNull(meterRegistry.find(PortMetricsPostProcessor.PORT_METRIC)
+                .tags("method", "findOwnerId", "adapter", "InMemoryProjectPersistenceAdapter").timer());
+    }
+
+    @Test
+    @DisplayName("Bean_WithoutPortInterface_ShouldBeReturnedAsIs")
+    void bean_WithoutPortInterface_ShouldBeReturnedAsIs() {
+        // Act
+        Object result = postProcessor.postProcessAfterInitialization(store, "inMemoryStore");
+
+        // Assert
+        assertSame(store, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T wrap(T bean, String beanName) {
+        return (T) postProcessor.postProcessAfterInitialization(bean, beanName);
+    }
+}
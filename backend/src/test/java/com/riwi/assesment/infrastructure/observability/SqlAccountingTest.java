@@ -0,0 +1,57 @@
+package com.riwi.assesment.infrastructure.observability;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SqlAccounting scopes; statements are recorded directly, as the listener would.
+ */
+class SqlAccountingTest {
+
+    private static final String SELECT_TASK = "SELECT * FROM tasks WHERE id = ?";
+
+    @Test
+    @DisplayName("RecordStatement_NestedScopes_ShouldCountInEveryOpenScope")
+    void recordStatement_NestedScopes_ShouldCountInEveryOpenScope() {
+        // Arrange
+        SqlAccounting.Scope outer = SqlAccounting.open();
+        SqlAccounting.Scope inner = SqlAccounting.open();
+
+        // Act
+        SqlAccounting.recordStatement(SELECT_TASK, 1_000, 0);
+        SqlAccounting.recordRow();
+        inner.close();
+        SqlAccounting.recordStatement("UPDATE tasks SET completed = true WHERE id = ?", 2_000, 1);
+        outer.close();
+        SqlAccounting.recordStatement(SELECT_TASK, 4_000, 0);
+
+        // Assert
+        assertEquals(1, inner.statements());
+        assertEquals(1, inner.rows());
+        assertEquals(2, outer.statements());
+        assertEquals(2, outer.rows());
+        assertEquals(3_000, outer.dbTime().toNanos());
+    }
+
+    @Test
+    @DisplayName("RepeatedStatements_SameSqlAboveThreshold_ShouldBeReported")
+    void repeatedStatements_SameSqlAboveThreshold_ShouldBeReported() {
+        // Arrange
+        try (SqlAccounting.Scope scope = SqlAccounting.open()) {
+            SqlAccounting.recordStatement("SELECT * FROM projects WHERE owner_id = ?", 1_000, 0);
+            for (int i = 0; i < 5; i++) {
+                SqlAccounting.recordStatement(SELECT_TASK, 1_000, 0);
+            }
+
+            // Act
+            List<String> repeated = scope.repeatedStatements(5);
+
+            // Assert
+            assertEquals(List.of(SELECT_TASK), repeated);
+            assertEquals(5, scope.executions().get(SELECT_TASK));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.riwi.assesment.infrastructure.security;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BCryptCostCalibrator.
+ * Probe timings are given directly; only the extrapolation and clamping are checked.
+ */
+class BCryptCostCalibratorTest {
+
+    @Test
+    @DisplayName("CostFor_TargetEightTimesProbe_ShouldAddThreeRounds")
+    void costFor_TargetEightTimesProbe_ShouldAddThreeRounds() {
+        // Act
+        int cost = BCryptCostCalibrator.costFor(Duration.ofMillis(100), Duration.ofMillis(12), 8, 4, 31);
+
+        // Assert
+        assertEquals(11, cost);
+    }
+
+    @Test
+    @DisplayName("CostFor_ShouldStayWithinBounds")
+    void costFor_ShouldStayWithinBounds() {
+        // Act
+        int slowHost = BCryptCostCalibrator.costFor(Duration.ofMillis(100), Duration.ofMillis(80), 8, 10, 14);
+        int fastHost = BCryptCostCalibrator.costFor(Duration.ofMillis(100), Duration.ofNanos(1), 8, 10, 14);
+
+        // Assert
+        assertEquals(10, slowHost);
+        assertEquals(14, fastHost);
+    }
+
+    @Test
+    @DisplayName("CostFor_InvalidBounds_ShouldThrowException")
+    void costFor_InvalidBounds_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCostCalibrator.costFor(Duration.ofMillis(100), Duration.ofMillis(10), 8, 12, 10));
+    }
+
+    @Test
+    @DisplayName("Measure_ShouldReturnMedianOfRounds")
+    void measure_ShouldReturnMedianOfRounds() {
+        // Arrange - each hash reads the clock twice, durations 30, 10 and 20 ns
+        long[] ticks = {0, 30, 100, 110, 200, 220};
+        int[] next = {0};
+
+        // Act
+        Duration median = BCryptCostCalibrator.measure(4, 3, () -> ticks[next[0]++]);
+
+        // Assert
+        assertEquals(Duration.ofNanos(20), median);
+    }
+}
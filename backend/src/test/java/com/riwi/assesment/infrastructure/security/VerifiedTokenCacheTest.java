@@ -0,0 +1,92 @@
+package com.riwi.assesment.infrastructure.security;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for VerifiedTokenCache.
+ * Verification is a counted stub; wall-clock time is a manual millisecond clock.
+ */
+class VerifiedTokenCacheTest {
+
+    private static final long EXPIRES_AT = 1_000_000L;
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final AtomicLong clock = new AtomicLong(EXPIRES_AT - 60_000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(token -> {
+        verifications.incrementAndGet();
+        if (token.startsWith("bad")) {
+            throw new MalformedJwtException("bad token");
+        }
+        return new VerifiedToken(UUID.nameUUIDFromBytes(token.getBytes()), token, Instant.ofEpochMilli(EXPIRES_AT));
+    }, meterRegistry, 100, clock::get);
+
+    @Test
+    @DisplayName("Verify_SameToken_ShouldVerifySignatureOnce")
+    void verify_SameToken_ShouldVerifySignatureOnce() {
+        // Act
+        Optional<VerifiedToken> first = cache.verify("token-a");
+        Optional<VerifiedToken> second = cache.verify("token-a");
+
+        // Assert
+        assertEquals(first, second);
+        assertTrue(second.isPresent());
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt-claims").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Verify_InvalidToken_ShouldBeEmptyAndNotCached")
+    void verify_InvalidToken_ShouldBeEmptyAndNotCached() {
+        // Act
+        cache.verify("bad-token");
+        Optional<VerifiedToken> result = cache.verify("bad-token");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.size());
+        assertEquals(2, meterRegistry.get("jwt.verification").tag("result", "invalid").timer().count());
+    }
+
+    @Test
+    @DisplayName("Verify_CachedTokenPastExpiry_ShouldBeEmpty")
+    void verify_CachedTokenPastExpiry_ShouldBeEmpty() {
+        // Arrange
+        cache.verify("token-a");
+        clock.set(EXPIRES_AT);
+
+        // Act
+        Optional<VerifiedToken> result = cache.verify("token-a");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Verify_ManyTokens_ShouldStayWithinMaxEntries")
+    void verify_ManyTokens_ShouldStayWithinMaxEntries() {
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            cache.verify("token-" + i);
+        }
+
+        // Assert
+        assertTrue(cache.size() <= 100);
+    }
+}
@@ -0,0 +1,276 @@
+package com.riwi.assesment.presentation.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import static com.riwi.assesment.support.QueryBudget.assertStatements;
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+/**
+ * Query budgets per endpoint: the exact number of SQL statements each request may execute.
+ * A change that adds a query (an N+1, a lazy load, a redundant lookup) fails here; when the
+ * extra statement is intended, raise the budget in the same change so the cost is reviewed.
+ * Fixtures are created through the API outside the measured block. The second-level cache is
+ * off so budgets are the cold-cache cost and do not depend on which test warmed which entry.
+ * The ownership index stays on: projects created through the API are registered in it, so
+ * ownership checks on them cost no SQL, as in steady state.
+ * The budgets are the counts measured against PostgreSQL 15 (Testcontainers, or -Dtest.postgres.url);
+ * the class is skipped, not passed, when neither is available.
+ */
+@SpringBootTest(properties = "second-level-cache.enabled=false")
+@AutoConfigureMockMvc
+class EndpointQueryBudgetTest extends PostgresContainerSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String username = uniqueUsername();
+        register(username);
+        token = login(username);
+    }
+
+    @Test
+    @DisplayName("Register_ShouldStayWithinQueryBudget")
+    void register_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        String username = uniqueUsername();
+
+        // Act & Assert
+        assertStatements(4, () -> register(username));
+    }
+
+    @Test
+    @DisplayName("Login_ShouldStayWithinQueryBudget")
+    void login_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        String username = uniqueUsername();
+        register(username);
+
+        // Act & Assert
+        assertStatements(2, () -> login(username));
+    }
+
+    @Test
+    @DisplayName("CreateProject_ShouldStayWithinQueryBudget")
+    void createProject_ShouldStayWithinQueryBudget() throws Exception {
+        assertStatements(3, this::createProject);
+    }
+
+    @Test
+    @DisplayName("ListProjects_ShouldStayWithinQueryBudget")
+    void listProjects_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        createProject();
+        createProject();
+
+        // Act & Assert
+        assertStatements(1, () -> perform(get("/api/projects"), status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GetProject_ShouldStayWithinQueryBudget")
+    void getProject_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        UUID projectId = createProject();
+
+        // Act & Assert
+        assertStatements(1, () -> perform(get("/api/projects/{id}", projectId), status().isOk()));
+    }
+
+    @Test
+    @DisplayName("ActivateProject_ShouldStayWithinQueryBudget")
+    void activateProject_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        UUID projectId = createProject();
+        createTask(projectId);
+
+        // Act & Assert
+        assertStatements(4, () -> perform(patch("/api/projects/{id}/activate", projectId), status().isOk()));
+    }
+
+    @Test
+    @DisplayName("CreateTask_ShouldStayWithinQueryBudget")
+    void createTask_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        UUID projectId = createProject();
+
+        // Act & Assert
+        assertStatements(4, () -> createTask(projectId));
+    }
+
+    @Test
+    @DisplayName("BulkCreateTasks_ShouldStayWithinQueryBudgetRegardlessOfSize")
+    void bulkCreateTasks_ShouldStayWithinQueryBudgetRegardlessOfSize() throws Exception {
+        // Arrange
+        UUID projectId = createProject();
+        List<String> titles = IntStream.range(0, 50).mapToObj(i -> "Task " + i).toList();
+
+        // Act & Assert
+        assertStatements(5, () -> perform(post("/api/projects/{projectId}/tasks/bulk", projectId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("titles", titles))), status().isCreated()));
+    }
+
+    @Test
+    @DisplayName("ListTasks_ShouldStayWithinQueryBudget")
+    void listTasks_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        UUID projectId = createProject();
+        createTask(projectId);
+        createTask(projectId);
+
+        // Act & Assert
+        assertStatements(1, () -> perform(get("/api/projects/{projectId}/tasks", projectId), status().isOk()));
+    }
+
+    @Test
+    @DisplayName("DeleteProject_ShouldStayWithinQueryBudget")
+    void deleteProject_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        UUID projectId = createProject();
+
+        // Act & Assert
+        assertStatements(2, () -> perform(delete("/api/projects/{id}", projectId), status().is2xxSuccessful()));
+    }
+
+    @Test
+    @DisplayName("CompleteTask_ShouldStayWithinQueryBudget")
+    void completeTask_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        UUID taskId = activeProjectTasks(1).get(0);
+
+        // Act & Assert: the conditional update, then the audit and notification outbox rows
+        assertStatements(3, () -> perform(patch("/api/tasks/{id}/complete", taskId), status().isOk()));
+    }
+
+    @Test
+    @DisplayName("BulkCompleteTasks_ShouldStayWithinQueryBudgetRegardlessOfSize")
+    void bulkCompleteTasks_ShouldStayWithinQueryBudgetRegardlessOfSize() throws Exception {
+        // Arrange
+        List<UUID> taskIds = activeProjectTasks(3);
+
+        // Act & Assert
+        assertStatements(5, () -> perform(post("/api/tasks/bulk/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("taskIds", taskIds))), status().isOk()));
+    }
+
+    @Test
+    @DisplayName("BulkDeleteTasks_ShouldStayWithinQueryBudgetRegardlessOfSize")
+    void bulkDeleteTasks_ShouldStayWithinQueryBudgetRegardlessOfSize() throws Exception {
+        // Arrange
+        List<UUID> taskIds = activeProjectTasks(3);
+
+        // Act & Assert
+        assertStatements(5, () -> perform(post("/api/tasks/bulk/delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("taskIds", taskIds))), status().isOk()));
+    }
+
+    @Test
+    @DisplayName("DeleteTask_ShouldStayWithinQueryBudget")
+    void deleteTask_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        UUID taskId = createTask(createProject());
+
+        // Act & Assert
+        assertStatements(3, () -> perform(delete("/api/tasks/{id}", taskId), status().is2xxSuccessful()));
+    }
+
+    @Test
+    @DisplayName("Dashboard_ShouldStayWithinQueryBudget")
+    void dashboard_ShouldStayWithinQueryBudget() throws Exception {
+        // Arrange
+        activeProjectTasks(2);
+
+        // Act & Assert
+        assertStatements(1, () -> perform(get("/api/dashboard"), status().isOk()));
+    }
+
+    // Fixtures
+
+    private void register(String username) throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username,
+                                "email", username + "@example.com", "password", "secret123"))))
+                .andExpect(status().isCreated());
+    }
+
+    private String login(String username) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username, "password", "secret123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private UUID createProject() throws Exception {
+        JsonNode project = perform(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("name", "Project"))), status().isCreated());
+        return UUID.fromString(project.get("id").asText());
+    }
+
+    private UUID createTask(UUID projectId) throws Exception {
+        JsonNode task = perform(post("/api/projects/{projectId}/tasks", projectId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "Task"))), status().isCreated());
+        return UUID.fromString(task.get("id").asText());
+    }
+
+    private List<UUID> activeProjectTasks(int count) throws Exception {
+        UUID projectId = createProject();
+        List<UUID> taskIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            taskIds.add(createTask(projectId));
+        }
+        perform(patch("/api/projects/{id}/activate", projectId), status().isOk());
+        return taskIds;
+    }
+
+    private JsonNode perform(MockHttpServletRequestBuilder request, ResultMatcher expectedStatus) throws Exception {
+        String body = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(expectedStatus)
+                .andReturn().getResponse().getContentAsString();
+        return body.isEmpty() ? null : objectMapper.readTree(body);
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private static String uniqueUsername() {
+        return "user" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,76 @@
+package com.riwi.assesment.presentation.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.riwi.assesment.domain.port.out.PasswordEncoderPort;
+import com.riwi.assesment.support.PostgresContainerSupport;
+
+/**
+ * Login must not hold a database connection while the password hash is checked: BCrypt takes tens
+ * of milliseconds and may wait in the hashing queue, so a held connection lets a login burst drain the
+ * pool. Nothing (an entity manager kept open for the request, a transaction) may be bound to the
+ * request thread at that point.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoginConnectionTest extends PostgresContainerSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoSpyBean
+    private PasswordEncoderPort passwordEncoder;
+
+    @Test
+    @DisplayName("Login_ShouldHoldNoConnectionWhileMatchingPassword")
+    void login_ShouldHoldNoConnectionWhileMatchingPassword() throws Exception {
+        // Arrange
+        String username = "login-" + System.nanoTime();
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("username", username,
+                                "email", username + "@example.com", "password", "secret123"))))
+                .andExpect(status().isCreated());
+
+        AtomicReference<Map<Object, Object>> boundResources = new AtomicReference<>();
+        AtomicReference<Boolean> transactionActive = new AtomicReference<>();
+        doAnswer(invocation -> {
+            boundResources.set(new HashMap<>(TransactionSynchronizationManager.getResourceMap()));
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(anyString(), anyString());
+
+        // Act
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("username", username,
+                                "password", "secret123"))))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertEquals(Map.of(), boundResources.get());
+        assertFalse(transactionActive.get());
+    }
+}
@@ -0,0 +1,104 @@
+package com.riwi.assesment.presentation.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.riwi.assesment.domain.model.PageCursor;
+
+/**
+ * Unit tests for the keyset cursor token and page size validation.
+ */
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("EncodeDecode_ShouldRoundTripCursor")
+    void encodeDecode_ShouldRoundTripCursor() {
+        // Arrange
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_456_000),
+                UUID.fromString("0190a4b8-7c2e-7d3a-9f10-2b3c4d5e6f70"));
+
+        // Act
+        String token = CursorCodec.encode(cursor);
+
+        // Assert
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "token must be URL safe without padding: " + token);
+        assertEquals(cursor, CursorCodec.decode(token));
+    }
+
+    @Test
+    @DisplayName("EncodeDecode_WithoutCursor_ShouldMeanFirstPage")
+    void encodeDecode_WithoutCursor_ShouldMeanFirstPage() {
+        // Act & Assert
+        assertNull(CursorCodec.encode(null));
+        assertNull(CursorCodec.decode(null));
+        assertNull(CursorCodec.decode(""));
+        assertNull(CursorCodec.decode("   "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not*base64!",
+            "2024-05-17T10:30:15|0190a4b8-7c2e-7d3a-9f10-2b3c4d5e6f70",
+            "%%%"
+    })
+    @DisplayName("Decode_WithMalformedToken_ShouldRejectWithGenericMessage")
+    void decode_WithMalformedToken_ShouldRejectWithGenericMessage(String token) {
+        // Act
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(token));
+
+        // Assert
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "no separator",
+            "yesterday|0190a4b8-7c2e-7d3a-9f10-2b3c4d5e6f70",
+            "2024-05-17T10:30:15|not-a-uuid",
+            "2024-05-17T10:30:15|",
+            "|0190a4b8-7c2e-7d3a-9f10-2b3c4d5e6f70",
+            "2024-13-45T10:30:15|0190a4b8-7c2e-7d3a-9f10-2b3c4d5e6f70"
+    })
+    @DisplayName("Decode_WithTamperedPayload_ShouldRejectWithGenericMessage")
+    void decode_WithTamperedPayload_ShouldRejectWithGenericMessage(String payload) {
+        // Arrange: a well-formed token around an edited payload
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(token));
+
+        // Assert
+        assertEquals("Invalid cursor", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("PageSize_ShouldApplyDefaultAndCap")
+    void pageSize_ShouldApplyDefaultAndCap() {
+        // Act & Assert
+        assertEquals(CursorCodec.DEFAULT_PAGE_SIZE, CursorCodec.pageSize(null));
+        assertEquals(1, CursorCodec.pageSize(1));
+        assertEquals(CursorCodec.MAX_PAGE_SIZE, CursorCodec.pageSize(CursorCodec.MAX_PAGE_SIZE));
+        assertEquals(CursorCodec.MAX_PAGE_SIZE, CursorCodec.pageSize(CursorCodec.MAX_PAGE_SIZE + 1));
+        assertEquals(CursorCodec.MAX_PAGE_SIZE, CursorCodec.pageSize(Integer.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+    @DisplayName("PageSize_WhenNotPositive_ShouldReject")
+    void pageSize_WhenNotPositive_ShouldReject(int requested) {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.pageSize(requested));
+    }
+}
@@ -0,0 +1,71 @@
+package com.riwi.assesment.presentation.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.riwi.assesment.domain.model.Project;
+
+/**
+ * Unit tests for ETag generation and If-Match parsing.
+ */
+class ETagsTest {
+
+    @Test
+    @DisplayName("OfProject_CountersChangeWithoutVersionBump_ShouldChangeETag")
+    void ofProject_CountersChangeWithoutVersionBump_ShouldChangeETag() {
+        // Arrange
+        Project project = Project.builder().name("Project").version(3L).build();
+        String before = ETags.of(project);
+
+        // Act: adding a task moves the counters but not the project version
+        project.setTotalTasks(1);
+        project.setOpenTasks(1);
+        String after = ETags.of(project);
+
+        // Assert
+        assertEquals("\"3.0.0.0\"", before);
+        assertEquals("\"3.1.1.0\"", after);
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("ParseIfMatch_ProjectETag_ShouldReturnVersion")
+    void parseIfMatch_ProjectETag_ShouldReturnVersion() {
+        // Arrange
+        Project project = Project.builder().name("Project").version(7L)
+                .totalTasks(10).openTasks(4).completedTasks(6).build();
+
+        // Act & Assert
+        assertEquals(7L, ETags.parseIfMatch(ETags.of(project)));
+    }
+
+    @Test
+    @DisplayName("ParseIfMatch_TaskETag_ShouldReturnVersion")
+    void parseIfMatch_TaskETag_ShouldReturnVersion() {
+        // Act & Assert
+        assertEquals(2L, ETags.parseIfMatch(ETags.of(2L)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "*"})
+    @DisplayName("ParseIfMatch_AbsentOrWildcard_ShouldMeanNoPrecondition")
+    void parseIfMatch_AbsentOrWildcard_ShouldMeanNoPrecondition(String header) {
+        // Act & Assert
+        assertNull(ETags.parseIfMatch(header));
+        assertNull(ETags.parseIfMatch(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"3\"", "3", "\"\"", "\"abc\"", "\"3.1\"", "\"3.1.1.0.0\"", "\"3..1.0\"", "\"3\", \"4\""})
+    @DisplayName("ParseIfMatch_Malformed_ShouldThrowIllegalArgumentException")
+    void parseIfMatch_Malformed_ShouldThrowIllegalArgumentException(String header) {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseIfMatch(header));
+    }
+}
@@ -0,0 +1,64 @@
+package com.riwi.assesment.support;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base class for integration tests that need a real PostgreSQL database.
+ * A single container is shared by all subclasses; Flyway migrates it on context startup.
+ * With -Dtest.postgres.url=jdbc:postgresql://host:port/db (and test.postgres.username/password, default
+ * postgres/postgres) the tests run against that database instead, which must be empty or migrated by this
+ * branch. Tests are skipped when neither is available.
+ */
+@ExtendWith(PostgresContainerSupport.DatabaseAvailable.class)
+public abstract class PostgresContainerSupport {
+
+    private static final String EXTERNAL_URL = System.getProperty("test.postgres.url");
+
+    private static PostgreSQLContainer<?> container;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        if (EXTERNAL_URL != null) {
+            registry.add("spring.datasource.url", () -> EXTERNAL_URL);
+            registry.add("spring.datasource.username", () -> System.getProperty("test.postgres.username", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty("test.postgres.password", "postgres"));
+            return;
+        }
+        PostgreSQLContainer<?> postgres = container();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            // Stopped by the Testcontainers reaper when the test JVM exits
+            container = new PostgreSQLContainer<>("postgres:15-alpine");
+            container.start();
+        }
+        return container;
+    }
+
+    /**
+     * Skips the tests when there is neither an external database nor Docker to start one.
+     */
+    static class DatabaseAvailable implements ExecutionCondition {
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            if (EXTERNAL_URL != null) {
+                return ConditionEvaluationResult.enabled("Using " + EXTERNAL_URL);
+            }
+            return DockerClientFactory.instance().isDockerAvailable()
+                    ? ConditionEvaluationResult.enabled("Docker is available")
+                    : ConditionEvaluationResult.disabled("No test.postgres.url and Docker is not available");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.riwi.assesment.support;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.riwi.assesment.infrastructure.observability.SqlAccounting;
+
+/**
+ * Asserts how many SQL statements a piece of code executes, so an extra query fails the build.
+ * Counts every statement the calling thread runs through the application DataSource while the
+ * action executes; MockMvc requests run in the test thread, so a whole request can be measured.
+ */
+public final class QueryBudget {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private QueryBudget() {
+        // Utility class
+    }
+
+    /**
+     * Runs the action and returns the statements it executed.
+     */
+    public static SqlAccounting.Scope measure(Action action) throws Exception {
+        try (SqlAccounting.Scope scope = SqlAccounting.open()) {
+            action.run();
+            return scope;
+        }
+    }
+
+    /**
+     * Runs the action and fails, listing every statement, unless exactly expected statements ran.
+     */
+    public static void assertStatements(int expected, Action action) throws Exception {
+        SqlAccounting.Scope scope = measure(action);
+        if (scope.statements() != expected) {
+            fail(String.format("Expected %d SQL statements but %d were executed:%n%s",
+                    expected, scope.statements(), describe(scope.executions())));
+        }
+    }
+
+    private static String describe(Map<String, Integer> executions) {
+        return executions.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey().replaceAll("\\s+", " ").trim())
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,413 @@
+package com.riwi.assesment.support;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.riwi.assesment.domain.exception.ConcurrentUpdateException;
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectWithTasks;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.TaskWithProject;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.port.out.ProjectRepositoryPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.domain.port.out.UserRepositoryPort;
+
+/**
+ * Behaviour every implementation of the repository ports must share, run against the JPA adapters
+ * and the in-memory ones. Each test creates its own user, so implementations may share state between tests.
+ */
+public interface RepositoryPortContract {
+
+    UserRepositoryPort userRepository();
+
+    ProjectRepositoryPort projectRepository();
+
+    TaskRepositoryPort taskRepository();
+
+    @Test
+    @DisplayName("SaveNewUser_ShouldBeFoundByUsernameAndEmail")
+    default void saveNewUser_ShouldBeFoundByUsernameAndEmail() {
+        // Act
+        User user = newUser();
+
+        // Assert
+        assertEquals(0L, user.getVersion());
+        assertEquals(user.getId(), userRepository().findByUsername(user.getUsername()).orElseThrow().getId());
+        assertEquals(user.getId(), userRepository().findByEmail(user.getEmail()).orElseThrow().getId());
+        assertTrue(userRepository().existsByUsername(user.getUsername()));
+        assertFalse(userRepository().existsByEmail("missing-" + user.getEmail()));
+    }
+
+    @Test
+    @DisplayName("SaveUserWithTakenUsername_ShouldThrowDataIntegrityViolation")
+    default void saveUserWithTakenUsername_ShouldThrowDataIntegrityViolation() {
+        // Arrange
+        User existing = newUser();
+        User duplicate = User.builder()
+                .username(existing.getUsername())
+                .email("other-" + existing.getEmail())
+                .password("$2a$10$hash")
+                .build();
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> userRepository().save(duplicate));
+        assertFalse(userRepository().existsByEmail(duplicate.getEmail()));
+    }
+
+    @Test
+    @DisplayName("SaveStaleProject_ShouldThrowConcurrentUpdate")
+    default void saveStaleProject_ShouldThrowConcurrentUpdate() {
+        // Arrange
+        Project project = newProject(newUser(), "Contract project");
+        Project stale = projectRepository().findById(project.getId()).orElseThrow();
+        project.setName("First writer");
+        Project updated = projectRepository().save(project);
+        stale.setName("Second writer");
+
+        // Act & Assert
+        assertEquals(1L, updated.getVersion());
+        assertThrows(ConcurrentUpdateException.class, () -> projectRepository().save(stale));
+        assertEquals("First writer", projectRepository().findById(project.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("SaveProjectForMissingOwner_ShouldThrowDataIntegrityViolation")
+    default void saveProjectForMissingOwner_ShouldThrowDataIntegrityViolation() {
+        // Arrange
+        Project project = Project.builder().ownerId(UUID.randomUUID()).name("Orphan").build();
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> projectRepository().save(project));
+    }
+
+    @Test
+    @DisplayName("SoftDeletedProject_ShouldBeHiddenFromEveryRead")
+    default void softDeletedProject_ShouldBeHiddenFromEveryRead() {
+        // Arrange
+        User owner = newUser();
+        Project kept = newProject(owner, "Kept");
+        Project deleted = newProject(owner, "Deleted");
+        deleted.markAsDeleted();
+        projectRepository().save(deleted);
+
+        // Act
+        List<Project> projects = projectRepository().findByOwnerIdAndDeletedFalse(owner.getId());
+
+        // Assert
+        assertEquals(List.of(kept.getId()), projects.stream().map(Project::getId).toList());
+        assertTrue(projectRepository().findById(deleted.getId()).isEmpty());
+        assertFalse(projectRepository().existsById(deleted.getId()));
+    }
+
+    @Test
+    @DisplayName("FindPageByOwnerId_ShouldWalkAllProjectsInCreationOrder")
+    default void findPageByOwnerId_ShouldWalkAllProjectsInCreationOrder() {
+        // Arrange
+        User owner = newUser();
+        List<UUID> created = List.of(newProject(owner, "P1").getId(), newProject(owner, "P2").getId(),
+                newProject(owner, "P3").getId());
+
+        // Act
+        CursorPage<Project> first = projectRepository().findPageByOwnerId(owner.getId(), null, 2);
+        CursorPage<Project> second = projectRepository().findPageByOwnerId(owner.getId(), first.nextCursor(), 2);
+
+        // Assert
+        assertEquals(created.subList(0, 2), first.items().stream().map(Project::getId).toList());
+        assertEquals(created.subList(2, 3), second.items().stream().map(Project::getId).toList());
+        assertNull(second.nextCursor());
+    }
+
+    @Test
+    @DisplayName("FindWithTasksByOwnerId_ShouldCutTasksAtLimitAndFlagMore")
+    default void findWithTasksByOwnerId_ShouldCutTasksAtLimitAndFlagMore() {
+        // Arrange
+        Project project = newProject(newUser(), "With tasks");
+        newTask(project, "T1");
+        newTask(project, "T2");
+        Task deleted = newTask(project, "Deleted");
+        deleted.markAsDeleted();
+        taskRepository().save(deleted);
+
+        // Act
+        List<ProjectWithTasks> limited = projectRepository().findWithTasksByOwnerId(project.getOwnerId(), 1);
+        List<ProjectWithTasks> all = projectRepository().findWithTasksByOwnerId(project.getOwnerId(), null);
+
+        // Assert
+        assertEquals(1, limited.get(0).tasks().size());
+        assertTrue(limited.get(0).hasMoreTasks());
+        assertEquals(List.of("T1", "T2"), all.get(0).tasks().stream().map(Task::getTitle).toList());
+        assertFalse(all.get(0).hasMoreTasks());
+    }
+
+    @Test
+    @DisplayName("FindWithTasksByOwnerId_ShouldLimitEachProjectSeparately")
+    default void findWithTasksByOwnerId_ShouldLimitEachProjectSeparately() {
+        // Arrange: the limit applies per project, not to the whole result
+        User owner = newUser();
+        Project full = newProject(owner, "Full");
+        newTask(full, "F1");
+        newTask(full, "F2");
+        newTask(full, "F3");
+        Project exact = newProject(owner, "Exact");
+        newTask(exact, "E1");
+        newTask(exact, "E2");
+        Project empty = newProject(owner, "Empty");
+        Project deleted = newProject(owner, "Deleted");
+        newTask(deleted, "D1");
+        deleted.markAsDeleted();
+        projectRepository().save(deleted);
+        newTask(newProject(newUser(), "Other owner"), "O1");
+
+        // Act
+        List<ProjectWithTasks> dashboard = projectRepository().findWithTasksByOwnerId(owner.getId(), 2);
+
+        // Assert
+        assertEquals(List.of(full.getId(), exact.getId(), empty.getId()),
+                dashboard.stream().map(entry -> entry.project().getId()).toList());
+        assertEquals(List.of("F1", "F2"), dashboard.get(0).tasks().stream().map(Task::getTitle).toList());
+        assertTrue(dashboard.get(0).hasMoreTasks());
+        assertEquals(List.of("E1", "E2"), dashboard.get(1).tasks().stream().map(Task::getTitle).toList());
+        assertFalse(dashboard.get(1).hasMoreTasks());
+        assertTrue(dashboard.get(2).tasks().isEmpty());
+        assertFalse(dashboard.get(2).hasMoreTasks());
+    }
+
+    @Test
+    @DisplayName("AdjustTaskCounters_ShouldAddDeltasWithoutChangingVersion")
+    default void adjustTaskCounters_ShouldAddDeltasWithoutChangingVersion() {
+        // Arrange
+        Project project = newProject(newUser(), "Counters");
+
+        // Act
+        projectRepository().adjustTaskCounters(project.getId(), 3, 2, 1);
+        projectRepository().adjustTaskCounters(project.getId(), 0, -1, 1);
+
+        // Assert
+        Project reloaded = projectRepository().findById(project.getId()).orElseThrow();
+        assertEquals(3, reloaded.getTotalTasks());
+        assertEquals(1, reloaded.getOpenTasks());
+        assertEquals(2, reloaded.getCompletedTasks());
+        assertEquals(0L, reloaded.getVersion());
+    }
+
+    @Test
+    @DisplayName("AddOpenTasks_ShouldUpdateLiveProjectsOnly")
+    default void addOpenTasks_ShouldUpdateLiveProjectsOnly() {
+        // Arrange
+        User owner = newUser();
+        Project live = newProject(owner, "Live");
+        Project deleted = newProject(owner, "Deleted");
+        deleted.markAsDeleted();
+        projectRepository().save(deleted);
+
+        // Act
+        boolean liveUpdated = projectRepository().addOpenTasks(live.getId(), 2);
+        boolean deletedUpdated = projectRepository().addOpenTasks(deleted.getId(), 2);
+
+        // Assert
+        assertTrue(liveUpdated);
+        assertFalse(deletedUpdated);
+        Project reloaded = projectRepository().findById(live.getId()).orElseThrow();
+        assertEquals(2, reloaded.getTotalTasks());
+        assertEquals(2, reloaded.getOpenTasks());
+        assertEquals(0, reloaded.getCompletedTasks());
+    }
+
+    @Test
+    @DisplayName("DeleteProject_ShouldCascadeToItsTasks")
+    default void deleteProject_ShouldCascadeToItsTasks() {
+        // Arrange
+        Project project = newProject(newUser(), "Cascade");
+        Task task = newTask(project, "Cascaded");
+
+        // Act
+        projectRepository().deleteById(project.getId());
+
+        // Assert
+        assertFalse(projectRepository().existsById(project.getId()));
+        assertTrue(taskRepository().findWithProjectByIds(List.of(task.getId())).isEmpty());
+    }
+
+    @Test
+    @DisplayName("SaveTaskForMissingProject_ShouldThrowDataIntegrityViolation")
+    default void saveTaskForMissingProject_ShouldThrowDataIntegrityViolation() {
+        // Arrange
+        Task task = Task.builder().projectId(UUID.randomUUID()).title("Orphan").build();
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> taskRepository().save(task));
+    }
+
+    @Test
+    @DisplayName("FindPageByProjectId_ShouldSkipDeletedTasks")
+    default void findPageByProjectId_ShouldSkipDeletedTasks() {
+        // Arrange
+        Project project = newProject(newUser(), "Task pages");
+        Task first = newTask(project, "T1");
+        Task deleted = newTask(project, "Deleted");
+        deleted.markAsDeleted();
+        taskRepository().save(deleted);
+        Task third = newTask(project, "T3");
+
+        // Act
+        CursorPage<Task> page = taskRepository().findPageByProjectId(project.getId(), null, 1);
+        CursorPage<Task> next = taskRepository().findPageByProjectId(project.getId(), page.nextCursor(), 1);
+
+        // Assert
+        assertEquals(List.of(first.getId()), page.items().stream().map(Task::getId).toList());
+        assertEquals(List.of(third.getId()), next.items().stream().map(Task::getId).toList());
+        assertNull(next.nextCursor());
+        assertEquals(2, taskRepository().countByProjectIdAndDeletedFalse(project.getId()));
+    }
+
+    @Test
+    @DisplayName("FindWithProjectByIds_ShouldIncludeDeletedTasks")
+    default void findWithProjectByIds_ShouldIncludeDeletedTasks() {
+        // Arrange
+        Project project = newProject(newUser(), "Lookup");
+        Task task = newTask(project, "Deleted");
+        task.markAsDeleted();
+        taskRepository().save(task);
+
+        // Act
+        List<TaskWithProject> found = taskRepository().findWithProjectByIds(
+                List.of(task.getId(), task.getId(), UUID.randomUUID()));
+
+        // Assert
+        assertEquals(1, found.size());
+        assertTrue(found.get(0).task().isDeleted());
+        assertEquals(project.getId(), found.get(0).project().getId());
+    }
+
+    @Test
+    @DisplayName("CompleteOwnedBy_ShouldCompleteOnceAndMoveCounters")
+    default void completeOwnedBy_ShouldCompleteOnceAndMoveCounters() {
+        // Arrange
+        Project project = activeProject(newUser());
+        Task task = newTask(project, "Complete me");
+        projectRepository().adjustTaskCounters(project.getId(), 1, 1, 0);
+
+        // Act
+        Optional<Task> completed = taskRepository().completeOwnedBy(task.getId(), project.getOwnerId(), 0L);
+        Optional<Task> again = taskRepository().completeOwnedBy(task.getId(), project.getOwnerId(), null);
+
+        // Assert
+        assertTrue(completed.orElseThrow().isCompleted());
+        assertEquals(1L, completed.get().getVersion());
+        assertTrue(again.isEmpty());
+        Project reloaded = projectRepository().findById(project.getId()).orElseThrow();
+        assertEquals(0, reloaded.getOpenTasks());
+        assertEquals(1, reloaded.getCompletedTasks());
+    }
+
+    @Test
+    @DisplayName("CompleteOwnedBy_WhenNotOwnerOrStaleOrDraft_ShouldChangeNothing")
+    default void completeOwnedBy_WhenNotOwnerOrStaleOrDraft_ShouldChangeNothing() {
+        // Arrange
+        User owner = newUser();
+        Task activeTask = newTask(activeProject(owner), "Active");
+        Task draftTask = newTask(newProject(owner, "Draft"), "Draft");
+
+        // Act
+        Optional<Task> byStranger = taskRepository().completeOwnedBy(activeTask.getId(), UUID.randomUUID(), null);
+        Optional<Task> stale = taskRepository().completeOwnedBy(activeTask.getId(), owner.getId(), 5L);
+        Optional<Task> inDraft = taskRepository().completeOwnedBy(draftTask.getId(), owner.getId(), null);
+
+        // Assert
+        assertTrue(byStranger.isEmpty());
+        assertTrue(stale.isEmpty());
+        assertTrue(inDraft.isEmpty());
+        assertFalse(taskRepository().findById(activeTask.getId()).orElseThrow().isCompleted());
+    }
+
+    @Test
+    @DisplayName("CompleteAllOwnedBy_ShouldReturnOnlyTasksItChanged")
+    default void completeAllOwnedBy_ShouldReturnOnlyTasksItChanged() {
+        // Arrange
+        Project project = activeProject(newUser());
+        Task open = newTask(project, "Open");
+        Task done = newTask(project, "Done");
+        taskRepository().completeOwnedBy(done.getId(), project.getOwnerId(), null);
+
+        // Act
+        List<Task> completed = taskRepository().completeAllOwnedBy(
+                List.of(open.getId(), done.getId(), open.getId()), project.getOwnerId());
+
+        // Assert
+        assertEquals(List.of(open.getId()), completed.stream().map(Task::getId).toList());
+        assertFalse(taskRepository().existsByProjectIdAndCompletedFalseAndDeletedFalse(project.getId()));
+    }
+
+    @Test
+    @DisplayName("DeleteAllOwnedBy_ShouldSoftDeleteOwnedTasksOnly")
+    default void deleteAllOwnedBy_ShouldSoftDeleteOwnedTasksOnly() {
+        // Arrange
+        Project project = newProject(newUser(), "Bulk delete");
+        Task task = newTask(project, "Doomed");
+        Task foreign = newTask(newProject(newUser(), "Foreign"), "Foreign");
+
+        // Act
+        List<Task> deleted = taskRepository().deleteAllOwnedBy(List.of(task.getId(), foreign.getId()),
+                project.getOwnerId());
+
+        // Assert
+        assertEquals(List.of(task.getId()), deleted.stream().map(Task::getId).toList());
+        assertTrue(deleted.get(0).isDeleted());
+        assertFalse(taskRepository().existsById(task.getId()));
+        assertFalse(taskRepository().existsByProjectIdAndDeletedFalse(project.getId()));
+        assertTrue(taskRepository().existsById(foreign.getId()));
+    }
+
+    @Test
+    @DisplayName("FindAllByProjectOwnerId_ShouldReturnLiveTasksOfLiveProjects")
+    default void findAllByProjectOwnerId_ShouldReturnLiveTasksOfLiveProjects() {
+        // Arrange
+        User owner = newUser();
+        Task live = newTask(newProject(owner, "Live"), "Live");
+        Project deletedProject = newProject(owner, "Deleted");
+        newTask(deletedProject, "Under deleted project");
+        deletedProject.markAsDeleted();
+        projectRepository().save(deletedProject);
+
+        // Act
+        List<Task> tasks = taskRepository().findAllByProjectOwnerId(owner.getId());
+
+        // Assert
+        assertEquals(List.of(live.getId()), tasks.stream().map(Task::getId).toList());
+    }
+
+    private User newUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository().save(User.builder()
+                .username("contract-" + suffix)
+                .email("contract-" + suffix + "@example.com")
+                .password("$2a$10$hash")
+                .build());
+    }
+
+    private Project newProject(User owner, String name) {
+        return projectRepository().save(Project.builder().ownerId(owner.getId()).name(name).build());
+    }
+
+    private Project activeProject(User owner) {
+        Project project = newProject(owner, "Active");
+        project.activate(true);
+        return projectRepository().save(project);
+    }
+
+    private Task newTask(Project project, String title) {
+        return taskRepository().save(Task.builder().projectId(project.getId()).title(title).build());
+    }
+}
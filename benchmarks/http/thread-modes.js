@@ -0,0 +1,92 @@
+// thread-modes.js
+// Throughput and latency of the servlet stack on platform threads vs virtual threads.
+//
+// Start the backend once per mode against the same, freshly migrated database:
+//   platform: ./mvnw -Pjava21 spring-boot:run
+//   virtual:  ./mvnw -Pjava21 spring-boot:run -Dspring-boot.run.profiles=virtual-threads
+// then run the same load at both concurrency levels (raise `ulimit -n` first):
+//   k6 run -e VUS=1000  -e MODE=platform benchmarks/http/thread-modes.js
+//   k6 run -e VUS=10000 -e MODE=platform benchmarks/http/thread-modes.js
+//   k6 run -e VUS=1000  -e MODE=virtual  benchmarks/http/thread-modes.js
+//   k6 run -e VUS=10000 -e MODE=virtual  benchmarks/http/thread-modes.js
+//
+// Every iteration is one user session step: list projects, list a project's tasks, read the
+// dashboard, then create a task and delete it again - three reads and two writes, each a few
+// sequential JDBC round trips. Deleting what it created keeps every project at its TASKS seeded
+// tasks, so the reads cost the same at the end of a run as at the start.
+// Compare http_reqs (req/s), http_req_duration p95/p99 and http_req_failed between the runs. On
+// platform threads expect latency to grow with the Tomcat accept queue once VUS exceeds the 200
+// worker threads; on virtual threads expect waiting to move to the Hikari pool (DB_POOL_SIZE) and
+// failures to show up as 5xx after DB_CONNECTION_TIMEOUT_MS instead of unbounded latency.
+// Record the summary lines in VIRTUAL_THREADS.md together with host, cores and pool size.
+//
+// The same script compares the servlet and reactive runtimes: point BASE_URL at backend-reactive
+// (http://localhost:8081) and see backend-reactive/REACTIVE.md.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const USERS = parseInt(__ENV.USERS || '100', 10);
+const TASKS = parseInt(__ENV.TASKS || '10', 10);
+const MODE = __ENV.MODE || 'unknown';
+
+export const options = {
+    setupTimeout: '10m',
+    scenarios: {
+        sessions: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+            gracefulStop: '30s',
+        },
+    },
+    tags: { mode: MODE, vus: String(VUS) },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function auth(token) {
+    return { headers: { ...JSON_HEADERS, Authorization: `Bearer ${token}` } };
+}
+
+// One user per USERS slot, each with an active project holding TASKS tasks
+export function setup() {
+    const run = Date.now().toString(36);
+    const sessions = [];
+    for (let i = 0; i < USERS; i++) {
+        const username = `vt_${run}_${i}`;
+        const registered = http.post(`${BASE_URL}/api/auth/register`, JSON.stringify({
+            username, email: `${username}@example.com`, password: 'Password123!',
+        }), { headers: JSON_HEADERS });
+        const token = registered.json('token');
+        const project = http.post(`${BASE_URL}/api/projects`,
+            JSON.stringify({ name: `Load ${i}` }), auth(token)).json('id');
+        const titles = Array.from({ length: TASKS }, (_, t) => `seed ${t}`);
+        http.post(`${BASE_URL}/api/projects/${project}/tasks/bulk`,
+            JSON.stringify({ titles }), auth(token));
+        http.patch(`${BASE_URL}/api/projects/${project}/activate`, null, auth(token));
+        sessions.push({ token, project });
+    }
+    return { sessions };
+}
+
+export default function (data) {
+    const session = data.sessions[(__VU - 1) % data.sessions.length];
+    const params = auth(session.token);
+
+    check(http.get(`${BASE_URL}/api/projects?limit=20`, params),
+        { 'projects 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/api/projects/${session.project}/tasks`, params),
+        { 'tasks 200': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/api/dashboard`, params),
+        { 'dashboard 200': (r) => r.status === 200 });
+    const created = http.post(`${BASE_URL}/api/projects/${session.project}/tasks`,
+        JSON.stringify({ title: `task ${__ITER}` }), params);
+    if (check(created, { 'create 201': (r) => r.status === 201 })) {
+        check(http.del(`${BASE_URL}/api/tasks/${created.json('id')}`, null, params),
+            { 'delete 204': (r) => r.status === 204 });
+    }
+}
@@ -0,0 +1,81 @@
+-- uuid_v4_vs_v7.sql
+-- Insert throughput and primary key index size with random (v4) vs time-ordered (v7) UUIDs.
+--
+-- Run against a database migrated by Flyway (needs uuid_generate_v7() from V9):
+--   psql -h localhost -U postgres -d assesment_db -v rows=10000000 -v batch=100000 -f benchmarks/sql/uuid_v4_vs_v7.sql
+--
+-- Each table receives :rows rows in committed batches of :batch rows, mimicking many
+-- small application transactions rather than one bulk load. The bench tables are dropped at the end.
+-- Compare the NOTICE lines (rows/s) and the final size report. Expect v7 to keep a near-constant
+-- insert rate as the index outgrows shared_buffers, and a ~30% smaller, densely packed index,
+-- because v4 keys split random leaf pages (leaving them about half full) while v7 keys only append.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 10000000
+\endif
+\if :{?batch}
+\else
+    \set batch 100000
+\endif
+
+DROP TABLE IF EXISTS bench_uuid_v4;
+DROP TABLE IF EXISTS bench_uuid_v7;
+
+-- Same shape as a narrow application table: uuid PK plus a small payload
+CREATE TABLE bench_uuid_v4 (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL, payload TEXT NOT NULL);
+CREATE TABLE bench_uuid_v7 (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL, payload TEXT NOT NULL);
+
+SELECT set_config('bench.rows', :'rows', false), set_config('bench.batch', :'batch', false);
+
+DO $$
+DECLARE
+    total_rows BIGINT := current_setting('bench.rows')::BIGINT;
+    batch_rows BIGINT := current_setting('bench.batch')::BIGINT;
+    inserted BIGINT := 0;
+    started TIMESTAMPTZ := clock_timestamp();
+BEGIN
+    WHILE inserted < total_rows LOOP
+        INSERT INTO bench_uuid_v4 (id, created_at, payload)
+        SELECT gen_random_uuid(), clock_timestamp(), 'task ' || g
+        FROM generate_series(1, LEAST(batch_rows, total_rows - inserted)) g;
+        inserted := inserted + LEAST(batch_rows, total_rows - inserted);
+        COMMIT;
+    END LOOP;
+    RAISE NOTICE 'v4: % rows in % s (% rows/s)', inserted,
+        round(extract(epoch FROM clock_timestamp() - started)::NUMERIC, 1),
+        round(inserted / extract(epoch FROM clock_timestamp() - started)::NUMERIC);
+END
+$$;
+
+DO $$
+DECLARE
+    total_rows BIGINT := current_setting('bench.rows')::BIGINT;
+    batch_rows BIGINT := current_setting('bench.batch')::BIGINT;
+    inserted BIGINT := 0;
+    started TIMESTAMPTZ := clock_timestamp();
+BEGIN
+    WHILE inserted < total_rows LOOP
+        INSERT INTO bench_uuid_v7 (id, created_at, payload)
+        SELECT uuid_generate_v7(), clock_timestamp(), 'task ' || g
+        FROM generate_series(1, LEAST(batch_rows, total_rows - inserted)) g;
+        inserted := inserted + LEAST(batch_rows, total_rows - inserted);
+        COMMIT;
+    END LOOP;
+    RAISE NOTICE 'v7: % rows in % s (% rows/s)', inserted,
+        round(extract(epoch FROM clock_timestamp() - started)::NUMERIC, 1),
+        round(inserted / extract(epoch FROM clock_timestamp() - started)::NUMERIC);
+END
+$$;
+
+-- Size report: primary key index and heap per variant
+SELECT relname AS relation,
+       pg_size_pretty(pg_relation_size(oid)) AS size,
+       pg_relation_size(oid) AS bytes
+FROM pg_class
+WHERE relname IN ('bench_uuid_v4', 'bench_uuid_v4_pkey', 'bench_uuid_v7', 'bench_uuid_v7_pkey')
+ORDER BY relname;
+
+DROP TABLE bench_uuid_v4;
+DROP TABLE bench_uuid_v7;
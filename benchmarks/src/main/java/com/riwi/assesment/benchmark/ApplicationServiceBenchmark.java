@@ -0,0 +1,98 @@
+package com.riwi.assesment.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.riwi.assesment.application.service.CompleteTaskService;
+import com.riwi.assesment.application.service.CreateProjectService;
+import com.riwi.assesment.application.service.CreateTaskService;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.port.in.CompleteTaskUseCase.CompleteTaskCommand;
+import com.riwi.assesment.domain.port.in.CreateProjectUseCase.CreateProjectCommand;
+import com.riwi.assesment.domain.port.in.CreateTaskUseCase.CreateTaskCommand;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryAuditLogAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryOwnershipAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryProjectPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryTaskPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryTransactionAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryUserPersistenceAdapter;
+
+/**
+ * The application services on the in-memory ports: the use case logic, domain checks and port calls,
+ * without database or HTTP cost. Notifications go to a no-op port so logging does not dominate.
+ * The store is rebuilt every iteration so it does not grow across the run.
+ *
+ * Run with: ./mvnw compile exec:exec@run -Djmh.includes=ApplicationService
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApplicationServiceBenchmark {
+
+    private CreateProjectService createProject;
+    private CreateTaskService createTask;
+    private CompleteTaskService completeTask;
+    private UUID activeProjectId;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InMemoryStore store = new InMemoryStore();
+        InMemoryAuditLogAdapter auditLog = new InMemoryAuditLogAdapter(100_000);
+        InMemoryUserPersistenceAdapter users = new InMemoryUserPersistenceAdapter(store);
+        InMemoryProjectPersistenceAdapter projects = new InMemoryProjectPersistenceAdapter(store);
+        InMemoryTaskPersistenceAdapter tasks = new InMemoryTaskPersistenceAdapter(store, projects);
+        InMemoryOwnershipAdapter ownership = new InMemoryOwnershipAdapter(projects);
+        InMemoryTransactionAdapter transaction = new InMemoryTransactionAdapter();
+
+        UUID ownerId = users.save(User.builder()
+                .username("benchmark").email("benchmark@example.com").password("$2a$10$hash").build()).getId();
+        CurrentUserPort currentUser = () -> ownerId;
+        NotificationPort notification = message -> { };
+
+        Project project = projects.save(Project.builder().ownerId(ownerId).name("Active").build());
+        project.activate(true);
+        activeProjectId = projects.save(project).getId();
+
+        createProject = new CreateProjectService(projects, ownership, currentUser, auditLog, notification,
+                transaction);
+        createTask = new CreateTaskService(tasks, projects, ownership, currentUser, auditLog, notification,
+                transaction);
+        completeTask = new CompleteTaskService(tasks, projects, currentUser, auditLog, notification, transaction);
+    }
+
+    @Benchmark
+    public Project createProject() {
+        return createProject.execute(new CreateProjectCommand("Benchmark project"));
+    }
+
+    @Benchmark
+    public Task createTask() {
+        return createTask.execute(new CreateTaskCommand(activeProjectId, "Benchmark task"));
+    }
+
+    @Benchmark
+    public Task createAndCompleteTask() {
+        Task task = createTask.execute(new CreateTaskCommand(activeProjectId, "Benchmark task"));
+        return completeTask.execute(new CompleteTaskCommand(task.getId(), task.getVersion()));
+    }
+}
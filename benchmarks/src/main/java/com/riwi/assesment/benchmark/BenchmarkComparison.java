@@ -0,0 +1,167 @@
+package com.riwi.assesment.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and writes a Markdown report.
+ * A benchmark is SLOWER when it got worse by more than the threshold (0.10 = 10%) and the two
+ * confidence intervals (score +/- error) do not overlap, so run-to-run noise alone does not fail the build.
+ * Throughput scores are better when higher, every other JMH mode when lower.
+ *
+ * Usage: BenchmarkComparison baseline.json current.json [threshold] [report.md]
+ * Exits with status 1 when any benchmark is SLOWER.
+ */
+public final class BenchmarkComparison {
+
+    private static final String PACKAGE_PREFIX = BenchmarkComparison.class.getPackageName() + ".";
+
+    public enum Verdict { SLOWER, FASTER, UNCHANGED, NEW, MISSING }
+
+    /**
+     * Primary metric of one benchmark (with its parameters) in one result file.
+     */
+    public record Result(String mode, double score, double error, String unit) {
+    }
+
+    /**
+     * One line of the report. change is the relative slowdown: positive is worse, whatever the mode.
+     */
+    public record Row(String benchmark, Result baseline, Result current, double change, Verdict verdict) {
+    }
+
+    private BenchmarkComparison() {
+        // Utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison baseline.json current.json [threshold] [report.md]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        List<Row> rows = compare(read(Path.of(args[0])), read(Path.of(args[1])), threshold);
+        String report = report(rows, threshold);
+
+        System.out.println(report);
+        if (args.length > 3) {
+            Files.writeString(Path.of(args[3]), report);
+        }
+        if (rows.stream().anyMatch(row -> row.verdict() == Verdict.SLOWER)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads a file written by JMH with -rf json, keyed by benchmark name and parameters.
+     */
+    public static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            results.put(key(run), new Result(
+                    run.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    public static List<Row> compare(Map<String, Result> baseline, Map<String, Result> current, double threshold) {
+        List<Row> rows = new ArrayList<>();
+        current.forEach((benchmark, result) -> {
+            Result base = baseline.get(benchmark);
+            if (base == null || !base.mode().equals(result.mode()) || !base.unit().equals(result.unit())) {
+                // Not comparable: a new benchmark, or one whose mode or unit changed since the baseline
+                rows.add(new Row(benchmark, null, result, 0, Verdict.NEW));
+                return;
+            }
+            double change = slowdown(base, result);
+            rows.add(new Row(benchmark, base, result, change, verdict(base, result, change, threshold)));
+        });
+        baseline.forEach((benchmark, base) -> {
+            if (!current.containsKey(benchmark)) {
+                rows.add(new Row(benchmark, base, null, 0, Verdict.MISSING));
+            }
+        });
+        return rows;
+    }
+
+    public static String report(List<Row> rows, double threshold) {
+        StringBuilder report = new StringBuilder();
+        report.append("| Benchmark | Mode | Baseline | Current | Unit | Change | Verdict |\n");
+        report.append("|---|---|---:|---:|---|---:|---|\n");
+        for (Row row : rows) {
+            Result any = row.current() != null ? row.current() : row.baseline();
+            report.append("| ").append(row.benchmark())
+                    .append(" | ").append(any.mode())
+                    .append(" | ").append(format(row.baseline()))
+                    .append(" | ").append(format(row.current()))
+                    .append(" | ").append(any.unit())
+                    .append(" | ").append(row.baseline() != null && row.current() != null
+                            ? String.format(Locale.ROOT, "%+.1f%%", row.change() * 100) : "")
+                    .append(" | ").append(row.verdict())
+                    .append(" |\n");
+        }
+
+        Map<Verdict, Integer> counts = new TreeMap<>();
+        rows.forEach(row -> counts.merge(row.verdict(), 1, Integer::sum));
+        report.append('\n').append(String.format(Locale.ROOT,
+                "Threshold %.0f%% (change is the slowdown; positive is worse). ", threshold * 100));
+        report.append(counts.toString().replace("{", "").replace("}", "").replace("=", ": ")).append('\n');
+        return report.toString();
+    }
+
+    private static Verdict verdict(Result baseline, Result current, double change, double threshold) {
+        if (Math.abs(change) <= threshold || overlap(baseline, current)) {
+            return Verdict.UNCHANGED;
+        }
+        return change > 0 ? Verdict.SLOWER : Verdict.FASTER;
+    }
+
+    private static double slowdown(Result baseline, Result current) {
+        if (baseline.score() == 0) {
+            return 0;
+        }
+        boolean higherIsBetter = "thrpt".equals(baseline.mode());
+        double change = (current.score() - baseline.score()) / baseline.score();
+        return higherIsBetter ? -change : change;
+    }
+
+    private static boolean overlap(Result a, Result b) {
+        return a.score() - a.error() <= b.score() + b.error() && b.score() - b.error() <= a.score() + a.error();
+    }
+
+    private static String key(JsonNode run) {
+        String name = run.path("benchmark").asText();
+        if (name.startsWith(PACKAGE_PREFIX)) {
+            name = name.substring(PACKAGE_PREFIX.length());
+        }
+        JsonNode params = run.path("params");
+        if (params.isEmpty()) {
+            return name;
+        }
+        List<String> values = new ArrayList<>();
+        params.fields().forEachRemaining(param -> values.add(param.getKey() + "=" + param.getValue().asText()));
+        return name + " (" + String.join(", ", values) + ")";
+    }
+
+    private static String format(Result result) {
+        if (result == null) {
+            return "";
+        }
+        return String.format(Locale.ROOT, "%.3f +/- %.3f", result.score(), result.error());
+    }
+}
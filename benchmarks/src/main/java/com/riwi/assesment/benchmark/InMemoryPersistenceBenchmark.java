@@ -0,0 +1,113 @@
+package com.riwi.assesment.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.riwi.assesment.domain.model.CursorPage;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryProjectPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryTaskPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryUserPersistenceAdapter;
+
+/**
+ * Throughput of the in-memory persistence engine (profile in-memory), all cores hitting one store.
+ * - findTaskById / findUserByUsername: primary-key and unique-index lookups
+ * - findTaskPage: one keyset page of 20 tasks through the project-to-tasks index
+ * - adjustTaskCounters: a write under a lock stripe, spread over all projects
+ * - createAndDeleteTask: insert plus delete, each keeping the secondary index in step
+ *
+ * Run with: ./mvnw compile exec:exec@run -Djmh.includes=InMemoryPersistence
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class InMemoryPersistenceBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int PROJECTS_PER_USER = 10;
+    private static final int TASKS_PER_PROJECT = 50;
+
+    private InMemoryUserPersistenceAdapter userAdapter;
+    private InMemoryProjectPersistenceAdapter projectAdapter;
+    private InMemoryTaskPersistenceAdapter taskAdapter;
+    private String[] usernames;
+    private UUID[] projectIds;
+    private UUID[] taskIds;
+
+    @Setup
+    public void setUp() {
+        InMemoryStore store = new InMemoryStore();
+        userAdapter = new InMemoryUserPersistenceAdapter(store);
+        projectAdapter = new InMemoryProjectPersistenceAdapter(store);
+        taskAdapter = new InMemoryTaskPersistenceAdapter(store, projectAdapter);
+
+        usernames = new String[USERS];
+        List<UUID> projects = new ArrayList<>();
+        List<UUID> tasks = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            usernames[u] = "user" + u;
+            User user = userAdapter.save(User.builder()
+                    .username(usernames[u]).email(usernames[u] + "@example.com").password("$2a$10$hash").build());
+            for (int p = 0; p < PROJECTS_PER_USER; p++) {
+                Project project = projectAdapter.save(Project.builder().ownerId(user.getId()).name("P" + p).build());
+                projects.add(project.getId());
+                for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                    tasks.add(taskAdapter.save(Task.builder().projectId(project.getId()).title("T" + t).build()).getId());
+                }
+            }
+        }
+        projectIds = projects.toArray(UUID[]::new);
+        taskIds = tasks.toArray(UUID[]::new);
+    }
+
+    @Benchmark
+    public Object findTaskById() {
+        return taskAdapter.findById(taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)]);
+    }
+
+    @Benchmark
+    public Object findUserByUsername() {
+        return userAdapter.findByUsername(usernames[ThreadLocalRandom.current().nextInt(usernames.length)]);
+    }
+
+    @Benchmark
+    public CursorPage<Task> findTaskPage() {
+        return taskAdapter.findPageByProjectId(projectIds[ThreadLocalRandom.current().nextInt(projectIds.length)],
+                null, 20);
+    }
+
+    @Benchmark
+    public void adjustTaskCounters() {
+        projectAdapter.adjustTaskCounters(projectIds[ThreadLocalRandom.current().nextInt(projectIds.length)],
+                0, 1, -1);
+    }
+
+    @Benchmark
+    public void createAndDeleteTask() {
+        UUID projectId = projectIds[ThreadLocalRandom.current().nextInt(projectIds.length)];
+        Task task = taskAdapter.save(Task.builder().projectId(projectId).title("Benchmark").build());
+        taskAdapter.deleteById(task.getId());
+    }
+}
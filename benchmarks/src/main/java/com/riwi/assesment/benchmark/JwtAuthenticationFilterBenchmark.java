@@ -0,0 +1,113 @@
+package com.riwi.assesment.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.riwi.assesment.infrastructure.security.JwtAuthenticationFilter;
+import com.riwi.assesment.infrastructure.security.JwtTokenProvider;
+import com.riwi.assesment.infrastructure.security.VerifiedTokenCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * Per-request cost of JWT authentication.
+ * - legacyThreeParses: what the filter did before, three key derivations and three full parses
+ * - verifyOnce: one parse with the cached key and parser (every token seen for the first time)
+ * - filterCachedToken: the whole filter when the token is already in VerifiedTokenCache
+ * - filterFreshToken: the whole filter with a token the cache has not seen
+ *
+ * Run with: ./mvnw compile exec:exec@run -Djmh.includes=JwtAuthenticationFilter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "ThisIsAVeryLongSecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
+    private static final int FRESH_TOKENS = 4096;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private String[] freshTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 86_400_000L);
+        // Large enough for the cached token, too small to keep the fresh ones
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache cache = new VerifiedTokenCache(tokenProvider, meterRegistry, 1);
+        filter = new JwtAuthenticationFilter(cache, meterRegistry);
+        token = tokenProvider.generateToken(UUID.randomUUID(), "benchmark");
+        freshTokens = new String[FRESH_TOKENS];
+        for (int i = 0; i < FRESH_TOKENS; i++) {
+            freshTokens[i] = tokenProvider.generateToken(UUID.randomUUID(), "user" + i);
+        }
+    }
+
+    @Benchmark
+    public void legacyThreeParses(Blackhole blackhole) {
+        parseWithNewKey(token);
+        blackhole.consume(UUID.fromString(parseWithNewKey(token).getSubject()));
+        blackhole.consume(parseWithNewKey(token).get("username", String.class));
+    }
+
+    @Benchmark
+    public Object verifyOnce() {
+        return tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Object filterCachedToken() throws ServletException, IOException {
+        return filter(token);
+    }
+
+    @Benchmark
+    public Object filterFreshToken() throws ServletException, IOException {
+        String fresh = freshTokens[next];
+        next = (next + 1) % FRESH_TOKENS;
+        return filter(fresh);
+    }
+
+    private Object filter(String jwt) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private static Claims parseWithNewKey(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(jwt).getPayload();
+    }
+}
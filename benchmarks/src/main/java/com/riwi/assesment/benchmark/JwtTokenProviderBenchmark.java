@@ -0,0 +1,62 @@
+package com.riwi.assesment.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.riwi.assesment.infrastructure.security.JwtTokenProvider;
+
+/**
+ * Cost of issuing and checking a JWT with JwtTokenProvider (HS512, key derived once).
+ * - generateToken: what every login and registration pays
+ * - validateToken: signature and expiry check, as the filter did before the verified-claims cache
+ * - verify: one parse returning the claims the filter needs
+ *
+ * Run with: ./mvnw compile exec:exec@run -Djmh.includes=JwtTokenProvider
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "ThisIsAVeryLongSecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
+
+    private JwtTokenProvider tokenProvider;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 86_400_000L);
+        userId = UUID.randomUUID();
+        token = tokenProvider.generateToken(userId, "benchmark");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(userId, "benchmark");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Object verify() {
+        return tokenProvider.verify(token);
+    }
+}
@@ -0,0 +1,73 @@
+package com.riwi.assesment.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.mapper.ProjectMapper;
+import com.riwi.assesment.infrastructure.adapter.out.persistence.mapper.TaskMapper;
+
+/**
+ * Domain to JPA entity and back, the conversion every persistence adapter call pays per row.
+ *
+ * Run with: ./mvnw compile exec:exec@run -Djmh.includes=Mapper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private Project project;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        project = Project.builder()
+                .id(UuidV7.generate())
+                .ownerId(UuidV7.generate())
+                .name("Website Redesign")
+                .status(ProjectStatus.ACTIVE)
+                .createdAt(createdAt)
+                .totalTasks(3)
+                .openTasks(2)
+                .completedTasks(1)
+                .version(2L)
+                .build();
+        task = Task.builder()
+                .id(UuidV7.generate())
+                .projectId(project.getId())
+                .title("Implement authentication")
+                .createdAt(createdAt)
+                .version(1L)
+                .build();
+    }
+
+    @Benchmark
+    public Project projectRoundTrip() {
+        return ProjectMapper.toDomain(ProjectMapper.toEntity(project));
+    }
+
+    @Benchmark
+    public Task taskRoundTrip() {
+        return TaskMapper.toDomain(TaskMapper.toEntity(task));
+    }
+}
@@ -0,0 +1,142 @@
+package com.riwi.assesment.benchmark;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.riwi.assesment.application.service.CompleteTaskService;
+import com.riwi.assesment.application.service.CreateTaskService;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.User;
+import com.riwi.assesment.domain.port.in.CompleteTaskUseCase;
+import com.riwi.assesment.domain.port.in.CompleteTaskUseCase.CompleteTaskCommand;
+import com.riwi.assesment.domain.port.in.CreateTaskUseCase;
+import com.riwi.assesment.domain.port.in.CreateTaskUseCase.CreateTaskCommand;
+import com.riwi.assesment.domain.port.out.CurrentUserPort;
+import com.riwi.assesment.domain.port.out.NotificationPort;
+import com.riwi.assesment.domain.port.out.TaskRepositoryPort;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryAuditLogAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryOwnershipAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryProjectPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryStore;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryTaskPersistenceAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryTransactionAdapter;
+import com.riwi.assesment.infrastructure.adapter.out.memory.InMemoryUserPersistenceAdapter;
+import com.riwi.assesment.infrastructure.observability.PortMetricsPostProcessor;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Cost of the port timers on the hot path: the same use cases and adapters on the in-memory ports, with
+ * mode=plain as constructed and mode=instrumented wrapped by PortMetricsPostProcessor, recording into a
+ * Prometheus registry with histograms configured like port.calls in application.yaml.
+ * - createAndCompleteTask: two use cases and the dozen port calls behind them
+ * - findTaskById: one cheap port call, where the timer's share is largest
+ *
+ * Run with: ./mvnw compile exec:exec@run -Djmh.includes=PortMetrics
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortMetricsBenchmark {
+
+    @Param({"plain", "instrumented"})
+    public String mode;
+
+    private CreateTaskUseCase createTask;
+    private CompleteTaskUseCase completeTask;
+    private TaskRepositoryPort tasks;
+    private UUID activeProjectId;
+    private UUID taskId;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PortMetricsPostProcessor postProcessor = "instrumented".equals(mode)
+                ? new PortMetricsPostProcessor(new StaticListableBeanFactory(Map.of("meterRegistry", registry()))
+                        .getBeanProvider(MeterRegistry.class))
+                : null;
+
+        InMemoryStore store = new InMemoryStore();
+        InMemoryAuditLogAdapter auditLog = wrap(postProcessor, new InMemoryAuditLogAdapter(100_000));
+        InMemoryUserPersistenceAdapter users = new InMemoryUserPersistenceAdapter(store);
+        InMemoryProjectPersistenceAdapter projects = wrap(postProcessor, new InMemoryProjectPersistenceAdapter(store));
+        InMemoryTaskPersistenceAdapter taskAdapter = wrap(postProcessor,
+                new InMemoryTaskPersistenceAdapter(store, projects));
+        InMemoryOwnershipAdapter ownership = wrap(postProcessor, new InMemoryOwnershipAdapter(projects));
+        InMemoryTransactionAdapter transaction = wrap(postProcessor, new InMemoryTransactionAdapter());
+
+        UUID ownerId = users.save(User.builder()
+                .username("benchmark").email("benchmark@example.com").password("$2a$10$hash").build()).getId();
+        CurrentUserPort currentUser = wrap(postProcessor, (CurrentUserPort) () -> ownerId);
+        NotificationPort notification = wrap(postProcessor, (NotificationPort) message -> { });
+
+        Project project = projects.save(Project.builder().ownerId(ownerId).name("Active").build());
+        project.activate(true);
+        activeProjectId = projects.save(project).getId();
+
+        tasks = taskAdapter;
+        taskId = taskAdapter.save(Task.builder().projectId(activeProjectId).title("Lookup").build()).getId();
+        createTask = wrap(postProcessor, (CreateTaskUseCase) new CreateTaskService(taskAdapter, projects, ownership,
+                currentUser, auditLog, notification, transaction));
+        completeTask = wrap(postProcessor, (CompleteTaskUseCase) new CompleteTaskService(taskAdapter, projects,
+                currentUser, auditLog, notification, transaction));
+    }
+
+    @Benchmark
+    public Task createAndCompleteTask() {
+        Task task = createTask.execute(new CreateTaskCommand(activeProjectId, "Benchmark task"));
+        return completeTask.execute(new CompleteTaskCommand(task.getId(), task.getVersion()));
+    }
+
+    @Benchmark
+    public Object findTaskById() {
+        return tasks.findById(taskId);
+    }
+
+    /**
+     * A Prometheus registry with the histogram settings of port.calls in application.yaml.
+     */
+    private static MeterRegistry registry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) TimeUnit.MICROSECONDS.toNanos(10))
+                        .maximumExpectedValue((double) TimeUnit.SECONDS.toNanos(5))
+                        .build()
+                        .merge(config);
+            }
+        });
+        return registry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(PortMetricsPostProcessor postProcessor, T bean) {
+        return postProcessor == null ? bean : (T) postProcessor.postProcessAfterInitialization(bean, "bean");
+    }
+}
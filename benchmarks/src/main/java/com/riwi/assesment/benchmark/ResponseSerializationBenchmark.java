@@ -0,0 +1,97 @@
+package com.riwi.assesment.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.riwi.assesment.domain.model.Project;
+import com.riwi.assesment.domain.model.ProjectStatus;
+import com.riwi.assesment.domain.model.Task;
+import com.riwi.assesment.domain.model.UuidV7;
+import com.riwi.assesment.presentation.dto.ProjectResponse;
+import com.riwi.assesment.presentation.dto.TaskResponse;
+
+/**
+ * Jackson serialization of response lists, from a page to a full unpaginated listing.
+ * The ObjectMapper is configured like Spring Boot's (Jackson2ObjectMapperBuilder, java.time written as ISO
+ * strings); the DTOs are created from domain objects as the controllers do.
+ *
+ * Run with: ./mvnw compile exec:exec@run -Djmh.includes=ResponseSerialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<ProjectResponse> projects;
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        UUID ownerId = UuidV7.generate();
+        projects = new ArrayList<>(size);
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Project project = Project.builder()
+                    .id(UuidV7.generate())
+                    .ownerId(ownerId)
+                    .name("Project " + i)
+                    .status(i % 2 == 0 ? ProjectStatus.ACTIVE : ProjectStatus.DRAFT)
+                    .createdAt(createdAt.plusNanos(i * 1000L))
+                    .totalTasks(3)
+                    .openTasks(2)
+                    .completedTasks(1)
+                    .version(1L)
+                    .build();
+            projects.add(ProjectResponse.fromDomain(project));
+            tasks.add(TaskResponse.fromDomain(Task.builder()
+                    .id(UuidV7.generate())
+                    .projectId(project.getId())
+                    .title("Task " + i)
+                    .completed(i % 3 == 0)
+                    .createdAt(createdAt.plusNanos(i * 1000L))
+                    .version(0L)
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    public byte[] projectResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] taskResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,101 @@
+package com.riwi.assesment.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.riwi.assesment.benchmark.BenchmarkComparison.Result;
+import com.riwi.assesment.benchmark.BenchmarkComparison.Row;
+import com.riwi.assesment.benchmark.BenchmarkComparison.Verdict;
+
+/**
+ * Unit tests for BenchmarkComparison.
+ */
+class BenchmarkComparisonTest {
+
+    @Test
+    @DisplayName("Compare_WhenAverageTimeGrewBeyondThresholdAndError_ShouldBeSlower")
+    void compare_WhenAverageTimeGrewBeyondThresholdAndError_ShouldBeSlower() {
+        // Arrange
+        Map<String, Result> baseline = Map.of("A.verify", new Result("avgt", 10.0, 0.5, "us/op"));
+        Map<String, Result> current = Map.of("A.verify", new Result("avgt", 12.0, 0.5, "us/op"));
+
+        // Act
+        List<Row> rows = BenchmarkComparison.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(Verdict.SLOWER, rows.get(0).verdict());
+        assertEquals(0.2, rows.get(0).change(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Compare_WhenThroughputDropped_ShouldBeSlower")
+    void compare_WhenThroughputDropped_ShouldBeSlower() {
+        // Arrange
+        Map<String, Result> baseline = Map.of("B.lookup", new Result("thrpt", 1000.0, 10.0, "ops/s"));
+        Map<String, Result> current = Map.of("B.lookup", new Result("thrpt", 800.0, 10.0, "ops/s"));
+
+        // Act
+        List<Row> rows = BenchmarkComparison.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(Verdict.SLOWER, rows.get(0).verdict());
+        assertEquals(0.2, rows.get(0).change(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Compare_WhenIntervalsOverlap_ShouldBeUnchanged")
+    void compare_WhenIntervalsOverlap_ShouldBeUnchanged() {
+        // Arrange
+        Map<String, Result> baseline = Map.of("A.verify", new Result("avgt", 10.0, 2.0, "us/op"));
+        Map<String, Result> current = Map.of("A.verify", new Result("avgt", 12.0, 1.0, "us/op"));
+
+        // Act
+        List<Row> rows = BenchmarkComparison.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(Verdict.UNCHANGED, rows.get(0).verdict());
+    }
+
+    @Test
+    @DisplayName("Compare_WhenBenchmarkAddedOrRemoved_ShouldReportNewAndMissing")
+    void compare_WhenBenchmarkAddedOrRemoved_ShouldReportNewAndMissing() {
+        // Arrange
+        Map<String, Result> baseline = Map.of("Old.run", new Result("avgt", 1.0, 0.1, "ns/op"));
+        Map<String, Result> current = Map.of("New.run", new Result("avgt", 1.0, 0.1, "ns/op"));
+
+        // Act
+        List<Row> rows = BenchmarkComparison.compare(baseline, current, 0.10);
+
+        // Assert
+        assertEquals(List.of(Verdict.NEW, Verdict.MISSING), rows.stream().map(Row::verdict).toList());
+    }
+
+    @Test
+    @DisplayName("Read_ShouldKeyResultsByShortNameAndParams")
+    void read_ShouldKeyResultsByShortNameAndParams(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path file = directory.resolve("result.json");
+        Files.writeString(file, """
+                [{"benchmark": "com.riwi.assesment.benchmark.PasswordHashingBenchmark.encode",
+                  "mode": "avgt", "params": {"cost": "10"},
+                  "primaryMetric": {"score": 55.5, "scoreError": 1.5, "scoreUnit": "ms/op"}}]
+                """);
+
+        // Act
+        Map<String, Result> results = BenchmarkComparison.read(file);
+
+        // Assert
+        assertEquals(new Result("avgt", 55.5, 1.5, "ms/op"), results.get("PasswordHashingBenchmark.encode (cost=10)"));
+        assertTrue(BenchmarkComparison.report(
+                BenchmarkComparison.compare(results, results, 0.10), 0.10).contains("UNCHANGED"));
+    }
+}
@@ -1,16 +1,20 @@
 import { useState, useEffect } from 'react';
 import { useAuth } from '../context/AuthContext';
-import { projectsApi, tasksApi } from '../services/api';
+import { dashboardApi, projectsApi, tasksApi } from '../services/api';
 import ProjectCard from '../components/ProjectCard';
 import TaskCard from '../components/TaskCard';
 import CreateProjectModal from '../components/CreateProjectModal';
 import CreateTaskModal from '../components/CreateTaskModal';
 import './Dashboard.css';
 
+// Tasks loaded per project with the dashboard; the rest are loaded on demand
+const TASKS_PER_PROJECT = 50;
+
 const Dashboard = () => {
   const { user, logout } = useAuth();
   const [projects, setProjects] = useState([]);
   const [tasksByProject, setTasksByProject] = useState({});
+  const [projectsWithMoreTasks, setProjectsWithMoreTasks] = useState({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [showProjectModal, setShowProjectModal] = useState(false);
@@ -26,20 +30,18 @@ const Dashboard = () => {
     setLoading(true);
     setError('');
     try {
-      const projectsData = await projectsApi.getAll();
-      setProjects(projectsData || []);
-      
-      // Load tasks for each project
+      const dashboard = await dashboardApi.get(TASKS_PER_PROJECT);
+      const entries = dashboard?.projects || [];
+      setProjects(entries.map(entry => entry.project));
+
       const tasksMap = {};
-      for (const project of (projectsData || [])) {
-        try {
-          const projectTasks = await tasksApi.getByProject(project.id);
-          tasksMap[project.id] = projectTasks || [];
-        } catch {
-          tasksMap[project.id] = [];
-        }
+      const moreMap = {};
+      for (const entry of entries) {
+        tasksMap[entry.project.id] = entry.tasks || [];
+        moreMap[entry.project.id] = entry.hasMoreTasks;
       }
       setTasksByProject(tasksMap);
+      setProjectsWithMoreTasks(moreMap);
     } catch (err) {
       setError(err.message || 'Failed to load data');
     } finally {
@@ -135,10 +137,24 @@ const Dashboard = () => {
     }
   };
 
+  const handleLoadAllTasks = async (projectId) => {
+    try {
+      const tasks = await tasksApi.getByProject(projectId);
+      setTasksByProject(prev => ({ ...prev, [projectId]: tasks }));
+      setProjectsWithMoreTasks(prev => ({ ...prev, [projectId]: false }));
+    } catch (err) {
+      showNotification(`Error: ${err.message}`);
+    }
+  };
+
   const getTasksForProject = (projectId) => {
     return tasksByProject[projectId] || [];
   };
 
+  const getTaskCount = (project) => {
+    return projectsWithMoreTasks[project.id] ? project.taskCount : getTasksForProject(project.id).length;
+  };
+
   if (loading) {
     return (
       <div className="dashboard-loading">
@@ -189,7 +205,7 @@ const Dashboard = () => {
                   <ProjectCard
                     project={project}
                     onActivate={handleActivateProject}
-                    taskCount={getTasksForProject(project.id).length}
+                    taskCount={getTaskCount(project)}
                     onAddTask={() => {
                       setSelectedProjectId(project.id);
                       setShowTaskModal(true);
@@ -212,6 +228,11 @@ const Dashboard = () => {
                         />
                       ))
                     )}
+                    {projectsWithMoreTasks[project.id] && (
+                      <button onClick={() => handleLoadAllTasks(project.id)} className="btn-load-more">
+                        Show all {project.taskCount} tasks
+                      </button>
+                    )}
                   </div>
                 </div>
               ))}
@@ -60,6 +60,31 @@ const fetchApi = async (endpoint, options = {}) => {
   return text ? JSON.parse(text) : null;
 };
 
+/**
+ * Build a query string for cursor-paginated listings
+ */
+const pageQuery = ({ cursor, limit } = {}) => {
+  const params = new URLSearchParams();
+  if (cursor) params.set('cursor', cursor);
+  if (limit) params.set('limit', limit);
+  const query = params.toString();
+  return query ? `?${query}` : '';
+};
+
+/**
+ * Follow nextCursor until the last page and return all items
+ */
+export const fetchAllPages = async (fetchPage) => {
+  const items = [];
+  let cursor = null;
+  do {
+    const page = await fetchPage({ cursor });
+    items.push(...(page?.items || []));
+    cursor = page?.nextCursor;
+  } while (cursor);
+  return items;
+};
+
 // ==================== AUTH API ====================
 
 export const authApi = {
@@ -99,10 +124,17 @@ export const authApi = {
 
 export const projectsApi = {
   /**
-   * Get all projects
+   * Get one page of projects ({ items, nextCursor, hasMore })
+   */
+  getPage: async (page = {}) => {
+    return fetchApi(`/projects${pageQuery(page)}`);
+  },
+
+  /**
+   * Get all projects, following pagination cursors
    */
   getAll: async () => {
-    return fetchApi('/projects');
+    return fetchAllPages((page) => projectsApi.getPage(page));
   },
 
   /**
@@ -141,14 +173,33 @@ export const projectsApi = {
   },
 };
 
+// ==================== DASHBOARD API ====================
+
+export const dashboardApi = {
+  /**
+   * Get all projects with up to tasksPerProject tasks each (server default 50) in a single request
+   */
+  get: async (tasksPerProject) => {
+    const query = tasksPerProject ? `?tasksPerProject=${tasksPerProject}` : '';
+    return fetchApi(`/dashboard${query}`);
+  },
+};
+
 // ==================== TASKS API ====================
 
 export const tasksApi = {
   /**
-   * Get tasks by project ID
+   * Get one page of tasks for a project ({ items, nextCursor, hasMore })
+   */
+  getPageByProject: async (projectId, page = {}) => {
+    return fetchApi(`/projects/${projectId}/tasks${pageQuery(page)}`);
+  },
+
+  /**
+   * Get all tasks by project ID, following pagination cursors
    */
   getByProject: async (projectId) => {
-    return fetchApi(`/projects/${projectId}/tasks`);
+    return fetchAllPages((page) => tasksApi.getPageByProject(projectId, page));
   },
 
   /**
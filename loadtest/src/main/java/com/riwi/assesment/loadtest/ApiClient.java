@@ -0,0 +1,162 @@
+package com.riwi.assesment.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Thin JSON client of the backend API over one shared java.net.http.HttpClient (HTTP/1.1 keep-alive).
+ * Only builds and sends requests; timing and bookkeeping belong to the callers.
+ */
+public final class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final Duration timeout;
+
+    public ApiClient(URI baseUrl, Duration timeout) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Status and body of one exchange; json() parses the body on demand.
+     */
+    public record Response(int status, String body) {
+
+        public boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        public JsonNode json() {
+            try {
+                return MAPPER.readTree(body);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Response is not JSON: " + body, e);
+            }
+        }
+    }
+
+    public URI baseUrl() {
+        return baseUrl;
+    }
+
+    public Response register(String username, String email, String password) throws IOException, InterruptedException {
+        return send(post("/api/auth/register", null,
+                Map.of("username", username, "email", email, "password", password)));
+    }
+
+    public Response login(String username, String password) throws IOException, InterruptedException {
+        return send(post("/api/auth/login", null, Map.of("username", username, "password", password)));
+    }
+
+    public Response dashboard(String token, int tasksPerProject) throws IOException, InterruptedException {
+        return send(get("/api/dashboard?tasksPerProject=" + tasksPerProject, token));
+    }
+
+    public Response createProject(String token, String name) throws IOException, InterruptedException {
+        return send(post("/api/projects", token, Map.of("name", name)));
+    }
+
+    public Response listProjects(String token, int limit) throws IOException, InterruptedException {
+        return send(get("/api/projects?limit=" + limit, token));
+    }
+
+    public Response getProject(String token, UUID projectId) throws IOException, InterruptedException {
+        return send(get("/api/projects/" + projectId, token));
+    }
+
+    public Response activateProject(String token, UUID projectId) throws IOException, InterruptedException {
+        return send(request("/api/projects/" + projectId + "/activate", token)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    public Response deleteProject(String token, UUID projectId) throws IOException, InterruptedException {
+        return send(request("/api/projects/" + projectId, token).DELETE().build());
+    }
+
+    public Response createTask(String token, UUID projectId, String title) throws IOException, InterruptedException {
+        return send(post("/api/projects/" + projectId + "/tasks", token, Map.of("title", title)));
+    }
+
+    public Response bulkCreateTasks(String token, UUID projectId, List<String> titles) throws IOException, InterruptedException {
+        return send(post("/api/projects/" + projectId + "/tasks/bulk", token, Map.of("titles", titles)));
+    }
+
+    public Response listTasks(String token, UUID projectId, int limit) throws IOException, InterruptedException {
+        return send(get("/api/projects/" + projectId + "/tasks?limit=" + limit, token));
+    }
+
+    public Response completeTask(String token, UUID taskId) throws IOException, InterruptedException {
+        return send(request("/api/tasks/" + taskId + "/complete", token)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    public Response bulkCompleteTasks(String token, List<UUID> taskIds) throws IOException, InterruptedException {
+        return send(post("/api/tasks/bulk/complete", token, Map.of("taskIds", taskIds)));
+    }
+
+    public Response bulkDeleteTasks(String token, List<UUID> taskIds) throws IOException, InterruptedException {
+        return send(post("/api/tasks/bulk/delete", token, Map.of("taskIds", taskIds)));
+    }
+
+    public Response deleteTask(String token, UUID taskId) throws IOException, InterruptedException {
+        return send(request("/api/tasks/" + taskId, token).DELETE().build());
+    }
+
+    /**
+     * GET without authentication, for the readiness probe.
+     */
+    public Response getPublic(String path) throws IOException, InterruptedException {
+        return send(request(path, null).GET().build());
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+}
@@ -0,0 +1,96 @@
+package com.riwi.assesment.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The backend jar running in its own JVM on a free port, with its output in backend.log. It is
+ * considered started once /readyz reports UP, that is after Flyway has migrated the database.
+ */
+public final class BackendProcess implements AutoCloseable {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private final Process process;
+    private final URI baseUrl;
+
+    private BackendProcess(Process process, URI baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    public static BackendProcess start(LoadTestConfig config, String jdbcUrl, String username, String password,
+                                       Path logFile) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(config.appJar())) {
+            throw new IllegalStateException("Backend jar not found at " + config.appJar().toAbsolutePath()
+                    + ": run ./mvnw package -DskipTests in backend/ first, or set loadtest.app-jar");
+        }
+        int port = LocalDatabase.freePort();
+        String java = ProcessHandle.current().info().command().orElse("java");
+
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(config.appJvmArgs());
+        command.add("-jar");
+        command.add(config.appJar().toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.addAll(config.appArgs());
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()));
+        builder.environment().put("SPRING_DATASOURCE_URL", jdbcUrl);
+        builder.environment().put("SPRING_DATASOURCE_USERNAME", username);
+        builder.environment().put("SPRING_DATASOURCE_PASSWORD", password);
+
+        BackendProcess backend = new BackendProcess(builder.start(), URI.create("http://localhost:" + port));
+        try {
+            awaitHealthy(new ApiClient(backend.baseUrl, POLL_INTERVAL.multipliedBy(4)), config.appStartupTimeout(),
+                    backend.process, logFile);
+        } catch (InterruptedException | RuntimeException e) {
+            backend.close();
+            throw e;
+        }
+        return backend;
+    }
+
+    public URI baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Polls the health endpoint until it answers 200, the process dies, or the timeout passes.
+     */
+    static void awaitHealthy(ApiClient client, Duration timeout, Process process, Path logFile) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (process != null && !process.isAlive()) {
+                throw new IllegalStateException("Backend exited with " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                if (client.getPublic("/readyz").ok()) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Backend at " + client.baseUrl() + " not healthy after "
+                + timeout.toSeconds() + "s" + (logFile != null ? ", see " + logFile : ""));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
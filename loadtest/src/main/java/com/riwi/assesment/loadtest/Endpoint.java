@@ -0,0 +1,33 @@
+package com.riwi.assesment.loadtest;
+
+/**
+ * Every operation of the public API, as named in scenario mixes and reports.
+ */
+public enum Endpoint {
+
+    REGISTER("POST /api/auth/register"),
+    LOGIN("POST /api/auth/login"),
+    DASHBOARD("GET /api/dashboard"),
+    CREATE_PROJECT("POST /api/projects"),
+    LIST_PROJECTS("GET /api/projects"),
+    GET_PROJECT("GET /api/projects/{id}"),
+    ACTIVATE_PROJECT("PATCH /api/projects/{id}/activate"),
+    DELETE_PROJECT("DELETE /api/projects/{id}"),
+    CREATE_TASK("POST /api/projects/{id}/tasks"),
+    BULK_CREATE_TASKS("POST /api/projects/{id}/tasks/bulk"),
+    LIST_TASKS("GET /api/projects/{id}/tasks"),
+    COMPLETE_TASK("PATCH /api/tasks/{id}/complete"),
+    BULK_COMPLETE_TASKS("POST /api/tasks/bulk/complete"),
+    BULK_DELETE_TASKS("POST /api/tasks/bulk/delete"),
+    DELETE_TASK("DELETE /api/tasks/{id}");
+
+    private final String route;
+
+    Endpoint(String route) {
+        this.route = route;
+    }
+
+    public String route() {
+        return route;
+    }
+}
@@ -0,0 +1,76 @@
+package com.riwi.assesment.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice of the next endpoint a virtual user calls, parsed from "LOGIN:9,REGISTER:1".
+ */
+public final class EndpointMix {
+
+    private final Map<Endpoint, Integer> weights;
+    private final Endpoint[] endpoints;
+    private final int[] cumulative;
+
+    private EndpointMix(Map<Endpoint, Integer> weights) {
+        this.weights = weights;
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulative = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    public static EndpointMix parse(String value) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            Endpoint endpoint;
+            try {
+                endpoint = Endpoint.valueOf(parts[0].trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown endpoint in mix: " + parts[0].trim());
+            }
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + endpoint + " cannot be negative");
+            }
+            if (weight > 0) {
+                weights.merge(endpoint, weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("A mix needs at least one endpoint with a positive weight");
+        }
+        return new EndpointMix(weights);
+    }
+
+    public Endpoint next(Random random) {
+        int pick = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    public Map<Endpoint, Integer> weights() {
+        return Map.copyOf(weights);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((endpoint, weight) ->
+                text.append(text.isEmpty() ? "" : ",").append(endpoint).append(':').append(weight));
+        return text.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package com.riwi.assesment.loadtest;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * End-to-end load test of the backend: starts PostgreSQL and the backend jar (unless loadtest.base-url
+ * points at a running instance), seeds users, projects and tasks through the API, runs every selected
+ * scenario and writes the report to loadtest.output-dir/<timestamp>/.
+ *
+ * Run with: ./mvnw compile exec:java [-Dloadtest.scenarios=mixed -Dloadtest.duration=PT2M]
+ * Settings and their defaults are in loadtest.properties.
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter RUN_DIRECTORY = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTest() {
+        // Entry point only
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        Path output = config.outputDir().resolve(LocalDateTime.now().format(RUN_DIRECTORY));
+        Files.createDirectories(output);
+
+        LocalDatabase database = null;
+        BackendProcess backend = null;
+        try {
+            URI baseUrl = config.baseUrl();
+            String target;
+            if (baseUrl == null) {
+                String jdbcUrl = config.dbUrl();
+                String username = config.dbUsername();
+                if (jdbcUrl == null) {
+                    log("Starting PostgreSQL" + (config.postgresDirectory() != null
+                            ? " from " + config.postgresDirectory() : " (embedded)"));
+                    database = LocalDatabase.start(config.postgresDirectory(), output.resolve("postgres.log"));
+                    jdbcUrl = database.jdbcUrl();
+                    username = database.username();
+                }
+                String app = String.join(" ", config.appJar().getFileName().toString(), String.join(" ", config.appArgs())).trim();
+                log("Starting " + app);
+                backend = BackendProcess.start(config, jdbcUrl, username, config.dbPassword(), output.resolve("backend.log"));
+                baseUrl = backend.baseUrl();
+                target = app + " against " + (database != null ? "a new PostgreSQL" : jdbcUrl)
+                        + ", on the same host as the load generator.";
+            } else {
+                BackendProcess.awaitHealthy(new ApiClient(baseUrl, Duration.ofSeconds(2)), Duration.ofSeconds(30), null, null);
+                target = "Backend at " + baseUrl + ".";
+            }
+
+            ApiClient client = new ApiClient(baseUrl, config.requestTimeout());
+            Workload workload = new Workload(client, Long.toString(System.currentTimeMillis() / 1000, 36));
+            int users = config.seededUsers();
+            LoadTestConfig.Seed seed = config.seed();
+            log(String.format(Locale.ROOT, "Seeding %d users with %d projects of %d tasks each",
+                    users, seed.projectsPerUser(), seed.tasksPerProject()));
+            List<Session> sessions = new Seeder(client, workload, seed).seed(users);
+
+            ScenarioRunner runner = new ScenarioRunner(workload);
+            List<ScenarioRunner.Result> results = new ArrayList<>();
+            for (LoadTestConfig.Scenario scenario : config.scenarios()) {
+                log(String.format(Locale.ROOT, "Running %s: %d users for %ds after %ds warm-up",
+                        scenario.name(), scenario.concurrency(), scenario.duration().toSeconds(), scenario.warmup().toSeconds()));
+                results.add(runner.run(scenario, sessions));
+            }
+
+            String heading = String.format(Locale.ROOT, "%s %d seeded users with %d projects of %d tasks. "
+                            + "Load generator: %d cores, JDK %s. Latencies include the HTTP client.",
+                    target, users, seed.projectsPerUser(), seed.tasksPerProject(),
+                    Runtime.getRuntime().availableProcessors(), System.getProperty("java.version"));
+            Report.write(output, results, heading);
+            System.out.println();
+            System.out.println(Report.markdown(results, heading));
+            log("Report written to " + output.toAbsolutePath());
+        } finally {
+            if (backend != null) {
+                backend.close();
+            }
+            if (database != null) {
+                database.close();
+            }
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+}
@@ -0,0 +1,173 @@
+package com.riwi.assesment.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Settings of one load test run: defaults from loadtest.properties, overridden by -Dloadtest.* system properties.
+ *
+ * @param baseUrl           an already running backend; null starts the jar against a database
+ * @param appJar            the backend jar started when baseUrl is null
+ * @param appJvmArgs        JVM options of the started backend
+ * @param appArgs           Spring arguments of the started backend, e.g. --spring.profiles.active=virtual-threads
+ * @param appStartupTimeout how long to wait for /readyz to report UP
+ * @param dbUrl             JDBC URL of an existing database; null starts an embedded PostgreSQL
+ * @param postgresDirectory a local PostgreSQL installation to launch instead of the bundled binaries
+ * @param requestTimeout    per HTTP request
+ * @param scenarios         run one after the other, in this order
+ */
+public record LoadTestConfig(
+        URI baseUrl,
+        Path appJar,
+        List<String> appJvmArgs,
+        List<String> appArgs,
+        Duration appStartupTimeout,
+        String dbUrl,
+        String dbUsername,
+        String dbPassword,
+        Path postgresDirectory,
+        Path outputDir,
+        Duration requestTimeout,
+        Seed seed,
+        List<Scenario> scenarios
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    /**
+     * Data created through the API before the first scenario.
+     */
+    public record Seed(int users, int projectsPerUser, int tasksPerProject, int threads) {
+    }
+
+    /**
+     * One workload: concurrency virtual users pick endpoints from mix.
+     *
+     * @param rate total requests per second across all users; 0 runs a closed loop, each user sending
+     *             its next request as soon as the previous one returns
+     */
+    public record Scenario(String name, EndpointMix mix, int concurrency, Duration warmup, Duration duration, double rate) {
+    }
+
+    public static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        return from(properties);
+    }
+
+    public static LoadTestConfig from(Properties properties) {
+        Settings settings = new Settings(properties);
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : settings.list("scenarios")) {
+            String scenario = "scenario." + name + ".";
+            String mix = settings.string(scenario + "mix");
+            if (mix == null) {
+                throw new IllegalArgumentException("No mix for scenario " + name + ": set " + PREFIX + scenario + "mix");
+            }
+            scenarios.add(new Scenario(
+                    name,
+                    EndpointMix.parse(mix),
+                    settings.integer(scenario + "concurrency", settings.integer("concurrency", 16)),
+                    settings.duration(scenario + "warmup", settings.duration("warmup", Duration.ofSeconds(10))),
+                    settings.duration(scenario + "duration", settings.duration("duration", Duration.ofSeconds(30))),
+                    settings.decimal(scenario + "rate", settings.decimal("rate", 0))));
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No scenario selected: set " + PREFIX + "scenarios");
+        }
+
+        String baseUrl = settings.string("base-url");
+        String postgresDirectory = settings.string("postgres.binary-directory");
+        return new LoadTestConfig(
+                baseUrl != null ? URI.create(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl) : null,
+                Path.of(settings.string("app-jar", "../backend/target/assesment-0.0.1-SNAPSHOT.jar")),
+                settings.words("app-jvm-args"),
+                settings.words("app-args"),
+                settings.duration("app-startup-timeout", Duration.ofMinutes(3)),
+                settings.string("db-url"),
+                settings.string("db-username", "postgres"),
+                settings.string("db-password", "postgres"),
+                postgresDirectory != null ? Path.of(postgresDirectory) : null,
+                Path.of(settings.string("output-dir", "target/loadtest")),
+                settings.duration("request-timeout", Duration.ofSeconds(30)),
+                new Seed(
+                        settings.integer("seed.users", 16),
+                        settings.integer("seed.projects-per-user", 3),
+                        settings.integer("seed.tasks-per-project", 20),
+                        settings.integer("seed.threads", 4)),
+                List.copyOf(scenarios));
+    }
+
+    /**
+     * Every virtual user owns one seeded user, so no two users race for the same tasks.
+     */
+    public int seededUsers() {
+        int concurrency = scenarios.stream().mapToInt(Scenario::concurrency).max().orElse(0);
+        return Math.max(seed.users(), concurrency);
+    }
+
+    private record Settings(Properties properties) {
+
+        String string(String key) {
+            String value = properties.getProperty(PREFIX + key);
+            return value == null || value.isBlank() ? null : value.trim();
+        }
+
+        String string(String key, String fallback) {
+            String value = string(key);
+            return value != null ? value : fallback;
+        }
+
+        int integer(String key, int fallback) {
+            String value = string(key);
+            int result = value != null ? Integer.parseInt(value) : fallback;
+            if (result < 1) {
+                throw new IllegalArgumentException(PREFIX + key + " must be positive");
+            }
+            return result;
+        }
+
+        double decimal(String key, double fallback) {
+            String value = string(key);
+            double result = value != null ? Double.parseDouble(value) : fallback;
+            if (result < 0) {
+                throw new IllegalArgumentException(PREFIX + key + " cannot be negative");
+            }
+            return result;
+        }
+
+        Duration duration(String key, Duration fallback) {
+            String value = string(key);
+            return value != null ? Duration.parse(value) : fallback;
+        }
+
+        List<String> list(String key) {
+            String value = string(key);
+            return value == null ? List.of() : Arrays.stream(value.split(",")).map(String::trim)
+                    .filter(item -> !item.isEmpty()).toList();
+        }
+
+        List<String> words(String key) {
+            String value = string(key);
+            return value == null ? List.of() : List.of(value.split("\\s+"));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.riwi.assesment.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * A throwaway PostgreSQL for one run, in a temporary data directory on a free port: either the binaries
+ * bundled with embedded-postgres (PostgreSQL 15, like docker-compose.yml) or a local installation,
+ * started with its own initdb and pg_ctl. The backend's Flyway migrations create the schema.
+ *
+ * PostgreSQL refuses to run as root, so neither works in a root shell; use loadtest.db-url there.
+ */
+public final class LocalDatabase implements AutoCloseable {
+
+    private static final String USER = "postgres";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+
+    private final EmbeddedPostgres embedded;
+    private final Path binaries;
+    private final Path dataDirectory;
+    private final int port;
+
+    private LocalDatabase(EmbeddedPostgres embedded, Path binaries, Path dataDirectory, int port) {
+        this.embedded = embedded;
+        this.binaries = binaries;
+        this.dataDirectory = dataDirectory;
+        this.port = port;
+    }
+
+    /**
+     * @param installation a PostgreSQL installation (the directory holding bin/), or null for the bundled binaries
+     */
+    public static LocalDatabase start(Path installation, Path logFile) throws IOException, InterruptedException {
+        if ("root".equals(System.getProperty("user.name"))) {
+            throw new IllegalStateException("PostgreSQL cannot run as root: run the load test as a regular user, "
+                    + "or point loadtest.db-url at an existing database");
+        }
+        if (installation == null) {
+            EmbeddedPostgres embedded = EmbeddedPostgres.builder()
+                    .setServerConfig("max_connections", "200")
+                    .setOutputRedirector(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                    .setErrorRedirector(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                    .setPGStartupWait(STARTUP_TIMEOUT)
+                    .start();
+            return new LocalDatabase(embedded, null, null, embedded.getPort());
+        }
+
+        Path bin = installation.resolve("bin");
+        Path dataDirectory = Files.createTempDirectory("loadtest-pgdata");
+        int port = freePort();
+        run(logFile, bin.resolve("initdb").toString(), "-D", dataDirectory.toString(),
+                "-U", USER, "-A", "trust", "-E", "UTF8", "--no-sync");
+        run(logFile, bin.resolve("pg_ctl").toString(), "-D", dataDirectory.toString(), "-l", logFile.toString(),
+                "-o", "-p " + port + " -c listen_addresses=localhost -c max_connections=200", "-w", "start");
+        return new LocalDatabase(null, bin, dataDirectory, port);
+    }
+
+    public String jdbcUrl() {
+        return "jdbc:postgresql://localhost:" + port + "/postgres?reWriteBatchedInserts=true";
+    }
+
+    public String username() {
+        return USER;
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        if (embedded != null) {
+            embedded.close();
+            return;
+        }
+        try {
+            run(null, binaries.resolve("pg_ctl").toString(), "-D", dataDirectory.toString(), "-m", "fast", "-w", "stop");
+        } finally {
+            try (Stream<Path> files = Files.walk(dataDirectory)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void run(Path logFile, String... command) throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+        builder.redirectOutput(logFile != null
+                ? ProcessBuilder.Redirect.appendTo(logFile.toFile())
+                : ProcessBuilder.Redirect.DISCARD);
+        Process process = builder.start();
+        if (!process.waitFor(STARTUP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException(command[0] + " did not finish within " + STARTUP_TIMEOUT.toSeconds() + "s");
+        }
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException(command[0] + " exited with " + process.exitValue()
+                    + (logFile != null ? ", see " + logFile : ""));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.riwi.assesment.loadtest;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies (microseconds) and outcomes per endpoint. Each virtual user records into its own instance
+ * and the runner merges them at the end, so recording never contends.
+ *
+ * Requests that complete before recordFrom (the end of the warm-up) are dropped. A request is kept by its
+ * completion time rather than its start time, so a request that stalls through the whole warm-up still
+ * shows up with its full latency instead of disappearing from the report.
+ *
+ * With a paced scenario, expectedIntervalMicros is the time between two scheduled requests of one user.
+ * The scheduled request is the last one of its slot (see endSlot); if its latency is longer than the
+ * interval it is back-filled with the samples the user would have taken meanwhile (HdrHistogram's
+ * coordinated omission correction), and the runner skips those slots instead of sending them late.
+ * Setup requests sent earlier in the slot (a task created before a complete) are not scheduled and are
+ * recorded as measured, as is everything in a closed loop, which has no schedule.
+ */
+public final class Recording {
+
+    /** Outcome of one request: 2xx, 4xx, 5xx, or no response at all (timeout, connection error) */
+    public enum Outcome { OK, REJECTED, SERVER_ERROR, FAILED }
+
+    /**
+     * Everything recorded for one endpoint.
+     */
+    public static final class Stats {
+
+        private final Histogram latency = new Histogram(3);
+        private final long[] outcomes = new long[Outcome.values().length];
+
+        public Histogram latency() {
+            return latency;
+        }
+
+        public long count(Outcome outcome) {
+            return outcomes[outcome.ordinal()];
+        }
+
+        public long requests() {
+            long total = 0;
+            for (long count : outcomes) {
+                total += count;
+            }
+            return total;
+        }
+
+        void add(Stats other) {
+            latency.add(other.latency);
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] += other.outcomes[i];
+            }
+        }
+    }
+
+    private record Sample(Endpoint endpoint, long micros, Outcome outcome) {
+    }
+
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private final long expectedIntervalMicros;
+    private final long recordFrom;
+    // Latest request of the current slot, held back until the slot ends or another request follows it
+    private Sample pending;
+
+    /**
+     * @param recordFrom System.nanoTime() from which completed requests count
+     */
+    public Recording(long expectedIntervalMicros, long recordFrom) {
+        this.expectedIntervalMicros = expectedIntervalMicros;
+        this.recordFrom = recordFrom;
+    }
+
+    public static Outcome outcome(int status) {
+        if (status >= 500) {
+            return Outcome.SERVER_ERROR;
+        }
+        return status >= 400 ? Outcome.REJECTED : Outcome.OK;
+    }
+
+    public void record(Endpoint endpoint, long startNanos, long endNanos, Outcome outcome) {
+        if (endNanos - recordFrom < 0) {
+            return;
+        }
+        Sample sample = new Sample(endpoint, Math.max(1, (endNanos - startNanos) / 1_000), outcome);
+        if (expectedIntervalMicros > 0) {
+            flush(false);
+            pending = sample;
+        } else {
+            add(sample, false);
+        }
+    }
+
+    /**
+     * Ends a paced slot: its last request was the scheduled one, and only that one is corrected.
+     */
+    public void endSlot() {
+        flush(true);
+    }
+
+    private void flush(boolean scheduled) {
+        if (pending != null) {
+            add(pending, scheduled);
+            pending = null;
+        }
+    }
+
+    private void add(Sample sample, boolean scheduled) {
+        Stats endpointStats = stats.computeIfAbsent(sample.endpoint(), ignored -> new Stats());
+        if (scheduled) {
+            endpointStats.latency.recordValueWithExpectedInterval(sample.micros(), expectedIntervalMicros);
+        } else {
+            endpointStats.latency.recordValue(sample.micros());
+        }
+        endpointStats.outcomes[sample.outcome().ordinal()]++;
+    }
+
+    public void add(Recording other) {
+        other.stats.forEach((endpoint, otherStats) ->
+                stats.computeIfAbsent(endpoint, ignored -> new Stats()).add(otherStats));
+    }
+
+    public Map<Endpoint, Stats> stats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * All endpoints together.
+     */
+    public Stats total() {
+        Stats total = new Stats();
+        stats.values().forEach(total::add);
+        return total;
+    }
+}
@@ -0,0 +1,130 @@
+package com.riwi.assesment.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Writes the results of a run: summary.md (one table per scenario), summary.json (the same numbers for
+ * scripts) and, per scenario, one HdrHistogram percentile distribution (.hgrm, milliseconds) per endpoint
+ * plus all.hgrm, which HdrHistogram's plotter can draw.
+ *
+ * Request counts and throughput count real requests. Percentiles come from the histograms, which in a
+ * paced scenario also hold the samples added by the coordinated omission correction.
+ */
+public final class Report {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String ALL = "all";
+
+    private Report() {
+        // Utility class
+    }
+
+    public static String markdown(List<ScenarioRunner.Result> results, String heading) {
+        StringBuilder report = new StringBuilder("# Load test\n\n").append(heading).append('\n');
+        for (ScenarioRunner.Result result : results) {
+            LoadTestConfig.Scenario scenario = result.scenario();
+            report.append("\n## ").append(scenario.name()).append("\n\n")
+                    .append(String.format(Locale.ROOT, "%d users, %s, %ds measured after %ds warm-up. Mix: %s%n%n",
+                            scenario.concurrency(),
+                            scenario.rate() > 0 ? String.format(Locale.ROOT, "paced at %.0f req/s", scenario.rate()) : "closed loop",
+                            scenario.duration().toSeconds(), scenario.warmup().toSeconds(), scenario.mix()))
+                    .append("| Endpoint | Requests | Req/s | 2xx | 4xx | 5xx | Failed | p50 ms | p90 ms | p99 ms | p99.9 ms | Max ms |\n")
+                    .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+            row(report, "All", result, result.recording().total());
+            result.recording().stats().forEach((endpoint, stats) -> row(report, endpoint.route(), result, stats));
+        }
+        return report.toString();
+    }
+
+    public static void write(Path directory, List<ScenarioRunner.Result> results, String heading) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.md"), markdown(results, heading));
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode summary = mapper.createObjectNode();
+        summary.put("heading", heading);
+        ArrayNode scenarios = summary.putArray("scenarios");
+        for (ScenarioRunner.Result result : results) {
+            LoadTestConfig.Scenario scenario = result.scenario();
+            Path scenarioDirectory = Files.createDirectories(directory.resolve(scenario.name()));
+
+            ObjectNode node = scenarios.addObject();
+            node.put("name", scenario.name());
+            node.put("concurrency", scenario.concurrency());
+            node.put("rate", scenario.rate());
+            node.put("warmupSeconds", scenario.warmup().toSeconds());
+            node.put("durationSeconds", scenario.duration().toSeconds());
+            node.put("mix", scenario.mix().toString());
+            Recording.Stats total = result.recording().total();
+            node.set(ALL, json(mapper, result, total));
+            writeHistogram(scenarioDirectory.resolve(ALL + ".hgrm"), total.latency());
+
+            ObjectNode endpoints = node.putObject("endpoints");
+            for (Map.Entry<Endpoint, Recording.Stats> entry : result.recording().stats().entrySet()) {
+                endpoints.set(entry.getKey().name(), json(mapper, result, entry.getValue()));
+                writeHistogram(scenarioDirectory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm"),
+                        entry.getValue().latency());
+            }
+        }
+        mapper.writeValue(directory.resolve("summary.json").toFile(), summary);
+    }
+
+    private static void row(StringBuilder report, String name, ScenarioRunner.Result result, Recording.Stats stats) {
+        Histogram latency = stats.latency();
+        report.append(String.format(Locale.ROOT, "| %s | %d | %.1f | %d | %d | %d | %d | %s | %s | %s | %s | %s |%n",
+                name,
+                stats.requests(),
+                result.throughput(stats.requests()),
+                stats.count(Recording.Outcome.OK),
+                stats.count(Recording.Outcome.REJECTED),
+                stats.count(Recording.Outcome.SERVER_ERROR),
+                stats.count(Recording.Outcome.FAILED),
+                millis(latency.getValueAtPercentile(50)),
+                millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)),
+                millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue())));
+    }
+
+    private static ObjectNode json(ObjectMapper mapper, ScenarioRunner.Result result, Recording.Stats stats) {
+        Histogram latency = stats.latency();
+        ObjectNode node = mapper.createObjectNode();
+        node.put("requests", stats.requests());
+        node.put("throughput", result.throughput(stats.requests()));
+        node.put("ok", stats.count(Recording.Outcome.OK));
+        node.put("rejected", stats.count(Recording.Outcome.REJECTED));
+        node.put("serverErrors", stats.count(Recording.Outcome.SERVER_ERROR));
+        node.put("failed", stats.count(Recording.Outcome.FAILED));
+        ObjectNode millis = node.putObject("latencyMillis");
+        millis.put("p50", latency.getValueAtPercentile(50) / MICROS_PER_MILLI);
+        millis.put("p90", latency.getValueAtPercentile(90) / MICROS_PER_MILLI);
+        millis.put("p99", latency.getValueAtPercentile(99) / MICROS_PER_MILLI);
+        millis.put("p999", latency.getValueAtPercentile(99.9) / MICROS_PER_MILLI);
+        millis.put("max", latency.getMaxValue() / MICROS_PER_MILLI);
+        millis.put("mean", latency.getMean() / MICROS_PER_MILLI);
+        return node;
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f", micros / MICROS_PER_MILLI);
+    }
+}
@@ -0,0 +1,107 @@
+package com.riwi.assesment.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs one scenario: concurrency virtual users, each on its own thread and seeded session, pick endpoints
+ * from the mix until warmup plus duration has passed. Only requests completed after the warm-up are recorded.
+ *
+ * Without a rate every user sends its next request as soon as the previous one returns (closed loop), which
+ * finds the saturation throughput. With a rate each user follows a fixed schedule of concurrency / rate
+ * seconds per request. A user that falls behind skips the slots it missed rather than sending them back to
+ * back, and the latency of the request that stalled it is corrected for them (see Recording).
+ */
+public final class ScenarioRunner {
+
+    /**
+     * Recorded requests of one scenario over its measured window.
+     */
+    public record Result(LoadTestConfig.Scenario scenario, Recording recording, Duration measured) {
+
+        public double throughput(long requests) {
+            return requests / (measured.toNanos() / 1e9);
+        }
+    }
+
+    private final Workload workload;
+
+    public ScenarioRunner(Workload workload) {
+        this.workload = workload;
+    }
+
+    public Result run(LoadTestConfig.Scenario scenario, List<Session> sessions) throws InterruptedException {
+        int users = scenario.concurrency();
+        if (sessions.size() < users) {
+            throw new IllegalArgumentException("Scenario " + scenario.name() + " needs " + users
+                    + " sessions, " + sessions.size() + " were seeded");
+        }
+        long intervalNanos = scenario.rate() > 0 ? (long) (users * 1e9 / scenario.rate()) : 0;
+        long intervalMicros = TimeUnit.NANOSECONDS.toMicros(intervalNanos);
+
+        long start = System.nanoTime();
+        long measureStart = start + scenario.warmup().toNanos();
+        long end = measureStart + scenario.duration().toNanos();
+
+        List<Recording> recordings = new ArrayList<>(users);
+        List<Thread> threads = new ArrayList<>(users);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 0; i < users; i++) {
+            Session session = sessions.get(i);
+            Recording recording = new Recording(intervalMicros, measureStart);
+            recordings.add(recording);
+            // Spread the users' schedules over one interval instead of starting them all at once
+            long firstStart = start + (intervalNanos * i) / users;
+            Random random = new Random(31L * i + scenario.name().hashCode());
+
+            Thread thread = new Thread(() -> {
+                try {
+                    long next = firstStart;
+                    while (true) {
+                        if (intervalNanos > 0) {
+                            long wait = next - System.nanoTime();
+                            if (wait > 0) {
+                                LockSupport.parkNanos(wait);
+                            }
+                            // Late after a stall: the missed slots are skipped, Recording accounts for them
+                            next = Math.max(next, System.nanoTime()) + intervalNanos;
+                        }
+                        long now = System.nanoTime();
+                        if (now >= end || Thread.currentThread().isInterrupted()) {
+                            return;
+                        }
+                        workload.execute(scenario.mix().next(random), session, random, recording);
+                        recording.endSlot();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }, "vu-" + scenario.name() + "-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            threads.forEach(Thread::interrupt);
+            throw e;
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Scenario " + scenario.name() + " failed", failure.get());
+        }
+
+        Recording merged = new Recording(intervalMicros, measureStart);
+        recordings.forEach(merged::add);
+        return new Result(scenario, merged, scenario.duration());
+    }
+}
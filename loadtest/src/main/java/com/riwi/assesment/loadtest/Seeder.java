@@ -0,0 +1,83 @@
+package com.riwi.assesment.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Creates the data the scenarios work on through the API itself: per user a registration, then
+ * projectsPerUser ACTIVE projects with tasksPerProject open tasks each. Nothing here is recorded.
+ * Any unexpected answer stops the run, since every scenario after it would measure errors.
+ */
+public final class Seeder {
+
+    private static final int MAX_BULK = 500;
+
+    private final ApiClient client;
+    private final Workload workload;
+    private final LoadTestConfig.Seed seed;
+
+    public Seeder(ApiClient client, Workload workload, LoadTestConfig.Seed seed) {
+        this.client = client;
+        this.workload = workload;
+        this.seed = seed;
+    }
+
+    public List<Session> seed(int users) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(seed.threads());
+        try {
+            List<Future<Session>> futures = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                String username = "lt" + workload.runId() + "u" + i;
+                futures.add(executor.submit(() -> seedUser(username)));
+            }
+            List<Session> sessions = new ArrayList<>(users);
+            for (Future<Session> future : futures) {
+                sessions.add(future.get());
+            }
+            return sessions;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Session seedUser(String username) throws IOException, InterruptedException {
+        JsonNode auth = expect(client.register(username, username + "@loadtest.local", Workload.PASSWORD),
+                "register " + username);
+        Session session = new Session(username, Workload.PASSWORD, auth.path("token").asText());
+
+        for (int p = 0; p < seed.projectsPerUser(); p++) {
+            JsonNode project = expect(client.createProject(session.token(), "Seed project " + p), "create project");
+            UUID projectId = UUID.fromString(project.path("id").asText());
+
+            for (int created = 0; created < seed.tasksPerProject(); created += MAX_BULK) {
+                List<String> titles = new ArrayList<>();
+                for (int t = created; t < Math.min(seed.tasksPerProject(), created + MAX_BULK); t++) {
+                    titles.add("Seed task " + t);
+                }
+                expect(client.bulkCreateTasks(session.token(), projectId, titles), "create tasks")
+                        .forEach(task -> session.addOpenTask(UUID.fromString(task.path("id").asText())));
+            }
+
+            expect(client.activateProject(session.token(), projectId), "activate project");
+            session.addActiveProject(projectId);
+        }
+        return session;
+    }
+
+    private static JsonNode expect(ApiClient.Response response, String action) {
+        if (!response.ok()) {
+            throw new IllegalStateException(action + " answered " + response.status() + ": " + response.body());
+        }
+        return response.json();
+    }
+}
@@ -0,0 +1,105 @@
+package com.riwi.assesment.loadtest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * A seeded user and what the load test knows about its data. Each session is driven by one virtual
+ * user thread at a time, so it is not thread-safe.
+ */
+public final class Session {
+
+    private final String username;
+    private final String password;
+    private String token;
+
+    /** ACTIVE projects; tasks are created, listed and completed in these */
+    private final List<UUID> activeProjects = new ArrayList<>();
+    /** DRAFT projects without tasks, and DRAFT projects with one open task (ready to activate) */
+    private final Deque<UUID> emptyDrafts = new ArrayDeque<>();
+    private final Deque<UUID> readyDrafts = new ArrayDeque<>();
+    /** Tasks that are neither completed nor deleted */
+    private final Deque<UUID> openTasks = new ArrayDeque<>();
+
+    public Session(String username, String password, String token) {
+        this.username = username;
+        this.password = password;
+        this.token = token;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String password() {
+        return password;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    public void token(String token) {
+        this.token = token;
+    }
+
+    public UUID randomActiveProject(Random random) {
+        return activeProjects.isEmpty() ? null : activeProjects.get(random.nextInt(activeProjects.size()));
+    }
+
+    public void addActiveProject(UUID projectId) {
+        activeProjects.add(projectId);
+    }
+
+    public int activeProjectCount() {
+        return activeProjects.size();
+    }
+
+    public void addEmptyDraft(UUID projectId) {
+        emptyDrafts.addLast(projectId);
+    }
+
+    public UUID takeEmptyDraft() {
+        return emptyDrafts.pollFirst();
+    }
+
+    public void addReadyDraft(UUID projectId) {
+        readyDrafts.addLast(projectId);
+    }
+
+    public UUID takeReadyDraft() {
+        return readyDrafts.pollFirst();
+    }
+
+    /**
+     * Any DRAFT project, preferring those without tasks, or null.
+     */
+    public UUID takeDraft() {
+        UUID projectId = emptyDrafts.pollFirst();
+        return projectId != null ? projectId : readyDrafts.pollFirst();
+    }
+
+    public void addOpenTask(UUID taskId) {
+        openTasks.addLast(taskId);
+    }
+
+    public UUID takeOpenTask() {
+        return openTasks.pollFirst();
+    }
+
+    public List<UUID> takeOpenTasks(int max) {
+        List<UUID> taken = new ArrayList<>(Math.min(max, openTasks.size()));
+        while (taken.size() < max && !openTasks.isEmpty()) {
+            taken.add(openTasks.pollFirst());
+        }
+        return taken;
+    }
+
+    public int openTaskCount() {
+        return openTasks.size();
+    }
+}
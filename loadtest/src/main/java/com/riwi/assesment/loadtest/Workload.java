@@ -0,0 +1,230 @@
+package com.riwi.assesment.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * What one call of each endpoint does for a session. Calls that need data first (a task to complete, a
+ * draft to activate) create it through the API, and those requests are recorded under their own endpoint,
+ * so every request the backend sees shows up in the report.
+ */
+public final class Workload {
+
+    static final String PASSWORD = "LoadTest123!";
+    private static final int BULK_SIZE = 10;
+    private static final int REFILL_SIZE = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final int DASHBOARD_TASKS_PER_PROJECT = 5;
+
+    private final ApiClient client;
+    private final String runId;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public Workload(ApiClient client, String runId) {
+        this.client = client;
+        this.runId = runId;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        ApiClient.Response send() throws IOException, InterruptedException;
+    }
+
+    public String runId() {
+        return runId;
+    }
+
+    /**
+     * A username no earlier run used, within the 50 characters the API allows.
+     */
+    public String uniqueUsername(String kind) {
+        return "lt" + runId + kind + sequence.incrementAndGet();
+    }
+
+    public void execute(Endpoint endpoint, Session session, Random random, Recording recording) throws InterruptedException {
+        switch (endpoint) {
+            case REGISTER -> {
+                String username = uniqueUsername("r");
+                timed(recording, Endpoint.REGISTER,
+                        () -> client.register(username, username + "@loadtest.local", PASSWORD));
+            }
+            case LOGIN -> {
+                ApiClient.Response response = timed(recording, Endpoint.LOGIN,
+                        () -> client.login(session.username(), session.password()));
+                if (response != null && response.ok()) {
+                    session.token(response.json().path("token").asText());
+                }
+            }
+            case DASHBOARD -> timed(recording, Endpoint.DASHBOARD,
+                    () -> client.dashboard(session.token(), DASHBOARD_TASKS_PER_PROJECT));
+            case LIST_PROJECTS -> timed(recording, Endpoint.LIST_PROJECTS,
+                    () -> client.listProjects(session.token(), PAGE_SIZE));
+            case GET_PROJECT -> {
+                UUID projectId = activeProject(session, random, recording);
+                if (projectId != null) {
+                    timed(recording, Endpoint.GET_PROJECT, () -> client.getProject(session.token(), projectId));
+                }
+            }
+            case LIST_TASKS -> {
+                UUID projectId = activeProject(session, random, recording);
+                if (projectId != null) {
+                    timed(recording, Endpoint.LIST_TASKS, () -> client.listTasks(session.token(), projectId, PAGE_SIZE));
+                }
+            }
+            case CREATE_PROJECT -> createProject(session, recording);
+            case ACTIVATE_PROJECT -> {
+                UUID projectId = readyDraft(session, recording);
+                if (projectId != null) {
+                    ApiClient.Response response = timed(recording, Endpoint.ACTIVATE_PROJECT,
+                            () -> client.activateProject(session.token(), projectId));
+                    if (response != null && response.ok()) {
+                        session.addActiveProject(projectId);
+                    }
+                }
+            }
+            case DELETE_PROJECT -> {
+                UUID projectId = session.takeDraft();
+                if (projectId == null && createProject(session, recording) != null) {
+                    projectId = session.takeEmptyDraft();
+                }
+                if (projectId != null) {
+                    UUID target = projectId;
+                    timed(recording, Endpoint.DELETE_PROJECT, () -> client.deleteProject(session.token(), target));
+                }
+            }
+            case CREATE_TASK -> {
+                UUID projectId = activeProject(session, random, recording);
+                if (projectId != null) {
+                    ApiClient.Response response = timed(recording, Endpoint.CREATE_TASK,
+                            () -> client.createTask(session.token(), projectId, "Load test task"));
+                    if (response != null && response.ok()) {
+                        session.addOpenTask(id(response.json()));
+                    }
+                }
+            }
+            case BULK_CREATE_TASKS -> bulkCreate(session, random, recording);
+            case COMPLETE_TASK -> {
+                UUID taskId = openTasks(session, 1, random, recording).stream().findFirst().orElse(null);
+                if (taskId != null) {
+                    timed(recording, Endpoint.COMPLETE_TASK, () -> client.completeTask(session.token(), taskId));
+                }
+            }
+            case BULK_COMPLETE_TASKS -> {
+                List<UUID> taskIds = openTasks(session, BULK_SIZE, random, recording);
+                if (!taskIds.isEmpty()) {
+                    timed(recording, Endpoint.BULK_COMPLETE_TASKS, () -> client.bulkCompleteTasks(session.token(), taskIds));
+                }
+            }
+            case BULK_DELETE_TASKS -> {
+                List<UUID> taskIds = openTasks(session, BULK_SIZE / 2, random, recording);
+                if (!taskIds.isEmpty()) {
+                    timed(recording, Endpoint.BULK_DELETE_TASKS, () -> client.bulkDeleteTasks(session.token(), taskIds));
+                }
+            }
+            case DELETE_TASK -> {
+                UUID taskId = openTasks(session, 1, random, recording).stream().findFirst().orElse(null);
+                if (taskId != null) {
+                    timed(recording, Endpoint.DELETE_TASK, () -> client.deleteTask(session.token(), taskId));
+                }
+            }
+        }
+    }
+
+    private UUID createProject(Session session, Recording recording) throws InterruptedException {
+        String name = "Load test " + runId + "-" + sequence.incrementAndGet();
+        ApiClient.Response response = timed(recording, Endpoint.CREATE_PROJECT,
+                () -> client.createProject(session.token(), name));
+        if (response == null || !response.ok()) {
+            return null;
+        }
+        UUID projectId = id(response.json());
+        session.addEmptyDraft(projectId);
+        return projectId;
+    }
+
+    /**
+     * A DRAFT project with one open task, creating the project and the task when none is left.
+     */
+    private UUID readyDraft(Session session, Recording recording) throws InterruptedException {
+        UUID ready = session.takeReadyDraft();
+        if (ready != null) {
+            return ready;
+        }
+        UUID projectId = session.takeEmptyDraft();
+        if (projectId == null && createProject(session, recording) != null) {
+            projectId = session.takeEmptyDraft();
+        }
+        if (projectId == null) {
+            return null;
+        }
+        UUID draft = projectId;
+        ApiClient.Response response = timed(recording, Endpoint.CREATE_TASK,
+                () -> client.createTask(session.token(), draft, "Load test task"));
+        return response != null && response.ok() ? draft : null;
+    }
+
+    private UUID activeProject(Session session, Random random, Recording recording) throws InterruptedException {
+        UUID projectId = session.randomActiveProject(random);
+        if (projectId == null) {
+            // Every seeded project is active, so this only happens when seeding was cut short
+            UUID ready = readyDraft(session, recording);
+            if (ready != null) {
+                ApiClient.Response response = timed(recording, Endpoint.ACTIVATE_PROJECT,
+                        () -> client.activateProject(session.token(), ready));
+                if (response != null && response.ok()) {
+                    session.addActiveProject(ready);
+                    projectId = ready;
+                }
+            }
+        }
+        return projectId;
+    }
+
+    private List<UUID> openTasks(Session session, int count, Random random, Recording recording) throws InterruptedException {
+        if (session.openTaskCount() < count) {
+            bulkCreate(session, random, recording);
+        }
+        return session.takeOpenTasks(count);
+    }
+
+    private void bulkCreate(Session session, Random random, Recording recording) throws InterruptedException {
+        UUID projectId = activeProject(session, random, recording);
+        if (projectId == null) {
+            return;
+        }
+        List<String> titles = new ArrayList<>(REFILL_SIZE);
+        for (int i = 0; i < REFILL_SIZE; i++) {
+            titles.add("Load test task " + i);
+        }
+        ApiClient.Response response = timed(recording, Endpoint.BULK_CREATE_TASKS,
+                () -> client.bulkCreateTasks(session.token(), projectId, titles));
+        if (response != null && response.ok()) {
+            response.json().forEach(task -> session.addOpenTask(id(task)));
+        }
+    }
+
+    /**
+     * Sends one request and records its latency and outcome; null when no response arrived.
+     */
+    private static ApiClient.Response timed(Recording recording, Endpoint endpoint, Call call) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            ApiClient.Response response = call.send();
+            recording.record(endpoint, start, System.nanoTime(), Recording.outcome(response.status()));
+            return response;
+        } catch (IOException e) {
+            recording.record(endpoint, start, System.nanoTime(), Recording.Outcome.FAILED);
+            return null;
+        }
+    }
+
+    private static UUID id(JsonNode node) {
+        return UUID.fromString(node.path("id").asText());
+    }
+}
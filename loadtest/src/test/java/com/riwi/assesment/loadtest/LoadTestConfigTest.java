@@ -0,0 +1,85 @@
+package com.riwi.assesment.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for LoadTestConfig and EndpointMix.
+ */
+class LoadTestConfigTest {
+
+    @Test
+    @DisplayName("From_WithScenarioOverrides_ShouldFallBackToGlobalSettings")
+    void from_WithScenarioOverrides_ShouldFallBackToGlobalSettings() {
+        // Arrange
+        Properties properties = new Properties();
+        properties.setProperty("loadtest.scenarios", "reads, burst");
+        properties.setProperty("loadtest.concurrency", "8");
+        properties.setProperty("loadtest.duration", "PT20S");
+        properties.setProperty("loadtest.seed.users", "4");
+        properties.setProperty("loadtest.scenario.reads.mix", "DASHBOARD:3,list_projects");
+        properties.setProperty("loadtest.scenario.burst.mix", "LOGIN");
+        properties.setProperty("loadtest.scenario.burst.concurrency", "50");
+        properties.setProperty("loadtest.scenario.burst.rate", "100");
+
+        // Act
+        LoadTestConfig config = LoadTestConfig.from(properties);
+
+        // Assert
+        LoadTestConfig.Scenario reads = config.scenarios().get(0);
+        LoadTestConfig.Scenario burst = config.scenarios().get(1);
+        assertEquals(Map.of(Endpoint.DASHBOARD, 3, Endpoint.LIST_PROJECTS, 1), reads.mix().weights());
+        assertEquals(8, reads.concurrency());
+        assertEquals(Duration.ofSeconds(20), burst.duration());
+        assertEquals(0, reads.rate());
+        assertEquals(100, burst.rate());
+        assertEquals(50, config.seededUsers());
+        assertNull(config.baseUrl());
+    }
+
+    @Test
+    @DisplayName("From_WhenScenarioHasNoMix_ShouldThrow")
+    void from_WhenScenarioHasNoMix_ShouldThrow() {
+        // Arrange
+        Properties properties = new Properties();
+        properties.setProperty("loadtest.scenarios", "missing");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.from(properties));
+    }
+
+    @Test
+    @DisplayName("Parse_WithUnknownEndpoint_ShouldThrow")
+    void parse_WithUnknownEndpoint_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EndpointMix.parse("LOGIN:1,UPLOAD:2"));
+    }
+
+    @Test
+    @DisplayName("Next_ShouldFollowWeights")
+    void next_ShouldFollowWeights() {
+        // Arrange
+        EndpointMix mix = EndpointMix.parse("LOGIN:9,REGISTER:1,DELETE_TASK:0");
+        Random random = new Random(42);
+        int logins = 0;
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            if (mix.next(random) == Endpoint.LOGIN) {
+                logins++;
+            }
+        }
+
+        // Assert
+        assertEquals(9_000, logins, 200);
+        assertEquals(2, mix.weights().size());
+    }
+}
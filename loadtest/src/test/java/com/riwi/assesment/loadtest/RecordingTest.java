@@ -0,0 +1,87 @@
+package com.riwi.assesment.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Recording.
+ */
+class RecordingTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    @DisplayName("Record_WhenCompletedBeforeWarmupEnd_ShouldDropIt")
+    void record_WhenCompletedBeforeWarmupEnd_ShouldDropIt() {
+        // Arrange
+        Recording recording = new Recording(0, 1_000 * MILLI);
+
+        // Act
+        recording.record(Endpoint.LOGIN, 0, 999 * MILLI, Recording.Outcome.OK);
+        recording.record(Endpoint.LOGIN, 500 * MILLI, 1_500 * MILLI, Recording.Outcome.SERVER_ERROR);
+
+        // Assert
+        Recording.Stats login = recording.stats().get(Endpoint.LOGIN);
+        assertEquals(1, login.requests());
+        assertEquals(1, login.count(Recording.Outcome.SERVER_ERROR));
+        assertEquals(1_000_000, login.latency().getMaxValue(), 1_000);
+    }
+
+    @Test
+    @DisplayName("Record_WhenPaced_ShouldBackFillStalledIntervals")
+    void record_WhenPaced_ShouldBackFillStalledIntervals() {
+        // Arrange: one request every 10 ms, and one of them takes 100 ms
+        Recording recording = new Recording(10_000, 0);
+
+        // Act
+        recording.record(Endpoint.DASHBOARD, 0, 100 * MILLI, Recording.Outcome.OK);
+        recording.endSlot();
+
+        // Assert: the requests the stalled user did not send are in the histogram, not in the counts
+        Recording.Stats dashboard = recording.stats().get(Endpoint.DASHBOARD);
+        assertEquals(1, dashboard.requests());
+        assertEquals(10, dashboard.latency().getTotalCount());
+    }
+
+    @Test
+    @DisplayName("Record_WhenPaced_ShouldOnlyBackFillScheduledRequest")
+    void record_WhenPaced_ShouldOnlyBackFillScheduledRequest() {
+        // Arrange: one request every 10 ms
+        Recording recording = new Recording(10_000, 0);
+
+        // Act: a slot whose task is created first, then completed; both take 50 ms
+        recording.record(Endpoint.CREATE_TASK, 0, 50 * MILLI, Recording.Outcome.OK);
+        recording.record(Endpoint.COMPLETE_TASK, 50 * MILLI, 100 * MILLI, Recording.Outcome.OK);
+        recording.endSlot();
+
+        // Assert: the setup request is recorded as measured, the scheduled one is back-filled
+        assertEquals(1, recording.stats().get(Endpoint.CREATE_TASK).latency().getTotalCount());
+        assertEquals(5, recording.stats().get(Endpoint.COMPLETE_TASK).latency().getTotalCount());
+        assertEquals(2, recording.total().requests());
+    }
+
+    @Test
+    @DisplayName("Add_ShouldMergeUsersAndTotalAllEndpoints")
+    void add_ShouldMergeUsersAndTotalAllEndpoints() {
+        // Arrange
+        Recording first = new Recording(0, 0);
+        Recording second = new Recording(0, 0);
+        first.record(Endpoint.COMPLETE_TASK, 0, 5 * MILLI, Recording.outcome(200));
+        second.record(Endpoint.COMPLETE_TASK, 0, 7 * MILLI, Recording.outcome(409));
+        second.record(Endpoint.LOGIN, 0, 90 * MILLI, Recording.outcome(503));
+
+        // Act
+        Recording merged = new Recording(0, 0);
+        merged.add(first);
+        merged.add(second);
+
+        // Assert
+        Recording.Stats total = merged.total();
+        assertEquals(3, total.requests());
+        assertEquals(1, total.count(Recording.Outcome.OK));
+        assertEquals(1, total.count(Recording.Outcome.REJECTED));
+        assertEquals(1, total.count(Recording.Outcome.SERVER_ERROR));
+        assertEquals(2, merged.stats().get(Endpoint.COMPLETE_TASK).requests());
+    }
+}
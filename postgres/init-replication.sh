@@ -0,0 +1,10 @@
+#!/bin/sh
+# Runs once when the primary's data directory is initialised (docker-entrypoint-initdb.d).
+# Creates the user the streaming replica connects with and allows its replication connections.
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-SQL
+    CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replicator';
+SQL
+
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"